@@ -0,0 +1,82 @@
+package com.jakdang.labs.security.jwt;
+
+import com.jakdang.labs.security.jwt.utils.JwtClaims;
+import com.jakdang.labs.security.jwt.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTFilter 한 요청당 토큰 처리 비용 비교
+ * - legacyPerRequest: 기존 방식 (클레임 하나 꺼낼 때마다 파서 생성 + 서명 검증, 요청당 9회)
+ * - parseOncePerRequest: JwtUtil.parseClaims() 1회 (캐시 적중)
+ * - parseOnceColdPerRequest: 캐시 미스 상황 (매 요청 새 토큰으로 1회 검증)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "zzX9@mK2$pL7@qR5^vN3&hB6*fD1!jW8%cT4uY0sA2_eG5!sh3lQ7YSWSF";
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+    private String token;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 10000, 300000);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        token = jwtUtil.createJwt("access", "홍길동", "ROLE_STUDENT", "student@lmsync.site", "user-1", "edu-1", 3600000L);
+    }
+
+    @Benchmark
+    public void legacyPerRequest(Blackhole bh) {
+        // isAccessTokenValid (isExpired + getCategory), isExpired x2, getCategory, buildUserDetails 5회
+        bh.consume(legacyClaims(token).getExpiration().before(new Date()));
+        bh.consume(legacyClaims(token).get("category", String.class));
+        bh.consume(legacyClaims(token).getExpiration().before(new Date()));
+        bh.consume(legacyClaims(token).getExpiration().before(new Date()));
+        bh.consume(legacyClaims(token).get("userId", String.class));
+        bh.consume(legacyClaims(token).get("username", String.class));
+        bh.consume(legacyClaims(token).get("email", String.class));
+        bh.consume(legacyClaims(token).get("role", String.class));
+        bh.consume(legacyClaims(token).get("educationId", String.class));
+    }
+
+    @Benchmark
+    public void parseOncePerRequest(Blackhole bh) {
+        JwtClaims claims = jwtUtil.parseClaims(token);
+        bh.consume(claims.isExpired());
+        bh.consume(claims.userId());
+        bh.consume(claims.username());
+        bh.consume(claims.email());
+        bh.consume(claims.role());
+        bh.consume(claims.educationId());
+    }
+
+    @Benchmark
+    public void parseOnceColdPerRequest(Blackhole bh) {
+        String freshToken = jwtUtil.createJwt("access", "user" + (sequence++), "ROLE_STUDENT",
+                "student@lmsync.site", "user-1", "edu-1", 3600000L);
+        bh.consume(jwtUtil.parseClaims(freshToken));
+    }
+
+    private Claims legacyClaims(String token) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -9,6 +9,7 @@ import com.jakdang.labs.api.auth.repository.AuthRepository;
 import com.jakdang.labs.api.common.ResponseDTO;
 import com.jakdang.labs.security.jwt.service.TokenService;
 import com.jakdang.labs.security.jwt.utils.TokenUtils;
+import com.jakdang.labs.utils.TransactionUtils;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +32,7 @@ public class AuthService {
     private final TokenService tokenService;
 //    private final FirebaseAuth firebaseAuth;
     private final TokenUtils tokenUtils;
+    private final UserProfileCache userProfileCache;
 
     @Transactional
     public ResponseDTO<?> signUpUser(SignUpDTO signUpDTO) {
@@ -167,6 +169,8 @@ public class AuthService {
         UserEntity user = authRepository.findById(id)
                 .orElseThrow(() -> new NoSuchElementException());
         user.update(dto);
+        // 변경 감지 flush는 커밋 시점이므로 커밋 후 무효화 (그 전에 지우면 이전 값이 다시 캐시될 수 있음)
+        TransactionUtils.afterCommit(() -> userProfileCache.evict(id));
 
         return ResponseDTO.createSuccessResponse("유저 정보 수정 성공" , null);
     }
@@ -0,0 +1,80 @@
+package com.jakdang.labs.api.auth.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.jakdang.labs.api.auth.dto.UserDTO;
+import com.jakdang.labs.api.auth.entity.UserEntity;
+import com.jakdang.labs.api.auth.repository.AuthRepository;
+import com.jakdang.labs.utils.ExpiringCache;
+
+/**
+ * 게시글/댓글 작성자 표시용 사용자 프로필 캐시
+ * 목록 한 페이지의 작성자 ID를 모아 캐시에 없는 ID만 findByIdIn 한 번으로 조회한다.
+ * 프로필 수정은 UserService/AuthService에서 무효화하고, 그 외 변경은 짧은 TTL 안에 반영된다.
+ */
+@Component
+public class UserProfileCache {
+
+    private final AuthRepository authRepository;
+    private final ExpiringCache<String, UserDTO> profiles;
+
+    public UserProfileCache(AuthRepository authRepository,
+                            @Value("${app.user-profile-cache.max-size:10000}") int maxSize,
+                            @Value("${app.user-profile-cache.ttl-ms:30000}") long ttlMs) {
+        this.authRepository = authRepository;
+        this.profiles = new ExpiringCache<>(maxSize, ttlMs);
+    }
+
+    /**
+     * 여러 사용자 프로필 조회 (없는 사용자는 결과에서 제외)
+     */
+    public Map<String, UserDTO> getAll(Collection<String> userIds) {
+        Map<String, UserDTO> result = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String userId : userIds) {
+            if (userId == null || result.containsKey(userId)) {
+                continue;
+            }
+            profiles.get(userId).ifPresentOrElse(profile -> result.put(userId, profile), () -> misses.add(userId));
+        }
+
+        if (!misses.isEmpty()) {
+            for (UserEntity user : authRepository.findByIdIn(misses.stream().distinct().toList())) {
+                UserDTO profile = toProfile(user);
+                profiles.put(user.getId(), profile);
+                result.put(user.getId(), profile);
+            }
+        }
+        return result;
+    }
+
+    public UserDTO get(String userId) {
+        return userId == null ? null : getAll(List.of(userId)).get(userId);
+    }
+
+    public void evict(String userId) {
+        if (userId != null) {
+            profiles.invalidate(userId);
+        }
+    }
+
+    // UserService.getUserDTO와 같은 필드 구성
+    private static UserDTO toProfile(UserEntity user) {
+        return UserDTO.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .phone(user.getPhone())
+                .image(user.getImage())
+                .nickname(StringUtils.hasText(user.getNickname()) ? user.getNickname() : user.getName())
+                .build();
+    }
+}
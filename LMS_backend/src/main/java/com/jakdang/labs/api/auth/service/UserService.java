@@ -8,6 +8,7 @@ import com.jakdang.labs.api.auth.repository.AuthRepository;
 import com.jakdang.labs.api.auth.repository.UserRepository;
 import com.jakdang.labs.exceptions.handler.CustomException;
 import com.jakdang.labs.api.common.ResponseDTO;
+import com.jakdang.labs.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,7 @@ import java.util.Optional;
 public class UserService {
     private final UserRepository userRepository;
     private final AuthRepository authRepository;
+    private final UserProfileCache userProfileCache;
 
     public ResponseDTO<List<UserDTO>> getAllUsers() {
         List<UserEntity> users = userRepository.findAll();
@@ -49,6 +51,7 @@ public class UserService {
             user.setRole(RoleType.valueOf(userUpdateDTO.getRole()));
 		    user.setImage(userUpdateDTO.getImage());
             userRepository.save(user);
+            TransactionUtils.afterCommit(() -> userProfileCache.evict(userId));
             return ResponseDTO.createSuccessResponse("유저 정보 업데이트 성공", 
             UserDTO.builder()
             .id(user.getId())
@@ -9,8 +9,10 @@ import java.util.HashMap;
 import com.jakdang.labs.api.chanwook.repository.InstructorMemberRepository;
 import com.jakdang.labs.api.chanwook.repository.MemberManagementRepository;
 import com.jakdang.labs.api.auth.repository.UserRepository;
+import com.jakdang.labs.api.yongho.service.MemberIdentityResolver;
 import com.jakdang.labs.entity.MemberEntity;
 import com.jakdang.labs.api.auth.entity.UserEntity;
+import com.jakdang.labs.utils.TransactionUtils;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -30,6 +32,7 @@ public class MemberManagementService {
     private final InstructorMemberRepository instructorMemberRepository;
     private final MemberManagementRepository memberManagementRepository;
     private final UserRepository userRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
 
     // 특정 학생 정보 조회
     public Map<String, Object> getMemberInfo(String userId) {
@@ -677,8 +680,14 @@ public class MemberManagementService {
                 }
                 
                 log.info("이메일 변경: {} -> {}", member.getMemberEmail(), newEmail);
+                String oldEmail = member.getMemberEmail();
                 member.setMemberEmail(newEmail);
                 memberChanged = true;
+                // 이메일로 해석해 둔 회원 식별 캐시 무효화 (이전/새 이메일 모두, 커밋 후)
+                TransactionUtils.afterCommit(() -> {
+                    memberIdentityResolver.evictEmail(oldEmail);
+                    memberIdentityResolver.evictEmail(newEmail);
+                });
                 
                 // UserEntity의 email 값도 업데이트
                 try {
@@ -824,6 +833,9 @@ public class MemberManagementService {
             }
         }
         
+        // 권한 인터셉터의 회원 식별 캐시 무효화 (커밋 후)
+        TransactionUtils.afterCommit(() -> memberIdentityResolver.evictUser(userId));
+        
         if (!hasChanges) {
             log.info("변경사항이 없습니다.");
             // 업데이트된 정보로 응답 생성
@@ -1064,6 +1076,7 @@ public class MemberManagementService {
             
             // 5. DB에 저장
             memberManagementRepository.save(newMember);
+            TransactionUtils.afterCommit(() -> memberIdentityResolver.evictUser(userId));
             
             log.info("학생의 추가 과정 신청 성공: userId={}, courseId={}, courseName={}", 
                 userId, courseId, courseName);
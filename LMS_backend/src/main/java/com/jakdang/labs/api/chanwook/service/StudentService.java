@@ -15,8 +15,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import com.jakdang.labs.api.chanwook.repository.MemberManagementRepository;
 import com.jakdang.labs.api.chanwook.repository.AttendanceRepository;
+import com.jakdang.labs.api.yongho.service.MemberIdentityResolver;
 import com.jakdang.labs.entity.MemberEntity;
 import com.jakdang.labs.entity.AttendanceEntity;
+import com.jakdang.labs.utils.TransactionUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +28,7 @@ public class StudentService {
 
     private final MemberManagementRepository memberManagementRepository;
     private final AttendanceRepository attendanceRepository;
+    private final MemberIdentityResolver memberIdentityResolver;
 
     // 1. 전체 학생 목록 조회 (활성 학생만)
     public List<Map<String, Object>> getAllStudents(Map<String, String> params) {
@@ -145,8 +148,15 @@ public class StudentService {
         }
         if (studentData.get("email") != null && !studentData.get("email").equals(student.getMemberEmail())) {
             log.info("이메일 변경: {} -> {}", student.getMemberEmail(), studentData.get("email"));
-            student.setMemberEmail((String) studentData.get("email"));
+            String oldEmail = student.getMemberEmail();
+            String newEmail = (String) studentData.get("email");
+            student.setMemberEmail(newEmail);
             hasChanges = true;
+            // 이메일로 해석해 둔 회원 식별 캐시 무효화 (이전/새 이메일 모두, 커밋 후)
+            TransactionUtils.afterCommit(() -> {
+                memberIdentityResolver.evictEmail(oldEmail);
+                memberIdentityResolver.evictEmail(newEmail);
+            });
         }
         if (studentData.get("address") != null && !studentData.get("address").equals(student.getMemberAddress())) {
             log.info("주소 변경: {} -> {}", student.getMemberAddress(), studentData.get("address"));
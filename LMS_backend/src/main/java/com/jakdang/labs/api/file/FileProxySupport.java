@@ -0,0 +1,128 @@
+package com.jakdang.labs.api.file;
+
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 서비스 응답 스트리밍 중계
+ * 파일 전체를 byte[]로 올리지 않고 Feign 응답 스트림을 그대로 클라이언트에 흘려보내므로
+ * 다운로드 한 건당 힙 사용량이 파일 크기와 무관하게 일정하다.
+ * Range / 조건부 요청 헤더는 파일 서비스로 전달하고, 응답의 Content-Length / Content-Range / ETag 등은 그대로 돌려준다.
+ */
+@Slf4j
+public final class FileProxySupport {
+
+    private static final List<String> FORWARDED_REQUEST_HEADERS = List.of(
+            HttpHeaders.RANGE,
+            HttpHeaders.IF_RANGE,
+            HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_MODIFIED_SINCE
+    );
+
+    private static final List<String> FORWARDED_RESPONSE_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.CONTENT_RANGE,
+            HttpHeaders.ACCEPT_RANGES,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.CONTENT_DISPOSITION
+    );
+
+    private FileProxySupport() {
+    }
+
+    /**
+     * 클라이언트 요청 헤더 중 파일 서비스로 전달할 헤더 (Range, If-None-Match 등)
+     */
+    public static Map<String, String> forwardedRequestHeaders(HttpHeaders requestHeaders) {
+        Map<String, String> forwarded = new LinkedHashMap<>();
+        for (String name : FORWARDED_REQUEST_HEADERS) {
+            String value = requestHeaders.getFirst(name);
+            if (value != null && !value.isBlank()) {
+                forwarded.put(name, value);
+            }
+        }
+        return forwarded;
+    }
+
+    /**
+     * 클라이언트에 그대로 돌려줄 수 있는 응답인지 (2xx, 304 Not Modified, 416 Range Not Satisfiable)
+     */
+    public static boolean isRelayable(Response upstream) {
+        int status = upstream.status();
+        return (status >= 200 && status < 300)
+                || status == HttpStatus.NOT_MODIFIED.value()
+                || status == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value();
+    }
+
+    public static ResponseEntity<StreamingResponseBody> relay(Response upstream, MediaType contentType) {
+        return relay(upstream, contentType, null);
+    }
+
+    /**
+     * 파일 서비스 응답을 상태 코드/헤더와 함께 스트리밍으로 중계
+     * contentType / contentDisposition을 지정하면 파일 서비스 응답 값 대신 사용한다.
+     * 본문 스트림과 Feign 응답은 전송이 끝나거나 실패하면 닫힌다.
+     */
+    public static ResponseEntity<StreamingResponseBody> relay(Response upstream, MediaType contentType,
+                                                              String contentDisposition) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : FORWARDED_RESPONSE_HEADERS) {
+            List<String> values = headerValues(upstream, name);
+            if (!values.isEmpty()) {
+                headers.put(name, values);
+            }
+        }
+        if (contentType != null) {
+            headers.setContentType(contentType);
+        }
+        if (contentDisposition != null) {
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        }
+
+        // 파일 서비스 오류 응답은 본문 없이 상태 코드만 전달
+        if (!isRelayable(upstream)) {
+            upstream.close();
+            log.warn("파일 서비스 응답 오류 - status: {}", upstream.status());
+            return ResponseEntity.status(upstream.status()).build();
+        }
+
+        if (upstream.body() == null || upstream.status() == HttpStatus.NOT_MODIFIED.value()) {
+            upstream.close();
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return ResponseEntity.status(upstream.status()).headers(headers).build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (Response response = upstream; InputStream in = response.body().asInputStream()) {
+                in.transferTo(outputStream);
+            } catch (IOException e) {
+                // 클라이언트가 중간에 연결을 끊은 경우 등
+                log.debug("파일 스트리밍 중단: {}", e.getMessage());
+                throw e;
+            }
+        };
+        return ResponseEntity.status(upstream.status()).headers(headers).body(body);
+    }
+
+    // Feign 응답 헤더 맵은 대소문자를 구분하지 않는다
+    private static List<String> headerValues(Response upstream, String name) {
+        Collection<String> values = upstream.headers().get(name);
+        return values == null ? List.of() : new ArrayList<>(values);
+    }
+}
@@ -4,12 +4,14 @@ package com.jakdang.labs.api.file;
 import com.jakdang.labs.api.common.ResponseDTO;
 import com.jakdang.labs.api.file.dto.*;
 import com.jakdang.labs.config.FeignConfig;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "file-service", url = "${file-service.url}", configuration = FeignConfig.FeignErrorDecoder.class)
 public interface FileServiceClient {
@@ -19,6 +21,14 @@ public interface FileServiceClient {
     @PostMapping("/download")
     byte[] downloadFile(@RequestBody RequestFileDTO dto);
 
+    // 스트리밍 다운로드 (응답 본문을 메모리에 올리지 않음, 호출 측에서 Response를 닫아야 함)
+    // headers: Range / If-None-Match 등 클라이언트 요청에서 전달할 헤더 (FileProxySupport.forwardedRequestHeaders)
+    @PostMapping("/download")
+    Response streamDownloadFile(@RequestBody RequestFileDTO dto, @RequestHeader Map<String, String> headers);
+
+    @GetMapping("/download/filekey/{fileKey}")
+    Response streamDownloadByFileKey(@PathVariable("fileKey") String fileKey, @RequestHeader Map<String, String> headers);
+
     @PostMapping(value = "", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     ResponseDTO<Object> handleFileUpload(@RequestPart("file") MultipartFile file,
                                          @RequestParam(value = "index", required = false) Integer index,
@@ -53,31 +63,31 @@ public interface FileServiceClient {
     ResponseDTO<String> getImageLink(@PathVariable("fileId") String fileId);
 
     @GetMapping("/image/{fileId}")
-    byte[] getImage(@PathVariable("fileId") String fileId);
+    Response getImage(@PathVariable("fileId") String fileId, @RequestHeader Map<String, String> headers);
 
     @GetMapping("/image/{fileId}/{size}")
-    byte[] getImageResize(@PathVariable("fileId") String fileId, @PathVariable("size") int size);
+    Response getImageResize(@PathVariable("fileId") String fileId, @PathVariable("size") int size, @RequestHeader Map<String, String> headers);
 
     @PostMapping("/image/resources/{imageName}/{size}")
-    byte[] getPublicImageResize(@PathVariable("imageName") String imageName, @PathVariable("size") int size);
+    Response getPublicImageResize(@PathVariable("imageName") String imageName, @PathVariable("size") int size, @RequestHeader Map<String, String> headers);
 
     @GetMapping("/thumbnail/{fileId}")
-    byte[] getThumbnail(@PathVariable("fileId") String fileId);
+    Response getThumbnail(@PathVariable("fileId") String fileId, @RequestHeader Map<String, String> headers);
 
     @GetMapping("/image/member/{memberId}")
-    byte[] getMemberImage(@PathVariable("memberId") String memberId);
+    Response getMemberImage(@PathVariable("memberId") String memberId, @RequestHeader Map<String, String> headers);
 
     @GetMapping("/image/user/{userId}")
-    byte[] getUserImage(@PathVariable("userId") String userId);
+    Response getUserImage(@PathVariable("userId") String userId, @RequestHeader Map<String, String> headers);
 
     @GetMapping("/image/school/{schoolId}")
-    byte[] getSchoolImage(@PathVariable("schoolId") String schoolId);
+    Response getSchoolImage(@PathVariable("schoolId") String schoolId, @RequestHeader Map<String, String> headers);
 
     @GetMapping("/image/kid/{kidId}")
-    byte[] getKidImage(@PathVariable("kidId") String kidId);
+    Response getKidImage(@PathVariable("kidId") String kidId, @RequestHeader Map<String, String> headers);
 
     @GetMapping("/image/media/{mediaId}")
-    byte[] getImageAlbumMedia(@PathVariable("mediaId") String mediaId);
+    Response getImageAlbumMedia(@PathVariable("mediaId") String mediaId, @RequestHeader Map<String, String> headers);
 
     @GetMapping("/image/kid_all/{kidId}")
     List<FileOwnerDTO> getAllKidImage(@PathVariable("kidId") String kidId);
@@ -0,0 +1,37 @@
+package com.jakdang.labs.api.file.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * 캐시된 이미지 본문 + 메타데이터
+ * content는 힙 배열(HeapLruStore) 또는 메모리 매핑된 세그먼트의 읽기 전용 구간(MappedSegmentStore)이다.
+ */
+record CachedImage(ByteBuffer content, String contentType, String etag, long expiresAt) {
+
+    int length() {
+        return content.remaining();
+    }
+
+    boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+
+    /**
+     * 본문을 그대로 출력 (매핑된 버퍼는 힙으로 전체 복사하지 않고 채널로 전송)
+     */
+    void writeTo(OutputStream out) throws IOException {
+        ByteBuffer view = content.duplicate();
+        if (view.hasArray()) {
+            out.write(view.array(), view.arrayOffset() + view.position(), view.remaining());
+            return;
+        }
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.jakdang.labs.api.file.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 1차 캐시: 작은 이미지(아바타, 썸네일 등)용 힙 LRU
+ * 항목 수가 아닌 전체 바이트 수로 크기를 제한한다.
+ */
+final class HeapLruStore {
+
+    private final long maxBytes;
+    private final LinkedHashMap<ImageCacheKey, CachedImage> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+
+    HeapLruStore(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized Optional<CachedImage> get(ImageCacheKey key, long now) {
+        CachedImage image = entries.get(key);
+        if (image == null) {
+            return Optional.empty();
+        }
+        if (image.isExpired(now)) {
+            remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(image);
+    }
+
+    synchronized void put(ImageCacheKey key, CachedImage image) {
+        remove(key);
+        entries.put(key, image);
+        currentBytes += image.length();
+
+        Iterator<Map.Entry<ImageCacheKey, CachedImage>> eldest = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().getValue().length();
+            eldest.remove();
+        }
+    }
+
+    synchronized void invalidateIf(Predicate<ImageCacheKey> filter) {
+        Iterator<Map.Entry<ImageCacheKey, CachedImage>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<ImageCacheKey, CachedImage> entry = it.next();
+            if (filter.test(entry.getKey())) {
+                currentBytes -= entry.getValue().length();
+                it.remove();
+            }
+        }
+    }
+
+    private void remove(ImageCacheKey key) {
+        CachedImage removed = entries.remove(key);
+        if (removed != null) {
+            currentBytes -= removed.length();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.jakdang.labs.api.file.cache;
+
+import com.jakdang.labs.api.file.FileProxySupport;
+import feign.Response;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 파일 서비스 이미지/썸네일 2단계 캐시
+ * - 1차: 작은 이미지(heap-entry-max-bytes 이하)는 힙 LRU
+ * - 2차: 그보다 큰 이미지는 메모리 매핑된 디스크 세그먼트
+ * 응답에는 본문 SHA-256 기반 strong ETag를 붙이고 If-None-Match가 일치하면 304를 돌려준다.
+ * 파일 삭제 시 invalidate(fileId)로 해당 파일의 모든 크기 항목을 제거한다.
+ */
+@Component
+@Slf4j
+public class ImageCache {
+
+    // 캐시 항목은 ETag로 재검증하도록 한다 (브라우저는 매번 If-None-Match로 확인 → 304)
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final HeapLruStore heapStore;
+    private final MappedSegmentStore diskStore;
+    private final int heapEntryMaxBytes;
+    private final int maxEntryBytes;
+    private final long ttlMillis;
+
+    public ImageCache(@Value("${app.file-cache.heap-max-bytes:33554432}") long heapMaxBytes,
+                      @Value("${app.file-cache.heap-entry-max-bytes:262144}") int heapEntryMaxBytes,
+                      @Value("${app.file-cache.disk-dir:${java.io.tmpdir}/lms-image-cache}") String diskDir,
+                      @Value("${app.file-cache.disk-segment-bytes:67108864}") int diskSegmentBytes,
+                      @Value("${app.file-cache.disk-max-segments:8}") int diskMaxSegments,
+                      @Value("${app.file-cache.max-entry-bytes:8388608}") int maxEntryBytes,
+                      @Value("${app.file-cache.ttl-ms:600000}") long ttlMillis) {
+        this.heapStore = new HeapLruStore(heapMaxBytes);
+        this.heapEntryMaxBytes = heapEntryMaxBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, diskSegmentBytes);
+        this.ttlMillis = ttlMillis;
+
+        MappedSegmentStore store = null;
+        try {
+            store = new MappedSegmentStore(Path.of(diskDir), diskSegmentBytes, diskMaxSegments);
+        } catch (IOException e) {
+            // 디스크 캐시를 쓸 수 없으면 힙 캐시만 사용
+            log.warn("이미지 디스크 캐시 초기화 실패 - dir: {}, error: {}", diskDir, e.getMessage());
+        }
+        this.diskStore = store;
+    }
+
+    /**
+     * 캐시를 거쳐 이미지 응답
+     * 캐시에 없으면 loader로 파일 서비스에서 받아 저장한다. 한도보다 큰 이미지는 캐시하지 않고 스트리밍으로 전달한다.
+     */
+    public ResponseEntity<StreamingResponseBody> serve(ImageCacheKey key, HttpHeaders requestHeaders,
+                                                       MediaType contentType, Supplier<Response> loader) {
+        Optional<CachedImage> cached = lookup(key);
+        if (cached.isPresent()) {
+            return respond(cached.get(), requestHeaders);
+        }
+
+        Response upstream = loader.get();
+        if (upstream.status() != HttpStatus.OK.value() || upstream.body() == null) {
+            return FileProxySupport.relay(upstream, contentType);
+        }
+        Integer declaredLength = upstream.body().length();
+        if (declaredLength != null && declaredLength > maxEntryBytes) {
+            return FileProxySupport.relay(upstream, contentType);
+        }
+
+        byte[] data;
+        try {
+            InputStream in = upstream.body().asInputStream();
+            data = in.readNBytes(maxEntryBytes + 1);
+            if (data.length > maxEntryBytes) {
+                // 길이를 알 수 없던 큰 이미지: 이미 읽은 부분 + 나머지를 캐시 없이 스트리밍
+                byte[] head = data;
+                return ResponseEntity.ok().contentType(contentType).body(out -> {
+                    try (upstream; in) {
+                        out.write(head);
+                        in.transferTo(out);
+                    }
+                });
+            }
+            upstream.close();
+        } catch (IOException e) {
+            upstream.close();
+            log.error("이미지 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).build();
+        }
+
+        return respond(store(key, data, contentType.toString()), requestHeaders);
+    }
+
+    /**
+     * 특정 파일(또는 회원) ID의 모든 캐시 항목 제거
+     */
+    public void invalidate(String id) {
+        if (id == null) {
+            return;
+        }
+        heapStore.invalidateIf(key -> id.equals(key.id()));
+        if (diskStore != null) {
+            diskStore.invalidateIf(key -> id.equals(key.id()));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (diskStore != null) {
+            diskStore.close();
+        }
+    }
+
+    private Optional<CachedImage> lookup(ImageCacheKey key) {
+        long now = System.currentTimeMillis();
+        Optional<CachedImage> image = heapStore.get(key, now);
+        if (image.isEmpty() && diskStore != null) {
+            image = diskStore.get(key, now);
+        }
+        return image;
+    }
+
+    private CachedImage store(ImageCacheKey key, byte[] data, String contentType) {
+        String etag = strongETag(data);
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+
+        if (data.length > heapEntryMaxBytes && diskStore != null) {
+            try {
+                if (diskStore.put(key, data, contentType, etag, expiresAt)) {
+                    return new CachedImage(ByteBuffer.wrap(data), contentType, etag, expiresAt);
+                }
+            } catch (IOException e) {
+                log.warn("이미지 디스크 캐시 저장 실패 - key: {}, error: {}", key, e.getMessage());
+            }
+        }
+
+        CachedImage image = new CachedImage(ByteBuffer.wrap(data), contentType, etag, expiresAt);
+        if (data.length <= heapEntryMaxBytes) {
+            heapStore.put(key, image);
+        }
+        return image;
+    }
+
+    private ResponseEntity<StreamingResponseBody> respond(CachedImage image, HttpHeaders requestHeaders) {
+        if (matchesETag(requestHeaders, image.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(image.etag())
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(image.etag())
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .contentLength(image.length())
+                .body(image::writeTo);
+    }
+
+    private static boolean matchesETag(HttpHeaders requestHeaders, String etag) {
+        for (String candidate : requestHeaders.getIfNoneMatch()) {
+            String tag = candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String strongETag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
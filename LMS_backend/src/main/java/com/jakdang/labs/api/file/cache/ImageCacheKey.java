@@ -0,0 +1,16 @@
+package com.jakdang.labs.api.file.cache;
+
+/**
+ * 이미지 캐시 키
+ * kind: 조회 API 종류 (image / thumbnail / member 등), id: fileId 또는 memberId, size: 리사이즈 크기 (원본은 0)
+ */
+public record ImageCacheKey(String kind, String id, int size) {
+
+    public static ImageCacheKey of(String kind, String id) {
+        return new ImageCacheKey(kind, id, 0);
+    }
+
+    public static ImageCacheKey of(String kind, String id, int size) {
+        return new ImageCacheKey(kind, id, size);
+    }
+}
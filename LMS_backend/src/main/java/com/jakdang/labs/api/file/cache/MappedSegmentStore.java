@@ -0,0 +1,144 @@
+package com.jakdang.labs.api.file.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 2차 캐시: 큰 이미지용 디스크 세그먼트 저장소
+ * 고정 크기 세그먼트 파일을 메모리 매핑해 두고 이미지를 이어 붙여 쓰며(append-only),
+ * 세그먼트 수가 한도를 넘으면 가장 오래된 세그먼트를 통째로 버린다.
+ * 인덱스는 메모리에만 두므로 재시작 시 기존 세그먼트 파일은 삭제한다.
+ */
+@Slf4j
+final class MappedSegmentStore implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Map<ImageCacheKey, Slot> index = new ConcurrentHashMap<>();
+    private long nextSegmentId;
+
+    MappedSegmentStore(Path directory, int segmentBytes, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stale) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    Optional<CachedImage> get(ImageCacheKey key, long now) {
+        Slot slot = index.get(key);
+        if (slot == null) {
+            return Optional.empty();
+        }
+        if (slot.expiresAt() <= now || slot.segment().closed) {
+            index.remove(key, slot);
+            return Optional.empty();
+        }
+        ByteBuffer view = slot.segment().buffer.duplicate();
+        view.position(slot.offset()).limit(slot.offset() + slot.length());
+        return Optional.of(new CachedImage(view.slice().asReadOnlyBuffer(), slot.contentType(), slot.etag(), slot.expiresAt()));
+    }
+
+    /**
+     * 세그먼트에 이미지 추가 (세그먼트보다 큰 이미지는 저장하지 않음)
+     */
+    synchronized boolean put(ImageCacheKey key, byte[] data, String contentType, String etag, long expiresAt) throws IOException {
+        if (data.length > segmentBytes) {
+            return false;
+        }
+        Segment current = segments.peekLast();
+        if (current == null || segmentBytes - current.position < data.length) {
+            current = roll();
+        }
+
+        int offset = current.position;
+        ByteBuffer target = current.buffer.duplicate();
+        target.position(offset);
+        target.put(data);
+        current.position += data.length;
+
+        index.put(key, new Slot(current, offset, data.length, contentType, etag, expiresAt));
+        return true;
+    }
+
+    void invalidateIf(Predicate<ImageCacheKey> filter) {
+        index.keySet().removeIf(filter);
+    }
+
+    @Override
+    public synchronized void close() {
+        index.clear();
+        while (!segments.isEmpty()) {
+            segments.pollFirst().close();
+        }
+    }
+
+    private Segment roll() throws IOException {
+        if (segments.size() >= maxSegments) {
+            Segment oldest = segments.pollFirst();
+            index.values().removeIf(slot -> slot.segment() == oldest);
+            oldest.close();
+        }
+        Segment segment = Segment.create(directory.resolve(SEGMENT_PREFIX + (nextSegmentId++) + SEGMENT_SUFFIX), segmentBytes);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private record Slot(Segment segment, int offset, int length, String contentType, String etag, long expiresAt) {
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private volatile boolean closed;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        // 매핑은 GC될 때까지 유효하므로 이미 응답 중인 구간은 파일 삭제 후에도 안전하게 읽힌다
+        void close() {
+            closed = true;
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("이미지 캐시 세그먼트 삭제 실패: {}, error: {}", path, e.getMessage());
+            }
+        }
+    }
+}
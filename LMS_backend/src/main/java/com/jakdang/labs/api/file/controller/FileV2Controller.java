@@ -2,21 +2,28 @@ package com.jakdang.labs.api.file.controller;
 
 
 import com.jakdang.labs.api.common.ResponseDTO;
+import com.jakdang.labs.api.file.FileProxySupport;
 import com.jakdang.labs.api.file.FileServiceClient;
+import com.jakdang.labs.api.file.cache.ImageCache;
+import com.jakdang.labs.api.file.cache.ImageCacheKey;
 import com.jakdang.labs.api.file.dto.*;
 import com.jakdang.labs.api.gemjjok.service.AssignmentSubmissionFileService;
 import com.jakdang.labs.api.gemjjok.repository.AssignmentSubmissionFileRepository;
 import com.jakdang.labs.entity.AssignmentSubmissionFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import feign.Response;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -29,11 +36,14 @@ public class FileV2Controller {
     private final FileServiceClient fileServiceClient;
     private final AssignmentSubmissionFileService assignmentSubmissionFileService;
     private final AssignmentSubmissionFileRepository assignmentSubmissionFileRepository;
+    private final ImageCache imageCache;
 
 
     @PostMapping("/download")
-    public ResponseEntity<byte[]> downloadFile(@RequestBody RequestFileDTO dto) {
+    public ResponseEntity<StreamingResponseBody> downloadFile(@RequestBody RequestFileDTO dto,
+                                                              @RequestHeader HttpHeaders requestHeaders) {
         log.info("파일 다운로드 요청 - key: {}, name: {}, type: {}", dto.getKey(), dto.getName(), dto.getType());
+        Map<String, String> forwardedHeaders = FileProxySupport.forwardedRequestHeaders(requestHeaders);
         
         // 1. 메인 DB에서 파일 정보 조회 (과제 제출된 파일)
         Optional<AssignmentSubmissionFile> dbFile = assignmentSubmissionFileRepository.findByFileKey(dto.getKey());
@@ -50,9 +60,13 @@ public class FileV2Controller {
                         .type(FileEnum.valueOf(fileInfo.getFileType()))
                         .build();
                 
-                byte[] file = fileServiceClient.downloadFile(externalDto);
-                log.info("외부 파일 ID로 다운로드 성공 - externalFileId: {}, 파일 크기: {} bytes", fileInfo.getId(), file.length);
-                return ResponseEntity.ok().body(file);
+                Response upstream = fileServiceClient.streamDownloadFile(externalDto, forwardedHeaders);
+                if (FileProxySupport.isRelayable(upstream)) {
+                    log.info("외부 파일 ID로 다운로드 성공 - externalFileId: {}, status: {}", fileInfo.getId(), upstream.status());
+                    return FileProxySupport.relay(upstream, null);
+                }
+                upstream.close();
+                log.error("외부 파일 ID로 다운로드 실패 - externalFileId: {}, status: {}", fileInfo.getId(), upstream.status());
                 
             } catch (Exception e) {
                 log.error("외부 파일 ID로 다운로드 실패 - externalFileId: {}, 오류: {}", fileInfo.getId(), e.getMessage());
@@ -75,9 +89,13 @@ public class FileV2Controller {
                         .type(dto.getType())
                         .build();
                 
-                byte[] file = fileServiceClient.downloadFile(tryDto);
-                log.info("외부 서비스에서 파일 다운로드 성공 - key: {}, 파일 크기: {} bytes", key, file.length);
-                return ResponseEntity.ok().body(file);
+                Response upstream = fileServiceClient.streamDownloadFile(tryDto, forwardedHeaders);
+                if (FileProxySupport.isRelayable(upstream)) {
+                    log.info("외부 서비스에서 파일 다운로드 성공 - key: {}, status: {}", key, upstream.status());
+                    return FileProxySupport.relay(upstream, null);
+                }
+                upstream.close();
+                log.info("외부 서비스에서 키 '{}'로 시도 실패: status {}", key, upstream.status());
                 
             } catch (Exception e) {
                 log.info("외부 서비스에서 키 '{}'로 시도 실패: {}", key, e.getMessage());
@@ -243,6 +261,8 @@ public class FileV2Controller {
     @PostMapping(value = "/upload-image", consumes = "multipart/form-data")
     public ResponseEntity<ResponseDTO<ResponseFileDTO>> uploadImage(@RequestParam(value = "file") MultipartFile file, @RequestParam(value = "ownerId") String ownerId, @RequestParam(value = "memberType") MemberEnum memberType) {
         ResponseDTO<ResponseFileDTO> responseDTO = fileServiceClient.uploadImage(file, ownerId, memberType);
+        // 프로필 이미지 교체 시 회원 이미지 캐시 무효화
+        imageCache.invalidate(ownerId);
         return ResponseEntity.ok().body(responseDTO);
     }
 
@@ -253,9 +273,9 @@ public class FileV2Controller {
     }
 
     @GetMapping("/image/{fileId}")
-    public ResponseEntity<byte[]> getImage(@PathVariable(value = "fileId") String fileId) {
-        byte[] image = fileServiceClient.getImage(fileId);
-        return ResponseEntity.ok().headers(httpHeaders -> httpHeaders.setContentType(MediaType.IMAGE_JPEG)).body(image);
+    public ResponseEntity<StreamingResponseBody> getImage(@PathVariable(value = "fileId") String fileId, @RequestHeader HttpHeaders requestHeaders) {
+        return imageCache.serve(ImageCacheKey.of("image", fileId), requestHeaders, MediaType.IMAGE_JPEG,
+                () -> fileServiceClient.getImage(fileId, Map.of()));
     }
 
     @GetMapping("/imagelink/{fileId}")
@@ -265,54 +285,48 @@ public class FileV2Controller {
     }
 
     @GetMapping("/image/{fileId}/{size}")
-    public ResponseEntity<byte[]> getImageResize(@PathVariable(value = "fileId") String fileId, @PathVariable(value = "size") int size) {
-        byte[] image = fileServiceClient.getImageResize(fileId, size);
-        return ResponseEntity.ok().headers(httpHeaders -> {
-            httpHeaders.setContentType(MediaType.IMAGE_JPEG);
-            httpHeaders.setContentLength(image.length);
-        }).body(image);
+    public ResponseEntity<StreamingResponseBody> getImageResize(@PathVariable(value = "fileId") String fileId, @PathVariable(value = "size") int size, @RequestHeader HttpHeaders requestHeaders) {
+        return imageCache.serve(ImageCacheKey.of("image", fileId, size), requestHeaders, MediaType.IMAGE_JPEG,
+                () -> fileServiceClient.getImageResize(fileId, size, Map.of()));
     }
 
     @PostMapping("/image/resources/{imageName}/{size}")
-    public ResponseEntity<byte[]> getPublicImageResize(@PathVariable(value = "imageName") String imageName, @PathVariable(value = "size") int size) {
-        if (size < 10 || size > 1000) return ResponseEntity.badRequest().body("사이즈는 최소 10부터 1000까지 가능합니다.".getBytes());
+    public ResponseEntity<StreamingResponseBody> getPublicImageResize(@PathVariable(value = "imageName") String imageName, @PathVariable(value = "size") int size, @RequestHeader HttpHeaders requestHeaders) {
+        if (size < 10 || size > 1000) return ResponseEntity.badRequest().body(out -> out.write("사이즈는 최소 10부터 1000까지 가능합니다.".getBytes()));
 
-        byte[] image = fileServiceClient.getPublicImageResize(imageName, size);
+        Response image = fileServiceClient.getPublicImageResize(imageName, size, FileProxySupport.forwardedRequestHeaders(requestHeaders));
 
-        return ResponseEntity.ok().headers(httpHeaders -> {
-            httpHeaders.setContentType(MediaType.IMAGE_JPEG);
-            httpHeaders.setContentLength(image.length);
-        }).body(image);
+        return FileProxySupport.relay(image, MediaType.IMAGE_JPEG);
     }
 
     @GetMapping("/thumbnail/{fileId}")
-    public ResponseEntity<byte[]> getThumbnail(@PathVariable(value = "fileId") String fileId) {
-        byte[] image = fileServiceClient.getThumbnail(fileId);
-        return ResponseEntity.ok().headers(httpHeaders -> httpHeaders.setContentType(MediaType.IMAGE_JPEG)).body(image);
+    public ResponseEntity<StreamingResponseBody> getThumbnail(@PathVariable(value = "fileId") String fileId, @RequestHeader HttpHeaders requestHeaders) {
+        return imageCache.serve(ImageCacheKey.of("thumbnail", fileId), requestHeaders, MediaType.IMAGE_JPEG,
+                () -> fileServiceClient.getThumbnail(fileId, Map.of()));
     }
 
     @GetMapping("/image/member/{memberId}")
-    public ResponseEntity<byte[]> getMemberImage(@PathVariable(value = "memberId") String memberId) {
-        byte[] image = fileServiceClient.getMemberImage(memberId);
-        return ResponseEntity.ok().headers(httpHeaders -> httpHeaders.setContentType(MediaType.IMAGE_JPEG)).body(image);
+    public ResponseEntity<StreamingResponseBody> getMemberImage(@PathVariable(value = "memberId") String memberId, @RequestHeader HttpHeaders requestHeaders) {
+        return imageCache.serve(ImageCacheKey.of("member", memberId), requestHeaders, MediaType.IMAGE_JPEG,
+                () -> fileServiceClient.getMemberImage(memberId, Map.of()));
     }
 
     @GetMapping("/image/user/{userId}")
-    public ResponseEntity<byte[]> getUserImage(@PathVariable(value = "userId") String userId) {
-        byte[] image = fileServiceClient.getUserImage(userId);
-        return ResponseEntity.ok().headers(httpHeaders -> httpHeaders.setContentType(MediaType.IMAGE_JPEG)).body(image);
+    public ResponseEntity<StreamingResponseBody> getUserImage(@PathVariable(value = "userId") String userId, @RequestHeader HttpHeaders requestHeaders) {
+        Response image = fileServiceClient.getUserImage(userId, FileProxySupport.forwardedRequestHeaders(requestHeaders));
+        return FileProxySupport.relay(image, MediaType.IMAGE_JPEG);
     }
 
     @GetMapping("/image/school/{schoolId}")
-    public ResponseEntity<byte[]> getSchoolImage(@PathVariable(value = "schoolId") String schoolId) {
-        byte[] image = fileServiceClient.getSchoolImage(schoolId);
-        return ResponseEntity.ok().headers(httpHeaders -> httpHeaders.setContentType(MediaType.IMAGE_JPEG)).body(image);
+    public ResponseEntity<StreamingResponseBody> getSchoolImage(@PathVariable(value = "schoolId") String schoolId, @RequestHeader HttpHeaders requestHeaders) {
+        Response image = fileServiceClient.getSchoolImage(schoolId, FileProxySupport.forwardedRequestHeaders(requestHeaders));
+        return FileProxySupport.relay(image, MediaType.IMAGE_JPEG);
     }
 
     @GetMapping("/image/kid/{kidId}")
-    public ResponseEntity<byte[]> getKidImage(@PathVariable(value = "kidId") String kidId) {
-        byte[] image = fileServiceClient.getKidImage(kidId);
-        return ResponseEntity.ok().headers(httpHeaders -> httpHeaders.setContentType(MediaType.IMAGE_JPEG)).body(image);
+    public ResponseEntity<StreamingResponseBody> getKidImage(@PathVariable(value = "kidId") String kidId, @RequestHeader HttpHeaders requestHeaders) {
+        Response image = fileServiceClient.getKidImage(kidId, FileProxySupport.forwardedRequestHeaders(requestHeaders));
+        return FileProxySupport.relay(image, MediaType.IMAGE_JPEG);
     }
 
     @GetMapping("/image/kid_all/{kidId}")
@@ -322,15 +336,16 @@ public class FileV2Controller {
     }
 
     @GetMapping("/image/media/{mediaId}")
-    public ResponseEntity<byte[]> getImageAlbumMedia(@PathVariable(value = "mediaId") String mediaId) {
-        byte[] image = fileServiceClient.getImageAlbumMedia(mediaId);
-        return ResponseEntity.ok().headers(httpHeaders -> httpHeaders.setContentType(MediaType.IMAGE_JPEG)).body(image);
+    public ResponseEntity<StreamingResponseBody> getImageAlbumMedia(@PathVariable(value = "mediaId") String mediaId, @RequestHeader HttpHeaders requestHeaders) {
+        Response image = fileServiceClient.getImageAlbumMedia(mediaId, FileProxySupport.forwardedRequestHeaders(requestHeaders));
+        return FileProxySupport.relay(image, MediaType.IMAGE_JPEG);
     }
 
     @DeleteMapping("/{fileId}")
     @Transactional
     public ResponseEntity<ResponseDTO<?>> deleteFile(@PathVariable(value = "fileId") String fileId) {
         log.info("=== 파일 삭제 요청 시작 - fileId: {} ===", fileId);
+        imageCache.invalidate(fileId);
         
         // 1. 메인 DB에서 파일 정보 조회 (과제 제출된 파일)
         log.info("메인 DB에서 파일 정보 조회 시도 - fileKey: {}", fileId);
@@ -346,6 +361,7 @@ public class FileV2Controller {
             try {
                 log.info("외부 파일 서비스 삭제 시도 - externalFileId: {}", fileInfo.getId());
                 ResponseDTO<?> deleteResult = fileServiceClient.deleteFile(fileInfo.getId());
+                imageCache.invalidate(fileInfo.getId());
                 log.info("외부 파일 서비스에서 논리적 삭제 성공 - externalFileId: {}", fileInfo.getId());
                 externalDeleteSuccess = true;
                 
@@ -403,6 +419,7 @@ public class FileV2Controller {
             try {
                 log.info("외부 서비스에서 키로 삭제 시도: {}", key);
                 ResponseDTO<?> deleteResult = fileServiceClient.deleteFile(key);
+                imageCache.invalidate(key);
                 log.info("외부 서비스에서 파일 삭제 성공 - key: {}", key);
                 
                 // 외부 파일 서비스에서 삭제 성공 시 성공 응답 반환
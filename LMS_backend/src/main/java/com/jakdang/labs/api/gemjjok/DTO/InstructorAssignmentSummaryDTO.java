@@ -0,0 +1,41 @@
+package com.jakdang.labs.api.gemjjok.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 강사별 과제 요약 (과제별 제출/채점 현황)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InstructorAssignmentSummaryDTO {
+    private String memberId; // 강사 memberId
+    private Integer totalAssignments;
+    private Integer totalSubmissions;
+    private Integer gradedSubmissions; // 점수가 입력된 제출
+    private Integer pendingSubmissions; // 점수 미입력 제출
+    private Double averageScore; // 채점된 제출의 평균 점수
+    private List<AssignmentSummary> assignments;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AssignmentSummary {
+        private String assignmentId;
+        private String courseId;
+        private String assignmentTitle;
+        private LocalDate dueDate;
+        private String status; // "ACTIVE", "INACTIVE"
+        private Integer totalStudents; // 과정 수강생 수
+        private Integer submissionCount;
+        private Integer gradedCount;
+        private Integer pendingCount;
+        private Double averageScore;
+    }
+}
@@ -60,6 +60,20 @@ public class AssignmentController {
         return ResponseEntity.ok(stats);
     }
     
+    // 강사별 과제 요약 조회 (과제별 제출/채점 현황, 구체적인 경로를 먼저 정의)
+    @GetMapping("/assignments/summary")
+    public ResponseEntity<?> getInstructorAssignmentSummary() {
+        try {
+            CustomUserDetails currentUser = getCurrentUser();
+            String memberId = currentUser.getUserId();
+            InstructorAssignmentSummaryDTO summary = assignmentService.getInstructorAssignmentSummary(memberId);
+            return ResponseEntity.ok(ResponseDTO.createSuccessResponse("과제 요약 조회 성공", summary));
+        } catch (Exception e) {
+            log.error("과제 요약 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500).body(ResponseDTO.createErrorResponse(500, "과제 요약 조회 실패: " + e.getMessage()));
+        }
+    }
+    
     // 과제 등록 시 과정 선택을 위한 강사별 강의 목록 조회 (구체적인 경로를 먼저 정의)
     @GetMapping("/assignments/courses")
     public ResponseEntity<List<CourseListResponseDTO>> getInstructorCourses() {
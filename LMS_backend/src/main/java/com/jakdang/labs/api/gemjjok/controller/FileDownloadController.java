@@ -1,6 +1,7 @@
 package com.jakdang.labs.api.gemjjok.controller;
 
 import com.jakdang.labs.api.file.dto.RequestFileDTO;
+import com.jakdang.labs.api.file.FileProxySupport;
 import com.jakdang.labs.api.file.FileServiceClient;
 import com.jakdang.labs.api.gemjjok.entity.LectureFile;
 import com.jakdang.labs.api.gemjjok.repository.LectureFileRepository;
@@ -10,6 +11,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -95,9 +97,10 @@ public class FileDownloadController {
     // }
 
     @PostMapping("/download")
-    public ResponseEntity<byte[]> downloadFile(@RequestBody RequestFileDTO dto) {
-        byte[] file = fileServiceClient.downloadFile(dto);
-        return ResponseEntity.ok().body(file);
+    public ResponseEntity<StreamingResponseBody> downloadFile(@RequestBody RequestFileDTO dto,
+                                                              @RequestHeader HttpHeaders requestHeaders) {
+        return FileProxySupport.relay(
+                fileServiceClient.streamDownloadFile(dto, FileProxySupport.forwardedRequestHeaders(requestHeaders)), null);
     }
 
     /**
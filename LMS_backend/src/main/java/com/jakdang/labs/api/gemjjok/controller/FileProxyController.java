@@ -1,12 +1,15 @@
 package com.jakdang.labs.api.gemjjok.controller;
 
+import com.jakdang.labs.api.file.FileProxySupport;
+import com.jakdang.labs.api.file.FileServiceClient;
+import feign.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/instructor/file")
@@ -14,41 +17,32 @@ import org.springframework.web.client.RestTemplate;
 @Slf4j
 public class FileProxyController {
     
-    private final RestTemplate restTemplate;
-    
-    @Value("${file-service.url}")
-    private String fileServiceUrl;
+    private final FileServiceClient fileServiceClient;
     
     /**
      * 파일 다운로드 프록시 API (fileKey 경로)
      * GET /api/instructor/file/download/filekey/{fileKey}
      */
     @GetMapping("/download/filekey/{fileKey}")
-    public ResponseEntity<byte[]> downloadFileByKey(
+    public ResponseEntity<StreamingResponseBody> downloadFileByKey(
             @PathVariable String fileKey,
-            @RequestParam(required = false) String userId) {
-        
-        log.info("파일 다운로드 프록시 요청 - fileKey: {}, userId: {}", fileKey, userId);
+            @RequestParam(required = false) String userId,
+            @RequestHeader HttpHeaders requestHeaders) {
         
-        // 파일 백엔드로 요청 전달
-        String downloadUrl = fileServiceUrl + "/download/filekey/" + fileKey;
+        log.info("파일 다운로드 프록시 요청 - fileKey: {}, userId: {}, range: {}", fileKey, userId, requestHeaders.getFirst(HttpHeaders.RANGE));
         
+        // 파일 백엔드 응답을 메모리에 올리지 않고 스트리밍으로 전달 (Range / ETag 지원)
         try {
-            log.info("파일 서비스 호출: {}", downloadUrl);
-            ResponseEntity<byte[]> response = restTemplate.getForEntity(downloadUrl, byte[].class);
+            Response upstream = fileServiceClient.streamDownloadByFileKey(fileKey, FileProxySupport.forwardedRequestHeaders(requestHeaders));
             
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                log.info("파일 다운로드 성공 - 파일 크기: {} bytes", response.getBody().length);
-                
+            if (FileProxySupport.isRelayable(upstream)) {
                 // Content-Type 헤더 설정
-                String contentType = getContentType(fileKey);
+                MediaType contentType = MediaType.parseMediaType(getContentType(fileKey));
                 
-                return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_TYPE, contentType)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + fileKey + "\"")
-                    .body(response.getBody());
+                return FileProxySupport.relay(upstream, contentType, "inline; filename=\"" + fileKey + "\"");
             } else {
-                log.warn("파일 서비스에서 파일을 찾을 수 없습니다: {}", fileKey);
+                upstream.close();
+                log.warn("파일 서비스에서 파일을 찾을 수 없습니다: {}, status: {}", fileKey, upstream.status());
                 return ResponseEntity.notFound().build();
             }
         } catch (Exception e) {
@@ -42,6 +42,12 @@ public interface AssignmentRepository extends JpaRepository<AssignmentEntity, St
 
     List<AssignmentEntity> findByCourseIdInOrderByCreatedAtDesc(List<String> courseIds);
 
+    // 여러 강사 memberId의 과제 조회
+    List<AssignmentEntity> findByMemberIdInOrderByCreatedAtDesc(List<String> memberIds);
+
+    // 과제 ID + 강사 memberId로 조회 (본인 과제 확인)
+    Optional<AssignmentEntity> findByAssignmentIdAndMemberId(String assignmentId, String memberId);
+
     // 진행중(마감일이 미래, 활성) 과제
     @Query("SELECT a FROM AssignmentEntity a WHERE a.memberId = :memberId AND a.assignmentActive = 0 AND a.dueDate > CURRENT_TIMESTAMP")
     List<AssignmentEntity> findActiveAssignmentsByMemberId(@Param("memberId") String memberId);
@@ -2,7 +2,10 @@ package com.jakdang.labs.api.gemjjok.repository;
 
 import com.jakdang.labs.entity.AssignmentSubmissionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +13,10 @@ import java.util.Optional;
 public interface AssignmentSubmissionRepository extends JpaRepository<AssignmentSubmissionEntity, String> {
     Optional<AssignmentSubmissionEntity> findByAssignmentIdAndId(String assignmentId, String id);
     List<AssignmentSubmissionEntity> findByIdIn(List<String> ids);
+    List<AssignmentSubmissionEntity> findByAssignmentId(String assignmentId);
+
+    // 과제별 제출 수 / 채점 수(점수 입력) / 평균 점수 [assignmentId, count, gradedCount, avgScore]
+    @Query("SELECT s.assignmentId, COUNT(s), SUM(CASE WHEN s.score IS NOT NULL THEN 1 ELSE 0 END), AVG(s.score) " +
+           "FROM AssignmentSubmissionEntity s WHERE s.assignmentId IN :assignmentIds GROUP BY s.assignmentId")
+    List<Object[]> summarizeByAssignmentIds(@Param("assignmentIds") Collection<String> assignmentIds);
 } 
\ No newline at end of file
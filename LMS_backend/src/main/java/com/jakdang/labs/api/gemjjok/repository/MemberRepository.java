@@ -1,5 +1,6 @@
 package com.jakdang.labs.api.gemjjok.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,10 +35,21 @@ public interface MemberRepository extends JpaRepository<MemberEntity, String> {
     // 이메일로 검색 (JPA 메서드명 규칙)
     Optional<MemberEntity> findByMemberEmailIgnoreCase(String email);
     
+    // 이메일 + 역할로 memberId 목록 조회 (컬럼 collation이 대소문자를 구분하지 않으므로 인덱스를 타도록 그대로 비교)
+    @Query("SELECT m.memberId FROM MemberEntity m WHERE m.memberEmail = :email AND m.memberRole = :memberRole")
+    List<String> findMemberIdsByEmailAndRole(@Param("email") String email, @Param("memberRole") String memberRole);
+    
+    // 이메일로 첫 번째 회원 조회 (같은 이메일의 회원이 여러 명일 수 있음)
+    Optional<MemberEntity> findFirstByMemberEmail(String email);
+    
     // courseId와 memberRole로 학생 수 카운트
     @Query("SELECT COUNT(m) FROM MemberEntity m WHERE m.courseId = :courseId AND m.memberRole = :memberRole")
     int countByCourseIdAndMemberRole(@Param("courseId") String courseId, @Param("memberRole") String memberRole);
     
+    // 여러 과정의 역할별 회원 수 [courseId, count]
+    @Query("SELECT m.courseId, COUNT(m) FROM MemberEntity m WHERE m.courseId IN :courseIds AND m.memberRole = :memberRole GROUP BY m.courseId")
+    List<Object[]> countByCourseIdsAndMemberRole(@Param("courseIds") Collection<String> courseIds, @Param("memberRole") String memberRole);
+    
     // courseId와 memberRole로 학생 목록 조회
     @Query("SELECT m FROM MemberEntity m WHERE m.courseId = :courseId AND m.memberRole = :memberRole")
     List<MemberEntity> findByCourseIdAndMemberRole(@Param("courseId") String courseId, @Param("memberRole") String memberRole);
@@ -9,7 +9,7 @@ import com.jakdang.labs.api.gemjjok.util.AssignmentUuidMapper;
 import org.springframework.web.multipart.MultipartFile;
 import com.jakdang.labs.entity.AssignmentSubmissionEntity;
 import com.jakdang.labs.api.gemjjok.repository.AssignmentSubmissionRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,10 +25,11 @@ import com.jakdang.labs.api.gemjjok.repository.MemberRepository;
 import com.jakdang.labs.api.auth.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
 import com.jakdang.labs.entity.MemberEntity;
+import com.jakdang.labs.utils.ExpiringCache;
+import com.jakdang.labs.utils.TransactionUtils;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AssignmentService {
     
@@ -37,11 +38,35 @@ public class AssignmentService {
     private final CourseListRepository courseListRepository;
     private final InstructorCourseRepository instructorCourseRepository;
     private final AssignmentSubmissionRepository assignmentSubmissionRepository;
-    @Qualifier("gemjjokMemberRepository")
     private final com.jakdang.labs.api.gemjjok.repository.MemberRepository memberRepository;
     private final UserRepository userRepository;
     private final com.jakdang.labs.api.gemjjok.service.AssignmentMaterialService assignmentMaterialService;
     private final AssignmentSubmissionFileService assignmentSubmissionFileService;
+    // 강사 memberId → 과제 요약 (과제/제출 변경 시 무효화, 다른 서버의 변경은 TTL 안에 반영)
+    private final ExpiringCache<String, InstructorAssignmentSummaryDTO> summaryCache;
+
+    public AssignmentService(AssignmentRepository assignmentRepository,
+                             RubricService rubricService,
+                             CourseListRepository courseListRepository,
+                             InstructorCourseRepository instructorCourseRepository,
+                             AssignmentSubmissionRepository assignmentSubmissionRepository,
+                             @Qualifier("gemjjokMemberRepository") com.jakdang.labs.api.gemjjok.repository.MemberRepository memberRepository,
+                             UserRepository userRepository,
+                             com.jakdang.labs.api.gemjjok.service.AssignmentMaterialService assignmentMaterialService,
+                             AssignmentSubmissionFileService assignmentSubmissionFileService,
+                             @Value("${app.assignment-summary-cache.max-size:1000}") int summaryCacheMaxSize,
+                             @Value("${app.assignment-summary-cache.ttl-ms:60000}") long summaryCacheTtlMillis) {
+        this.assignmentRepository = assignmentRepository;
+        this.rubricService = rubricService;
+        this.courseListRepository = courseListRepository;
+        this.instructorCourseRepository = instructorCourseRepository;
+        this.assignmentSubmissionRepository = assignmentSubmissionRepository;
+        this.memberRepository = memberRepository;
+        this.userRepository = userRepository;
+        this.assignmentMaterialService = assignmentMaterialService;
+        this.assignmentSubmissionFileService = assignmentSubmissionFileService;
+        this.summaryCache = new ExpiringCache<>(summaryCacheMaxSize, summaryCacheTtlMillis);
+    }
     
     // 강사가 담당하는 모든 과제 목록 조회 (memberId 기준)
     public List<AssignmentListResponseDTO> getAllAssignmentsByMemberId(String userId) {
@@ -50,15 +75,9 @@ public class AssignmentService {
             .map(u -> u.getEmail())
             .orElse(null);
         if (email == null) return List.of();
-        List<String> memberIds = memberRepository.findAll().stream()
-            .filter(m -> "ROLE_INSTRUCTOR".equalsIgnoreCase(m.getMemberRole()))
-            .filter(m -> email.equalsIgnoreCase(m.getMemberEmail()))
-            .map(m -> m.getMemberId())
-            .toList();
+        List<String> memberIds = memberRepository.findMemberIdsByEmailAndRole(email, "ROLE_INSTRUCTOR");
         if (memberIds.isEmpty()) return List.of();
-        List<AssignmentEntity> assignments = assignmentRepository.findAll().stream()
-            .filter(a -> memberIds.contains(a.getMemberId()))
-            .collect(Collectors.toList());
+        List<AssignmentEntity> assignments = assignmentRepository.findByMemberIdInOrderByCreatedAtDesc(memberIds);
         return assignments.stream().map(this::convertToListResponseDTO).collect(Collectors.toList());
     }
 
@@ -103,17 +122,11 @@ public class AssignmentService {
             .map(u -> u.getEmail())
             .orElse(null);
         if (email == null) throw new RuntimeException("사용자 정보를 찾을 수 없습니다.");
-        String memberId = memberRepository.findAll().stream()
-            .filter(m -> "ROLE_INSTRUCTOR".equalsIgnoreCase(m.getMemberRole()))
-            .filter(m -> email.equalsIgnoreCase(m.getMemberEmail()))
-            .map(m -> m.getMemberId())
+        String memberId = memberRepository.findMemberIdsByEmailAndRole(email, "ROLE_INSTRUCTOR").stream()
             .findFirst().orElse(null);
         if (memberId == null) throw new RuntimeException("강사 memberId를 찾을 수 없습니다.");
         // 2. assignmentId + memberId로 과제 찾기
-        Optional<AssignmentEntity> assignmentOpt = assignmentRepository.findAll().stream()
-            .filter(a -> assignmentId.equals(a.getAssignmentId()))
-            .filter(a -> memberId.equals(a.getMemberId()))
-            .findFirst();
+        Optional<AssignmentEntity> assignmentOpt = assignmentRepository.findByAssignmentIdAndMemberId(assignmentId, memberId);
         if (assignmentOpt.isEmpty()) {
             throw new RuntimeException("과제를 찾을 수 없습니다. ID: " + assignmentId);
         }
@@ -129,6 +142,9 @@ public class AssignmentService {
                 ? rubricItems.stream().mapToInt(RubricItemDTO::getMaxScore).sum()
                 : 100;
 
+        // 제출 현황 (집계 쿼리 1회)
+        InstructorAssignmentSummaryDTO.AssignmentSummary submissionSummary = summarizeAssignments(List.of(entity)).get(0);
+
         return AssignmentDetailResponseDTO.builder()
                 .assignmentId(entity.getAssignmentId())
                 .courseId(entity.getCourseId())
@@ -147,9 +163,9 @@ public class AssignmentService {
                 .assignmentActive(entity.getAssignmentActive())
                 .attachments(List.of()) // TODO: 첨부파일 구현 시 변경
                 .submissions(List.of()) // TODO: 제출현황 구현 시 변경
-                .submissionCount(0)
-                .totalStudents(0)
-                .averageScore(0.0)
+                .submissionCount(submissionSummary.getSubmissionCount())
+                .totalStudents(submissionSummary.getTotalStudents())
+                .averageScore(submissionSummary.getAverageScore())
                 .instructions("")
                 .evaluationCriteria("")
                 .rubricitem(rubricItems)
@@ -245,6 +261,7 @@ public class AssignmentService {
         assignment.setMemberId(memberId); // 변환된 memberId 저장
 
         AssignmentEntity savedAssignment = assignmentRepository.save(assignment);
+        evictSummaryAfterCommit(memberId);
 
         // rubricitem 저장
         if (requestDTO.getRubricitem() != null && !requestDTO.getRubricitem().isEmpty()) {
@@ -279,6 +296,7 @@ public class AssignmentService {
         assignment.setFileRequired(requestDTO.getFileRequired());
         assignment.setCodeRequired(requestDTO.getCodeRequired());
         assignmentRepository.save(assignment);
+        evictSummaryAfterCommit(assignment.getMemberId());
 
         // rubricitem 전체 삭제 후 새로 insert
         rubricService.deleteRubric(assignmentId);
@@ -295,6 +313,8 @@ public class AssignmentService {
     // 과제 삭제
     @Transactional
     public void deleteAssignment(String assignmentId) {
+        assignmentRepository.findByAssignmentId(assignmentId)
+            .ifPresent(assignment -> evictSummaryAfterCommit(assignment.getMemberId()));
         assignmentRepository.deleteById(assignmentId);
         rubricService.deleteRubric(assignmentId);
     }
@@ -302,8 +322,7 @@ public class AssignmentService {
     // 과제별 제출 현황 조회
     public List<AssignmentSubmissionDTO> getAssignmentSubmissions(String assignmentId) {
         // assignmentId로 assignmentsubmission 테이블에서 제출 현황 필터링
-        return assignmentSubmissionRepository.findAll().stream()
-            .filter(sub -> assignmentId.equals(sub.getAssignmentId()))
+        return assignmentSubmissionRepository.findByAssignmentId(assignmentId).stream()
             .map(this::convertToSubmissionDTO)
             .collect(Collectors.toList());
     }
@@ -323,16 +342,22 @@ public class AssignmentService {
         int total = assignments.size();
         int active = (int) assignments.stream().filter(a -> a.getAssignmentActive() == 0 && a.getDueDate() != null && a.getDueDate().isAfter(java.time.LocalDateTime.now().toLocalDate())).count();
         int completed = (int) assignments.stream().filter(a -> a.getAssignmentActive() == 1 || (a.getDueDate() != null && a.getDueDate().isBefore(java.time.LocalDateTime.now().toLocalDate()))).count();
+
+        // 제출 통계 (과제별 집계 쿼리 1회 + 과정별 수강생 수 1회)
+        List<InstructorAssignmentSummaryDTO.AssignmentSummary> summaries = summarizeAssignments(assignments);
+        int totalSubmissions = summaries.stream().mapToInt(InstructorAssignmentSummaryDTO.AssignmentSummary::getSubmissionCount).sum();
+        int gradedSubmissions = summaries.stream().mapToInt(InstructorAssignmentSummaryDTO.AssignmentSummary::getGradedCount).sum();
+        int expectedSubmissions = summaries.stream().mapToInt(InstructorAssignmentSummaryDTO.AssignmentSummary::getTotalStudents).sum();
         return AssignmentStatsResponseDTO.builder()
             .totalAssignments(total)
             .activeAssignments(active)
             .completedAssignments(completed)
             .draftAssignments(0)
-            .totalSubmissions(0)
-            .gradedSubmissions(0)
-            .pendingSubmissions(0)
-            .averageScore(0.0)
-            .submissionRate(0.0)
+            .totalSubmissions(totalSubmissions)
+            .gradedSubmissions(gradedSubmissions)
+            .pendingSubmissions(totalSubmissions - gradedSubmissions)
+            .averageScore(weightedAverageScore(summaries))
+            .submissionRate(expectedSubmissions > 0 ? Math.round(totalSubmissions * 1000.0 / expectedSubmissions) / 10.0 : 0.0)
             .build();
     }
     
@@ -521,10 +546,7 @@ public class AssignmentService {
             .map(u -> u.getEmail())
             .orElse(null);
         if (email != null) {
-            memberId = memberRepository.findAll().stream()
-                .filter(m -> "ROLE_STUDENT".equalsIgnoreCase(m.getMemberRole()))
-                .filter(m -> email.equalsIgnoreCase(m.getMemberEmail()))
-                .map(m -> m.getMemberId())
+            memberId = memberRepository.findMemberIdsByEmailAndRole(email, "ROLE_STUDENT").stream()
                 .findFirst().orElse(null);
         }
 
@@ -544,6 +566,7 @@ public class AssignmentService {
             .updatedAt(new java.sql.Timestamp(System.currentTimeMillis()))
             .build();
         assignmentSubmissionRepository.save(entity);
+        evictSummaryAfterCommit(assignmentOpt.get().getMemberId());
         
         // 8. 과제 제출 파일들의 submissionId 업데이트
         try {
@@ -566,15 +589,16 @@ public class AssignmentService {
         // if (file != null && !file.isEmpty()) { ... }
         entity.setUpdatedAt(new java.sql.Timestamp(System.currentTimeMillis()));
         assignmentSubmissionRepository.save(entity);
+        evictSummaryOfAssignmentAfterCommit(entity.getAssignmentId());
     }
 
     // 학생 과제 제출 삭제
     @Transactional
     public void deleteAssignmentSubmission(String submissionId) {
-        if (!assignmentSubmissionRepository.existsById(submissionId)) {
-            throw new IllegalArgumentException("해당 제출 내역이 존재하지 않습니다.");
-        }
-        assignmentSubmissionRepository.deleteById(submissionId);
+        AssignmentSubmissionEntity entity = assignmentSubmissionRepository.findById(submissionId)
+            .orElseThrow(() -> new IllegalArgumentException("해당 제출 내역이 존재하지 않습니다."));
+        assignmentSubmissionRepository.delete(entity);
+        evictSummaryOfAssignmentAfterCommit(entity.getAssignmentId());
     }
 
     // 피드백/점수 수정
@@ -585,6 +609,7 @@ public class AssignmentService {
         entity.setFeedback(feedback);
         entity.setScore(score);
         assignmentSubmissionRepository.save(entity);
+        evictSummaryOfAssignmentAfterCommit(entity.getAssignmentId());
         // System.out.println("[피드백/점수 수정] submissionId=" + submissionId + ", score=" + score + ", feedback=" + feedback);
     }
 
@@ -630,9 +655,7 @@ public class AssignmentService {
         if (email == null) return List.of();
         
         // memberEmail로 id(PK) 조회
-        Optional<com.jakdang.labs.entity.MemberEntity> memberOpt = memberRepository.findAll().stream()
-            .filter(m -> email.equals(m.getMemberEmail()))
-            .findFirst();
+        Optional<com.jakdang.labs.entity.MemberEntity> memberOpt = memberRepository.findFirstByMemberEmail(email);
         if (memberOpt.isEmpty()) return List.of();
         
         String id = memberOpt.get().getId();
@@ -649,9 +672,7 @@ public class AssignmentService {
         if (email == null) return null;
         
         // memberEmail로 memberId(PK) 조회
-        Optional<com.jakdang.labs.entity.MemberEntity> memberOpt = memberRepository.findAll().stream()
-            .filter(m -> email.equals(m.getMemberEmail()))
-            .findFirst();
+        Optional<com.jakdang.labs.entity.MemberEntity> memberOpt = memberRepository.findFirstByMemberEmail(email);
         if (memberOpt.isEmpty()) return null;
         
         String memberId = memberOpt.get().getMemberId();
@@ -659,6 +680,90 @@ public class AssignmentService {
         return submissionOpt.map(this::convertToSubmissionDTO).orElse(null);
     }
     
+    // 강사별 과제 요약 (users.id → email → 강사 memberId, memberId 기준 캐시)
+    public InstructorAssignmentSummaryDTO getInstructorAssignmentSummary(String userId) {
+        String email = userRepository.findById(userId)
+            .map(u -> u.getEmail())
+            .orElse(null);
+        if (email == null) throw new RuntimeException("사용자 정보를 찾을 수 없습니다.");
+        String memberId = memberRepository.findMemberIdsByEmailAndRole(email, "ROLE_INSTRUCTOR").stream()
+            .findFirst().orElse(null);
+        if (memberId == null) throw new RuntimeException("강사 memberId를 찾을 수 없습니다.");
+        return summaryCache.computeIfAbsent(memberId, this::loadInstructorSummary);
+    }
+
+    private InstructorAssignmentSummaryDTO loadInstructorSummary(String memberId) {
+        List<AssignmentEntity> assignments = assignmentRepository.findByMemberIdOrderByCreatedAtDesc(memberId);
+        List<InstructorAssignmentSummaryDTO.AssignmentSummary> summaries = summarizeAssignments(assignments);
+        int totalSubmissions = summaries.stream().mapToInt(InstructorAssignmentSummaryDTO.AssignmentSummary::getSubmissionCount).sum();
+        int gradedSubmissions = summaries.stream().mapToInt(InstructorAssignmentSummaryDTO.AssignmentSummary::getGradedCount).sum();
+        return InstructorAssignmentSummaryDTO.builder()
+            .memberId(memberId)
+            .totalAssignments(assignments.size())
+            .totalSubmissions(totalSubmissions)
+            .gradedSubmissions(gradedSubmissions)
+            .pendingSubmissions(totalSubmissions - gradedSubmissions)
+            .averageScore(weightedAverageScore(summaries))
+            .assignments(summaries)
+            .build();
+    }
+
+    // 과제 목록의 제출/채점 현황 (제출 집계 1회 + 과정별 수강생 수 1회, 과제 순서 유지)
+    private List<InstructorAssignmentSummaryDTO.AssignmentSummary> summarizeAssignments(List<AssignmentEntity> assignments) {
+        if (assignments.isEmpty()) return List.of();
+        Map<String, Object[]> submissionStats = new HashMap<>();
+        for (Object[] row : assignmentSubmissionRepository.summarizeByAssignmentIds(
+                assignments.stream().map(AssignmentEntity::getAssignmentId).toList())) {
+            submissionStats.put((String) row[0], row);
+        }
+        Map<String, Integer> studentCounts = new HashMap<>();
+        for (Object[] row : memberRepository.countByCourseIdsAndMemberRole(
+                assignments.stream().map(AssignmentEntity::getCourseId).distinct().toList(), "ROLE_STUDENT")) {
+            studentCounts.put((String) row[0], ((Number) row[1]).intValue());
+        }
+
+        return assignments.stream().map(a -> {
+            Object[] stats = submissionStats.get(a.getAssignmentId());
+            int submissionCount = stats != null ? ((Number) stats[1]).intValue() : 0;
+            int gradedCount = stats != null && stats[2] != null ? ((Number) stats[2]).intValue() : 0;
+            double averageScore = stats != null && stats[3] != null ? Math.round(((Number) stats[3]).doubleValue() * 10) / 10.0 : 0.0;
+            return InstructorAssignmentSummaryDTO.AssignmentSummary.builder()
+                .assignmentId(a.getAssignmentId())
+                .courseId(a.getCourseId())
+                .assignmentTitle(a.getAssignmentTitle())
+                .dueDate(a.getDueDate())
+                .status(a.getAssignmentActive() != null && a.getAssignmentActive() == 0 ? "ACTIVE" : "INACTIVE")
+                .totalStudents(studentCounts.getOrDefault(a.getCourseId(), 0))
+                .submissionCount(submissionCount)
+                .gradedCount(gradedCount)
+                .pendingCount(submissionCount - gradedCount)
+                .averageScore(averageScore)
+                .build();
+        }).collect(Collectors.toList());
+    }
+
+    // 채점된 제출 수로 가중한 평균 점수
+    private static double weightedAverageScore(List<InstructorAssignmentSummaryDTO.AssignmentSummary> summaries) {
+        double scoreSum = 0;
+        int gradedCount = 0;
+        for (InstructorAssignmentSummaryDTO.AssignmentSummary summary : summaries) {
+            scoreSum += summary.getAverageScore() * summary.getGradedCount();
+            gradedCount += summary.getGradedCount();
+        }
+        return gradedCount > 0 ? Math.round(scoreSum / gradedCount * 10) / 10.0 : 0.0;
+    }
+
+    // 강사 요약 캐시 무효화 (커밋 전에 다시 적재되어 이전 값이 남지 않도록 커밋 후 실행)
+    private void evictSummaryAfterCommit(String memberId) {
+        if (memberId == null) return;
+        TransactionUtils.afterCommit(() -> summaryCache.invalidate(memberId));
+    }
+
+    private void evictSummaryOfAssignmentAfterCommit(String assignmentId) {
+        TransactionUtils.afterCommit(() -> summaryCache.invalidateIf((memberId, summary) -> summary.getAssignments().stream()
+            .anyMatch(a -> a.getAssignmentId().equals(assignmentId))));
+    }
+    
     // 과정별 학생 목록 조회
     public Map<String, Object> getCourseStudents(String courseId, String instructorId) {
         // log.info("과정별 학생 목록 조회: courseId={}, instructorId={}", courseId, instructorId);
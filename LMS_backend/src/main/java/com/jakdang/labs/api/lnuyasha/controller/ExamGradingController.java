@@ -115,6 +115,72 @@ public class ExamGradingController {
         }
     }
     
+    /**
+     * 문항 하나 채점 (채점 작업 화면용, 채점 완료된 시험이면 총점에 점수 차이만 반영)
+     * PATCH /api/instructor/exam/grading/{templateId}/students/{memberId}/questions/{questionId}
+     * 요청 본문: { "score": 문항 점수, "comment": 코멘트(선택) }
+     */
+    @PatchMapping("/{templateId}/students/{memberId}/questions/{questionId}")
+    public ResponseEntity<ResponseDTO<Object>> gradeAnswer(
+            @PathVariable String templateId,
+            @PathVariable String memberId,
+            @PathVariable String questionId,
+            @RequestBody AnswerDTO request,
+            @RequestParam(required = false) String userId,
+            HttpServletRequest httpRequest) {
+        try {
+            MemberEntity memberEntity = resolveRequester(userId, httpRequest);
+            if (memberEntity == null) {
+                return ResponseEntity.status(403)
+                        .header("Content-Type", "application/json; charset=UTF-8")
+                        .body(ResponseDTO.createErrorResponse(403, "사용자 정보를 찾을 수 없습니다."));
+            }
+            if (!isInstructor(memberEntity.getMemberId())) {
+                return ResponseEntity.status(403)
+                        .header("Content-Type", "application/json; charset=UTF-8")
+                        .body(ResponseDTO.createErrorResponse(403, "강사 권한이 필요합니다."));
+            }
+            
+            AnswerDTO result = examGradingService.gradeAnswer(templateId, memberId, questionId,
+                    request.getScore(), request.getComment());
+            
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/json; charset=UTF-8")
+                    .body(ResponseDTO.createSuccessResponse("문항 채점이 저장되었습니다.", result));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .header("Content-Type", "application/json; charset=UTF-8")
+                    .body(ResponseDTO.createErrorResponse(400, e.getMessage()));
+                    
+        } catch (RuntimeException e) {
+            if (e.getMessage() != null && e.getMessage().contains("JWT token not found")) {
+                return ResponseEntity.status(403)
+                        .header("Content-Type", "application/json; charset=UTF-8")
+                        .body(ResponseDTO.createErrorResponse(403, "인증 토큰이 유효하지 않습니다."));
+            }
+            return ResponseEntity.internalServerError()
+                    .header("Content-Type", "application/json; charset=UTF-8")
+                    .body(ResponseDTO.createErrorResponse(500, "서버 내부 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 요청자 조회 (userId 파라미터 우선, 없으면 JWT 토큰의 이메일)
+     */
+    private MemberEntity resolveRequester(String userId, HttpServletRequest httpRequest) {
+        String memberId = userId;
+        if (memberId == null || memberId.trim().isEmpty()) {
+            var memberInfo = memberService.getMemberInfoByEmail(extractEmailFromToken(httpRequest));
+            memberId = memberInfo != null ? memberInfo.getMemberId() : null;
+        }
+        if (memberId == null) {
+            return null;
+        }
+        List<MemberEntity> members = memberRepository.findByMemberId(memberId);
+        return members.isEmpty() ? null : members.get(0);
+    }
+    
     /**
      * 채점 요청 데이터 검증
      */
@@ -1,6 +1,7 @@
 package com.jakdang.labs.api.lnuyasha.controller;
 
 import com.jakdang.labs.api.lnuyasha.dto.AnswerDTO;
+import com.jakdang.labs.api.lnuyasha.dto.GradingWorkspaceDTO;
 import com.jakdang.labs.api.lnuyasha.service.ExamSubmissionService;
 import com.jakdang.labs.api.lnuyasha.service.StudentAnswerService;
 import com.jakdang.labs.api.youngjae.dto.ResponseDTO;
@@ -71,5 +72,28 @@ public class InstructorExamController {
         }
     }
     
-
-} 
\ No newline at end of file
+    /**
+     * 채점 작업 화면 조회 (문항 + 학생 페이지별 답안/현재 점수)
+     * GET /api/instructor/exams/{templateId}/grading-workspace?page=0&limit=30
+     */
+    @GetMapping("/{templateId}/grading-workspace")
+    public ResponseEntity<ResponseDTO<GradingWorkspaceDTO>> getGradingWorkspace(
+            @PathVariable String templateId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "limit", defaultValue = "30") int limit) {
+        
+        try {
+            GradingWorkspaceDTO workspace = examSubmissionService.getGradingWorkspace(templateId, page, limit);
+            
+            return ResponseEntity.ok(ResponseDTO.createSuccessResponse("채점 작업 화면 조회 성공", workspace));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ResponseDTO.createErrorResponse(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("채점 작업 화면 조회 실패: templateId={}, error={}", templateId, e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ResponseDTO.createErrorResponse(500, "채점 작업 화면 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+}
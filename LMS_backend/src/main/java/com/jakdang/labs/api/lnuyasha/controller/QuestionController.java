@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.jakdang.labs.api.lnuyasha.dto.*;
 import com.jakdang.labs.api.lnuyasha.service.*;
@@ -32,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class QuestionController {
     
     private final QuestionBankService questionBankService;
+    private final QuestionImportService questionImportService;
     private final SubjectDetailService subjectDetailService;
     private final MemberService memberService;
     private final JwtUtil jwtUtil;
@@ -264,6 +266,78 @@ public class QuestionController {
         }
     }
     
+    /**
+     * 문제 일괄 등록 (JSON)
+     * POST /api/questions/import
+     * 유효한 문제는 모두 등록하고, 실패한 문제는 행 번호와 사유를 errors로 돌려준다.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ResponseDTO<QuestionImportResponseDTO>> importQuestions(
+            HttpServletRequest request,
+            @RequestBody QuestionBatchCreateRequestDTO batchRequest) {
+        
+        try {
+            MemberInfoDTO memberInfo = resolveMemberFromToken(request);
+            log.info("문제 일괄 등록 요청: id = {}, 문제 수 = {}", memberInfo.getId(),
+                    batchRequest.getQuestions() != null ? batchRequest.getQuestions().size() : 0);
+            
+            QuestionImportResponseDTO result = questionImportService.importQuestions(memberInfo.getId(), batchRequest.getQuestions());
+            return ResponseEntity.ok(ResponseDTO.createSuccessResponse("문제 일괄 등록 완료", result));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("문제 일괄 등록 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ResponseDTO.createErrorResponse(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("문제 일괄 등록 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ResponseDTO.createErrorResponse(500, "문제 일괄 등록 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 문제 파일 가져오기 (CSV/JSON)
+     * POST /api/questions/import/file (multipart, file)
+     */
+    @PostMapping("/import/file")
+    public ResponseEntity<ResponseDTO<QuestionImportResponseDTO>> importQuestionFile(
+            HttpServletRequest request,
+            @RequestParam("file") MultipartFile file) {
+        
+        try {
+            MemberInfoDTO memberInfo = resolveMemberFromToken(request);
+            log.info("문제 파일 가져오기 요청: id = {}, 파일 = {}, 크기 = {}", memberInfo.getId(),
+                    file.getOriginalFilename(), file.getSize());
+            
+            QuestionImportResponseDTO result = questionImportService.importFile(memberInfo.getId(), file);
+            return ResponseEntity.ok(ResponseDTO.createSuccessResponse("문제 가져오기 완료", result));
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("문제 파일 가져오기 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ResponseDTO.createErrorResponse(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("문제 파일 가져오기 중 오류 발생: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ResponseDTO.createErrorResponse(500, "문제 가져오기 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * JWT 토큰의 email로 회원 정보 조회 (없으면 IllegalArgumentException)
+     */
+    private MemberInfoDTO resolveMemberFromToken(HttpServletRequest request) {
+        String email = extractEmailFromToken(request);
+        if (email == null) {
+            throw new IllegalArgumentException("JWT 토큰에서 이메일을 추출할 수 없습니다.");
+        }
+        MemberInfoDTO memberInfo = memberService.getMemberInfoByEmail(email);
+        if (memberInfo == null) {
+            throw new IllegalArgumentException("해당 이메일로 등록된 회원 정보를 찾을 수 없습니다: " + email);
+        }
+        return memberInfo;
+    }
+    
     /**
      * 쿠키에서 직접 memberId 추출
      */
@@ -623,6 +697,55 @@ public class QuestionController {
         }
     }
     
+    /**
+     * 문제은행 전문 검색 (검색 색인, 관련도순 + 커서 페이징)
+     * GET /api/questions/search?keyword=자바&questionType=객관식&status=활성&year=2024&cursor=...&limit=20&typeAhead=true
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ResponseDTO<QuestionListResponseDTO>> searchQuestionBank(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "questionType", required = false) String questionType,
+            @RequestParam(value = "subDetailId", required = false) String subDetailId,
+            @RequestParam(value = "memberId", required = false) String memberId,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "year", required = false) String year,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "typeAhead", defaultValue = "false") boolean typeAhead,
+            @RequestParam(value = "userId", required = false) String userId,
+            HttpServletRequest request) {
+        try {
+            MemberInfoDTO memberInfo = userId != null && !userId.trim().isEmpty()
+                    ? memberService.getMemberInfo(userId)
+                    : memberService.getMemberInfoByEmail(extractEmailFromToken(request));
+            if (memberInfo == null || memberInfo.getEducationId() == null) {
+                return ResponseEntity.badRequest()
+                        .body(ResponseDTO.createErrorResponse(400, "사용자 정보를 찾을 수 없습니다."));
+            }
+            
+            QuestionSearchRequestDTO searchRequest = QuestionSearchRequestDTO.builder()
+                    .searchTerm(keyword)
+                    .questionType(questionType)
+                    .subDetailId(subDetailId)
+                    .memberId(memberId)
+                    .selectedStatus(status)
+                    .selectedYear(year)
+                    .build();
+            QuestionListResponseDTO response = questionBankService.searchQuestionBank(
+                    memberInfo.getEducationId(), searchRequest, cursor, limit, typeAhead);
+            
+            return ResponseEntity.ok(ResponseDTO.createSuccessResponse("문제 검색이 완료되었습니다.", response));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ResponseDTO.createErrorResponse(400, e.getMessage()));
+        } catch (Exception e) {
+            log.error("문제 검색 중 오류 발생: keyword={}, error={}", keyword, e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(ResponseDTO.createErrorResponse(500, "문제 검색 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+    
     /**
      * 전체 문제 목록 조회 (모든 문제 + 강사 정보)
      */
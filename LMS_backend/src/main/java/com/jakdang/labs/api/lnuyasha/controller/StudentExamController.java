@@ -455,6 +455,105 @@ public class StudentExamController {
         }
     }
 
+    /**
+     * 응시 중 답안 임시 저장 API (자동 저장)
+     * PUT /api/student/exam/draft/{templateId}
+     * 요청 본문: { "answers": { questionId: 답안 }, "courseId": ..., "userId": ... } (변경된 문제만 보내도 됨)
+     */
+    @PutMapping("/draft/{templateId}")
+    public ResponseEntity<ResponseDTO<Map<String, Object>>> saveDraftAnswers(
+            @PathVariable String templateId,
+            @RequestBody Map<String, Object> requestBody,
+            HttpServletRequest request) {
+        
+        try {
+            String courseId = (String) requestBody.get("courseId");
+            String userId = (String) requestBody.get("userId");
+            Object answersObj = requestBody.get("answers");
+            
+            if (!(answersObj instanceof Map)) {
+                return ResponseEntity.badRequest().body(ResponseDTO.<Map<String, Object>>builder()
+                        .resultCode("400")
+                        .resultMessage("answers는 Map 형태여야 합니다.")
+                        .build());
+            }
+            
+            @SuppressWarnings("unchecked")
+            Map<String, Object> rawAnswers = (Map<String, Object>) answersObj;
+            Map<String, String> answers = new java.util.HashMap<>();
+            for (Map.Entry<String, Object> entry : rawAnswers.entrySet()) {
+                answers.put(entry.getKey(), entry.getValue() != null ? entry.getValue().toString() : "");
+            }
+            
+            String studentEmail = hasUserIdAndCourseId(userId, courseId) ? null : extractStudentEmailFromRequest(request);
+            Map<String, Object> result = studentExamService.saveDraftAnswers(templateId, courseId, userId, studentEmail, answers);
+            
+            return ResponseEntity.ok(ResponseDTO.<Map<String, Object>>builder()
+                    .resultCode("200")
+                    .resultMessage("성공")
+                    .data(result)
+                    .build());
+                    
+        } catch (IllegalArgumentException e) {
+            log.warn("답안 임시 저장 실패 - 잘못된 요청: templateId={}, error={}", templateId, e.getMessage());
+            return ResponseEntity.badRequest().body(ResponseDTO.<Map<String, Object>>builder()
+                    .resultCode("400")
+                    .resultMessage("답안 임시 저장 실패: " + e.getMessage())
+                    .build());
+        } catch (IllegalStateException e) {
+            log.warn("답안 임시 저장 실패 - 대기열 포화: templateId={}, error={}", templateId, e.getMessage());
+            return ResponseEntity.status(503).body(ResponseDTO.<Map<String, Object>>builder()
+                    .resultCode("503")
+                    .resultMessage("답안 임시 저장 실패: " + e.getMessage())
+                    .build());
+        } catch (Exception e) {
+            log.error("답안 임시 저장 실패 - 예상치 못한 오류: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ResponseDTO.<Map<String, Object>>builder()
+                    .resultCode("500")
+                    .resultMessage("답안 임시 저장 실패: " + e.getMessage())
+                    .build());
+        }
+    }
+
+    /**
+     * 임시 저장 답안 조회 API (재접속 시 복원)
+     * GET /api/student/exam/draft/{templateId}
+     */
+    @GetMapping("/draft/{templateId}")
+    public ResponseEntity<ResponseDTO<Map<String, String>>> getDraftAnswers(
+            @PathVariable String templateId,
+            @RequestParam(required = false) String courseId,
+            @RequestParam(required = false) String userId,
+            HttpServletRequest request) {
+        
+        try {
+            String studentEmail = hasUserIdAndCourseId(userId, courseId) ? null : extractStudentEmailFromRequest(request);
+            Map<String, String> draft = studentExamService.getDraftAnswers(templateId, courseId, userId, studentEmail);
+            
+            return ResponseEntity.ok(ResponseDTO.<Map<String, String>>builder()
+                    .resultCode("200")
+                    .resultMessage("성공")
+                    .data(draft)
+                    .build());
+                    
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ResponseDTO.<Map<String, String>>builder()
+                    .resultCode("400")
+                    .resultMessage("임시 저장 답안 조회 실패: " + e.getMessage())
+                    .build());
+        } catch (Exception e) {
+            log.error("임시 저장 답안 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body(ResponseDTO.<Map<String, String>>builder()
+                    .resultCode("500")
+                    .resultMessage("임시 저장 답안 조회 실패: " + e.getMessage())
+                    .build());
+        }
+    }
+
+    private boolean hasUserIdAndCourseId(String userId, String courseId) {
+        return userId != null && !userId.trim().isEmpty() && courseId != null && !courseId.trim().isEmpty();
+    }
+
     /**
      * JWT 토큰에서 학생 ID 추출
      */
@@ -0,0 +1,48 @@
+package com.jakdang.labs.api.lnuyasha.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채점 작업 화면 응답 DTO
+ * 시험 문항(정답 포함)과 학생 페이지별 제출 답안/현재 점수를 한 번에 내려준다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradingWorkspaceDTO {
+
+    private String templateId;                  // 시험 템플릿 ID
+    private int maxScore;                       // 시험 만점 (문항 배점 합계)
+    private List<QuestionDTO> questions;        // 시험 문항 (정답/해설 포함)
+    private List<StudentSubmission> students;   // 학생별 제출 답안
+    private int totalStudents;                  // 전체 제출 학생 수
+    private int currentPage;                    // 현재 페이지 (0부터)
+    private int limit;                          // 페이지당 학생 수
+    private int totalPages;                     // 전체 페이지 수
+    private boolean hasNext;                    // 다음 페이지 존재 여부
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StudentSubmission {
+        private String memberId;                // 학생 ID
+        private String studentName;             // 학생 이름
+        private String memberEmail;             // 학생 이메일
+        private LocalDateTime submittedAt;      // 제출 시간
+        private int score;                      // 현재 총점 (채점 완료 시 scorestudent 점수, 아니면 답안 점수 합계)
+        private String grade;                   // 등급
+        private String status;                  // 상태 ("채점완료", "채점대기")
+        private Integer isChecked;              // 확인 상태 (0: 학생 확인 완료, 1: 채점 완료/학생 미확인)
+        private Integer graded;                 // 채점 완료 여부 (0: 채점 완료, 1: 미채점)
+        private String totalComment;            // 전체 피드백
+        private List<AnswerDTO> answers;        // 문항별 답안 (templateQuestionId 순서는 questions와 동일)
+    }
+}
@@ -0,0 +1,37 @@
+package com.jakdang.labs.api.lnuyasha.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 문제 일괄 등록(가져오기) 응답 DTO
+ * 유효한 문제는 모두 등록하고, 실패한 행은 행 번호와 사유를 함께 돌려준다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionImportResponseDTO {
+    private int totalRows;                                                       // 요청 문제 수
+    private int createdCount;                                                    // 등록된 문제 수
+    private int failedCount;                                                     // 실패한 문제 수
+    private List<QuestionBatchCreateResponseDTO.CreatedQuestionDTO> createdQuestions; // 등록된 문제 (요청 순서)
+    private List<RowError> errors;                                               // 실패한 행
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowError {
+        private int row;                // 행 번호 (1부터, CSV는 헤더 다음 행이 1)
+        private String questionText;    // 문제 내용 (확인용)
+        private String message;         // 실패 사유
+    }
+}
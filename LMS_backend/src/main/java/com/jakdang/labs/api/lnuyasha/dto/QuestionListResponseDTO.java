@@ -25,6 +25,7 @@ public class QuestionListResponseDTO {
     private int totalPages;                      // 전체 페이지 수
     private boolean hasNext;                     // 다음 페이지 존재 여부
     private boolean hasPrevious;                 // 이전 페이지 존재 여부
+    private String nextCursor;                   // 다음 페이지 커서 (검색 색인 커서 페이징, 마지막이면 null)
     private String message;                      // 메시지
     private QuestionBankStats stats;             // 통계 정보
     
@@ -0,0 +1,82 @@
+package com.jakdang.labs.api.lnuyasha.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 임시 저장 답안(answerdraft) 배치 반영 / 조회 / 제출 표시
+ * (templateId, memberId) 유니크 키 기준 INSERT ... ON DUPLICATE KEY UPDATE 로 한 번에 반영하며,
+ * 변경된 문제만 JSON_MERGE_PATCH로 합치고 저장된 행보다 오래된 변경이나 제출 이후 변경은 무시한다
+ * (여러 서버가 같은 학생의 임시 답안을 들고 있어도 늦게 도착한 이전 값이 덮어쓰지 않도록).
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnswerDraftJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 변경된 문제 답안 병합
+     * @param drafts draftAnswers는 이번에 바뀐 문제만 담은 JSON
+     */
+    public void mergeDrafts(List<DraftRow> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        // 같은 문장 안에서는 앞의 대입이 먼저 반영되므로 draftAnswers를 updatedAt보다 먼저 갱신
+        String sql = """
+                INSERT INTO answerdraft (draftId, templateId, memberId, draftAnswers, updatedAt, submitted)
+                VALUES (UUID(), :templateId, :memberId, :draftAnswers, :updatedAt, 0)
+                ON DUPLICATE KEY UPDATE
+                    draftAnswers = IF(submitted = 0 AND VALUES(updatedAt) >= updatedAt,
+                                      JSON_MERGE_PATCH(draftAnswers, VALUES(draftAnswers)), draftAnswers),
+                    updatedAt = IF(submitted = 0, GREATEST(updatedAt, VALUES(updatedAt)), updatedAt)
+                """;
+        SqlParameterSource[] batch = drafts.stream()
+                .map(draft -> new MapSqlParameterSource()
+                        .addValue("templateId", draft.templateId())
+                        .addValue("memberId", draft.memberId())
+                        .addValue("draftAnswers", draft.draftAnswers())
+                        .addValue("updatedAt", Timestamp.valueOf(draft.updatedAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    /**
+     * 제출 전 임시 답안 조회 (제출 표시된 행은 제외)
+     */
+    public Optional<String> findDraftAnswers(String templateId, String memberId) {
+        List<String> rows = jdbcTemplate.queryForList(
+                "SELECT draftAnswers FROM answerdraft WHERE templateId = :templateId AND memberId = :memberId AND submitted = 0",
+                new MapSqlParameterSource()
+                        .addValue("templateId", templateId)
+                        .addValue("memberId", memberId),
+                String.class);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 제출 표시 (답안을 비우고 이후 mergeDrafts가 반영되지 않도록 남겨 둠)
+     */
+    public void markSubmitted(String templateId, String memberId) {
+        String sql = """
+                INSERT INTO answerdraft (draftId, templateId, memberId, draftAnswers, updatedAt, submitted)
+                VALUES (UUID(), :templateId, :memberId, '{}', NOW(), 1)
+                ON DUPLICATE KEY UPDATE draftAnswers = '{}', updatedAt = NOW(), submitted = 1
+                """;
+        jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("memberId", memberId));
+    }
+
+    public record DraftRow(String templateId, String memberId, String draftAnswers, LocalDateTime updatedAt) {
+    }
+}
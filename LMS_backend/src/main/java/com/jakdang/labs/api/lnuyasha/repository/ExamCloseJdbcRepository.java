@@ -0,0 +1,128 @@
+package com.jakdang.labs.api.lnuyasha.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 시험 종료(미제출 0점 처리)용 집합 단위 쿼리
+ * 학생 × 문제마다 답안을 조회/저장하던 방식 대신
+ * 누락된 (학생, 문제) 쌍을 안티 조인 한 번으로 찾고, JDBC 배치로 0점 답안을 넣고, 총점을 일괄 반영한다.
+ * 제출하지 않은 학생의 답안 내용은 answerdraft에 반영된 임시 저장 답안에서 가져온다 (없으면 빈 답안).
+ * (배치 insert가 실제로 묶여 전송되려면 JDBC URL에 rewriteBatchedStatements=true 필요)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExamCloseJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 답안이 없는 (학생, 템플릿 문제) 쌍 조회 (같은 쿼리에서 해당 문제의 임시 저장 답안도 함께 읽음)
+     */
+    public List<MissingAnswer> findMissingAnswers(String templateId, Collection<String> studentMemberIds) {
+        if (studentMemberIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                SELECT m.memberId, tq.templateQuestionId,
+                       JSON_UNQUOTE(JSON_EXTRACT(d.draftAnswers, CONCAT('$."', tq.questionId, '"'))) AS draftAnswer
+                FROM member m
+                JOIN templatequestion tq ON tq.templateId = :templateId
+                LEFT JOIN answer a ON a.templateQuestionId = tq.templateQuestionId AND a.memberId = m.memberId
+                LEFT JOIN answerdraft d ON d.templateId = :templateId AND d.memberId = m.memberId AND d.submitted = 0
+                WHERE m.memberId IN (:memberIds)
+                  AND a.answerId IS NULL
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("memberIds", studentMemberIds);
+        return jdbcTemplate.query(sql, params,
+                (rs, rowNum) -> new MissingAnswer(rs.getString("memberId"), rs.getString("templateQuestionId"),
+                        rs.getString("draftAnswer")));
+    }
+
+    /**
+     * 미제출 문제에 0점 답안 일괄 저장 (임시 저장 답안이 있으면 답안 내용으로 보존해 강사가 채점할 수 있게 함)
+     */
+    public void insertZeroAnswers(List<MissingAnswer> missingAnswers, LocalDateTime gradedAt, String comment) {
+        String sql = """
+                INSERT INTO answer (answerId, answerText, answerScore, teacherComment, createdAt, answerGradedAt,
+                                    answerActive, templateQuestionId, memberId)
+                VALUES (:answerId, :answerText, 0, :comment, :createdAt, :gradedAt, 0, :templateQuestionId, :memberId)
+                """;
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp graded = Timestamp.valueOf(gradedAt);
+
+        for (int from = 0; from < missingAnswers.size(); from += BATCH_SIZE) {
+            List<MissingAnswer> chunk = missingAnswers.subList(from, Math.min(from + BATCH_SIZE, missingAnswers.size()));
+            SqlParameterSource[] batch = chunk.stream()
+                    .map(missing -> new MapSqlParameterSource()
+                            .addValue("answerId", UUID.randomUUID().toString())
+                            .addValue("answerText", missing.draftAnswer() != null ? missing.draftAnswer() : "")
+                            .addValue("comment", comment)
+                            .addValue("createdAt", createdAt)
+                            .addValue("gradedAt", graded)
+                            .addValue("templateQuestionId", missing.templateQuestionId())
+                            .addValue("memberId", missing.memberId()))
+                    .toArray(SqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    /**
+     * 학생별 시험 총점(답안 점수 합계)을 scorestudent에 일괄 반영
+     * 기존 행은 점수만 갱신하고, 없는 학생은 채점 완료 상태로 새로 만든다.
+     */
+    public void upsertScoreTotals(String templateId, Collection<String> memberIds, String comment) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("memberIds", memberIds)
+                .addValue("comment", comment);
+
+        jdbcTemplate.update("""
+                UPDATE scorestudent s
+                JOIN (
+                    SELECT a.memberId, SUM(a.answerScore) AS total
+                    FROM answer a
+                    JOIN templatequestion tq ON tq.templateQuestionId = a.templateQuestionId
+                    WHERE tq.templateId = :templateId AND a.memberId IN (:memberIds)
+                    GROUP BY a.memberId
+                ) t ON t.memberId = s.memberId
+                SET s.score = t.total, s.updatedAt = NOW()
+                WHERE s.templateId = :templateId
+                """, params);
+
+        jdbcTemplate.update("""
+                INSERT INTO scorestudent (scoreStudentId, score, isChecked, totalComment, memberId, templateId, graded, createdAt)
+                SELECT UUID(), SUM(a.answerScore), 1, :comment, a.memberId, :templateId, 0, NOW()
+                FROM answer a
+                JOIN templatequestion tq ON tq.templateQuestionId = a.templateQuestionId
+                WHERE tq.templateId = :templateId
+                  AND a.memberId IN (:memberIds)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM scorestudent s WHERE s.templateId = :templateId AND s.memberId = a.memberId
+                  )
+                GROUP BY a.memberId
+                """, params);
+    }
+
+    /**
+     * @param draftAnswer 임시 저장 답안 (없으면 null)
+     */
+    public record MissingAnswer(String memberId, String templateQuestionId, String draftAnswer) {
+    }
+}
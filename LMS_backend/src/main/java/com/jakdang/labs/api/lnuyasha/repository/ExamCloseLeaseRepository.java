@@ -0,0 +1,38 @@
+package com.jakdang.labs.api.lnuyasha.repository;
+
+import com.jakdang.labs.entity.ExamCloseLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ExamCloseLeaseRepository extends JpaRepository<ExamCloseLeaseEntity, String> {
+
+    /**
+     * 임대 획득 시도 (행이 없거나 만료됐으면 owner로 교체, 이미 owner면 연장)
+     * 시각은 모두 DB NOW() 기준이므로 노드 간 시계 차이의 영향을 받지 않는다.
+     * 획득 여부는 findOwner()로 확인한다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO examcloselease (templateId, owner, leaseUntil) " +
+            "VALUES (:templateId, :owner, DATE_ADD(NOW(), INTERVAL :leaseSeconds SECOND)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "owner = IF(leaseUntil < NOW(), VALUES(owner), owner), " +
+            "leaseUntil = IF(owner = VALUES(owner), VALUES(leaseUntil), leaseUntil)", nativeQuery = true)
+    int tryAcquire(@Param("templateId") String templateId, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    @Query("SELECT l.owner FROM ExamCloseLeaseEntity l WHERE l.templateId = :templateId")
+    String findOwner(@Param("templateId") String templateId);
+
+    /**
+     * 만료 후 일정 시간이 지난 임대 행 정리
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM examcloselease WHERE leaseUntil < DATE_SUB(NOW(), INTERVAL :retentionSeconds SECOND)", nativeQuery = true)
+    int deleteExpired(@Param("retentionSeconds") long retentionSeconds);
+}
@@ -0,0 +1,117 @@
+package com.jakdang.labs.api.lnuyasha.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 학생 시험 제출용 집합 단위 쿼리
+ * 문제마다 기존 답안 조회 → 저장 → 재저장하던 방식 대신
+ * 중복 제출 확인(임시 답안 조회 포함) 1회, 답안 JDBC 배치 insert 1회, 총점 반영 1~2회로 처리한다.
+ * (배치 insert가 실제로 묶여 전송되려면 JDBC URL에 rewriteBatchedStatements=true 필요)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExamSubmissionJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 제출 전 잠금 + 중복 제출 확인 + 임시 저장 답안 조회
+     * 같은 학생의 동시 제출(중복 클릭 등)이 함께 통과하지 않도록 회원 행을 먼저 잠그고,
+     * 같은 쿼리에서 임시 답안 행도 잠가 읽는다 (진행 중인 임시 답안 반영은 제출 커밋 뒤로 밀려 제출 표시에 막힘).
+     */
+    public SubmissionLock lockForSubmission(String templateId, String memberId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("memberId", memberId);
+        List<String> drafts = jdbcTemplate.query("""
+                SELECT d.draftAnswers
+                FROM member m
+                LEFT JOIN answerdraft d ON d.templateId = :templateId AND d.memberId = m.memberId AND d.submitted = 0
+                WHERE m.memberId = :memberId
+                FOR UPDATE
+                """, params, (rs, rowNum) -> rs.getString("draftAnswers"));
+        Boolean submitted = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM answer a
+                    JOIN templatequestion tq ON tq.templateQuestionId = a.templateQuestionId
+                    WHERE tq.templateId = :templateId AND a.memberId = :memberId
+                )
+                """, params, Boolean.class);
+        return new SubmissionLock(Boolean.TRUE.equals(submitted), drafts.isEmpty() ? null : drafts.get(0));
+    }
+
+    /**
+     * 채점된 답안 일괄 저장
+     */
+    public void insertAnswers(List<GradedAnswer> answers) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO answer (answerId, answerText, answerScore, teacherComment, createdAt, answerGradedAt,
+                                    answerGradeUpdatedAt, answerActive, templateQuestionId, memberId)
+                VALUES (:answerId, :answerText, :answerScore, :teacherComment, :createdAt, :gradedAt,
+                        :gradedAt, 1, :templateQuestionId, :memberId)
+                """;
+        SqlParameterSource[] batch = answers.stream()
+                .map(answer -> new MapSqlParameterSource()
+                        .addValue("answerId", answer.answerId())
+                        .addValue("answerText", answer.answerText())
+                        .addValue("answerScore", answer.answerScore())
+                        .addValue("teacherComment", answer.teacherComment())
+                        .addValue("createdAt", Timestamp.valueOf(answer.createdAt()))
+                        .addValue("gradedAt", answer.gradedAt() != null ? Timestamp.valueOf(answer.gradedAt()) : null)
+                        .addValue("templateQuestionId", answer.templateQuestionId())
+                        .addValue("memberId", answer.memberId()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    /**
+     * 학생 시험 총점을 채점 완료 상태로 scorestudent에 반영 (기존 행이 있으면 갱신)
+     */
+    public void upsertGradedScore(String templateId, String memberId, int totalScore) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("memberId", memberId)
+                .addValue("score", totalScore);
+        int updated = jdbcTemplate.update("""
+                UPDATE scorestudent
+                SET score = :score, isChecked = 1, graded = 0, updatedAt = NOW()
+                WHERE templateId = :templateId AND memberId = :memberId
+                """, params);
+        if (updated == 0) {
+            jdbcTemplate.update("""
+                    INSERT INTO scorestudent (scoreStudentId, score, isChecked, memberId, templateId, graded, createdAt)
+                    VALUES (UUID(), :score, 1, :memberId, :templateId, 0, NOW())
+                    """, params);
+        }
+    }
+
+    /**
+     * @param draftAnswers 제출 전 임시 답안 JSON (없으면 null)
+     */
+    public record SubmissionLock(boolean alreadySubmitted, String draftAnswers) {
+    }
+
+    public record GradedAnswer(
+            String answerId,
+            String templateQuestionId,
+            String memberId,
+            String answerText,
+            int answerScore,
+            String teacherComment,
+            LocalDateTime createdAt,
+            LocalDateTime gradedAt
+    ) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.jakdang.labs.api.lnuyasha.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채점 작업 화면용 집합 단위 쿼리
+ * 학생마다 회원/점수/답안을 따로 조회하던 방식 대신
+ * 제출 학생 수 1회, 학생 페이지(회원·점수 조인) 1회, 페이지 학생들의 답안 1회로 조회하고,
+ * 채점 저장 시에는 바뀐 답안 점수의 차이만큼 총점을 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GradingWorkspaceJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 해당 시험에 답안을 제출한 학생 수
+     */
+    public int countSubmitters(String templateId) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(DISTINCT a.memberId)
+                FROM answer a
+                JOIN templatequestion tq ON tq.templateQuestionId = a.templateQuestionId
+                WHERE tq.templateId = :templateId
+                """, new MapSqlParameterSource("templateId", templateId), Integer.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 제출 학생 한 페이지 조회 (학생 이름순, 회원 정보와 scorestudent를 함께 조인)
+     */
+    public List<SubmitterRow> findSubmitters(String templateId, int offset, int limit) {
+        String sql = """
+                SELECT s.memberId, m.memberName, m.memberEmail, s.submittedAt, s.answerScoreSum,
+                       ss.score, ss.isChecked, ss.graded, ss.totalComment
+                FROM (
+                    SELECT a.memberId, MIN(a.createdAt) AS submittedAt, SUM(a.answerScore) AS answerScoreSum
+                    FROM answer a
+                    JOIN templatequestion tq ON tq.templateQuestionId = a.templateQuestionId
+                    WHERE tq.templateId = :templateId
+                    GROUP BY a.memberId
+                ) s
+                LEFT JOIN member m ON m.memberId = s.memberId
+                LEFT JOIN scorestudent ss ON ss.templateId = :templateId AND ss.memberId = s.memberId
+                ORDER BY m.memberName, s.memberId
+                LIMIT :limit OFFSET :offset
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            Timestamp submittedAt = rs.getTimestamp("submittedAt");
+            return new SubmitterRow(
+                    rs.getString("memberId"),
+                    rs.getString("memberName"),
+                    rs.getString("memberEmail"),
+                    submittedAt != null ? submittedAt.toLocalDateTime() : null,
+                    rs.getInt("answerScoreSum"),
+                    rs.getObject("score", Integer.class),
+                    rs.getObject("isChecked", Integer.class),
+                    rs.getObject("graded", Integer.class),
+                    rs.getString("totalComment"));
+        });
+    }
+
+    /**
+     * 지정한 학생들의 해당 시험 답안 일괄 조회
+     */
+    public List<AnswerRow> findAnswers(String templateId, Collection<String> memberIds) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                SELECT a.answerId, a.templateQuestionId, a.memberId, a.answerText, a.answerScore,
+                       a.teacherComment, a.answerGradedAt
+                FROM answer a
+                JOIN templatequestion tq ON tq.templateQuestionId = a.templateQuestionId
+                WHERE tq.templateId = :templateId AND a.memberId IN (:memberIds)
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("memberIds", memberIds);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> {
+            Timestamp gradedAt = rs.getTimestamp("answerGradedAt");
+            return new AnswerRow(
+                    rs.getString("answerId"),
+                    rs.getString("templateQuestionId"),
+                    rs.getString("memberId"),
+                    rs.getString("answerText"),
+                    rs.getInt("answerScore"),
+                    rs.getString("teacherComment"),
+                    gradedAt != null ? gradedAt.toLocalDateTime() : null);
+        });
+    }
+
+    /**
+     * 채점 대상 답안의 현재 점수 조회 (행 잠금, 동시 채점 시 점수 차이 계산이 어긋나지 않도록)
+     */
+    public Optional<Integer> lockAnswerScore(String templateQuestionId, String memberId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateQuestionId", templateQuestionId)
+                .addValue("memberId", memberId);
+        List<Integer> scores = jdbcTemplate.queryForList("""
+                SELECT answerScore FROM answer
+                WHERE templateQuestionId = :templateQuestionId AND memberId = :memberId
+                FOR UPDATE
+                """, params, Integer.class);
+        return scores.stream().findFirst();
+    }
+
+    /**
+     * 문항별 채점 결과 일괄 반영 (teacherComment가 null이면 기존 코멘트 유지)
+     */
+    public void updateAnswerGrades(List<AnswerGrade> grades, LocalDateTime gradedAt) {
+        if (grades.isEmpty()) {
+            return;
+        }
+        String sql = """
+                UPDATE answer
+                SET answerScore = :answerScore,
+                    teacherComment = COALESCE(:teacherComment, teacherComment),
+                    answerGradedAt = :gradedAt,
+                    answerGradeUpdatedAt = :gradedAt
+                WHERE templateQuestionId = :templateQuestionId AND memberId = :memberId
+                """;
+        Timestamp gradedAtTs = Timestamp.valueOf(gradedAt);
+        SqlParameterSource[] batch = grades.stream()
+                .map(grade -> new MapSqlParameterSource()
+                        .addValue("answerScore", grade.answerScore())
+                        .addValue("teacherComment", grade.teacherComment())
+                        .addValue("gradedAt", gradedAtTs)
+                        .addValue("templateQuestionId", grade.templateQuestionId())
+                        .addValue("memberId", grade.memberId()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    /**
+     * 채점 완료된 총점에 점수 차이만 반영 (scorestudent 행이 없으면 아무것도 하지 않음)
+     * @return 반영 후 총점 (행이 없으면 empty)
+     */
+    public Optional<Integer> addToGradedScore(String templateId, String memberId, int delta) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateId", templateId)
+                .addValue("memberId", memberId)
+                .addValue("delta", delta);
+        if (delta != 0) {
+            jdbcTemplate.update("""
+                    UPDATE scorestudent
+                    SET score = score + :delta, updatedAt = NOW()
+                    WHERE templateId = :templateId AND memberId = :memberId
+                    """, params);
+        }
+        return jdbcTemplate.queryForList("""
+                SELECT score FROM scorestudent WHERE templateId = :templateId AND memberId = :memberId
+                """, params, Integer.class).stream().findFirst();
+    }
+
+    public record SubmitterRow(
+            String memberId,
+            String memberName,
+            String memberEmail,
+            LocalDateTime submittedAt,
+            int answerScoreSum,
+            Integer gradedScore,
+            Integer isChecked,
+            Integer graded,
+            String totalComment
+    ) {
+    }
+
+    public record AnswerRow(
+            String answerId,
+            String templateQuestionId,
+            String memberId,
+            String answerText,
+            int answerScore,
+            String teacherComment,
+            LocalDateTime gradedAt
+    ) {
+    }
+
+    public record AnswerGrade(String templateQuestionId, String memberId, int answerScore, String teacherComment) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.jakdang.labs.api.lnuyasha.repository;
+
+import com.jakdang.labs.entity.QuestionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 문제/선택지 일괄 INSERT
+ * ID를 미리 발급해 두고 JDBC 배치로 넣으므로 문제마다 save()를 호출하지 않는다.
+ * (rewriteBatchedStatements=true 설정으로 MySQL에서는 다중 행 INSERT로 전송된다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuestionImportJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 문제 일괄 등록 (questionId, createdAt이 채워진 엔티티)
+     */
+    public void insertQuestions(List<QuestionEntity> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO question (questionId, questionType, questionText, questionAnswer, explanation, codeLanguage,
+                                      questionActive, subDetailId, educationId, memberId, createdAt, updatedAt)
+                VALUES (:questionId, :questionType, :questionText, :questionAnswer, :explanation, :codeLanguage,
+                        :questionActive, :subDetailId, :educationId, :memberId, :createdAt, :updatedAt)
+                """;
+        SqlParameterSource[] batch = questions.stream()
+                .map(question -> new MapSqlParameterSource()
+                        .addValue("questionId", question.getQuestionId())
+                        .addValue("questionType", question.getQuestionType())
+                        .addValue("questionText", question.getQuestionText())
+                        .addValue("questionAnswer", question.getQuestionAnswer())
+                        .addValue("explanation", question.getExplanation())
+                        .addValue("codeLanguage", question.getCodeLanguage())
+                        .addValue("questionActive", question.getQuestionActive())
+                        .addValue("subDetailId", question.getSubDetailId())
+                        .addValue("educationId", question.getEducationId())
+                        .addValue("memberId", question.getMemberId())
+                        .addValue("createdAt", toTimestamp(question.getCreatedAt()))
+                        .addValue("updatedAt", toTimestamp(question.getUpdatedAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    /**
+     * 객관식 선택지 일괄 등록
+     */
+    public void insertOptions(List<OptionRow> options) {
+        if (options.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO questionoption (optId, optText, optIsCorrect, questionId, createdAt, updatedAt)
+                VALUES (:optId, :optText, :optIsCorrect, :questionId, :createdAt, :updatedAt)
+                """;
+        SqlParameterSource[] batch = options.stream()
+                .map(option -> new MapSqlParameterSource()
+                        .addValue("optId", option.optId())
+                        .addValue("optText", option.optText())
+                        .addValue("optIsCorrect", option.optIsCorrect())
+                        .addValue("questionId", option.questionId())
+                        .addValue("createdAt", toTimestamp(option.createdAt()))
+                        .addValue("updatedAt", toTimestamp(option.createdAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    public record OptionRow(String optId, String questionId, String optText, int optIsCorrect, Instant createdAt) {
+    }
+}
@@ -52,4 +52,12 @@ public interface QuestionOptRepository extends JpaRepository<QuestionOptEntity,
      */
     @Query("SELECT qo FROM QuestionOptEntity qo WHERE qo.question.questionId = :questionId AND qo.optIsCorrect = :optIsCorrect")
     List<QuestionOptEntity> findByQuestionIdAndOptIsCorrect(@Param("questionId") String questionId, @Param("optIsCorrect") int optIsCorrect);
-} 
\ No newline at end of file
+    
+    /**
+     * 여러 문제의 보기 목록 일괄 조회
+     * @param questionIds 문제 ID 목록
+     * @return 해당 문제들의 보기 목록 (문제 ID, 보기 ID 순)
+     */
+    @Query("SELECT qo FROM QuestionOptEntity qo WHERE qo.question.questionId IN :questionIds ORDER BY qo.question.questionId, qo.optId")
+    List<QuestionOptEntity> findByQuestionIdIn(@Param("questionIds") List<String> questionIds);
+}
@@ -19,6 +19,13 @@ public interface QuestionRepository extends JpaRepository<QuestionEntity, String
     @Query("SELECT q FROM QuestionEntity q WHERE q.educationId = :educationId AND q.questionActive = 0 ORDER BY q.createdAt DESC")
     List<QuestionEntity> findAllActiveQuestions(@Param("educationId") String educationId);
 
+    /**
+     * 학원의 모든 문제 조회 (활성/비활성 포함, 검색 색인 적재용)
+     * @param educationId 학원 ID
+     * @return 문제 목록
+     */
+    List<QuestionEntity> findByEducationId(String educationId);
+
     /**
      * 활성화된 모든 문제 조회 (educationId 필터링 없음)
      * @return 문제 목록
@@ -294,6 +301,17 @@ public interface QuestionRepository extends JpaRepository<QuestionEntity, String
     
 
 
+    /**
+     * (유형, 세부과목, 등록 강사, 활성 여부) 조합별 문제 수 (통계 집계 적재용)
+     * @param educationId 학원 ID (null이면 전체)
+     * @return [questionType, subDetailId, memberId, questionActive, count]
+     */
+    @Query("SELECT q.questionType, q.subDetailId, q.memberId, q.questionActive, COUNT(q) " +
+           "FROM QuestionEntity q " +
+           "WHERE (:educationId IS NULL OR q.educationId = :educationId) " +
+           "GROUP BY q.questionType, q.subDetailId, q.memberId, q.questionActive")
+    List<Object[]> findStatsCells(@Param("educationId") String educationId);
+
     // ========== 동적 통계 쿼리들 ==========
     
     /**
@@ -2,6 +2,7 @@ package com.jakdang.labs.api.lnuyasha.repository;
 
 import com.jakdang.labs.entity.TemplateEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -59,4 +60,21 @@ public interface TemplateRepository extends JpaRepository<TemplateEntity, String
      */
     @Query("SELECT t FROM TemplateEntity t WHERE t.templateActive = :templateActive AND t.templateClose <= :now")
     List<TemplateEntity> findByTemplateActiveAndTemplateCloseBefore(@Param("templateActive") int templateActive, @Param("now") LocalDateTime now);
-} 
\ No newline at end of file
+    
+    /**
+     * 종료 시간이 설정된 시험 템플릿 목록 조회 (시험 종료 타이밍 휠 적재용)
+     */
+    @Query("SELECT t FROM TemplateEntity t WHERE t.templateActive = :templateActive AND t.templateClose IS NOT NULL")
+    List<TemplateEntity> findByTemplateActiveAndTemplateCloseIsNotNull(@Param("templateActive") int templateActive);
+
+    /**
+     * 시험 종료 선점 (templateActive가 expectedActive일 때만 종료 상태로 바꾸고 종료 시각 기록)
+     * 변경된 행이 1건인 호출만 미제출 처리를 진행한다 (타이머/보정 조회/수동 종료, 여러 노드의 중복 종료 방지).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TemplateEntity t SET t.templateActive = 0, t.templateClose = :closeTime " +
+            "WHERE t.templateId = :templateId AND t.templateActive = :expectedActive")
+    int claimClose(@Param("templateId") String templateId,
+                   @Param("expectedActive") int expectedActive,
+                   @Param("closeTime") LocalDateTime closeTime);
+}
\ No newline at end of file
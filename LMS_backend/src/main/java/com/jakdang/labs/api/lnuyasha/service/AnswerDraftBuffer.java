@@ -0,0 +1,282 @@
+package com.jakdang.labs.api.lnuyasha.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jakdang.labs.api.lnuyasha.repository.AnswerDraftJdbcRepository;
+import com.jakdang.labs.api.lnuyasha.repository.AnswerDraftJdbcRepository.DraftRow;
+import com.jakdang.labs.utils.ExpiringCache;
+import com.jakdang.labs.utils.TransactionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응시 중 답안 임시 저장 write-behind 버퍼
+ * 자동 저장 요청은 (시험, 학생)별 메모리 항목에 아직 반영되지 않은 문제 답안만 모아 두고,
+ * flush-interval-ms(기본 3초)마다 변경된 문제만 answerdraft에 배치 병합한 뒤 항목을 비운다.
+ * DB 반영은 저장된 행보다 오래된 변경과 제출 이후 변경을 무시하므로, 학생이 다른 서버로 옮겨 가도 이전 값이 덮어쓰지 않는다.
+ * 최종 제출은 본문에 없는 문제를 임시 답안(DB + 미반영 버퍼)으로 채우고, answerdraft 행을 제출 표시(tombstone)로 바꾼 뒤
+ * 이후 도착한 자동 저장은 거절한다. 제출하지 않은 학생은 시험 종료 시 DB에 반영된 임시 답안으로 자동 제출된다.
+ * 종료 시(@PreDestroy) 남은 변경분을 모두 반영하며, 비정상 종료 시 유실 범위는 마지막 flush 이후 변경분이다.
+ */
+@Component
+@Slf4j
+public class AnswerDraftBuffer {
+
+    private static final TypeReference<Map<String, String>> ANSWERS_TYPE = new TypeReference<>() {};
+
+    private final AnswerDraftJdbcRepository draftRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Map<DraftKey, DraftEntry> drafts = new ConcurrentHashMap<>();
+    // 이 서버에서 제출된 (시험, 학생) (다른 서버에서 제출된 경우는 DB 반영 시 무시됨)
+    private final ExpiringCache<DraftKey, Boolean> submitted;
+    private final Timer flushTimer;
+
+    public AnswerDraftBuffer(AnswerDraftJdbcRepository draftRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${app.exam-draft.max-entries:20000}") int maxEntries,
+                             @Value("${app.exam-draft.submitted-ttl-ms:21600000}") long submittedTtlMillis,
+                             MeterRegistry meterRegistry) {
+        this.draftRepository = draftRepository;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.submitted = new ExpiringCache<>(maxEntries, submittedTtlMillis);
+        this.flushTimer = Timer.builder("exam.draft.flush")
+                .description("임시 저장 답안 배치 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("exam.draft.buffered", drafts, Map::size)
+                .description("DB 반영 대기 중인 임시 저장 답안 수 (시험 × 학생)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 임시 답안 병합 (questionId 단위로 최신 값이 덮어씀)
+     * @throws IllegalArgumentException 이미 제출한 시험
+     */
+    public void save(String templateId, String memberId, Map<String, String> answers) {
+        DraftKey key = new DraftKey(templateId, memberId);
+        if (submitted.get(key).isPresent()) {
+            throw new IllegalArgumentException("이미 답안을 제출한 시험입니다.");
+        }
+        if (!drafts.containsKey(key) && drafts.size() >= maxEntries) {
+            // 가득 찬 경우 즉시 반영해 자리 확보
+            flush();
+            if (drafts.size() >= maxEntries) {
+                throw new IllegalStateException("임시 저장 대기 중인 답안이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        while (true) {
+            DraftEntry entry = drafts.computeIfAbsent(key, k -> new DraftEntry());
+            if (entry.merge(answers)) {
+                return;
+            }
+            // flush가 방금 반영하고 닫은 항목이면 치우고 새 항목으로 다시 시도
+            drafts.remove(key, entry);
+        }
+    }
+
+    /**
+     * 현재 임시 답안 조회 (DB에 반영된 답안 + 아직 반영되지 않은 변경)
+     */
+    public Map<String, String> get(String templateId, String memberId) {
+        DraftKey key = new DraftKey(templateId, memberId);
+        if (submitted.get(key).isPresent()) {
+            return Map.of();
+        }
+        Map<String, String> answers = new HashMap<>(loadPersisted(templateId, memberId));
+        DraftEntry entry = drafts.get(key);
+        if (entry != null) {
+            answers.putAll(entry.answers());
+        }
+        return answers;
+    }
+
+    /**
+     * 최종 제출 답안 (제출 본문 + 본문에 없는 문제는 임시 답안)
+     * 임시 답안은 제출 잠금 쿼리에서 함께 읽은 DB 답안 위에 아직 반영되지 않은 버퍼 변경을 덮어 만들므로 추가 조회가 없다.
+     * 학생이 지운 답안은 ""로 임시 저장되므로 빈 답안으로 그대로 제출된다.
+     * @param persistedJson 제출 잠금 시 읽은 answerdraft.draftAnswers (없으면 null)
+     */
+    public Map<String, String> mergeForSubmit(String templateId, String memberId, String persistedJson,
+                                              Map<String, String> submittedAnswers) {
+        Map<String, String> merged = new HashMap<>(persistedJson != null ? readAnswers(persistedJson) : Map.of());
+        DraftEntry entry = drafts.get(new DraftKey(templateId, memberId));
+        if (entry != null) {
+            merged.putAll(entry.answers());
+        }
+        submittedAnswers.forEach((questionId, answer) -> {
+            if (questionId != null && answer != null) {
+                merged.put(questionId, answer);
+            }
+        });
+        return merged;
+    }
+
+    /**
+     * 제출 시 임시 답안 정리
+     * DB 행은 현재 트랜잭션에서 제출 표시로 바꾸고(행 잠금으로 진행 중인 반영과 순서가 정해짐),
+     * 버퍼 항목은 커밋 후 버린다 (롤백 시 임시 답안 유지).
+     */
+    public void discard(String templateId, String memberId) {
+        DraftKey key = new DraftKey(templateId, memberId);
+        draftRepository.markSubmitted(templateId, memberId);
+        TransactionUtils.afterCommit(() -> {
+            submitted.put(key, Boolean.TRUE);
+            DraftEntry entry = drafts.remove(key);
+            if (entry != null) {
+                entry.close();
+            }
+        });
+    }
+
+    /**
+     * 변경된 임시 답안 배치 반영
+     * 반영한 뒤 더 바뀐 내용이 없는 항목은 버퍼에서 제거한다.
+     */
+    @Scheduled(fixedDelayString = "${app.exam-draft.flush-interval-ms:3000}")
+    public synchronized void flush() {
+        List<DraftRow> rows = new ArrayList<>();
+        List<Runnable> onFlushed = new ArrayList<>();
+        drafts.forEach((key, entry) -> {
+            DraftEntry.Pending pending = entry.pending();
+            if (pending == null) {
+                // 닫힌(반영할 변경이 없는) 항목 정리
+                drafts.remove(key, entry);
+                return;
+            }
+            rows.add(new DraftRow(key.templateId(), key.memberId(), writeAnswers(pending.answers()), pending.updatedAt()));
+            onFlushed.add(() -> {
+                if (entry.markFlushed(pending)) {
+                    drafts.remove(key, entry);
+                }
+            });
+        });
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            draftRepository.mergeDrafts(rows);
+            onFlushed.forEach(Runnable::run);
+        } catch (Exception e) {
+            // 반영 실패 시 항목은 그대로 남아 다음 주기에 다시 시도
+            log.error("임시 저장 답안 반영 실패: {}건, error={}", rows.size(), e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 임시 저장 답안 반영: {}건", drafts.size());
+        flush();
+    }
+
+    private Map<String, String> loadPersisted(String templateId, String memberId) {
+        return draftRepository.findDraftAnswers(templateId, memberId)
+                .map(this::readAnswers)
+                .orElseGet(Map::of);
+    }
+
+    private String writeAnswers(Map<String, String> answers) {
+        try {
+            return objectMapper.writeValueAsString(answers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("임시 저장 답안 직렬화 실패", e);
+        }
+    }
+
+    private Map<String, String> readAnswers(String json) {
+        try {
+            return objectMapper.readValue(json, ANSWERS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("임시 저장 답안 파싱 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private record DraftKey(String templateId, String memberId) {
+    }
+
+    /**
+     * (시험, 학생) 한 건의 아직 반영되지 않은 답안
+     * version은 병합마다 증가하며, flush 이후 더 바뀐 내용이 없으면 닫혀서 버퍼에서 제거된다.
+     */
+    private static final class DraftEntry {
+        private final Map<String, String> answers = new HashMap<>();
+        private long version;
+        private LocalDateTime updatedAt = LocalDateTime.now();
+        private boolean closed;
+
+        /**
+         * @return 이미 닫힌 항목이면 false (호출한 쪽에서 새 항목으로 다시 시도)
+         */
+        synchronized boolean merge(Map<String, String> newAnswers) {
+            if (closed) {
+                return false;
+            }
+            newAnswers.forEach((questionId, answer) -> {
+                if (questionId != null && answer != null) {
+                    answers.put(questionId, answer);
+                }
+            });
+            version++;
+            updatedAt = LocalDateTime.now();
+            return true;
+        }
+
+        synchronized Map<String, String> answers() {
+            return Map.copyOf(answers);
+        }
+
+        /**
+         * @return 반영할 변경이 없으면 항목을 닫고 null
+         */
+        synchronized Pending pending() {
+            if (answers.isEmpty()) {
+                closed = true;
+            }
+            if (closed) {
+                return null;
+            }
+            return new Pending(Map.copyOf(answers), version, updatedAt);
+        }
+
+        /**
+         * 반영한 답안을 비움 (반영 중에 바뀐 문제는 남겨 다음 주기에 반영)
+         * @return 남은 변경이 없어 항목을 닫았으면 true
+         */
+        synchronized boolean markFlushed(Pending flushed) {
+            if (flushed.version() == version) {
+                closed = true;
+                answers.clear();
+                return true;
+            }
+            flushed.answers().forEach((questionId, answer) -> answers.remove(questionId, answer));
+            return false;
+        }
+
+        synchronized void close() {
+            closed = true;
+        }
+
+        record Pending(Map<String, String> answers, long version, LocalDateTime updatedAt) {
+        }
+    }
+}
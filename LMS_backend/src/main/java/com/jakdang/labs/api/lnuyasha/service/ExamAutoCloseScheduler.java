@@ -4,25 +4,36 @@ import com.jakdang.labs.api.lnuyasha.dto.ExamDTO;
 import com.jakdang.labs.entity.TemplateEntity;
 import com.jakdang.labs.entity.MemberEntity;
 import com.jakdang.labs.entity.SubGroupEntity;
+import com.jakdang.labs.api.lnuyasha.repository.ExamCloseLeaseRepository;
 import com.jakdang.labs.api.lnuyasha.repository.TemplateRepository;
 import com.jakdang.labs.api.lnuyasha.repository.KyMemberRepository;
 import com.jakdang.labs.api.lnuyasha.repository.SubGroupRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * 시험 자동 종료 스케줄러
  * 종료 시간이 된 시험을 자동으로 종료하고 미제출자에 대해 0점 처리
+ * 시험마다 TemplateService.closeWithAutoSubmission의 짧은 트랜잭션으로 처리하므로
+ * 한 시험의 실패나 지연이 다른 시험 종료를 막지 않는다.
+ * 평상시에는 ExamCloseTimer(타이밍 휠)가 종료 시각에 맞춰 closeDueTemplate을 호출하고,
+ * 주기 조회(autoCloseExams)는 다른 노드에서 변경된 시험/누락분을 보정하는 안전망으로만 저빈도 실행한다.
+ * 다중 인스턴스 환경에서는 examcloselease 행 임대를 얻은 노드만 종료 처리하고,
+ * 실제 종료는 조건부 UPDATE(templateActive = 1 → 0)로 선점한 한 번만 미제출 처리까지 진행한다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ExamAutoCloseScheduler {
 
@@ -30,70 +41,162 @@ public class ExamAutoCloseScheduler {
     private final KyMemberRepository memberRepository;
     private final TemplateService templateService;
     private final SubGroupRepository subGroupRepository;
+    private final ExamCloseTimer examCloseTimer;
+    private final ExamCloseLeaseRepository leaseRepository;
+    private final String nodeId;
+    private final long leaseSeconds;
+    // 시험 한 건 종료 처리 소요 시간 / 종료 예정 시각 대비 실제 종료 지연
+    private final Timer closeLatency;
+    private final Timer closeDelay;
+
+    public ExamAutoCloseScheduler(TemplateRepository templateRepository,
+                                  KyMemberRepository memberRepository,
+                                  TemplateService templateService,
+                                  SubGroupRepository subGroupRepository,
+                                  ExamCloseTimer examCloseTimer,
+                                  ExamCloseLeaseRepository leaseRepository,
+                                  @Value("${app.exam-close.node-id:}") String nodeId,
+                                  @Value("${app.exam-close.lease-seconds:120}") long leaseSeconds,
+                                  MeterRegistry meterRegistry) {
+        this.templateRepository = templateRepository;
+        this.memberRepository = memberRepository;
+        this.templateService = templateService;
+        this.subGroupRepository = subGroupRepository;
+        this.examCloseTimer = examCloseTimer;
+        this.leaseRepository = leaseRepository;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.leaseSeconds = leaseSeconds;
+        this.closeLatency = Timer.builder("exam.autoclose.latency")
+                .description("시험 한 건 자동 종료(미제출 0점 처리 포함) 소요 시간")
+                .register(meterRegistry);
+        this.closeDelay = Timer.builder("exam.autoclose.delay")
+                .description("시험 종료 예정 시각부터 실제 종료 처리까지의 지연")
+                .register(meterRegistry);
+    }
 
     /**
-     * 30초마다 실행되는 시험 자동 종료 스케줄러
-     * 종료 시간이 된 활성화된 시험을 찾아서 자동 종료 처리
+     * 기동 시 자동 종료 대상 시험을 타이밍 휠에 적재하고 타이머 시작
+     * 이미 종료 시각이 지난 시험은 첫 tick에서 바로 종료된다.
      */
-    @Scheduled(fixedRate = 30000) // 30초마다 실행
-    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void startTimer() {
+        int loaded = loadActiveTemplates(null);
+        examCloseTimer.start(this::closeDueTemplate);
+        log.info("시험 종료 타이머 적재 완료: nodeId={}, 예약 건수={}", nodeId, loaded);
+    }
+
+    /**
+     * 저빈도 보정 조회 (기본 5분)
+     * 종료 시간이 지난 활성화된 시험을 직접 종료하고, 휠 예약을 DB 상태로 다시 맞춘다.
+     */
+    @Scheduled(initialDelayString = "${app.exam-close.reconcile-interval-ms:300000}",
+               fixedDelayString = "${app.exam-close.reconcile-interval-ms:300000}")
     public void autoCloseExams() {
         try {
             LocalDateTime now = LocalDateTime.now();
             
-            // 1. 종료 시간이 된 활성화된 시험 템플릿 조회
+            // 1. 종료 시간이 된 활성화된 시험 템플릿 조회 (휠에서 누락된 시험)
             List<TemplateEntity> expiredTemplates = templateRepository.findByTemplateActiveAndTemplateCloseBefore(1, now);
             
-            if (expiredTemplates.isEmpty()) {
-                return;
-            }
-            
             // 2. 각 시험에 대해 자동 종료 처리
             for (TemplateEntity template : expiredTemplates) {
-                try {
-                    // 3. 해당 시험의 학생 목록 조회 (courseId로 조회)
-                    String courseId = null;
-                    if (template.getSubGroupId() != null && !template.getSubGroupId().trim().isEmpty()) {
-                        try {
-                            SubGroupEntity subGroup = subGroupRepository.findBySubGroupId(template.getSubGroupId());
-                            if (subGroup != null) {
-                                courseId = subGroup.getCourseId();
-                            } else {
-                                continue;
-                            }
-                        } catch (Exception e) {
-                            continue;
-                        }
-                    } else {
-                        continue;
-                    }
-                    
-                    List<String> studentMemberIds = memberRepository
-                            .findByCourseIdAndMemberRole(courseId, "ROLE_STUDENT")
-                            .stream()
-                            .filter(member -> member.getMemberExpired() == null) // 만료되지 않은 학생만
-                            .map(MemberEntity::getMemberId)
-                            .collect(Collectors.toList());
-                    
-                    if (studentMemberIds.isEmpty()) {
-                        continue;
-                    }
-                    
-                    // 4. 시험 종료 및 미제출 학생 자동 0점 처리
-                    ExamDTO result = templateService.closeWithAutoSubmission(
-                            template.getTemplateId(),
-                            template.getTemplateClose().toString(),
-                            studentMemberIds,
-                            template.getMemberId() // 시험 소유자 ID
-                    );
-                    
-                    
-                } catch (Exception e) {
-                }
+                // 타이머가 같은 시험을 처리 중이면 건너뜀
+                examCloseTimer.runExclusively(template.getTemplateId(), () -> closeIfLeased(template));
             }
             
+            // 3. 다른 노드에서 수정된 종료 시각 반영 + 오래된 임대 행 정리
+            loadActiveTemplates(now);
+            leaseRepository.deleteExpired(Duration.ofDays(1).toSeconds());
             
         } catch (Exception e) {
+            log.error("시험 자동 종료 보정 조회 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 타이밍 휠 만료 시 호출 - 최신 상태를 다시 확인한 뒤 종료 처리
+     */
+    public void closeDueTemplate(String templateId) {
+        TemplateEntity template = templateRepository.findById(templateId).orElse(null);
+        if (template == null || !ExamCloseTimer.isAutoCloseTarget(template)) {
+            examCloseTimer.cancel(templateId);
+            return;
+        }
+        // 다른 노드에서 종료 시각이 늦춰진 경우 다시 예약
+        if (template.getTemplateClose().isAfter(LocalDateTime.now())) {
+            examCloseTimer.schedule(templateId, template.getTemplateClose());
+            return;
+        }
+        closeIfLeased(template);
+    }
+
+    // notBefore가 주어지면 그 이후 종료 예정인 시험만 예약 (지난 시험은 보정 조회에서 직접 처리)
+    private int loadActiveTemplates(LocalDateTime notBefore) {
+        int scheduled = 0;
+        for (TemplateEntity template : templateRepository.findByTemplateActiveAndTemplateCloseIsNotNull(1)) {
+            if (notBefore != null && !template.getTemplateClose().isAfter(notBefore)) {
+                continue;
+            }
+            examCloseTimer.schedule(template.getTemplateId(), template.getTemplateClose());
+            scheduled++;
+        }
+        return scheduled;
+    }
+
+    private void closeIfLeased(TemplateEntity template) {
+        String templateId = template.getTemplateId();
+        try {
+            leaseRepository.tryAcquire(templateId, nodeId, leaseSeconds);
+            if (!nodeId.equals(leaseRepository.findOwner(templateId))) {
+                // 다른 노드가 처리 중 (실패 시 임대 만료 후 보정 조회에서 다시 시도)
+                return;
+            }
+            closeTemplate(template);
+        } catch (Exception e) {
+            log.error("시험 자동 종료 실패: templateId={}, error={}", templateId, e.getMessage());
+        }
+    }
+
+    private void closeTemplate(TemplateEntity template) {
+        // 3. 해당 시험의 학생 목록 조회 (courseId로 조회)
+        String courseId = null;
+        if (template.getSubGroupId() != null && !template.getSubGroupId().trim().isEmpty()) {
+            try {
+                SubGroupEntity subGroup = subGroupRepository.findBySubGroupId(template.getSubGroupId());
+                if (subGroup != null) {
+                    courseId = subGroup.getCourseId();
+                } else {
+                    return;
+                }
+            } catch (Exception e) {
+                return;
+            }
+        } else {
+            return;
+        }
+        
+        List<String> studentMemberIds = memberRepository
+                .findByCourseIdAndMemberRole(courseId, "ROLE_STUDENT")
+                .stream()
+                .filter(member -> member.getMemberExpired() == null) // 만료되지 않은 학생만
+                .map(MemberEntity::getMemberId)
+                .collect(Collectors.toList());
+        
+        if (studentMemberIds.isEmpty()) {
+            return;
+        }
+        
+        // 4. 시험 종료 및 미제출 학생 자동 0점 처리 (시험별 트랜잭션, 종료 상태를 먼저 선점한 호출만 처리)
+        long startedAt = System.nanoTime();
+        ExamDTO result = templateService.closeExpiredWithAutoSubmission(template.getTemplateId(), studentMemberIds);
+        if (result == null) {
+            log.debug("이미 종료된 시험: templateId={}", template.getTemplateId());
+            return;
         }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        closeLatency.record(elapsed);
+        closeDelay.record(Duration.between(template.getTemplateClose(), LocalDateTime.now()));
+        log.info("시험 자동 종료 완료: templateId={}, 자동 0점 처리 학생 수={}, 소요 시간={}ms",
+                template.getTemplateId(), result.getAutoSubmittedCount(), elapsed.toMillis());
     }
-} 
\ No newline at end of file
+}
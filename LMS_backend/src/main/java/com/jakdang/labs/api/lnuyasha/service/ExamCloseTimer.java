@@ -0,0 +1,157 @@
+package com.jakdang.labs.api.lnuyasha.service;
+
+import com.jakdang.labs.entity.TemplateEntity;
+import com.jakdang.labs.utils.HierarchicalTimingWheel;
+import com.jakdang.labs.utils.TransactionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 시험 종료 타이머
+ * 자동 종료 대상 시험(templateActive = 1, templateClose 설정)을 계층형 타이밍 휠에 templateClose 시각으로 예약하고,
+ * 전용 스레드가 tick-ms(기본 1초)마다 휠을 진행시켜 만료된 시험을 종료 처리 스레드로 넘긴다.
+ * DB 폴링 없이 종료 시각 후 약 1초 안에 종료되며, 실제 종료 처리(임대 획득 포함)는 ExamAutoCloseScheduler가 담당한다.
+ */
+@Component
+@Slf4j
+public class ExamCloseTimer {
+
+    private static final int AUTO_CLOSE_TARGET_ACTIVE = 1;
+
+    private final long tickMillis;
+    private final HierarchicalTimingWheel<String> wheel;
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService closeWorkers;
+    // 종료 처리 중인 시험 (같은 시험의 중복 실행 방지)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile Consumer<String> closeHandler;
+
+    public ExamCloseTimer(@Value("${app.exam-close.tick-ms:1000}") long tickMillis,
+                          @Value("${app.exam-close.workers:2}") int workers,
+                          MeterRegistry meterRegistry) {
+        this.tickMillis = tickMillis;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(daemonThreads("exam-close-timer"));
+        this.closeWorkers = Executors.newFixedThreadPool(Math.max(1, workers), daemonThreads("exam-close-worker"));
+        Gauge.builder("exam.autoclose.scheduled", wheel, HierarchicalTimingWheel::size)
+                .description("타이밍 휠에 예약된 시험 종료 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 휠 진행 시작 (만료된 시험 ID는 closeHandler로 전달)
+     */
+    public synchronized void start(Consumer<String> closeHandler) {
+        if (this.closeHandler != null) {
+            return;
+        }
+        this.closeHandler = closeHandler;
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("시험 종료 타이머 시작: tick={}ms, 예약 건수={}", tickMillis, wheel.size());
+    }
+
+    /**
+     * 템플릿 상태에 맞춰 예약/취소
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다 (롤백된 변경으로 종료되지 않도록).
+     */
+    public void sync(TemplateEntity template) {
+        String templateId = template.getTemplateId();
+        LocalDateTime closeAt = isAutoCloseTarget(template) ? template.getTemplateClose() : null;
+        TransactionUtils.afterCommit(() -> {
+            if (closeAt != null) {
+                schedule(templateId, closeAt);
+            } else {
+                cancel(templateId);
+            }
+        });
+    }
+
+    public void schedule(String templateId, LocalDateTime closeAt) {
+        if (templateId == null || closeAt == null) {
+            return;
+        }
+        wheel.schedule(templateId, closeAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public void cancel(String templateId) {
+        if (templateId != null) {
+            wheel.cancel(templateId);
+        }
+    }
+
+    /**
+     * 같은 시험의 종료 처리가 진행 중이 아닐 때만 실행 (타이머 만료와 보정 조회가 같은 표식을 사용)
+     * @return 이미 처리 중이라 건너뛰었으면 false
+     */
+    public boolean runExclusively(String templateId, Runnable action) {
+        if (!inFlight.add(templateId)) {
+            return false;
+        }
+        try {
+            action.run();
+            return true;
+        } finally {
+            inFlight.remove(templateId);
+        }
+    }
+
+    // ExamAutoCloseScheduler의 종료 대상 조회 조건과 동일
+    public static boolean isAutoCloseTarget(TemplateEntity template) {
+        return template.getTemplateActive() == AUTO_CLOSE_TARGET_ACTIVE && template.getTemplateClose() != null;
+    }
+
+    private void tick() {
+        try {
+            List<String> expired = wheel.advance(System.currentTimeMillis());
+            for (String templateId : expired) {
+                if (!inFlight.add(templateId)) {
+                    continue;
+                }
+                closeWorkers.execute(() -> {
+                    try {
+                        closeHandler.accept(templateId);
+                    } catch (Exception e) {
+                        log.error("시험 종료 타이머 처리 실패: templateId={}, error={}", templateId, e.getMessage());
+                    } finally {
+                        inFlight.remove(templateId);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            // 예외로 주기 실행이 중단되지 않도록 여기서 삼킨다
+            log.error("시험 종료 타이머 진행 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        closeWorkers.shutdown();
+    }
+}
@@ -3,6 +3,8 @@ package com.jakdang.labs.api.lnuyasha.service;
 import com.jakdang.labs.api.lnuyasha.dto.ExamGradingSubmitRequestDTO;
 import com.jakdang.labs.api.lnuyasha.dto.AnswerDTO;
 import com.jakdang.labs.api.lnuyasha.repository.AnswerRepository;
+import com.jakdang.labs.api.lnuyasha.repository.GradingWorkspaceJdbcRepository;
+import com.jakdang.labs.api.lnuyasha.repository.GradingWorkspaceJdbcRepository.AnswerGrade;
 import com.jakdang.labs.api.lnuyasha.repository.TemplateRepository;
 import com.jakdang.labs.api.lnuyasha.repository.KyMemberRepository;
 import com.jakdang.labs.api.lnuyasha.repository.ScoreStudentRepository;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +35,8 @@ public class ExamGradingService {
     private final TemplateRepository templateRepository;
     private final KyMemberRepository memberRepository;
     private final ScoreStudentRepository scoreStudentRepository;
+    private final GradingWorkspaceJdbcRepository gradingWorkspaceRepository;
+    private final ExamPaperCache examPaperCache;
     
     /**
      * 채점 완료 처리
@@ -65,18 +70,17 @@ public class ExamGradingService {
             throw new IllegalStateException("이미 채점이 완료된 시험입니다.");
         }
         
-        // 6. 각 문제별 답안 업데이트
+        // 6. 각 문제별 답안 업데이트 (JDBC 배치 1회)
+        List<AnswerGrade> grades = new ArrayList<>();
         for (AnswerDTO questionDetail : request.getQuestionDetails()) {
-            updateAnswerForQuestion(existingAnswers, questionDetail);
+            collectAnswerGrade(existingAnswers, questionDetail, grades);
         }
+        gradingWorkspaceRepository.updateAnswerGrades(grades, LocalDateTime.now());
         
-        // 7. 전체 답안에 총점 및 피드백 업데이트
-        updateOverallGrading(existingAnswers, request);
-        
-        // 8. scorestudent 테이블에 새 레코드 생성
+        // 7. scorestudent 테이블에 새 레코드 생성
         ScoreStudentEntity savedScore = updateScoreStudentTable(request);
         
-        // 9. 결과 반환
+        // 8. 결과 반환
         return AnswerDTO.builder()
                 .scoreStudentId(savedScore.getScoreStudentId())
                 .memberId(savedScore.getMemberId())
@@ -133,9 +137,9 @@ public class ExamGradingService {
     }
     
     /**
-     * 특정 문제의 답안 업데이트
+     * 특정 문제의 채점 결과를 배치 반영 목록에 추가
      */
-    private void updateAnswerForQuestion(List<AnswerEntity> answers, AnswerDTO questionDetail) {
+    private void collectAnswerGrade(List<AnswerEntity> answers, AnswerDTO questionDetail, List<AnswerGrade> grades) {
         // 해당 문제의 답안 찾기
         Optional<AnswerEntity> targetAnswer = answers.stream()
                 .filter(answer -> answer.getTemplateQuestion() != null && 
@@ -144,45 +148,48 @@ public class ExamGradingService {
         
         if (targetAnswer.isPresent()) {
             AnswerEntity answer = targetAnswer.get();
-            
-            // 점수 업데이트
-            if (questionDetail.getScore() != null) {
-                answer.setAnswerScore(questionDetail.getScore());
-            }
-            
-            // 코멘트 업데이트
-            if (questionDetail.getComment() != null) {
-                answer.setTeacherComment(questionDetail.getComment());
-            }
-            
-            // 채점 완료 시간 설정
-            answer.setAnswerGradedAt(LocalDateTime.now());
-            answer.setAnswerGradeUpdatedAt(LocalDateTime.now());
-            
-            // 정답 여부 설정 (필요한 경우)
-            // Note: AnswerEntity에 isCorrect 필드가 있다면 설정
-            
-            answerRepository.save(answer);
-            
-
+            int score = questionDetail.getScore() != null ? questionDetail.getScore() : answer.getAnswerScore();
+            grades.add(new AnswerGrade(answer.getTemplateQuestion().getTemplateQuestionId(), answer.getMemberId(),
+                    score, questionDetail.getComment()));
         } else {
             log.warn("해당 문제의 답안을 찾을 수 없음: questionId={}", questionDetail.getQuestionId());
         }
     }
     
     /**
-     * 전체 답안에 총점 및 피드백 업데이트
+     * 문항 하나 채점 (채점 작업 화면용)
+     * 답안 점수를 바꾸고, 이미 채점 완료된 시험이면 전체 답안을 다시 읽지 않고 점수 차이만 총점에 더한다.
+     * @return 반영된 문항 점수와 현재 총점 (채점 완료 전이면 score는 null)
      */
-    private void updateOverallGrading(List<AnswerEntity> answers, ExamGradingSubmitRequestDTO request) {
-        // 첫 번째 답안에 전체 피드백 저장 (또는 별도 테이블에 저장)
-        if (!answers.isEmpty() && request.getOverallFeedback() != null) {
-            AnswerEntity firstAnswer = answers.get(0);
-            // Note: AnswerEntity에 overallFeedback 필드가 있다면 설정
-            // firstAnswer.setOverallFeedback(request.getOverallFeedback());
-            answerRepository.save(firstAnswer);
+    public AnswerDTO gradeAnswer(String templateId, String memberId, String questionId,
+                                 Integer score, String comment) {
+        if (score == null || score < 0) {
+            throw new IllegalArgumentException("문제 점수는 0 이상의 숫자여야 합니다.");
+        }
+        ExamPaper.Question question = examPaperCache.get(templateId).questions().stream()
+                .filter(q -> q.questionId().equals(questionId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("해당 시험의 문제가 아닙니다: " + questionId));
+        String templateQuestionId = question.templateQuestionId();
+        if (score > question.questionScore()) {
+            throw new IllegalArgumentException("문제 점수는 배점(" + question.questionScore() + "점)을 넘을 수 없습니다.");
         }
         
-
+        int previousScore = gradingWorkspaceRepository.lockAnswerScore(templateQuestionId, memberId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 학생의 답안을 찾을 수 없습니다."));
+        gradingWorkspaceRepository.updateAnswerGrades(
+                List.of(new AnswerGrade(templateQuestionId, memberId, score, comment)), LocalDateTime.now());
+        Integer totalScore = gradingWorkspaceRepository.addToGradedScore(templateId, memberId, score - previousScore)
+                .orElse(null);
+        
+        return AnswerDTO.builder()
+                .memberId(memberId)
+                .templateId(templateId)
+                .questionId(questionId)
+                .answerScore(score)
+                .comment(comment)
+                .score(totalScore)
+                .build();
     }
     
     /**
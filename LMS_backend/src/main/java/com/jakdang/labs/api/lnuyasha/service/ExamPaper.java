@@ -0,0 +1,103 @@
+package com.jakdang.labs.api.lnuyasha.service;
+
+import com.jakdang.labs.api.lnuyasha.dto.QuestionDTO;
+import com.jakdang.labs.api.lnuyasha.dto.QuestionOptionDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 시험지 스냅샷 (templateId 단위, 불변)
+ * 문제/보기 본문과 정답 정보(AnswerKey)를 분리해 보관하므로
+ * 응시 중 응답에는 정답을 제외한 시험지만 내려줄 수 있다.
+ */
+public record ExamPaper(String templateId, List<Question> questions) {
+
+    public ExamPaper {
+        questions = List.copyOf(questions);
+    }
+
+    /**
+     * @param revealAnswers false면 정답/해설/보기 정답 여부를 비운다
+     */
+    public List<QuestionDTO> toQuestionDTOs(boolean revealAnswers) {
+        return questions.stream()
+                .map(question -> question.toQuestionDTO(revealAnswers))
+                .toList();
+    }
+
+    public boolean containsQuestion(String questionId) {
+        return questions.stream().anyMatch(question -> question.questionId().equals(questionId));
+    }
+
+    public record Question(
+            String templateQuestionId,
+            int questionScore,
+            String questionId,
+            String questionType,
+            String questionText,
+            String codeLanguage,
+            String instructorId,
+            String subDetailId,
+            String educationId,
+            String questionActive,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            List<Option> options,
+            AnswerKey answerKey
+    ) {
+        public Question {
+            options = List.copyOf(options);
+        }
+
+        public boolean isChoiceType() {
+            return "객관식".equals(questionType) || "참거짓".equals(questionType);
+        }
+
+        public QuestionDTO toQuestionDTO(boolean revealAnswers) {
+            List<QuestionOptionDTO> optionDTOs = options.stream()
+                    .map(opt -> QuestionOptionDTO.builder()
+                            .optId(opt.optId())
+                            .optText(opt.optText())
+                            .optIsCorrect(revealAnswers ? (answerKey.isCorrectOption(opt.optId()) ? 1 : 0) : null)
+                            .build())
+                    .toList();
+            return QuestionDTO.builder()
+                    .questionId(questionId)
+                    .questionText(questionText)
+                    .questionType(questionType)
+                    .questionAnswer(revealAnswers ? answerKey.questionAnswer() : null)
+                    .explanation(revealAnswers ? answerKey.explanation() : null)
+                    .codeLanguage(codeLanguage)
+                    .templateQuestionId(templateQuestionId)
+                    .questionScore(questionScore)
+                    .instructorId(instructorId)
+                    .subDetailId(subDetailId)
+                    .educationId(educationId)
+                    .questionActive(questionActive)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .options(new ArrayList<>(optionDTOs))
+                    .build();
+        }
+    }
+
+    public record Option(String optId, String optText) {
+    }
+
+    /**
+     * 문제별 정답 정보 (정답 보기 텍스트는 기존 findCorrectOptionsByQuestionId 첫 항목과 동일)
+     */
+    public record AnswerKey(String questionAnswer, String explanation, String correctOptionText, Set<String> correctOptionIds) {
+
+        public AnswerKey {
+            correctOptionIds = Set.copyOf(correctOptionIds);
+        }
+
+        public boolean isCorrectOption(String optId) {
+            return correctOptionIds.contains(optId);
+        }
+    }
+}
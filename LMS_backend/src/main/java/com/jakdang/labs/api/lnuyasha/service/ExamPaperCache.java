@@ -0,0 +1,175 @@
+package com.jakdang.labs.api.lnuyasha.service;
+
+import com.jakdang.labs.api.lnuyasha.repository.QuestionOptRepository;
+import com.jakdang.labs.api.lnuyasha.repository.QuestionRepository;
+import com.jakdang.labs.api.lnuyasha.repository.StudentExamRepository;
+import com.jakdang.labs.api.lnuyasha.util.TimeZoneUtil;
+import com.jakdang.labs.entity.QuestionEntity;
+import com.jakdang.labs.entity.QuestionOptEntity;
+import com.jakdang.labs.entity.TemplateQuestionEntity;
+import com.jakdang.labs.utils.ExpiringCache;
+import com.jakdang.labs.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * templateId별 시험지 스냅샷 캐시
+ * 시험 시작 시 같은 시험을 동시에 여는 학생들의 요청은 하나의 DB 적재(쿼리 3회)만 수행하고 나머지는 그 결과를 기다린다.
+ * 시험 문항/문제 수정 시 TemplateService, QuestionBankService에서 무효화하며,
+ * 트랜잭션 안에서 무효화하면 커밋 직후 한 번 더 비워 커밋 전 값이 다시 적재되지 않도록 한다.
+ */
+@Component
+@Slf4j
+public class ExamPaperCache {
+
+    private final StudentExamRepository studentExamRepository;
+    private final QuestionRepository questionRepository;
+    private final QuestionOptRepository questionOptRepository;
+    private final ExpiringCache<String, ExamPaper> papers;
+    // 적재 중인 시험지 (동시 요청 합치기)
+    private final Map<String, CompletableFuture<ExamPaper>> loading = new ConcurrentHashMap<>();
+
+    public ExamPaperCache(StudentExamRepository studentExamRepository,
+                          QuestionRepository questionRepository,
+                          QuestionOptRepository questionOptRepository,
+                          @Value("${app.exam-paper-cache.max-size:500}") int maxSize,
+                          @Value("${app.exam-paper-cache.ttl-ms:1800000}") long ttlMs) {
+        this.studentExamRepository = studentExamRepository;
+        this.questionRepository = questionRepository;
+        this.questionOptRepository = questionOptRepository;
+        this.papers = new ExpiringCache<>(maxSize, ttlMs);
+    }
+
+    public ExamPaper get(String templateId) {
+        ExamPaper cached = papers.get(templateId).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<ExamPaper> future = new CompletableFuture<>();
+        CompletableFuture<ExamPaper> inFlight = loading.putIfAbsent(templateId, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            ExamPaper paper = load(templateId);
+            // 적재 중 무효화되지 않은 경우에만 캐시에 반영
+            if (loading.remove(templateId, future)) {
+                papers.put(templateId, paper);
+            }
+            future.complete(paper);
+            return paper;
+        } catch (RuntimeException e) {
+            loading.remove(templateId, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void evictTemplate(String templateId) {
+        if (templateId == null) {
+            return;
+        }
+        evictNowAndAfterCommit(() -> {
+            loading.remove(templateId);
+            papers.invalidate(templateId);
+        });
+    }
+
+    // 문제 본문/보기 수정 시 해당 문제를 포함한 시험지 전체 무효화
+    public void evictQuestion(String questionId) {
+        if (questionId == null) {
+            return;
+        }
+        evictNowAndAfterCommit(() -> {
+            loading.clear();
+            papers.invalidateIf((templateId, paper) -> paper.containsQuestion(questionId));
+        });
+    }
+
+    private ExamPaper load(String templateId) {
+        List<TemplateQuestionEntity> templateQuestions = studentExamRepository.findTemplateQuestionsByTemplateId(templateId);
+        List<String> questionIds = templateQuestions.stream()
+                .map(TemplateQuestionEntity::getQuestionId)
+                .distinct()
+                .toList();
+        if (questionIds.isEmpty()) {
+            return new ExamPaper(templateId, List.of());
+        }
+
+        Map<String, QuestionEntity> questionsById = questionRepository.findAllById(questionIds).stream()
+                .collect(Collectors.toMap(QuestionEntity::getQuestionId, Function.identity()));
+        Map<String, List<QuestionOptEntity>> optionsByQuestionId = questionOptRepository.findByQuestionIdIn(questionIds).stream()
+                .collect(Collectors.groupingBy(opt -> opt.getQuestion().getQuestionId()));
+
+        List<ExamPaper.Question> questions = new ArrayList<>();
+        for (TemplateQuestionEntity templateQuestion : templateQuestions) {
+            QuestionEntity question = questionsById.get(templateQuestion.getQuestionId());
+            if (question == null) {
+                continue;
+            }
+            boolean choiceType = "객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType());
+            List<QuestionOptEntity> options = choiceType
+                    ? optionsByQuestionId.getOrDefault(question.getQuestionId(), List.of())
+                    : List.of();
+            Set<String> correctOptionIds = options.stream()
+                    .filter(opt -> opt.getOptIsCorrect() == 1)
+                    .map(QuestionOptEntity::getOptId)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            String correctOptionText = options.stream()
+                    .filter(opt -> opt.getOptIsCorrect() == 1)
+                    .map(QuestionOptEntity::getOptText)
+                    .findFirst()
+                    .orElse(null);
+
+            questions.add(new ExamPaper.Question(
+                    templateQuestion.getTemplateQuestionId(),
+                    templateQuestion.getTemplateQuestionScore(),
+                    question.getQuestionId(),
+                    question.getQuestionType(),
+                    question.getQuestionText(),
+                    question.getCodeLanguage(),
+                    question.getMemberId(),
+                    question.getSubDetailId(),
+                    question.getEducationId(),
+                    String.valueOf(question.getQuestionActive()),
+                    TimeZoneUtil.toKoreanTime(question.getCreatedAt()),
+                    TimeZoneUtil.toKoreanTime(question.getUpdatedAt()),
+                    options.stream().map(opt -> new ExamPaper.Option(opt.getOptId(), opt.getOptText())).toList(),
+                    new ExamPaper.AnswerKey(question.getQuestionAnswer(), question.getExplanation(), correctOptionText, correctOptionIds)
+            ));
+        }
+        log.info("시험지 스냅샷 적재 - templateId: {}, questions.size: {}", templateId, questions.size());
+        return new ExamPaper(templateId, questions);
+    }
+
+    private static ExamPaper await(CompletableFuture<ExamPaper> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 트랜잭션 밖에서는 두 번 실행되지만 무효화라 결과는 같다
+    private static void evictNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        TransactionUtils.afterCommit(eviction);
+    }
+}
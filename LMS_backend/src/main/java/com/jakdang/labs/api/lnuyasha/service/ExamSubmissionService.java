@@ -1,8 +1,12 @@
 package com.jakdang.labs.api.lnuyasha.service;
 
 import com.jakdang.labs.api.lnuyasha.dto.AnswerDTO;
+import com.jakdang.labs.api.lnuyasha.dto.GradingWorkspaceDTO;
 import com.jakdang.labs.api.lnuyasha.dto.MemberInfoDTO;
 import com.jakdang.labs.api.lnuyasha.repository.AnswerRepository;
+import com.jakdang.labs.api.lnuyasha.repository.GradingWorkspaceJdbcRepository;
+import com.jakdang.labs.api.lnuyasha.repository.GradingWorkspaceJdbcRepository.AnswerRow;
+import com.jakdang.labs.api.lnuyasha.repository.GradingWorkspaceJdbcRepository.SubmitterRow;
 import com.jakdang.labs.api.lnuyasha.repository.KyMemberRepository;
 import com.jakdang.labs.api.lnuyasha.repository.TemplateRepository;
 import com.jakdang.labs.api.lnuyasha.repository.ScoreStudentRepository;
@@ -17,8 +21,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import com.jakdang.labs.api.lnuyasha.util.TimeZoneUtil;
 
@@ -33,6 +39,10 @@ public class ExamSubmissionService {
     private final TemplateRepository templateRepository;
     private final ScoreStudentRepository scoreStudentRepository;
     private final MemberService memberService;
+    private final ExamPaperCache examPaperCache;
+    private final GradingWorkspaceJdbcRepository gradingWorkspaceRepository;
+    
+    private static final int MAX_WORKSPACE_PAGE_SIZE = 100;
     
     /**
      * 시험 제출 현황 조회
@@ -70,20 +80,25 @@ public class ExamSubmissionService {
             Map<String, List<AnswerEntity>> answersByMemberId = answers.stream()
                     .collect(Collectors.groupingBy(AnswerEntity::getMemberId));
             
-            // 6. DTO 변환 (실제 학생 정보 조회)
+            // 6. 학생 정보/점수는 학생마다 조회하지 않고 한 번에 조회
+            Map<String, MemberEntity> membersById = memberRepository.findAllById(answersByMemberId.keySet()).stream()
+                    .collect(Collectors.toMap(MemberEntity::getMemberId, Function.identity(), (a, b) -> a));
+            Map<String, ScoreStudentEntity> scoresByMemberId = scoreStudentRepository.findByTemplateId(templateId).stream()
+                    .collect(Collectors.toMap(ScoreStudentEntity::getMemberId, Function.identity(), (a, b) -> a));
+            
+            // 7. DTO 변환
             List<AnswerDTO> submissions = new ArrayList<>();
             
             for (Map.Entry<String, List<AnswerEntity>> entry : answersByMemberId.entrySet()) {
                 String memberId = entry.getKey();
                 List<AnswerEntity> studentAnswers = entry.getValue();
                 
-                // 학생 정보 조회
-                List<MemberEntity> students = memberRepository.findByMemberId(memberId);
+                // 학생 정보
+                MemberEntity student = membersById.get(memberId);
                 String studentName = "알 수 없음";
                 String memberEmail = "";
                 
-                if (!students.isEmpty()) {
-                    MemberEntity student = students.get(0);
+                if (student != null) {
                     studentName = student.getMemberName() != null ? student.getMemberName() : "이름 없음";
                     memberEmail = student.getMemberEmail() != null ? student.getMemberEmail() : "";
                 }
@@ -97,7 +112,7 @@ public class ExamSubmissionService {
                 AnswerEntity firstAnswer = studentAnswers.get(0);
                 
                 // ScoreStudentEntity에서 isChecked, graded 정보 조회
-                ScoreStudentEntity scoreStudent = scoreStudentRepository.findByTemplateIdAndMemberId(templateId, memberId);
+                ScoreStudentEntity scoreStudent = scoresByMemberId.get(memberId);
                 Integer isChecked = null;
                 Integer graded = null;
                 String totalComment = null;
@@ -142,6 +157,87 @@ public class ExamSubmissionService {
         }
     }
     
+    /**
+     * 채점 작업 화면 조회
+     * 문항은 시험지 스냅샷에서, 학생/답안/점수는 고정된 쿼리 3회(제출 학생 수, 학생 페이지, 답안)로 조회한다.
+     * @param templateId 시험 템플릿 ID
+     * @param page 학생 페이지 (0부터)
+     * @param limit 페이지당 학생 수
+     */
+    public GradingWorkspaceDTO getGradingWorkspace(String templateId, int page, int limit) {
+        if (page < 0 || limit < 1 || limit > MAX_WORKSPACE_PAGE_SIZE) {
+            throw new IllegalArgumentException("page는 0 이상, limit은 1~" + MAX_WORKSPACE_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        templateRepository.findByTemplateId(templateId)
+                .orElseThrow(() -> new IllegalArgumentException("시험을 찾을 수 없습니다: " + templateId));
+        
+        ExamPaper paper = examPaperCache.get(templateId);
+        int maxScore = paper.questions().stream().mapToInt(ExamPaper.Question::questionScore).sum();
+        
+        int totalStudents = gradingWorkspaceRepository.countSubmitters(templateId);
+        List<SubmitterRow> submitters = totalStudents > 0
+                ? gradingWorkspaceRepository.findSubmitters(templateId, page * limit, limit)
+                : List.of();
+        List<String> memberIds = submitters.stream().map(SubmitterRow::memberId).toList();
+        
+        // 학생 → (templateQuestionId → 답안)
+        Map<String, Map<String, AnswerRow>> answersByMember = new HashMap<>();
+        for (AnswerRow answer : gradingWorkspaceRepository.findAnswers(templateId, memberIds)) {
+            answersByMember.computeIfAbsent(answer.memberId(), k -> new HashMap<>())
+                    .putIfAbsent(answer.templateQuestionId(), answer);
+        }
+        
+        List<GradingWorkspaceDTO.StudentSubmission> students = new ArrayList<>();
+        for (SubmitterRow submitter : submitters) {
+            Map<String, AnswerRow> studentAnswers = answersByMember.getOrDefault(submitter.memberId(), Map.of());
+            List<AnswerDTO> answerDTOs = new ArrayList<>();
+            for (ExamPaper.Question question : paper.questions()) {
+                AnswerRow answer = studentAnswers.get(question.templateQuestionId());
+                answerDTOs.add(AnswerDTO.builder()
+                        .answerId(answer != null ? answer.answerId() : null)
+                        .questionId(question.questionId())
+                        .memberId(submitter.memberId())
+                        .answerContent(answer != null ? answer.answerText() : null)
+                        .answerScore(answer != null ? answer.answerScore() : 0)
+                        .comment(answer != null ? answer.teacherComment() : null)
+                        .questionType(question.questionType())
+                        .questionScore(question.questionScore())
+                        .gradedAt(answer != null ? answer.gradedAt() : null)
+                        .build());
+            }
+            
+            // scorestudent에 값이 있으면 "채점완료", 없으면 "채점대기" (getExamSubmissions와 동일)
+            boolean scored = submitter.gradedScore() != null;
+            int score = scored ? submitter.gradedScore() : submitter.answerScoreSum();
+            students.add(GradingWorkspaceDTO.StudentSubmission.builder()
+                    .memberId(submitter.memberId())
+                    .studentName(submitter.memberName() != null ? submitter.memberName() : "알 수 없음")
+                    .memberEmail(submitter.memberEmail() != null ? submitter.memberEmail() : "")
+                    .submittedAt(TimeZoneUtil.toKoreanTime(submitter.submittedAt()))
+                    .score(score)
+                    .grade(calculateGrade(score, maxScore))
+                    .status(scored ? "채점완료" : "채점대기")
+                    .isChecked(submitter.isChecked())
+                    .graded(submitter.graded())
+                    .totalComment(submitter.totalComment())
+                    .answers(answerDTOs)
+                    .build());
+        }
+        
+        int totalPages = (totalStudents + limit - 1) / limit;
+        return GradingWorkspaceDTO.builder()
+                .templateId(templateId)
+                .maxScore(maxScore)
+                .questions(paper.toQuestionDTOs(true))
+                .students(students)
+                .totalStudents(totalStudents)
+                .currentPage(page)
+                .limit(limit)
+                .totalPages(totalPages)
+                .hasNext(page + 1 < totalPages)
+                .build();
+    }
+    
     /**
      * 등급 계산
      */
@@ -32,6 +32,13 @@ public class QuestionBankService {
     private final KySubjectDetailRepository subDetailRepository;
     private final MemberService memberService;
     private final QuestionValidator questionValidator;
+    private final ExamPaperCache examPaperCache;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final QuestionBankStatsCache questionBankStatsCache;
+    private final QuestionImportService questionImportService;
+    
+    private static final int REALTIME_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
     
     /**
      * 전체 문제 목록 조회 - 간단한 쿼리 사용 (기존 방식)
@@ -232,8 +239,8 @@ public class QuestionBankService {
      * @param memberId 선생 ID
      * @param subDetailId 세부과목 ID
      * @param educationId 학원 ID
-     * @param sortBy 정렬 기준
-     * @param sortDirection 정렬 방향
+     * @param sortBy 정렬 기준 (검색 색인 사용 후 관련도순 고정, 하위 호환용)
+     * @param sortDirection 정렬 방향 (하위 호환용)
      * @return 문제 목록 응답 DTO
      */
     public QuestionListResponseDTO realTimeSearch(String keyword, String questionType, String memberId, 
@@ -241,17 +248,13 @@ public class QuestionBankService {
         log.info("실시간 검색 요청: keyword={}, type={}, memberId={}", keyword, questionType, memberId);
         
         try {
-            // 기본값 설정
-            if (sortBy == null) {
-                sortBy = "createdAt";
-                sortDirection = "desc";
-            }
-            
-            // 복합 조건으로 문제 검색 (임시로 모든 문제 조회)
-            List<QuestionEntity> questions = questionRepository.findAll();
-            
-            return buildQuestionListResponse(questions, 1, questions.size());
+            // 입력 중 검색: 관련도순(동점이면 최신순) 상위 결과만 반환
+            QuestionSearchIndex.SearchQuery query = new QuestionSearchIndex.SearchQuery(
+                    keyword, questionType, subDetailId, memberId, 0, null, true);
+            return searchIndex(educationId, query, null, REALTIME_SEARCH_LIMIT);
             
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("실시간 검색 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("실시간 검색 중 오류가 발생했습니다.", e);
@@ -272,8 +275,12 @@ public class QuestionBankService {
         log.info("실시간 검색 결과 개수 조회 요청: keyword={}, type={}, memberId={}", keyword, questionType, memberId);
         
         try {
-            return questionRepository.countQuestionsWithFilters(
-                    keyword, questionType, memberId, subDetailId, educationId);
+            if (educationId == null) {
+                return questionRepository.countQuestionsWithFilters(
+                        keyword, questionType, memberId, subDetailId, educationId);
+            }
+            return questionSearchIndex.count(educationId, new QuestionSearchIndex.SearchQuery(
+                    keyword, questionType, subDetailId, memberId, 0, null, true));
             
         } catch (Exception e) {
             log.error("실시간 검색 결과 개수 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -281,6 +288,68 @@ public class QuestionBankService {
         }
     }
     
+    /**
+     * 문제은행 전문 검색 (검색 색인 + 커서 페이징)
+     * @param educationId 학원 ID
+     * @param request 검색 조건 (selectedStatus: 활성/비활성/all, selectedYear: 연도/all)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param limit 페이지당 항목 수
+     * @param typeAhead 입력 중 검색 여부
+     * @return 관련도순 문제 목록
+     */
+    public QuestionListResponseDTO searchQuestionBank(String educationId, QuestionSearchRequestDTO request,
+                                                     String cursor, int limit, boolean typeAhead) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_SEARCH_LIMIT + " 사이여야 합니다.");
+        }
+        
+        Integer questionActive = switch (request.getSelectedStatus() == null ? "활성" : request.getSelectedStatus()) {
+            case "all" -> null;
+            case "비활성" -> 1;
+            default -> 0;
+        };
+        Integer year = null;
+        if (request.getSelectedYear() != null && !request.getSelectedYear().isBlank() && !"all".equals(request.getSelectedYear())) {
+            try {
+                year = Integer.parseInt(request.getSelectedYear().trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 연도 값입니다: " + request.getSelectedYear());
+            }
+        }
+        
+        QuestionSearchIndex.SearchQuery query = new QuestionSearchIndex.SearchQuery(
+                request.getSearchTerm(), request.getQuestionType(), request.getSubDetailId(), request.getMemberId(),
+                questionActive, year, typeAhead);
+        return searchIndex(educationId, query, cursor, limit);
+    }
+    
+    /**
+     * 검색 색인 조회 후 현재 페이지 문제만 DB에서 읽어 응답 생성 (색인 순위 유지)
+     */
+    private QuestionListResponseDTO searchIndex(String educationId, QuestionSearchIndex.SearchQuery query,
+                                                String cursor, int limit) {
+        QuestionSearchIndex.SearchPage page = questionSearchIndex.search(educationId, query, cursor, limit);
+        
+        Map<String, QuestionEntity> questionsById = questionRepository.findAllById(page.questionIds()).stream()
+                .collect(Collectors.toMap(QuestionEntity::getQuestionId, q -> q));
+        List<QuestionListResponseDTO.QuestionSummaryDTO> summaries = page.questionIds().stream()
+                .map(questionsById::get)
+                .filter(q -> q != null)
+                .map(this::convertToQuestionSummary)
+                .collect(Collectors.toList());
+        
+        return QuestionListResponseDTO.builder()
+                .questions(summaries)
+                .totalCount(page.totalCount())
+                .currentPage(1)
+                .limit(limit)
+                .totalPages((int) Math.ceil((double) page.totalCount() / limit))
+                .hasNext(page.nextCursor() != null)
+                .hasPrevious(cursor != null && !cursor.isBlank())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+    
     /**
      * 프론트엔드 검색 및 필터링 (텍스트 검색, 연도 필터, 상태 필터)
      * @param request 검색 요청 DTO
@@ -362,61 +431,11 @@ public class QuestionBankService {
             
             String educationId = memberInfo.getEducationId();
             log.info("memberId {}의 educationId: {}", memberId, educationId);
-
-            // 데이터베이스 상태 확인 (디버깅용)
-            List<String> allEducationIds = questionRepository.findAllEducationIds();
-            log.info("데이터베이스에 존재하는 모든 educationId: {}", allEducationIds);
             
-            for (String eduId : allEducationIds) {
-                long count = questionRepository.countByEducationId(eduId);
-                log.info("educationId {}의 문제 수: {}", eduId, count);
-            }
-
-            // 전체 문제 수 확인 (educationId 필터링 없이)
-            long totalQuestionsWithoutFilter = questionRepository.count();
-            log.info("전체 문제 수 (educationId 필터링 없이): {}", totalQuestionsWithoutFilter);
-            
-            // educationId로 필터링된 문제 수 확인
-            long totalQuestions = questionRepository.countByQuestionActive(0, educationId);
-            long activeQuestions = questionRepository.countByQuestionActive(0, educationId);
-            long inactiveQuestions = questionRepository.countByQuestionActive(1, educationId);
-            
-            log.info("educationId {}로 필터링된 문제 수 - totalQuestions: {}, activeQuestions: {}, inactiveQuestions: {}", 
-                    educationId, totalQuestions, activeQuestions, inactiveQuestions);
-            
-            // 유형별 문제 개수 조회
-            long multipleChoiceCount = questionRepository.countByQuestionTypeAndQuestionActive("객관식", 0, educationId);
-            long essayCount = questionRepository.countByQuestionTypeAndQuestionActive("서술형", 0, educationId);
-            long codeCount = questionRepository.countByQuestionTypeAndQuestionActive("코드형", 0, educationId);
-            
-            log.info("유형별 문제 수 - multipleChoiceCount: {}, essayCount: {}, codeCount: {}", 
-                    multipleChoiceCount, essayCount, codeCount);
-            
-            // educationId가 "1"인 경우 모든 문제를 포함하도록 수정
-            if ("1".equals(educationId)) {
-                log.info("educationId가 '1'이므로 모든 문제를 포함합니다.");
-                totalQuestions = questionRepository.countByQuestionActiveWithNull(0, null);
-                activeQuestions = questionRepository.countByQuestionActiveWithNull(0, null);
-                inactiveQuestions = questionRepository.countByQuestionActiveWithNull(1, null);
-                multipleChoiceCount = questionRepository.countByQuestionTypeAndQuestionActiveWithNull("객관식", 0, null);
-                essayCount = questionRepository.countByQuestionTypeAndQuestionActiveWithNull("서술형", 0, null);
-                codeCount = questionRepository.countByQuestionTypeAndQuestionActiveWithNull("코드형", 0, null);
-                
-                log.info("educationId '1' 적용 후 - totalQuestions: {}, activeQuestions: {}, inactiveQuestions: {}, multipleChoiceCount: {}, essayCount: {}, codeCount: {}", 
-                        totalQuestions, activeQuestions, inactiveQuestions, multipleChoiceCount, essayCount, codeCount);
-            }
-            
-            log.info("최종 통계 조회 결과 - totalQuestions: {}, activeQuestions: {}, inactiveQuestions: {}, multipleChoiceCount: {}, essayCount: {}, codeCount: {}", 
-                    totalQuestions, activeQuestions, inactiveQuestions, multipleChoiceCount, essayCount, codeCount);
-            
-            return QuestionListResponseDTO.QuestionBankStats.builder()
-                    .totalQuestions((int) totalQuestions)
-                    .activeQuestions((int) activeQuestions)
-                    .inactiveQuestions((int) inactiveQuestions)
-                    .objectiveCount((int) multipleChoiceCount)
-                    .descriptiveCount((int) essayCount)
-                    .codeCount((int) codeCount)
-                    .build();
+            // educationId가 "1"인 경우 모든 문제를 포함
+            QuestionBankStatsCache.Snapshot stats = questionBankStatsCache.get(
+                    "1".equals(educationId) ? QuestionBankStatsCache.ALL_EDUCATIONS : educationId);
+            return toQuestionBankStats(stats);
             
         } catch (Exception e) {
             log.error("문제은행 통계 정보 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -432,37 +451,8 @@ public class QuestionBankService {
         log.info("문제은행 통계 정보 조회 요청 (기본값 사용)");
         
         try {
-            // 전체 문제 수 확인 (educationId 필터링 없이)
-            long totalQuestionsWithoutFilter = questionRepository.count();
-            log.info("전체 문제 수 (educationId 필터링 없이): {}", totalQuestionsWithoutFilter);
-            
-            // 전체 문제 수 확인 (questionActive = 0인 것만, educationId = null로 모든 문제 포함)
-            long totalQuestions = questionRepository.countByQuestionActiveWithNull(0, null);
-            long activeQuestions = questionRepository.countByQuestionActiveWithNull(0, null);
-            long inactiveQuestions = questionRepository.countByQuestionActiveWithNull(1, null);
-            
-            log.info("전체 문제 수 - totalQuestions: {}, activeQuestions: {}, inactiveQuestions: {}", 
-                    totalQuestions, activeQuestions, inactiveQuestions);
-            
-            // 유형별 문제 개수 조회 (educationId = null로 모든 문제 포함)
-            long multipleChoiceCount = questionRepository.countByQuestionTypeAndQuestionActiveWithNull("객관식", 0, null);
-            long essayCount = questionRepository.countByQuestionTypeAndQuestionActiveWithNull("서술형", 0, null);
-            long codeCount = questionRepository.countByQuestionTypeAndQuestionActiveWithNull("코드형", 0, null);
-            
-            log.info("유형별 문제 수 - multipleChoiceCount: {}, essayCount: {}, codeCount: {}", 
-                    multipleChoiceCount, essayCount, codeCount);
-            
-            log.info("최종 통계 조회 결과 - totalQuestions: {}, activeQuestions: {}, inactiveQuestions: {}, multipleChoiceCount: {}, essayCount: {}, codeCount: {}", 
-                    totalQuestions, activeQuestions, inactiveQuestions, multipleChoiceCount, essayCount, codeCount);
-            
-            return QuestionListResponseDTO.QuestionBankStats.builder()
-                    .totalQuestions((int) totalQuestions)
-                    .activeQuestions((int) activeQuestions)
-                    .inactiveQuestions((int) inactiveQuestions)
-                    .objectiveCount((int) multipleChoiceCount)
-                    .descriptiveCount((int) essayCount)
-                    .codeCount((int) codeCount)
-                    .build();
+            // 전체 학원 집계 (educationId = null로 모든 문제 포함)
+            return toQuestionBankStats(questionBankStatsCache.get(QuestionBankStatsCache.ALL_EDUCATIONS));
             
         } catch (Exception e) {
             log.error("문제은행 통계 정보 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -470,6 +460,20 @@ public class QuestionBankService {
         }
     }
     
+    /**
+     * 통계 집계 → 응답 DTO (totalQuestions는 기존과 같이 활성 문제 수)
+     */
+    private QuestionListResponseDTO.QuestionBankStats toQuestionBankStats(QuestionBankStatsCache.Snapshot stats) {
+        return QuestionListResponseDTO.QuestionBankStats.builder()
+                .totalQuestions(stats.activeQuestions())
+                .activeQuestions(stats.activeQuestions())
+                .inactiveQuestions(stats.inactiveQuestions())
+                .objectiveCount(stats.activeCountOfType("객관식"))
+                .descriptiveCount(stats.activeCountOfType("서술형"))
+                .codeCount(stats.activeCountOfType("코드형"))
+                .build();
+    }
+    
     /*
      * 문제은행 응답 DTO 생성 메서드들 (사용하지 않음 - QuestionListResponseDTO로 대체됨)
      */
@@ -888,6 +892,8 @@ public class QuestionBankService {
             
             // 6. 문제와 선택지를 한 번에 저장 (cascade = ALL로 인해 선택지도 자동 저장)
             QuestionEntity savedQuestion = questionRepository.save(question);
+            questionSearchIndex.index(savedQuestion);
+            questionBankStatsCache.onQuestionChanged(educationId, null, QuestionBankStatsCache.Cell.of(savedQuestion));
             log.info("문제 및 선택지 저장 완료: questionId = {}", savedQuestion.getQuestionId());
             
             return convertToQuestionDetail(savedQuestion);
@@ -929,29 +935,11 @@ public class QuestionBankService {
     public QuestionBatchCreateResponseDTO createQuestionsBatch(String instructorId, QuestionBatchCreateRequestDTO request) {
         log.info("다중 문제 생성 요청: instructorId = {}, questionCount = {}", instructorId, request.getQuestions().size());
         
-        List<QuestionBatchCreateResponseDTO.CreatedQuestionDTO> createdQuestions = new ArrayList<>();
-        
         try {
-            for (int i = 0; i < request.getQuestions().size(); i++) {
-                QuestionCreateRequestDTO questionRequest = request.getQuestions().get(i);
-                log.info("문제 {} 생성 시작: {}", i + 1, questionRequest.getQuestionText());
-                
-                // 각 문제에 instructorId 설정
-                questionRequest.setInstructorId(instructorId);
-                
-                // 단일 문제 생성
-                QuestionDTO createdQuestion = createQuestion(instructorId, questionRequest);
-                
-                // 생성된 문제 정보를 응답에 추가
-                QuestionBatchCreateResponseDTO.CreatedQuestionDTO createdQuestionDTO = 
-                    QuestionBatchCreateResponseDTO.CreatedQuestionDTO.builder()
-                        .questionId(createdQuestion.getQuestionId())
-                        .questionText(createdQuestion.getQuestionText())
-                        .build();
-                
-                createdQuestions.add(createdQuestionDTO);
-                log.info("문제 {} 생성 완료: questionId = {}", i + 1, createdQuestion.getQuestionId());
-            }
+            // 각 문제에 instructorId 설정 후 일괄 검증/등록 (하나라도 유효하지 않으면 전체 실패)
+            request.getQuestions().forEach(questionRequest -> questionRequest.setInstructorId(instructorId));
+            List<QuestionBatchCreateResponseDTO.CreatedQuestionDTO> createdQuestions =
+                    questionImportService.createQuestions(request.getQuestions());
             
             log.info("다중 문제 생성 완료: {}개", createdQuestions.size());
             return QuestionBatchCreateResponseDTO.builder()
@@ -977,8 +965,12 @@ public class QuestionBankService {
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 문제입니다: " + questionId));
             
             // 논리적 삭제 (questionActive를 1로 설정)
+            QuestionBankStatsCache.Cell before = QuestionBankStatsCache.Cell.of(question);
             question.setQuestionActive(1);
             questionRepository.save(question);
+            examPaperCache.evictQuestion(questionId);
+            questionSearchIndex.index(question);
+            questionBankStatsCache.onQuestionChanged(question.getEducationId(), before, QuestionBankStatsCache.Cell.of(question));
             
             log.info("문제 삭제 완료: questionId = {}", questionId);
             
@@ -1046,13 +1038,7 @@ public class QuestionBankService {
         log.info("문제 유형별 통계 조회 요청");
         
         try {
-            List<Object[]> typeStats = questionRepository.findQuestionTypeStats();
-            
-            return typeStats.stream()
-                    .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> ((Long) result[1]).intValue()
-                    ));
+            return questionBankStatsCache.get(QuestionBankStatsCache.ALL_EDUCATIONS).activeByType();
             
         } catch (Exception e) {
             log.error("문제 유형별 통계 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -1069,13 +1055,7 @@ public class QuestionBankService {
         log.info("과목별 문제 수 통계 조회 요청");
         
         try {
-            List<Object[]> subjectStats = questionRepository.findQuestionsBySubjectStats();
-            
-            return subjectStats.stream()
-                    .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> ((Long) result[1]).intValue()
-                    ));
+            return questionBankStatsCache.get(QuestionBankStatsCache.ALL_EDUCATIONS).activeBySubject();
             
         } catch (Exception e) {
             log.error("과목별 문제 수 통계 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -1092,13 +1072,7 @@ public class QuestionBankService {
         log.info("선생별 문제 수 통계 조회 요청");
         
         try {
-            List<Object[]> instructorStats = questionRepository.findQuestionsByInstructorStats();
-            
-            return instructorStats.stream()
-                    .collect(Collectors.toMap(
-                        result -> (String) result[0],
-                        result -> ((Long) result[1]).intValue()
-                    ));
+            return questionBankStatsCache.get(QuestionBankStatsCache.ALL_EDUCATIONS).activeByInstructor();
             
         } catch (Exception e) {
             log.error("선생별 문제 수 통계 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -1167,6 +1141,8 @@ public class QuestionBankService {
             QuestionEntity question = questionRepository.findById(questionId)
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 문제입니다: " + questionId));
             
+            QuestionBankStatsCache.Cell before = QuestionBankStatsCache.Cell.of(question);
+            
             // 문제 정보 업데이트 (프론트엔드 요구사항에 맞춰)
             question.setQuestionType(request.getQuestionTypeForUpdate());
             question.setQuestionText(request.getQuestionTextForUpdate());
@@ -1188,6 +1164,9 @@ public class QuestionBankService {
             question.setUpdatedAt(Instant.now());
             
             questionRepository.save(question);
+            examPaperCache.evictQuestion(questionId);
+            questionSearchIndex.index(question);
+            questionBankStatsCache.onQuestionChanged(question.getEducationId(), before, QuestionBankStatsCache.Cell.of(question));
             
             // 객관식 문제의 경우 보기 옵션 업데이트
             if ("객관식".equals(request.getQuestionTypeForUpdate())) {
@@ -1265,10 +1244,14 @@ public class QuestionBankService {
             QuestionEntity question = questionRepository.findById(questionId)
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 문제입니다: " + questionId));
             
+            QuestionBankStatsCache.Cell before = QuestionBankStatsCache.Cell.of(question);
             question.setQuestionActive(questionActive);
             question.setUpdatedAt(Instant.now());
             
             questionRepository.save(question);
+            examPaperCache.evictQuestion(questionId);
+            questionSearchIndex.index(question);
+            questionBankStatsCache.onQuestionChanged(question.getEducationId(), before, QuestionBankStatsCache.Cell.of(question));
             
             log.info("문제 상태 업데이트 완료: questionId = {}, questionActive = {}", questionId, questionActive);
             
@@ -1292,7 +1275,7 @@ public class QuestionBankService {
             String educationId = memberInfo.getEducationId();
             log.info("educationId: {}", educationId);
             
-            return (int) questionRepository.countByQuestionTypeAndQuestionActive(questionType, 0, educationId);
+            return questionBankStatsCache.get(educationId).activeCountOfType(questionType);
             
         } catch (Exception e) {
             log.error("문제 유형별 개수 조회 중 오류 발생: {}", e.getMessage(), e);
@@ -1356,31 +1339,19 @@ public class QuestionBankService {
             String educationId = memberInfo.getEducationId();
             log.info("educationId: {}", educationId);
             
-            // 기본 통계
-            long totalQuestions = questionRepository.countByQuestionActive(0, educationId);
-            long activeQuestions = questionRepository.countByQuestionActive(0, educationId);
-            
-            // 선생 수 조회
-            List<Object[]> instructorStats = questionRepository.findInstructorStats();
-            int totalInstructors = instructorStats.size();
-            
-            // 과목 수 조회
-            List<Object[]> subjectStats = questionRepository.findSubjectStats();
-            int totalSubjects = subjectStats.size();
-        
-            
-            // 문제 유형별 통계
-            Map<String, Integer> questionsByType = getQuestionTypeStats();
-            
-            // 과목별 통계 (실제 데이터 기반)
-            Map<String, Integer> questionsBySubject = getQuestionsBySubjectStats();
-            
-            // 선생별 통계 (실제 데이터 기반)
-            Map<String, Integer> questionsByInstructor = getQuestionsByInstructorStats();
+            // 학원 통계 집계 한 번 조회로 모든 값 계산
+            QuestionBankStatsCache.Snapshot stats = questionBankStatsCache.get(educationId);
+            int totalQuestions = stats.activeQuestions();
+            int activeQuestions = stats.activeQuestions();
+            int totalInstructors = stats.instructorCount();
+            int totalSubjects = stats.subjectCount();
+            Map<String, Integer> questionsByType = stats.activeByType();
+            Map<String, Integer> questionsBySubject = stats.activeBySubject();
+            Map<String, Integer> questionsByInstructor = stats.activeByInstructor();
             
             Map<String, Object> dashboardStats = new HashMap<>();
-            dashboardStats.put("totalQuestions", (int) totalQuestions);
-            dashboardStats.put("activeQuestions", (int) activeQuestions);
+            dashboardStats.put("totalQuestions", totalQuestions);
+            dashboardStats.put("activeQuestions", activeQuestions);
             dashboardStats.put("totalInstructors", totalInstructors);
             dashboardStats.put("totalSubjects", totalSubjects);
             dashboardStats.put("questionsByType", questionsByType);
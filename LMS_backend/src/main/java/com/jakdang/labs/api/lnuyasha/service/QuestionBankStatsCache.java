@@ -0,0 +1,284 @@
+package com.jakdang.labs.api.lnuyasha.service;
+
+import com.jakdang.labs.api.lnuyasha.repository.KyMemberRepository;
+import com.jakdang.labs.api.lnuyasha.repository.KySubjectDetailRepository;
+import com.jakdang.labs.api.lnuyasha.repository.QuestionRepository;
+import com.jakdang.labs.entity.MemberEntity;
+import com.jakdang.labs.entity.QuestionEntity;
+import com.jakdang.labs.entity.SubjectDetailEntity;
+import com.jakdang.labs.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 학원(educationId)별 문제은행 통계 집계
+ * (유형, 세부과목, 등록 강사, 활성 여부) 조합별 문제 수를 한 번의 GROUP BY로 적재해 메모리에 두고,
+ * 문제 생성/수정/상태 변경 시 커밋 후 변경 전/후 조합의 개수만 조정한다.
+ * 통계 API는 이 집계에서 합계/유형별/과목별/강사별 값을 계산하므로 요청마다 COUNT 쿼리를 보내지 않는다.
+ * 다른 서버에서 바뀐 문제도 반영되도록 ttl-ms(기본 10분)가 지나면 다음 조회 때 다시 적재한다.
+ * 세부과목/강사 이름도 적재할 때 함께 다시 읽으며(DB 조회는 모니터 밖), 강사별 통계는 memberRole = '강사'인 회원만 센다.
+ */
+@Component
+@Slf4j
+public class QuestionBankStatsCache {
+
+    /** 모든 학원을 합친 집계 키 (기존 educationId "1" / null 조회와 동일 범위) */
+    public static final String ALL_EDUCATIONS = "*";
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+    private static final String INSTRUCTOR_ROLE = "강사";
+
+    private final QuestionRepository questionRepository;
+    private final KySubjectDetailRepository subDetailRepository;
+    private final KyMemberRepository memberRepository;
+    private final long ttlMillis;
+    private final Map<String, Aggregate> aggregates = new ConcurrentHashMap<>();
+
+    public QuestionBankStatsCache(QuestionRepository questionRepository,
+                                  KySubjectDetailRepository subDetailRepository,
+                                  KyMemberRepository memberRepository,
+                                  @Value("${app.question-stats.ttl-ms:600000}") long ttlMillis) {
+        this.questionRepository = questionRepository;
+        this.subDetailRepository = subDetailRepository;
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 통계 집계 구분 값 (이 조합별로 문제 수를 센다)
+     */
+    public record Cell(String questionType, String subDetailId, String memberId, int questionActive) {
+
+        public static Cell of(QuestionEntity question) {
+            return new Cell(question.getQuestionType(), question.getSubDetailId(), question.getMemberId(),
+                    question.getQuestionActive());
+        }
+    }
+
+    /**
+     * 통계 스냅샷 (유형/과목/강사별 값은 활성 문제 기준, 과목/강사는 이름 → 문제 수)
+     */
+    public record Snapshot(int activeQuestions, int inactiveQuestions,
+                           Map<String, Integer> activeByType,
+                           Map<String, Integer> activeBySubject,
+                           Map<String, Integer> activeByInstructor,
+                           int subjectCount, int instructorCount) {
+
+        public int activeCountOfType(String questionType) {
+            return activeByType.getOrDefault(questionType, 0);
+        }
+    }
+
+    /**
+     * @param educationId 학원 ID (null 또는 ALL_EDUCATIONS면 전체)
+     */
+    public Snapshot get(String educationId) {
+        String key = educationId == null ? ALL_EDUCATIONS : educationId;
+        Aggregate aggregate = aggregates.computeIfAbsent(key, k -> new Aggregate());
+        synchronized (aggregate) {
+            if (aggregate.cells != null && System.currentTimeMillis() - aggregate.loadedAtMillis <= ttlMillis) {
+                return aggregate.snapshot();
+            }
+        }
+        return rebuild(key, aggregate);
+    }
+
+    /**
+     * 문제 생성/수정/상태 변경 반영 (트랜잭션 안이면 커밋 후)
+     * @param before 변경 전 조합 (생성이면 null)
+     * @param after 변경 후 조합
+     */
+    public void onQuestionChanged(String educationId, Cell before, Cell after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            apply(educationId, before, after);
+            apply(ALL_EDUCATIONS, before, after);
+        });
+    }
+
+    private void apply(String key, Cell before, Cell after) {
+        if (key == null) {
+            return;
+        }
+        Aggregate aggregate = aggregates.get(key);
+        if (aggregate == null) {
+            return;
+        }
+        // 처음 보는 세부과목/강사면 이름을 모니터 밖에서 먼저 읽음
+        Names added = after != null && !aggregate.names.knows(after) ? loadNames(Set.of(after)) : null;
+        synchronized (aggregate) {
+            aggregate.version++;
+            if (aggregate.cells == null) {
+                return;
+            }
+            if (before != null) {
+                aggregate.cells.computeIfPresent(before, (cell, count) -> count > 1 ? count - 1 : null);
+            }
+            if (after != null) {
+                aggregate.cells.merge(after, 1, Integer::sum);
+            }
+            if (added != null) {
+                aggregate.names = aggregate.names.merge(added);
+            }
+            aggregate.snapshot = null;
+        }
+    }
+
+    /**
+     * GROUP BY 한 번으로 조합별 문제 수 적재
+     * DB 조회는 모니터 밖에서 하고, 조회 중 변경이 반영되면(version 증가) 다시 읽어
+     * 커밋된 변경이 빠지거나 두 번 세어지지 않도록 한다.
+     */
+    private Snapshot rebuild(String key, Aggregate aggregate) {
+        String educationId = ALL_EDUCATIONS.equals(key) ? null : key;
+        for (int attempt = 1; ; attempt++) {
+            long version;
+            synchronized (aggregate) {
+                version = aggregate.version;
+            }
+            Map<Cell, Integer> cells = new HashMap<>();
+            for (Object[] row : questionRepository.findStatsCells(educationId)) {
+                Cell cell = new Cell((String) row[0], (String) row[1], (String) row[2], ((Number) row[3]).intValue());
+                cells.merge(cell, ((Number) row[4]).intValue(), Integer::sum);
+            }
+            Names names = loadNames(cells.keySet());
+            synchronized (aggregate) {
+                if (aggregate.version == version || attempt == MAX_REBUILD_ATTEMPTS) {
+                    aggregate.cells = cells;
+                    aggregate.names = names;
+                    aggregate.snapshot = null;
+                    aggregate.loadedAtMillis = System.currentTimeMillis();
+                    log.info("문제은행 통계 집계 적재 - educationId: {}, 조합 수: {}", key, cells.size());
+                    return aggregate.snapshot();
+                }
+            }
+        }
+    }
+
+    // 모니터 안에서 호출되므로 DB를 조회하지 않는다
+    private static Snapshot toSnapshot(Map<Cell, Integer> cells, Names names) {
+        int active = 0;
+        int inactive = 0;
+        Map<String, Integer> byType = new HashMap<>();
+        Map<String, Integer> bySubDetailId = new HashMap<>();
+        Map<String, Integer> byMemberId = new HashMap<>();
+        for (Map.Entry<Cell, Integer> entry : cells.entrySet()) {
+            Cell cell = entry.getKey();
+            int count = entry.getValue();
+            if (cell.questionActive() != 0) {
+                inactive += count;
+                continue;
+            }
+            active += count;
+            if (cell.questionType() != null) {
+                byType.merge(cell.questionType(), count, Integer::sum);
+            }
+            if (cell.subDetailId() != null) {
+                bySubDetailId.merge(cell.subDetailId(), count, Integer::sum);
+            }
+            if (cell.memberId() != null) {
+                byMemberId.merge(cell.memberId(), count, Integer::sum);
+            }
+        }
+        // 강사별 통계는 memberRole = '강사'인 회원만 (기존 강사 통계 쿼리 조건과 동일)
+        byMemberId.keySet().removeIf(memberId -> !names.instructors().contains(memberId));
+        return new Snapshot(active, inactive, Map.copyOf(byType),
+                byName(bySubDetailId, names.subDetails()), byName(byMemberId, names.members()),
+                bySubDetailId.size(), byMemberId.size());
+    }
+
+    private Names loadNames(Set<Cell> cells) {
+        Set<String> subDetailIds = cells.stream().map(Cell::subDetailId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<String> memberIds = cells.stream().map(Cell::memberId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<String, String> subDetails = new HashMap<>();
+        if (!subDetailIds.isEmpty()) {
+            for (SubjectDetailEntity subDetail : subDetailRepository.findAllById(subDetailIds)) {
+                if (subDetail.getSubDetailName() != null) {
+                    subDetails.put(subDetail.getSubDetailId(), subDetail.getSubDetailName());
+                }
+            }
+        }
+        Map<String, String> members = new HashMap<>();
+        Set<String> instructors = new HashSet<>();
+        if (!memberIds.isEmpty()) {
+            for (MemberEntity member : memberRepository.findAllById(memberIds)) {
+                if (INSTRUCTOR_ROLE.equals(member.getMemberRole())) {
+                    instructors.add(member.getMemberId());
+                }
+                if (member.getMemberName() != null) {
+                    members.put(member.getMemberId(), member.getMemberName());
+                }
+            }
+        }
+        return new Names(Map.copyOf(subDetails), Map.copyOf(members), Set.copyOf(instructors),
+                Set.copyOf(subDetailIds), Set.copyOf(memberIds));
+    }
+
+    // 이름이 없는 ID는 제외 (기존 통계 쿼리의 "이름 IS NOT NULL" 조건과 동일), 같은 이름은 합산
+    private static Map<String, Integer> byName(Map<String, Integer> countsById, Map<String, String> names) {
+        return countsById.entrySet().stream()
+                .filter(entry -> names.containsKey(entry.getKey()))
+                .collect(Collectors.toUnmodifiableMap(entry -> names.get(entry.getKey()), Map.Entry::getValue, Integer::sum));
+    }
+
+    /**
+     * 통계 응답용 이름 (집계 적재 시 함께 읽고, 이후 새 ID가 나오면 추가)
+     * @param loadedSubDetailIds 조회를 마친 세부과목 ID (이름이 없거나 삭제된 ID 포함)
+     * @param loadedMemberIds 조회를 마친 회원 ID (강사가 아니거나 이름이 없는 회원 포함)
+     */
+    private record Names(Map<String, String> subDetails, Map<String, String> members, Set<String> instructors,
+                         Set<String> loadedSubDetailIds, Set<String> loadedMemberIds) {
+
+        static final Names EMPTY = new Names(Map.of(), Map.of(), Set.of(), Set.of(), Set.of());
+
+        boolean knows(Cell cell) {
+            return (cell.subDetailId() == null || loadedSubDetailIds.contains(cell.subDetailId()))
+                    && (cell.memberId() == null || loadedMemberIds.contains(cell.memberId()));
+        }
+
+        Names merge(Names added) {
+            return new Names(union(subDetails, added.subDetails), union(members, added.members),
+                    union(instructors, added.instructors),
+                    union(loadedSubDetailIds, added.loadedSubDetailIds), union(loadedMemberIds, added.loadedMemberIds));
+        }
+
+        private static <K, V> Map<K, V> union(Map<K, V> a, Map<K, V> b) {
+            Map<K, V> merged = new HashMap<>(a);
+            merged.putAll(b);
+            return Map.copyOf(merged);
+        }
+
+        private static <T> Set<T> union(Set<T> a, Set<T> b) {
+            Set<T> merged = new HashSet<>(a);
+            merged.addAll(b);
+            return Set.copyOf(merged);
+        }
+    }
+
+    private static final class Aggregate {
+        private Map<Cell, Integer> cells;
+        private Snapshot snapshot;
+        private long version;
+        private long loadedAtMillis;
+        // apply()에서 모니터 밖에서 읽으므로 volatile (교체만 하고 내부는 불변)
+        private volatile Names names = Names.EMPTY;
+
+        // 호출 측에서 모니터를 잡은 상태로 사용
+        Snapshot snapshot() {
+            if (snapshot == null) {
+                snapshot = toSnapshot(cells, names);
+            }
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.jakdang.labs.api.lnuyasha.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jakdang.labs.api.lnuyasha.dto.MemberInfoDTO;
+import com.jakdang.labs.api.lnuyasha.dto.QuestionBatchCreateResponseDTO;
+import com.jakdang.labs.api.lnuyasha.dto.QuestionCreateRequestDTO;
+import com.jakdang.labs.api.lnuyasha.dto.QuestionImportResponseDTO;
+import com.jakdang.labs.api.lnuyasha.dto.QuestionOptionDTO;
+import com.jakdang.labs.api.lnuyasha.repository.KySubjectDetailRepository;
+import com.jakdang.labs.api.lnuyasha.repository.QuestionImportJdbcRepository;
+import com.jakdang.labs.api.lnuyasha.repository.QuestionImportJdbcRepository.OptionRow;
+import com.jakdang.labs.api.lnuyasha.util.QuestionCsvParser;
+import com.jakdang.labs.api.lnuyasha.util.QuestionCsvParser.ParsedRow;
+import com.jakdang.labs.api.lnuyasha.validator.QuestionValidator;
+import com.jakdang.labs.entity.QuestionEntity;
+import com.jakdang.labs.entity.SubjectDetailEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 문제 일괄 등록 (JSON 요청, CSV/JSON 파일 가져오기, 통합 시험 생성의 새 문제)
+ * 필드 검사는 QuestionValidator로 병렬 수행하고, 세부과목명/강사는 서로 다른 값마다 한 번만 조회한다.
+ * ID를 미리 발급한 문제와 선택지를 JDBC 배치로 넣으므로 문제 수와 관계없이 INSERT 왕복은 두 번이다.
+ * 가져오기는 실패한 행만 오류로 돌려주고 나머지는 등록한다.
+ */
+@Service
+@Slf4j
+public class QuestionImportService {
+
+    private static final TypeReference<List<QuestionCreateRequestDTO>> QUESTION_LIST_TYPE = new TypeReference<>() {};
+    // 컬럼 길이 제한 (넘는 값이 한 건이라도 있으면 배치 insert 전체가 실패하므로 행 단위로 미리 거른다)
+    private static final int OPT_TEXT_MAX_LENGTH = 50;       // questionoption.optText VARCHAR(50)
+    private static final int VARCHAR_MAX_LENGTH = 100;       // question.questionType, codeLanguage VARCHAR(100)
+    private static final int TEXT_MAX_BYTES = 65535;         // question.questionText, questionAnswer, explanation TEXT
+
+    private final QuestionImportJdbcRepository questionImportJdbcRepository;
+    private final KySubjectDetailRepository subDetailRepository;
+    private final MemberService memberService;
+    private final QuestionValidator questionValidator;
+    private final QuestionSearchIndex questionSearchIndex;
+    private final QuestionBankStatsCache questionBankStatsCache;
+    private final ObjectMapper objectMapper;
+    private final int maxRows;
+
+    public QuestionImportService(QuestionImportJdbcRepository questionImportJdbcRepository,
+                                 KySubjectDetailRepository subDetailRepository,
+                                 MemberService memberService,
+                                 QuestionValidator questionValidator,
+                                 QuestionSearchIndex questionSearchIndex,
+                                 QuestionBankStatsCache questionBankStatsCache,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.question-import.max-rows:1000}") int maxRows) {
+        this.questionImportJdbcRepository = questionImportJdbcRepository;
+        this.subDetailRepository = subDetailRepository;
+        this.memberService = memberService;
+        this.questionValidator = questionValidator;
+        this.questionSearchIndex = questionSearchIndex;
+        this.questionBankStatsCache = questionBankStatsCache;
+        this.objectMapper = objectMapper;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * 문제 목록 가져오기 (실패한 행은 건너뛰고 오류로 보고)
+     * @param instructorId 등록 강사 ID (모든 문제에 적용)
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public QuestionImportResponseDTO importQuestions(String instructorId, List<QuestionCreateRequestDTO> questions) {
+        if (questions == null || questions.isEmpty()) {
+            throw new IllegalArgumentException("등록할 문제가 없습니다.");
+        }
+        List<ParsedRow> rows = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            rows.add(new ParsedRow(i + 1, questions.get(i), null));
+        }
+        return importRows(instructorId, rows);
+    }
+
+    /**
+     * CSV/JSON 파일 가져오기 (확장자 또는 Content-Type으로 형식 판단)
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public QuestionImportResponseDTO importFile(String instructorId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("가져올 파일이 없습니다.");
+        }
+        String content;
+        try {
+            content = new String(file.getBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+
+        String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        String contentType = file.getContentType() != null ? file.getContentType() : "";
+        if (fileName.endsWith(".json") || contentType.contains("json")) {
+            return importQuestions(instructorId, parseJson(content));
+        }
+        if (fileName.endsWith(".csv") || contentType.contains("csv")) {
+            return importRows(instructorId, QuestionCsvParser.parse(content));
+        }
+        throw new IllegalArgumentException("CSV 또는 JSON 파일만 가져올 수 있습니다: " + file.getOriginalFilename());
+    }
+
+    /**
+     * 문제 일괄 생성 (하나라도 유효하지 않으면 아무것도 등록하지 않음)
+     * 각 요청의 instructorId를 등록 강사로 사용한다.
+     * @return 생성된 문제 (요청 순서)
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public List<QuestionBatchCreateResponseDTO.CreatedQuestionDTO> createQuestions(List<QuestionCreateRequestDTO> questions) {
+        List<ParsedRow> rows = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            rows.add(new ParsedRow(i + 1, questions.get(i), null));
+        }
+        PreparedImport prepared = prepare(null, rows);
+        if (!prepared.errors().isEmpty()) {
+            QuestionImportResponseDTO.RowError error = prepared.errors().get(0);
+            throw new IllegalArgumentException("문제 " + error.getRow() + " 생성 실패: " + error.getMessage());
+        }
+        write(prepared);
+        return prepared.created();
+    }
+
+    private QuestionImportResponseDTO importRows(String instructorId, List<ParsedRow> rows) {
+        log.info("문제 가져오기 시작: instructorId = {}, 행 수 = {}", instructorId, rows.size());
+        PreparedImport prepared = prepare(instructorId, rows);
+        write(prepared);
+        log.info("문제 가져오기 완료: 등록 {}개, 실패 {}개", prepared.created().size(), prepared.errors().size());
+
+        return QuestionImportResponseDTO.builder()
+                .totalRows(rows.size())
+                .createdCount(prepared.created().size())
+                .failedCount(prepared.errors().size())
+                .createdQuestions(prepared.created())
+                .errors(prepared.errors())
+                .build();
+    }
+
+    private List<QuestionCreateRequestDTO> parseJson(String content) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(content);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 파일 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+        JsonNode questions = root != null && root.isObject() ? root.get("questions") : root;
+        if (questions == null || !questions.isArray()) {
+            throw new IllegalArgumentException("JSON은 문제 배열 또는 {\"questions\": [...]} 형식이어야 합니다.");
+        }
+        return objectMapper.convertValue(questions, QUESTION_LIST_TYPE);
+    }
+
+    /**
+     * 검증 후 등록할 엔티티 구성 (DB 쓰기 없음)
+     * @param instructorId 모든 행에 적용할 강사 ID (null이면 행별 instructorId 사용)
+     */
+    private PreparedImport prepare(String instructorId, List<ParsedRow> rows) {
+        if (rows.size() > maxRows) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 문제는 최대 " + maxRows + "개입니다. 현재: " + rows.size() + "개");
+        }
+        int size = rows.size();
+        String[] errors = new String[size];
+        for (int i = 0; i < size; i++) {
+            ParsedRow row = rows.get(i);
+            errors[i] = row.error();
+            if (row.request() != null && instructorId != null) {
+                row.request().setInstructorId(instructorId);
+            }
+        }
+
+        // 1. 필드 검사 (DB 조회 없음, 병렬)
+        IntStream.range(0, size).parallel()
+                .filter(i -> errors[i] == null)
+                .forEach(i -> errors[i] = validateFields(rows.get(i).request()));
+
+        // 2. 세부과목명 → ID, 강사 ID → 회원 정보 (서로 다른 값마다 한 번)
+        Map<String, String> subDetailIds = new HashMap<>();
+        Map<String, MemberInfoDTO> instructors = new HashMap<>();
+        Map<String, String> instructorErrors = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            QuestionCreateRequestDTO request = rows.get(i).request();
+            String subDetailId = subDetailIds.computeIfAbsent(request.getSubDetailName(), this::findSubDetailId);
+            if (subDetailId == null) {
+                errors[i] = "존재하지 않는 세부과목명입니다: " + request.getSubDetailName();
+                continue;
+            }
+            String requestInstructorId = request.getInstructorId();
+            if (!instructors.containsKey(requestInstructorId) && !instructorErrors.containsKey(requestInstructorId)) {
+                resolveInstructor(requestInstructorId, instructors, instructorErrors);
+            }
+            errors[i] = instructorErrors.get(requestInstructorId);
+        }
+
+        // 3. 엔티티 구성 (ID 미리 발급)
+        Instant now = Instant.now();
+        List<QuestionEntity> questions = new ArrayList<>();
+        List<OptionRow> options = new ArrayList<>();
+        List<QuestionBatchCreateResponseDTO.CreatedQuestionDTO> created = new ArrayList<>();
+        List<QuestionImportResponseDTO.RowError> rowErrors = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ParsedRow row = rows.get(i);
+            QuestionCreateRequestDTO request = row.request();
+            if (errors[i] != null) {
+                rowErrors.add(QuestionImportResponseDTO.RowError.builder()
+                        .row(row.row())
+                        .questionText(request != null ? request.getQuestionText() : null)
+                        .message(errors[i])
+                        .build());
+                continue;
+            }
+
+            MemberInfoDTO instructor = instructors.get(request.getInstructorId());
+            QuestionEntity question = QuestionEntity.builder()
+                    .questionId(UUID.randomUUID().toString())
+                    .questionType(request.getQuestionType())
+                    .questionText(request.getQuestionText())
+                    .questionAnswer(request.getQuestionAnswer())
+                    .explanation(request.getExplanation() != null ? request.getExplanation() : "")
+                    .subDetailId(subDetailIds.get(request.getSubDetailName()))
+                    .educationId(instructor.getEducationId())
+                    .memberId(instructor.getMemberId())
+                    .questionActive(0)
+                    .codeLanguage(request.getCodeLanguage())
+                    .build();
+            question.setCreatedAt(now);
+            question.setUpdatedAt(now);
+
+            if ("객관식".equals(request.getQuestionType())) {
+                for (QuestionOptionDTO option : request.getOptions()) {
+                    int optIsCorrect = option.getOptIsCorrect() != null ? option.getOptIsCorrect() : 0;
+                    options.add(new OptionRow(UUID.randomUUID().toString(), question.getQuestionId(),
+                            option.getOptText(), optIsCorrect, now));
+                    // 단건 생성과 같이 정답 선택지 내용을 정답으로 사용
+                    if (optIsCorrect == 1) {
+                        question.setQuestionAnswer(option.getOptText());
+                    }
+                }
+            }
+            questions.add(question);
+            created.add(QuestionBatchCreateResponseDTO.CreatedQuestionDTO.builder()
+                    .questionId(question.getQuestionId())
+                    .questionText(question.getQuestionText())
+                    .build());
+        }
+        return new PreparedImport(questions, options, created, rowErrors);
+    }
+
+    private void write(PreparedImport prepared) {
+        questionImportJdbcRepository.insertQuestions(prepared.questions());
+        questionImportJdbcRepository.insertOptions(prepared.options());
+        for (QuestionEntity question : prepared.questions()) {
+            questionSearchIndex.index(question);
+            questionBankStatsCache.onQuestionChanged(question.getEducationId(), null, QuestionBankStatsCache.Cell.of(question));
+        }
+    }
+
+    private String validateFields(QuestionCreateRequestDTO request) {
+        try {
+            questionValidator.validateQuestionFields(request);
+        } catch (RuntimeException e) {
+            return e.getMessage() != null ? e.getMessage() : "유효하지 않은 문제입니다.";
+        }
+        return validateColumnLimits(request);
+    }
+
+    private static String validateColumnLimits(QuestionCreateRequestDTO request) {
+        if (exceedsLength(request.getQuestionType(), VARCHAR_MAX_LENGTH)) {
+            return "문제 유형은 " + VARCHAR_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        if (exceedsLength(request.getCodeLanguage(), VARCHAR_MAX_LENGTH)) {
+            return "코드 언어는 " + VARCHAR_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        if (exceedsBytes(request.getQuestionText())) {
+            return "문제 내용이 너무 깁니다.";
+        }
+        if (exceedsBytes(request.getQuestionAnswer())) {
+            return "정답이 너무 깁니다.";
+        }
+        if (exceedsBytes(request.getExplanation())) {
+            return "해설이 너무 깁니다.";
+        }
+        if ("객관식".equals(request.getQuestionType()) && request.getOptions() != null) {
+            for (int i = 0; i < request.getOptions().size(); i++) {
+                QuestionOptionDTO option = request.getOptions().get(i);
+                if (option != null && exceedsLength(option.getOptText(), OPT_TEXT_MAX_LENGTH)) {
+                    return "선택지 " + (i + 1) + "은(는) " + OPT_TEXT_MAX_LENGTH + "자를 넘을 수 없습니다.";
+                }
+            }
+        }
+        return null;
+    }
+
+    // VARCHAR(n)은 문자 수 기준
+    private static boolean exceedsLength(String value, int maxLength) {
+        return value != null && value.codePointCount(0, value.length()) > maxLength;
+    }
+
+    // TEXT는 바이트 수 기준 (utf8mb4)
+    private static boolean exceedsBytes(String value) {
+        return value != null && value.getBytes(StandardCharsets.UTF_8).length > TEXT_MAX_BYTES;
+    }
+
+    private String findSubDetailId(String subDetailName) {
+        List<SubjectDetailEntity> subDetails = subDetailRepository.findBySubDetailName(subDetailName);
+        return subDetails.isEmpty() ? null : subDetails.get(0).getSubDetailId();
+    }
+
+    private void resolveInstructor(String instructorId, Map<String, MemberInfoDTO> instructors, Map<String, String> instructorErrors) {
+        try {
+            questionValidator.validateInstructorId(instructorId);
+            MemberInfoDTO memberInfo = memberService.getMemberInfo(instructorId);
+            if (memberInfo == null) {
+                instructorErrors.put(instructorId, "강사 정보를 찾을 수 없습니다: " + instructorId);
+            } else {
+                instructors.put(instructorId, memberInfo);
+            }
+        } catch (IllegalArgumentException e) {
+            instructorErrors.put(instructorId, e.getMessage());
+        }
+    }
+
+    private record PreparedImport(List<QuestionEntity> questions,
+                                  List<OptionRow> options,
+                                  List<QuestionBatchCreateResponseDTO.CreatedQuestionDTO> created,
+                                  List<QuestionImportResponseDTO.RowError> errors) {
+    }
+}
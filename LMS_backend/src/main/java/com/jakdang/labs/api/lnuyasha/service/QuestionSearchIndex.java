@@ -0,0 +1,439 @@
+package com.jakdang.labs.api.lnuyasha.service;
+
+import com.jakdang.labs.api.lnuyasha.repository.QuestionRepository;
+import com.jakdang.labs.api.lnuyasha.util.KoreanNgramTokenizer;
+import com.jakdang.labs.api.lnuyasha.util.TimeZoneUtil;
+import com.jakdang.labs.entity.QuestionEntity;
+import com.jakdang.labs.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 문제은행 전문 검색 색인 (프로세스 내 역색인)
+ * educationId(학원)별로 파티션을 나누고, 문제 내용/정답/유형을 문자 2-gram으로 색인한다.
+ * 검색은 검색어 2-gram의 포스팅 목록 교집합으로 후보를 좁힌 뒤 부분 문자열 일치를 확인하므로
+ * 결과는 기존 LIKE '%검색어%' 조회와 같고, 10만 건 규모에서도 밀리초 단위로 응답한다.
+ *
+ * 파티션은 처음 검색될 때 적재하고 이후 QuestionBankService의 생성/수정/삭제를 커밋 후 반영한다.
+ * 다른 서버에서 바뀐 문제도 반영되도록 partition-ttl-ms(기본 10분)가 지나면 다음 검색 요청 하나가 다시 적재하고,
+ * 그동안 다른 요청은 기존 색인으로 응답한다.
+ */
+@Component
+@Slf4j
+public class QuestionSearchIndex {
+
+    // 관련도 → 최신 생성순 → questionId (커서 비교에도 같은 순서 사용)
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingInt(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::createdAtMillis).reversed())
+            .thenComparing(Hit::questionId);
+
+    private final QuestionRepository questionRepository;
+    private final long partitionTtlMillis;
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    public QuestionSearchIndex(QuestionRepository questionRepository,
+                               @Value("${app.question-search.partition-ttl-ms:600000}") long partitionTtlMillis) {
+        this.questionRepository = questionRepository;
+        this.partitionTtlMillis = partitionTtlMillis;
+    }
+
+    /**
+     * 검색 조건
+     * @param questionActive null이면 상태 무관 (0: 활성, 1: 비활성)
+     * @param year null이면 연도 무관 (생성일 기준, 한국 시간)
+     * @param typeAhead 입력 중 검색 여부 (마지막 글자를 완성되지 않은 음절로 취급)
+     */
+    public record SearchQuery(String keyword, String questionType, String subDetailId, String memberId,
+                              Integer questionActive, Integer year, boolean typeAhead) {
+    }
+
+    /**
+     * @param questionIds 순위순 문제 ID
+     * @param totalCount 조건에 맞는 전체 건수
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record SearchPage(List<String> questionIds, int totalCount, String nextCursor) {
+    }
+
+    public SearchPage search(String educationId, SearchQuery query, String cursor, int limit) {
+        return partition(educationId).search(query, decodeCursor(cursor), limit);
+    }
+
+    public int count(String educationId, SearchQuery query) {
+        return partition(educationId).search(query, null, 0).totalCount();
+    }
+
+    /**
+     * 문제 생성/수정/상태 변경 반영 (트랜잭션 안이면 커밋 후)
+     * 아직 적재되지 않은 파티션은 처음 검색될 때 DB에서 읽으므로 건너뛴다.
+     */
+    public void index(QuestionEntity question) {
+        if (question.getEducationId() == null) {
+            return;
+        }
+        Doc doc = Doc.of(question);
+        TransactionUtils.afterCommit(() -> {
+            Partition partition = partitions.get(question.getEducationId());
+            if (partition != null) {
+                partition.upsert(doc);
+            }
+        });
+    }
+
+    private Partition partition(String educationId) {
+        if (educationId == null || educationId.isBlank()) {
+            throw new IllegalArgumentException("학원 ID(educationId)가 필요합니다.");
+        }
+        Partition partition = partitions.computeIfAbsent(educationId, Partition::new);
+        if (!partition.loaded) {
+            partition.load(() -> loadDocs(educationId));
+        } else if (System.currentTimeMillis() - partition.loadedAtMillis > partitionTtlMillis) {
+            partition.reload(() -> loadDocs(educationId));
+        }
+        return partition;
+    }
+
+    private List<Doc> loadDocs(String educationId) {
+        long startedAt = System.currentTimeMillis();
+        List<Doc> docs = questionRepository.findByEducationId(educationId).stream()
+                .map(Doc::of)
+                .toList();
+        log.info("문제은행 검색 색인 적재 - educationId: {}, 문제 수: {}, 소요: {}ms",
+                educationId, docs.size(), System.currentTimeMillis() - startedAt);
+        return docs;
+    }
+
+    // ==================== 커서 ====================
+
+    private static Hit decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+            return new Hit(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), parts[2]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 값입니다.");
+        }
+    }
+
+    private static String encodeCursor(Hit hit) {
+        String raw = hit.score() + "|" + hit.createdAtMillis() + "|" + hit.questionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ==================== 색인 구조 ====================
+
+    /**
+     * 색인 대상 문제 (정규화된 검색 필드 + 필터 값)
+     */
+    private record Doc(String questionId, String questionType, String subDetailId, String memberId,
+                       int questionActive, int year, long createdAtMillis, long updatedAtMillis,
+                       String text, String answer, String type) {
+
+        static Doc of(QuestionEntity question) {
+            Instant createdAt = question.getCreatedAt();
+            Instant updatedAt = question.getUpdatedAt() != null ? question.getUpdatedAt() : createdAt;
+            return new Doc(
+                    question.getQuestionId(),
+                    question.getQuestionType(),
+                    question.getSubDetailId(),
+                    question.getMemberId(),
+                    question.getQuestionActive(),
+                    createdAt != null ? TimeZoneUtil.toKoreanTime(createdAt).getYear() : 0,
+                    createdAt != null ? createdAt.toEpochMilli() : 0L,
+                    updatedAt != null ? updatedAt.toEpochMilli() : 0L,
+                    KoreanNgramTokenizer.normalize(question.getQuestionText()),
+                    KoreanNgramTokenizer.normalize(question.getQuestionAnswer()),
+                    KoreanNgramTokenizer.normalize(question.getQuestionType()));
+        }
+
+        boolean passesFilters(SearchQuery query) {
+            return (isBlank(query.questionType()) || query.questionType().equals(questionType))
+                    && (isBlank(query.subDetailId()) || query.subDetailId().equals(subDetailId))
+                    && (isBlank(query.memberId()) || query.memberId().equals(memberId))
+                    && (query.questionActive() == null || query.questionActive() == questionActive)
+                    && (query.year() == null || query.year() == year);
+        }
+
+        /**
+         * 관련도 점수 (0이면 불일치): 문제 내용 > 정답 > 유형, 문제 내용이 검색어로 시작하면 가산
+         */
+        int score(String keyword, boolean typeAhead) {
+            if (keyword.isEmpty()) {
+                return 1;
+            }
+            int score = 0;
+            if (KoreanNgramTokenizer.matches(text, keyword, typeAhead)) {
+                score += KoreanNgramTokenizer.matches(text.substring(0, Math.min(text.length(), keyword.length())), keyword, typeAhead) ? 6 : 4;
+            }
+            if (KoreanNgramTokenizer.matches(answer, keyword, typeAhead)) {
+                score += 2;
+            }
+            if (KoreanNgramTokenizer.matches(type, keyword, typeAhead)) {
+                score += 1;
+            }
+            return score;
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank() || "all".equals(value);
+        }
+    }
+
+    private record Hit(int score, long createdAtMillis, String questionId) {
+    }
+
+    /**
+     * 정렬된 int 포스팅 목록 (문서 번호는 증가 순으로만 추가되므로 항상 정렬 상태)
+     */
+    private static final class PostingList {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+    }
+
+    /**
+     * 학원 하나의 색인
+     * 문제가 바뀌면 기존 문서 번호를 삭제 표시하고 새 번호로 다시 추가하며,
+     * 삭제 표시가 살아 있는 문서 수를 넘으면 포스팅 목록을 다시 만든다.
+     */
+    private static final class Partition {
+        private final String educationId;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final AtomicBoolean reloading = new AtomicBoolean();
+        private volatile boolean loaded;
+        private volatile long loadedAtMillis;
+
+        private final List<Doc> docs = new ArrayList<>();
+        private final BitSet live = new BitSet();
+        private final Map<String, Integer> ordinalById = new HashMap<>();
+        private final Map<String, PostingList> postings = new HashMap<>();
+        // 재적재 중 들어온 변경 (새 색인에 다시 반영)
+        private List<Doc> changesDuringReload;
+
+        Partition(String educationId) {
+            this.educationId = educationId;
+        }
+
+        void load(Supplier<List<Doc>> loader) {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    return;
+                }
+                rebuild(loader.get());
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /**
+         * TTL 만료 후 재적재 (한 요청만 DB를 읽고, 그동안 검색은 기존 색인 사용)
+         */
+        void reload(Supplier<List<Doc>> loader) {
+            if (!reloading.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                lock.writeLock().lock();
+                try {
+                    changesDuringReload = new ArrayList<>();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                List<Doc> fresh = loader.get();
+                lock.writeLock().lock();
+                try {
+                    List<Doc> changes = changesDuringReload;
+                    changesDuringReload = null;
+                    rebuild(fresh);
+                    changes.forEach(this::applyUpsert);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    changesDuringReload = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.warn("문제은행 검색 색인 재적재 실패 - educationId: {}, error: {}", educationId, e.getMessage());
+            } finally {
+                reloading.set(false);
+            }
+        }
+
+        void upsert(Doc doc) {
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    return;
+                }
+                if (changesDuringReload != null) {
+                    changesDuringReload.add(doc);
+                }
+                applyUpsert(doc);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        SearchPage search(SearchQuery query, Hit after, int limit) {
+            String keyword = KoreanNgramTokenizer.normalize(query.keyword());
+            lock.readLock().lock();
+            try {
+                BitSet candidates = candidates(keyword, query.typeAhead());
+                PriorityQueue<Hit> top = new PriorityQueue<>(Math.max(1, limit + 1), RANKING.reversed());
+                int total = 0;
+                for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+                    Doc doc = docs.get(ordinal);
+                    if (!doc.passesFilters(query)) {
+                        continue;
+                    }
+                    int score = doc.score(keyword, query.typeAhead());
+                    if (score == 0) {
+                        continue;
+                    }
+                    total++;
+                    Hit hit = new Hit(score, doc.createdAtMillis(), doc.questionId());
+                    if (limit <= 0 || (after != null && RANKING.compare(hit, after) <= 0)) {
+                        continue;
+                    }
+                    // 다음 페이지 존재 여부 판단을 위해 limit + 1개까지 보관
+                    top.offer(hit);
+                    if (top.size() > limit + 1) {
+                        top.poll();
+                    }
+                }
+
+                List<Hit> ordered = new ArrayList<>(top);
+                ordered.sort(RANKING);
+                String nextCursor = null;
+                if (ordered.size() > limit) {
+                    ordered = ordered.subList(0, limit);
+                    nextCursor = encodeCursor(ordered.get(limit - 1));
+                }
+                return new SearchPage(ordered.stream().map(Hit::questionId).toList(), total, nextCursor);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 검색어 2-gram 포스팅 교집합 (2-gram이 없는 한 글자 검색어는 살아 있는 전체 문서)
+         */
+        private BitSet candidates(String keyword, boolean typeAhead) {
+            Set<String> grams = KoreanNgramTokenizer.queryBigrams(keyword, typeAhead);
+            if (grams.isEmpty()) {
+                return (BitSet) live.clone();
+            }
+            List<PostingList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return new BitSet();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            BitSet result = new BitSet();
+            PostingList smallest = lists.get(0);
+            for (int i = 0; i < smallest.size; i++) {
+                int ordinal = smallest.ordinals[i];
+                if (live.get(ordinal)) {
+                    result.set(ordinal);
+                }
+            }
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                PostingList list = lists.get(i);
+                BitSet next = new BitSet();
+                for (int j = 0; j < list.size; j++) {
+                    if (result.get(list.ordinals[j])) {
+                        next.set(list.ordinals[j]);
+                    }
+                }
+                result = next;
+            }
+            return result;
+        }
+
+        private void applyUpsert(Doc doc) {
+            Integer existing = ordinalById.get(doc.questionId());
+            if (existing != null) {
+                if (docs.get(existing).updatedAtMillis() > doc.updatedAtMillis()) {
+                    // 재적재로 이미 더 최신 상태가 반영된 경우
+                    return;
+                }
+                live.clear(existing);
+            }
+            append(doc);
+            int dead = docs.size() - live.cardinality();
+            if (dead > 1000 && dead > live.cardinality()) {
+                List<Doc> liveDocs = new ArrayList<>();
+                for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+                    liveDocs.add(docs.get(ordinal));
+                }
+                rebuild(liveDocs);
+            }
+        }
+
+        private void rebuild(List<Doc> newDocs) {
+            docs.clear();
+            live.clear();
+            ordinalById.clear();
+            postings.clear();
+            for (Doc doc : newDocs) {
+                Integer existing = ordinalById.get(doc.questionId());
+                if (existing != null) {
+                    live.clear(existing);
+                }
+                append(doc);
+            }
+            loadedAtMillis = System.currentTimeMillis();
+        }
+
+        private void append(Doc doc) {
+            int ordinal = docs.size();
+            docs.add(doc);
+            live.set(ordinal);
+            ordinalById.put(doc.questionId(), ordinal);
+            for (String field : List.of(doc.text(), doc.answer(), doc.type())) {
+                for (String gram : KoreanNgramTokenizer.bigrams(field)) {
+                    postings.computeIfAbsent(gram, k -> new PostingList()).add(ordinal);
+                }
+            }
+        }
+    }
+}
@@ -12,6 +12,9 @@ import com.jakdang.labs.api.lnuyasha.repository.ScoreStudentRepository;
 import com.jakdang.labs.api.lnuyasha.repository.SubGroupRepository;
 import com.jakdang.labs.api.lnuyasha.repository.QuestionRepository;
 import com.jakdang.labs.api.lnuyasha.repository.QuestionOptRepository;
+import com.jakdang.labs.api.lnuyasha.repository.ExamSubmissionJdbcRepository;
+import com.jakdang.labs.api.lnuyasha.repository.ExamSubmissionJdbcRepository.GradedAnswer;
+import com.jakdang.labs.api.lnuyasha.repository.ExamSubmissionJdbcRepository.SubmissionLock;
 import com.jakdang.labs.entity.AnswerEntity;
 import com.jakdang.labs.entity.TemplateQuestionEntity;
 import com.jakdang.labs.entity.ScoreStudentEntity;
@@ -21,9 +24,13 @@ import com.jakdang.labs.entity.MemberEntity;
 import com.jakdang.labs.entity.CourseEntity;
 import com.jakdang.labs.entity.TemplateEntity;
 import com.jakdang.labs.entity.SubGroupEntity;
+import com.jakdang.labs.utils.ExpiringCache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -35,6 +42,7 @@ import java.util.ArrayList;
 import com.jakdang.labs.api.lnuyasha.util.TimeZoneUtil;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 import com.jakdang.labs.api.lnuyasha.dto.QuestionOptionDTO;
 
 @Slf4j
@@ -51,6 +59,20 @@ public class StudentExamService {
     private final SubGroupRepository subGroupRepository;
     private final QuestionRepository questionRepository;
     private final QuestionOptRepository questionOptRepository;
+    private final ExamPaperCache examPaperCache;
+    private final ExamSubmissionJdbcRepository examSubmissionJdbcRepository;
+    private final AnswerDraftBuffer answerDraftBuffer;
+    @Value("${app.exam-draft.member-cache-max-size:20000}")
+    private int draftMemberCacheMaxSize;
+    @Value("${app.exam-draft.member-cache-ttl-ms:600000}")
+    private long draftMemberCacheTtlMillis;
+    // 임시 저장 요청의 학생 식별(userId/courseId 또는 이메일 → memberId) 캐시
+    private ExpiringCache<String, String> draftMemberIds;
+
+    @PostConstruct
+    void initDraftMemberCache() {
+        draftMemberIds = new ExpiringCache<>(draftMemberCacheMaxSize, draftMemberCacheTtlMillis);
+    }
 
     /**
      * 학생 답안 조회 (통합된 AnswerDTO 사용)
@@ -119,10 +141,7 @@ public class StudentExamService {
     public List<QuestionDTO> getExamQuestions(String templateId, String userId) {
         log.info("시험 문제 목록 조회 - templateId: {}, userId: {}", templateId, userId);
         
-        // 1. 템플릿 문제 목록 조회
-        List<TemplateQuestionEntity> templateQuestions = studentExamRepository.findTemplateQuestionsByTemplateId(templateId);
-        
-        // 2. 학생의 답안 조회
+        // 1. 학생의 답안 조회
         List<AnswerEntity> studentAnswers = studentExamRepository.findStudentAnswersByTemplateId(templateId, userId);
         log.info("학생 답안 조회 결과 - templateId: {}, userId: {}, answers.size: {}", templateId, userId, studentAnswers.size());
         
@@ -132,71 +151,15 @@ public class StudentExamService {
             answerMap.put(answer.getTemplateQuestion().getTemplateQuestionId(), answer);
         }
         
-        // 3. 문제를 QuestionDTO로 변환
+        // 2. 시험지 스냅샷에 학생 답안 정보를 더해 QuestionDTO로 변환
+        // 정답/해설은 답안이 있는 경우(제출 또는 종료 후 자동 처리)에만 포함
+        ExamPaper paper = examPaperCache.get(templateId);
+        boolean revealAnswers = !studentAnswers.isEmpty();
         List<QuestionDTO> questionDTOs = new ArrayList<>();
-        
-        for (TemplateQuestionEntity templateQuestion : templateQuestions) {
-            QuestionEntity question = questionRepository.findById(templateQuestion.getQuestionId()).orElse(null);
-            
-            if (question != null) {
-                // 객관식 선택지 조회
-                List<QuestionOptionDTO> options = new ArrayList<>();
-                if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                    List<QuestionOptEntity> questionOptions = questionOptRepository.findByQuestionId(question.getQuestionId());
-                    options = questionOptions.stream()
-                            .map(opt -> QuestionOptionDTO.builder()
-                                    .optId(opt.getOptId())
-                                    .optText(opt.getOptText())
-                                    .optIsCorrect(opt.getOptIsCorrect())
-                                    .build())
-                            .collect(Collectors.toList());
-                }
-                
-                // 학생의 답안 정보 조회
-                AnswerEntity studentAnswer = answerMap.get(templateQuestion.getTemplateQuestionId());
-                String studentAnswerText = null;
-                Double studentScore = null;
-                String correctAnswer = null;
-                Boolean isCorrect = null;
-                
-                if (studentAnswer != null) {
-                    studentAnswerText = studentAnswer.getAnswerText();
-                    studentScore = (double) studentAnswer.getAnswerScore();
-                    
-                    // 정답 정보 조회 (객관식, 참거짓의 경우)
-                    if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                        List<QuestionOptEntity> correctOptions = questionOptRepository.findCorrectOptionsByQuestionId(question.getQuestionId());
-                        if (!correctOptions.isEmpty()) {
-                            correctAnswer = correctOptions.get(0).getOptText();
-                            isCorrect = correctAnswer.equals(studentAnswerText);
-                        }
-                    }
-                }
-                
-                QuestionDTO questionDTO = QuestionDTO.builder()
-                        .questionId(question.getQuestionId())
-                        .questionText(question.getQuestionText())
-                        .questionType(question.getQuestionType())
-                        .questionAnswer(question.getQuestionAnswer())
-                        .explanation(question.getExplanation())
-                        .codeLanguage(question.getCodeLanguage())
-                        .templateQuestionId(templateQuestion.getTemplateQuestionId())
-                        .questionScore(templateQuestion.getTemplateQuestionScore()) // 원래 배점
-                        .instructorId(question.getMemberId())
-                        .subDetailId(question.getSubDetailId())
-                        .educationId(question.getEducationId())
-                        .questionActive(String.valueOf(question.getQuestionActive()))
-                        .createdAt(TimeZoneUtil.toKoreanTime(question.getCreatedAt()))
-                        .updatedAt(TimeZoneUtil.toKoreanTime(question.getUpdatedAt()))
-                        .options(options) // 객관식 선택지
-                        .studentAnswer(studentAnswerText) // 학생 답안
-                        .studentScore(studentScore) // 학생이 받은 점수
-                        .correctAnswer(correctAnswer) // 정답 (객관식, 참거짓의 경우)
-                        .isCorrect(isCorrect) // 정답 여부 (객관식, 참거짓의 경우)
-                        .build();
-                
-                questionDTOs.add(questionDTO);
-            }
+        for (ExamPaper.Question question : paper.questions()) {
+            QuestionDTO questionDTO = question.toQuestionDTO(revealAnswers);
+            applyStudentAnswer(questionDTO, question, answerMap.get(question.templateQuestionId()));
+            questionDTOs.add(questionDTO);
         }
         
         return questionDTOs;
@@ -214,9 +177,6 @@ public class StudentExamService {
             throw new IllegalArgumentException("해당 이메일의 학생을 찾을 수 없습니다: " + studentEmail);
         }
         
-        // 2. 템플릿 문제 목록 조회
-        List<TemplateQuestionEntity> templateQuestions = studentExamRepository.findTemplateQuestionsByTemplateId(templateId);
-        
         // 3. 모든 memberId에 대해 학생의 답안 조회
         List<AnswerEntity> allStudentAnswers = new ArrayList<>();
         for (MemberEntity student : students) {
@@ -242,72 +202,15 @@ public class StudentExamService {
             }
         }
         
-        // 5. 문제를 QuestionDTO로 변환
+        // 5. 시험지 스냅샷에 학생 답안 정보를 더해 QuestionDTO로 변환
+        ExamPaper paper = examPaperCache.get(templateId);
+        boolean revealAnswers = !allStudentAnswers.isEmpty();
         List<QuestionDTO> questionDTOs = new ArrayList<>();
-        
-        for (TemplateQuestionEntity templateQuestion : templateQuestions) {
-            QuestionEntity question = questionRepository.findById(templateQuestion.getQuestionId()).orElse(null);
-            
-            if (question != null) {
-                // 객관식 선택지 조회
-                List<QuestionOptionDTO> options = new ArrayList<>();
-                if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                    List<QuestionOptEntity> questionOptions = questionOptRepository.findByQuestionId(question.getQuestionId());
-                    options = questionOptions.stream()
-                            .map(opt -> QuestionOptionDTO.builder()
-                                    .optId(opt.getOptId())
-                                    .optText(opt.getOptText())
-                                    .optIsCorrect(opt.getOptIsCorrect())
-                                    .build())
-                            .collect(Collectors.toList());
-                }
-                
-                // 학생의 답안 정보 조회
-                AnswerEntity studentAnswer = answerMap.get(templateQuestion.getTemplateQuestionId());
-                String studentAnswerText = null;
-                Double studentScore = null;
-                String correctAnswer = null;
-                Boolean isCorrect = null;
-                
-                if (studentAnswer != null) {
-                    studentAnswerText = studentAnswer.getAnswerText();
-                    studentScore = (double) studentAnswer.getAnswerScore();
-                    
-                    // 정답 정보 조회 (객관식, 참거짓의 경우)
-                    if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                        List<QuestionOptEntity> correctOptions = questionOptRepository.findCorrectOptionsByQuestionId(question.getQuestionId());
-                        if (!correctOptions.isEmpty()) {
-                            correctAnswer = correctOptions.get(0).getOptText();
-                            isCorrect = correctAnswer.equals(studentAnswerText);
-                        }
-                    }
-                }
-                
-                QuestionDTO questionDTO = QuestionDTO.builder()
-                        .questionId(question.getQuestionId())
-                        .questionText(question.getQuestionText())
-                        .questionType(question.getQuestionType())
-                        .questionAnswer(question.getQuestionAnswer())
-                        .explanation(question.getExplanation())
-                        .codeLanguage(question.getCodeLanguage())
-                        .templateQuestionId(templateQuestion.getTemplateQuestionId())
-                        .questionScore(templateQuestion.getTemplateQuestionScore()) // 원래 배점
-                        .instructorId(question.getMemberId())
-                        .subDetailId(question.getSubDetailId())
-                        .educationId(question.getEducationId())
-                        .questionActive(String.valueOf(question.getQuestionActive()))
-                        .createdAt(TimeZoneUtil.toKoreanTime(question.getCreatedAt()))
-                        .updatedAt(TimeZoneUtil.toKoreanTime(question.getUpdatedAt()))
-                        .options(options) // 객관식 선택지
-                        .studentAnswer(studentAnswerText) // 학생 답안
-                        .studentScore(studentScore) // 학생이 받은 점수
-                        .correctAnswer(correctAnswer) // 정답 (객관식, 참거짓의 경우)
-                        .isCorrect(isCorrect) // 정답 여부 (객관식, 참거짓의 경우)
-                        .isChecked(isChecked) // 성적 확인 여부
-                        .build();
-                
-                questionDTOs.add(questionDTO);
-            }
+        for (ExamPaper.Question question : paper.questions()) {
+            QuestionDTO questionDTO = question.toQuestionDTO(revealAnswers);
+            applyStudentAnswer(questionDTO, question, answerMap.get(question.templateQuestionId()));
+            questionDTO.setIsChecked(isChecked); // 성적 확인 여부
+            questionDTOs.add(questionDTO);
         }
         
         return questionDTOs;
@@ -564,51 +467,10 @@ public class StudentExamService {
         TemplateEntity template = templateRepository.findById(templateId)
                 .orElseThrow(() -> new IllegalArgumentException("템플릿을 찾을 수 없습니다: " + templateId));
         
-        // 1. 템플릿 문제 목록 조회
-        List<TemplateQuestionEntity> templateQuestions = studentExamRepository.findTemplateQuestionsByTemplateId(templateId);
-        log.info("템플릿 문제 조회 결과 - templateId: {}, questions.size: {}", templateId, templateQuestions.size());
-        
-        // 2. 문제 정보를 QuestionDTO로 변환
-        List<QuestionDTO> questions = new ArrayList<>();
-        
-        for (TemplateQuestionEntity templateQuestion : templateQuestions) {
-            QuestionEntity question = questionRepository.findById(templateQuestion.getQuestionId()).orElse(null);
-            
-            if (question != null) {
-                // 객관식 선택지 조회
-                List<QuestionOptionDTO> options = new ArrayList<>();
-                if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                    List<QuestionOptEntity> questionOptions = questionOptRepository.findByQuestionId(question.getQuestionId());
-                    options = questionOptions.stream()
-                            .map(opt -> QuestionOptionDTO.builder()
-                                    .optId(opt.getOptId())
-                                    .optText(opt.getOptText())
-                                    .optIsCorrect(opt.getOptIsCorrect())
-                                    .build())
-                            .collect(Collectors.toList());
-                }
-                
-                QuestionDTO questionDTO = QuestionDTO.builder()
-                        .questionId(question.getQuestionId())
-                        .questionText(question.getQuestionText())
-                        .questionType(question.getQuestionType())
-                        .questionAnswer(question.getQuestionAnswer())
-                        .explanation(question.getExplanation())
-                        .codeLanguage(question.getCodeLanguage())
-                        .templateQuestionId(templateQuestion.getTemplateQuestionId())
-                        .questionScore(templateQuestion.getTemplateQuestionScore()) // 템플릿에서의 문제 배점
-                        .instructorId(question.getMemberId())
-                        .subDetailId(question.getSubDetailId())
-                        .educationId(question.getEducationId())
-                        .questionActive(String.valueOf(question.getQuestionActive()))
-                        .createdAt(TimeZoneUtil.toKoreanTime(question.getCreatedAt()))
-                        .updatedAt(TimeZoneUtil.toKoreanTime(question.getUpdatedAt()))
-                        .options(options) // 객관식 선택지
-                        .build();
-                
-                questions.add(questionDTO);
-            }
-        }
+        // 1. 시험지 스냅샷 조회 (같은 시험을 동시에 시작해도 DB 적재는 한 번)
+        // 2. 응시용이므로 정답/해설/보기 정답 여부는 제외
+        List<QuestionDTO> questions = examPaperCache.get(templateId).toQuestionDTOs(false);
+        log.info("시험지 조회 결과 - templateId: {}, questions.size: {}", templateId, questions.size());
         
         // 3. 응답 데이터 구성
         Map<String, Object> result = new HashMap<>();
@@ -650,104 +512,152 @@ public class StudentExamService {
         TemplateEntity template = templateRepository.findById(templateId)
                 .orElseThrow(() -> new IllegalArgumentException("시험 템플릿을 찾을 수 없습니다: " + templateId));
         
-        // 3. 시험 문제 목록 조회
-        List<TemplateQuestionEntity> templateQuestions = studentExamRepository.findTemplateQuestionsByTemplateId(templateId);
-        if (templateQuestions.isEmpty()) {
-            throw new IllegalArgumentException("시험 문제를 찾을 수 없습니다: " + templateId);
-        }
+        // 3. 자동 채점 및 답안 일괄 저장 (중복 제출 확인 포함)
+        SubmissionResult submission = gradeAndSaveSubmission(templateId, studentId, answers);
+        int totalScore = submission.totalScore();
+        
+        // 4. 결과 반환
+        Map<String, Object> result = new HashMap<>();
+        result.put("success", true);
+        result.put("message", "시험이 성공적으로 제출되었습니다.");
+        result.put("templateId", templateId);
+        result.put("studentId", studentId);
+        result.put("totalScore", totalScore);
+        result.put("submittedAnswers", submission.submittedAnswers());
+        result.put("submittedAt", LocalDateTime.now());
+        
+        log.info("시험 제출 완료 - studentId: {}, totalScore: {}, submittedAnswers: {}", 
+                studentId, totalScore, submission.submittedAnswers());
         
-        // 4. 기존 답안이 있는지 확인 (중복 제출 방지)
-        List<AnswerEntity> existingAnswers = new ArrayList<>();
+        return result;
+    }
+
+    /**
+     * 응시 중 답안 임시 저장 (write-behind 버퍼에 병합, DB 반영은 AnswerDraftBuffer가 주기적으로 일괄 처리)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Object> saveDraftAnswers(String templateId, String courseId, String userId, String studentEmail, Map<String, String> answers) {
+        String memberId = resolveDraftMemberId(courseId, userId, studentEmail);
+        answerDraftBuffer.save(templateId, memberId, answers);
         
-        for (TemplateQuestionEntity templateQuestion : templateQuestions) {
-            AnswerEntity existingAnswer = studentExamRepository.findStudentAnswerByTemplateQuestionAndMember(templateQuestion.getTemplateQuestionId(), studentId);
-            if (existingAnswer != null) {
-                existingAnswers.add(existingAnswer);
+        Map<String, Object> result = new HashMap<>();
+        result.put("templateId", templateId);
+        result.put("savedAnswers", answers.size());
+        result.put("savedAt", LocalDateTime.now());
+        return result;
+    }
+
+    /**
+     * 임시 저장 답안 조회 (재접속 시 복원용)
+     */
+    public Map<String, String> getDraftAnswers(String templateId, String courseId, String userId, String studentEmail) {
+        String memberId = resolveDraftMemberId(courseId, userId, studentEmail);
+        return answerDraftBuffer.get(templateId, memberId);
+    }
+
+    /**
+     * 임시 저장 요청의 memberId 확인 (제출과 같은 기준: userId+courseId 우선, 없으면 이메일의 첫 번째 회원)
+     */
+    private String resolveDraftMemberId(String courseId, String userId, String studentEmail) {
+        boolean byUserId = userId != null && !userId.trim().isEmpty() && courseId != null && !courseId.trim().isEmpty();
+        String cacheKey = byUserId ? "user:" + userId + ":" + courseId : "email:" + studentEmail;
+        String memberId = draftMemberIds.computeIfAbsent(cacheKey, key -> {
+            if (byUserId) {
+                return memberRepository.findMemberIdByUserIdAndCourseId(userId, courseId);
             }
+            List<MemberEntity> students = memberRepository.findByMemberEmail(studentEmail);
+            return students.isEmpty() ? null : students.get(0).getMemberId();
+        });
+        if (memberId == null) {
+            throw new IllegalArgumentException("학생 정보를 찾을 수 없습니다.");
+        }
+        return memberId;
+    }
+
+    /**
+     * 답안 자동 채점 및 일괄 저장
+     * 정답 정보는 시험지 스냅샷(ExamPaperCache)에서 가져와 메모리에서 채점하고 답안은 JDBC 배치로 한 번에 저장한다.
+     * 모든 문제가 자동 채점된 경우에만 총점을 같은 트랜잭션에서 scorestudent에 반영한다
+     * (서술형/코드형이 있으면 기존처럼 강사 채점 후 총점이 확정되며, 그 전까지는 채점대기로 표시된다).
+     */
+    private SubmissionResult gradeAndSaveSubmission(String templateId, String memberId, Map<String, String> answers) {
+        ExamPaper paper = examPaperCache.get(templateId);
+        if (paper.questions().isEmpty()) {
+            throw new IllegalArgumentException("시험 문제를 찾을 수 없습니다: " + templateId);
         }
         
-        if (!existingAnswers.isEmpty()) {
-            log.warn("이미 답안을 제출한 시험입니다. templateId: {}, studentId: {}", templateId, studentId);
+        // 기존 답안이 있는지 확인 (중복 제출 방지)
+        SubmissionLock lock = examSubmissionJdbcRepository.lockForSubmission(templateId, memberId);
+        if (lock.alreadySubmitted()) {
+            log.warn("이미 답안을 제출한 시험입니다. templateId: {}, memberId: {}", templateId, memberId);
             throw new IllegalArgumentException("이미 답안을 제출한 시험입니다. 재제출은 불가능합니다.");
         }
         
-        // 5. 답안 저장 및 자동 채점
-        List<AnswerEntity> savedAnswers = new ArrayList<>();
+        // 본문에 없는 문제는 임시 저장 답안으로 채움 (지운 답안은 ""로 저장되어 있어 되살아나지 않음)
+        answers = answerDraftBuffer.mergeForSubmit(templateId, memberId, lock.draftAnswers(), answers);
+        LocalDateTime submittedAt = LocalDateTime.now();
+        List<GradedAnswer> gradedAnswers = new ArrayList<>();
         int totalScore = 0;
+        boolean needsManualGrading = false;
         
-        for (TemplateQuestionEntity templateQuestion : templateQuestions) {
-            String questionId = templateQuestion.getQuestionId();
-            String studentAnswer = answers.getOrDefault(questionId, "");
-            
-            // 문제 정보 조회
-            QuestionEntity question = questionRepository.findById(questionId)
-                    .orElseThrow(() -> new IllegalArgumentException("문제를 찾을 수 없습니다: " + questionId));
-            
-            // 자동 채점 (객관식, 참거짓 문제만)
+        for (ExamPaper.Question question : paper.questions()) {
+            String studentAnswer = answers.getOrDefault(question.questionId(), "");
             int score = 0;
             String teacherComment = null;
+            LocalDateTime gradedAt = null;
             
-            if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                // 정답 선택지 조회
-                List<QuestionOptEntity> correctOptions = questionOptRepository.findCorrectOptionsByQuestionId(questionId);
-                if (!correctOptions.isEmpty()) {
-                    String correctAnswer = correctOptions.get(0).getOptText();
-                    
-                    // 정답 여부 확인
+            if (question.isChoiceType()) {
+                // 자동 채점 (객관식, 참거짓 문제만)
+                String correctAnswer = question.answerKey().correctOptionText();
+                if (correctAnswer != null) {
                     if (correctAnswer.equals(studentAnswer)) {
-                        score = templateQuestion.getTemplateQuestionScore();
+                        score = question.questionScore();
                         teacherComment = "자동 채점: 정답";
                     } else {
-                        score = 0;
                         teacherComment = "자동 채점: 오답 (정답: " + correctAnswer + ")";
                     }
                 }
+                gradedAt = submittedAt;
             } else {
                 // 주관식, 서술형 등은 수동 채점 필요
-                score = 0;
                 teacherComment = "수동 채점 필요";
+                needsManualGrading = true;
             }
             
             totalScore += score;
-            
-            // AnswerEntity 생성 및 저장
-            AnswerEntity answer = AnswerEntity.builder()
-                    .templateQuestion(templateQuestion)
-                    .memberId(studentId)
-                    .answerText(studentAnswer)
-                    .answerScore(score)
-                    .teacherComment(teacherComment)
-                    .answerActive(1)
-                    .build();
-            
-            AnswerEntity savedAnswer = studentExamRepository.save(answer);
-            
-            // 자동 채점된 경우 answerGradedAt 설정
-            if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                savedAnswer.setAnswerGradedAt(savedAnswer.getCreatedAt());
-                savedAnswer.setAnswerGradeUpdatedAt(savedAnswer.getCreatedAt());
-                studentExamRepository.save(savedAnswer);
-            }
-            
-            savedAnswers.add(savedAnswer);
-            
-            log.info("답안 저장 완료 - questionId: {}, answer: {}, score: {}", questionId, studentAnswer, score);
+            gradedAnswers.add(new GradedAnswer(UUID.randomUUID().toString(), question.templateQuestionId(), memberId,
+                    studentAnswer, score, teacherComment, submittedAt, gradedAt));
         }
         
-        // 6. 결과 반환
-        Map<String, Object> result = new HashMap<>();
-        result.put("success", true);
-        result.put("message", "시험이 성공적으로 제출되었습니다.");
-        result.put("templateId", templateId);
-        result.put("studentId", studentId);
-        result.put("totalScore", totalScore);
-        result.put("submittedAnswers", savedAnswers.size());
-        result.put("submittedAt", LocalDateTime.now());
+        examSubmissionJdbcRepository.insertAnswers(gradedAnswers);
+        answerDraftBuffer.discard(templateId, memberId);
+        if (!needsManualGrading) {
+            examSubmissionJdbcRepository.upsertGradedScore(templateId, memberId, totalScore);
+        }
+        log.info("답안 일괄 저장 완료 - templateId: {}, memberId: {}, answers: {}, totalScore: {}",
+                templateId, memberId, gradedAnswers.size(), totalScore);
         
-        log.info("시험 제출 완료 - studentId: {}, totalScore: {}, submittedAnswers: {}", 
-                studentId, totalScore, savedAnswers.size());
+        return new SubmissionResult(totalScore, gradedAnswers.size());
+    }
+
+    private record SubmissionResult(int totalScore, int submittedAnswers) {
+    }
+
+    /**
+     * 학생 답안/점수와 정답 여부(객관식, 참거짓)를 QuestionDTO에 반영
+     */
+    private void applyStudentAnswer(QuestionDTO questionDTO, ExamPaper.Question question, AnswerEntity studentAnswer) {
+        if (studentAnswer == null) {
+            return;
+        }
+        questionDTO.setStudentAnswer(studentAnswer.getAnswerText()); // 학생 답안
+        questionDTO.setStudentScore((double) studentAnswer.getAnswerScore()); // 학생이 받은 점수
         
-        return result;
+        String correctAnswer = question.answerKey().correctOptionText();
+        if (question.isChoiceType() && correctAnswer != null) {
+            questionDTO.setCorrectAnswer(correctAnswer); // 정답 (객관식, 참거짓의 경우)
+            questionDTO.setIsCorrect(correctAnswer.equals(studentAnswer.getAnswerText())); // 정답 여부
+        }
     }
 
     /**
@@ -947,102 +857,22 @@ public class StudentExamService {
         TemplateEntity template = templateRepository.findById(templateId)
                 .orElseThrow(() -> new IllegalArgumentException("시험 템플릿을 찾을 수 없습니다: " + templateId));
         
-        // 3. 시험 문제 목록 조회
-        List<TemplateQuestionEntity> templateQuestions = studentExamRepository.findTemplateQuestionsByTemplateId(templateId);
-        if (templateQuestions.isEmpty()) {
-            throw new IllegalArgumentException("시험 문제를 찾을 수 없습니다: " + templateId);
-        }
-        
-        // 4. 기존 답안이 있는지 확인 (중복 제출 방지)
-        List<AnswerEntity> existingAnswers = new ArrayList<>();
-        
-        for (TemplateQuestionEntity templateQuestion : templateQuestions) {
-            AnswerEntity existingAnswer = studentExamRepository.findStudentAnswerByTemplateQuestionAndMember(templateQuestion.getTemplateQuestionId(), memberId);
-            if (existingAnswer != null) {
-                existingAnswers.add(existingAnswer);
-            }
-        }
-        
-        if (!existingAnswers.isEmpty()) {
-            log.warn("이미 답안을 제출한 시험입니다. templateId: {}, memberId: {}", templateId, memberId);
-            throw new IllegalArgumentException("이미 답안을 제출한 시험입니다. 재제출은 불가능합니다.");
-        }
-        
-        // 5. 답안 저장 및 자동 채점
-        List<AnswerEntity> savedAnswers = new ArrayList<>();
-        int totalScore = 0;
-        
-        for (TemplateQuestionEntity templateQuestion : templateQuestions) {
-            String questionId = templateQuestion.getQuestionId();
-            String studentAnswer = answers.getOrDefault(questionId, "");
-            
-            // 문제 정보 조회
-            QuestionEntity question = questionRepository.findById(questionId)
-                    .orElseThrow(() -> new IllegalArgumentException("문제를 찾을 수 없습니다: " + questionId));
-            
-            // 자동 채점 (객관식, 참거짓 문제만)
-            int score = 0;
-            String teacherComment = null;
-            
-            if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                // 정답 선택지 조회
-                List<QuestionOptEntity> correctOptions = questionOptRepository.findCorrectOptionsByQuestionId(questionId);
-                if (!correctOptions.isEmpty()) {
-                    String correctAnswer = correctOptions.get(0).getOptText();
-                    
-                    // 정답 여부 확인
-                    if (correctAnswer.equals(studentAnswer)) {
-                        score = templateQuestion.getTemplateQuestionScore();
-                        teacherComment = "자동 채점: 정답";
-                    } else {
-                        score = 0;
-                        teacherComment = "자동 채점: 오답 (정답: " + correctAnswer + ")";
-                    }
-                }
-            } else {
-                // 주관식, 서술형 등은 수동 채점 필요
-                score = 0;
-                teacherComment = "수동 채점 필요";
-            }
-            
-            totalScore += score;
-            
-            // AnswerEntity 생성 및 저장
-            AnswerEntity answer = AnswerEntity.builder()
-                    .templateQuestion(templateQuestion)
-                    .memberId(memberId)
-                    .answerText(studentAnswer)
-                    .answerScore(score)
-                    .teacherComment(teacherComment)
-                    .answerActive(1)
-                    .build();
-            
-            AnswerEntity savedAnswer = studentExamRepository.save(answer);
-            
-            // 자동 채점된 경우 answerGradedAt 설정
-            if ("객관식".equals(question.getQuestionType()) || "참거짓".equals(question.getQuestionType())) {
-                savedAnswer.setAnswerGradedAt(savedAnswer.getCreatedAt());
-                savedAnswer.setAnswerGradeUpdatedAt(savedAnswer.getCreatedAt());
-                studentExamRepository.save(savedAnswer);
-            }
-            
-            savedAnswers.add(savedAnswer);
-            
-            log.info("답안 저장 완료 - questionId: {}, answer: {}, score: {}", questionId, studentAnswer, score);
-        }
+        // 3. 자동 채점 및 답안 일괄 저장 (중복 제출 확인 포함)
+        SubmissionResult submission = gradeAndSaveSubmission(templateId, memberId, answers);
+        int totalScore = submission.totalScore();
         
-        // 6. 결과 반환
+        // 4. 결과 반환
         Map<String, Object> result = new HashMap<>();
         result.put("success", true);
         result.put("message", "시험이 성공적으로 제출되었습니다.");
         result.put("templateId", templateId);
         result.put("studentId", memberId);
         result.put("totalScore", totalScore);
-        result.put("submittedAnswers", savedAnswers.size());
+        result.put("submittedAnswers", submission.submittedAnswers());
         result.put("submittedAt", LocalDateTime.now());
         
         log.info("시험 제출 완료 - memberId: {}, totalScore: {}, submittedAnswers: {}", 
-                memberId, totalScore, savedAnswers.size());
+                memberId, totalScore, submission.submittedAnswers());
         
         return result;
     }
@@ -10,6 +10,8 @@ import com.jakdang.labs.api.lnuyasha.repository.AnswerRepository;
 import com.jakdang.labs.api.lnuyasha.repository.QuestionRepository;
 import com.jakdang.labs.api.lnuyasha.repository.KyMemberRepository;
 import com.jakdang.labs.api.lnuyasha.repository.ScoreStudentRepository;
+import com.jakdang.labs.api.lnuyasha.repository.ExamCloseJdbcRepository;
+import com.jakdang.labs.api.lnuyasha.repository.ExamCloseJdbcRepository.MissingAnswer;
 import com.jakdang.labs.entity.TemplateEntity;
 import com.jakdang.labs.entity.TemplateQuestionEntity;
 import com.jakdang.labs.entity.AnswerEntity;
@@ -26,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.time.LocalDateTime;
@@ -36,6 +39,10 @@ import com.jakdang.labs.api.lnuyasha.util.TimeZoneUtil;
 @Service
 @RequiredArgsConstructor
 public class TemplateService {
+
+    private static final String AUTO_SUBMISSION_COMMENT = "시험 종료로 인한 자동 0점 처리";
+    // 자동 종료 대상 상태 (ExamCloseTimer.isAutoCloseTarget과 동일)
+    private static final int AUTO_CLOSE_TARGET_ACTIVE = 1;
     
     private final TemplateRepository templateRepository;
     private final TemplateQuestionRepository templateQuestionRepository;
@@ -48,6 +55,10 @@ public class TemplateService {
     private final QuestionRepository questionRepository;
     private final KyMemberRepository memberRepository;
     private final ScoreStudentRepository scoreStudentRepository;
+    private final ExamCloseJdbcRepository examCloseJdbcRepository;
+    private final ExamCloseTimer examCloseTimer;
+    private final ExamPaperCache examPaperCache;
+    private final QuestionImportService questionImportService;
     // private final MemberService memberService;
     
     /**
@@ -85,6 +96,7 @@ public class TemplateService {
         
         TemplateEntity savedTemplate = templateRepository.save(template);
         String templateId = savedTemplate.getTemplateId();
+        examCloseTimer.sync(savedTemplate);
         
         return convertToTemplateResponseDTO(savedTemplate, new ArrayList<>());
     }
@@ -109,6 +121,7 @@ public class TemplateService {
                 // 2. 기존 문제 연결 삭제
                 List<TemplateQuestionEntity> existingQuestions = templateQuestionRepository.findByTemplateId(request.getTemplateId());
                 templateQuestionRepository.deleteAll(existingQuestions);
+                examPaperCache.evictTemplate(request.getTemplateId());
                 
                 // 3. 새 문제 생성 및 연결
                 List<TemplateQuestionEntity> savedQuestions = new ArrayList<>();
@@ -430,6 +443,8 @@ public class TemplateService {
             }
             
             TemplateEntity savedTemplate = templateRepository.save(template);
+            examCloseTimer.sync(savedTemplate);
+            examPaperCache.evictTemplate(templateId);
             
             return convertToTemplateResponseDTO(savedTemplate, new ArrayList<>());
             
@@ -477,6 +492,7 @@ public class TemplateService {
             }
             
             TemplateEntity savedTemplate = templateRepository.save(template);
+            examCloseTimer.sync(savedTemplate);
             
             return convertToTemplateResponseDTO(savedTemplate, new ArrayList<>());
             
@@ -529,6 +545,7 @@ public class TemplateService {
             // 4. 시험 비활성화 (templateActive를 1로 설정)
             template.setTemplateActive(1);
             templateRepository.save(template);
+            examCloseTimer.sync(template);
             
         } catch (Exception e) {
             log.error("시험 템플릿 비활성화 중 오류 발생: {}", e.getMessage(), e);
@@ -575,34 +592,32 @@ public class TemplateService {
             if (request.getNewQuestions() != null && !request.getNewQuestions().isEmpty()) {
                 log.info("새 문제 생성 시작: {}개", request.getNewQuestions().size());
                 
+                // subDetailId로 subDetailName 일괄 조회
+                Set<String> subDetailIds = request.getNewQuestions().stream()
+                        .map(ExamCreateCompleteRequestDTO.NewQuestionDTO::getSubDetailId)
+                        .filter(subDetailId -> subDetailId != null && !subDetailId.trim().isEmpty())
+                        .collect(Collectors.toSet());
+                Map<String, String> subDetailNames = new HashMap<>();
+                subjectDetailRepository.findAllById(subDetailIds)
+                        .forEach(subDetail -> subDetailNames.put(subDetail.getSubDetailId(), subDetail.getSubDetailName()));
+                
+                List<QuestionCreateRequestDTO> questionRequests = new ArrayList<>();
                 for (int i = 0; i < request.getNewQuestions().size(); i++) {
                     var newQuestion = request.getNewQuestions().get(i);
-                    log.info("새 문제 {} 생성: {}", i + 1, newQuestion.getQuestionText());
                     
                     // educationId 검증 및 설정
                     if (newQuestion.getEducationId() == null || newQuestion.getEducationId().trim().isEmpty()) {
                         newQuestion.setEducationId(request.getExamData().getEducationId());
-                        log.info("새 문제 {}에 educationId 설정: {}", i + 1, request.getExamData().getEducationId());
                     }
                     
-                    // subDetailId로 subDetailName 조회
-                    String subDetailName = null;
-                    if (newQuestion.getSubDetailId() != null && !newQuestion.getSubDetailId().trim().isEmpty()) {
-                        try {
-                            var subDetail = subjectDetailRepository.findById(newQuestion.getSubDetailId());
-                            if (subDetail.isPresent()) {
-                                subDetailName = subDetail.get().getSubDetailName();
-                                log.info("subDetailId {}에 해당하는 subDetailName 조회: {}", newQuestion.getSubDetailId(), subDetailName);
-                            } else {
-                                log.warn("subDetailId {}에 해당하는 세부과목을 찾을 수 없습니다.", newQuestion.getSubDetailId());
-                            }
-                        } catch (Exception e) {
-                            log.error("subDetailName 조회 중 오류: {}", e.getMessage(), e);
-                        }
+                    String subDetailName = newQuestion.getSubDetailId() != null ? subDetailNames.get(newQuestion.getSubDetailId()) : null;
+                    if (newQuestion.getSubDetailId() != null && subDetailName == null) {
+                        log.warn("subDetailId {}에 해당하는 세부과목을 찾을 수 없습니다.", newQuestion.getSubDetailId());
                     }
                     
                     // QuestionCreateRequestDTO로 변환
-                    QuestionCreateRequestDTO questionRequest = QuestionCreateRequestDTO.builder()
+                    // 문제 생성에는 사용자 로그인 ID를 사용 (QuestionValidator에서 id 컬럼으로 조회하기 때문)
+                    questionRequests.add(QuestionCreateRequestDTO.builder()
                             .questionText(newQuestion.getQuestionText())
                             .questionType(newQuestion.getQuestionType())
                             .questionAnswer(newQuestion.getQuestionAnswer())
@@ -612,22 +627,15 @@ public class TemplateService {
                             .codeLanguage(newQuestion.getCodeLanguage())
                             .questionActive(newQuestion.getQuestionActive())
                             .instructorId(newQuestion.getMemberId() != null ? newQuestion.getMemberId() : request.getExamData().getMemberId())
-                            .educationId(newQuestion.getEducationId() != null ? newQuestion.getEducationId() : request.getExamData().getEducationId())
+                            .educationId(newQuestion.getEducationId())
                             .options(convertToQuestionOptions(newQuestion.getOptions()))
-                            .build();
-                    
-                    // 같은 트랜잭션 내에서 문제 생성
-                    // 문제 생성에는 사용자 로그인 ID를 사용 (QuestionValidator에서 id 컬럼으로 조회하기 때문)
-                    String instructorId = request.getNewQuestions().get(i).getMemberId();
-                    QuestionDTO createdQuestion = createQuestionInSameTransaction(
-                            instructorId, questionRequest);
-                    String questionId = createdQuestion.getQuestionId();
-                    newQuestionIds.add(questionId);
-                    log.info("=== 새 문제 {} 생성 완료 ===", i + 1);
-                    log.info("questionId (UUID): {}", questionId);
-                    log.info("questionText: {}", createdQuestion.getQuestionText());
-                    log.info("questionType: {}", createdQuestion.getQuestionType());
+                            .build());
                 }
+                
+                // 같은 트랜잭션 내에서 일괄 생성 (문제/선택지 배치 INSERT, 하나라도 유효하지 않으면 전체 실패)
+                questionImportService.createQuestions(questionRequests)
+                        .forEach(createdQuestion -> newQuestionIds.add(createdQuestion.getQuestionId()));
+                log.info("=== 새 문제 생성 완료: {}개 ===", newQuestionIds.size());
             }
             
             // 2. 시험 템플릿 생성
@@ -814,13 +822,6 @@ public class TemplateService {
         }
     }
     
-    /**
-     * 같은 트랜잭션 내에서 문제 생성
-     */
-    public QuestionDTO createQuestionInSameTransaction(String instructorId, QuestionCreateRequestDTO request) {
-        return questionBankService.createQuestion(instructorId, request);
-    }
-    
     /**
      * ExamCreateCompleteRequestDTO의 options를 QuestionOptionDTO로 변환
      */
@@ -1051,6 +1052,9 @@ public class TemplateService {
             
             log.info("제출한 학생 수: {}", submittedMemberIds.size());
             
+            // 종료 시각이 지난 시험이므로 자동 종료 대상이면 커밋 직후 타이머에서 바로 종료 처리
+            examCloseTimer.sync(template);
+            
             // 7. 미제출 학생 목록 생성
             List<MemberEntity> unsubmittedStudents = allStudents.stream()
                     .filter(student -> !submittedMemberIds.contains(student.getMemberId()))
@@ -1113,6 +1117,9 @@ public class TemplateService {
     @Transactional(rollbackFor = Exception.class)
     public ExamDTO closeWithAutoSubmission(String templateId, String templateClose, List<String> studentMemberIds, String memberId) {
         log.info("=== Exam close with auto submission request ===");
+        if (studentMemberIds == null) {
+            studentMemberIds = List.of();
+        }
         log.info("templateId: {}, templateClose: {}, studentMemberIds: {}, memberId: {}", 
                 templateId, templateClose, studentMemberIds, memberId);
         
@@ -1144,112 +1151,14 @@ public class TemplateService {
                 closeTime = LocalDateTime.now();
             }
             
-            // 4. 시험 템플릿 상태 업데이트
-            template.setTemplateClose(closeTime);
-            template.setTemplateActive(0); // 시험 비활성화 (종료)
-            templateRepository.save(template);
-            log.info("Template close time and status updated successfully: {}", closeTime);
-            
-            // 5. templateQuestionId 목록 조회 (PK 값들)
-            List<TemplateQuestionEntity> templateQuestions = templateQuestionRepository.findByTemplateId(templateId);
-            if (templateQuestions.isEmpty()) {
-                log.warn("No questions found for template: templateId={}", templateId);
-                return ExamDTO.builder()
-                        .templateId(templateId)
-                        .templateClose(closeTime)
-                        .autoSubmittedCount(0)
-                        .totalStudents(studentMemberIds.size())
-                        .studentMemberIds(studentMemberIds)
-                        .success(true)
-                        .message("시험 종료 처리 완료 (문제 없음)")
-                        .build();
-            }
-            
-            log.info("Template questions found successfully: question count={}", templateQuestions.size());
-            for (TemplateQuestionEntity tq : templateQuestions) {
-                log.info("Question info: templateQuestionId={}, questionId={}, score={}", 
-                        tq.getTemplateQuestionId(), tq.getQuestionId(), tq.getTemplateQuestionScore());
+            // 4. 시험 템플릿 상태 업데이트 (읽은 상태 그대로일 때만 종료, 동시에 자동 종료된 경우 중복 처리하지 않음)
+            if (!claimClose(template, template.getTemplateActive(), closeTime)) {
+                throw new RuntimeException("이미 종료 처리된 시험입니다.");
             }
+            log.info("Template close time and status updated successfully: {}", closeTime);
             
-            // 6. 미제출 학생 식별 및 처리
-            int autoSubmittedCount = 0;
-            log.info("Starting unsubmitted student identification: student count={}", studentMemberIds.size());
-            
-            for (String studentMemberId : studentMemberIds) {
-                log.info("Processing student: memberId={}", studentMemberId);
-                try {
-                    // 해당 학생의 미제출 문제 식별
-                    List<String> unsubmittedQuestionIds = new ArrayList<>();
-                    
-                    for (TemplateQuestionEntity templateQuestion : templateQuestions) {
-                        // answer 테이블에서 제출 기록 확인
-                        AnswerEntity existingAnswer = answerRepository.findByTemplateQuestionIdAndMemberId(
-                                templateQuestion.getTemplateQuestionId(), studentMemberId);
-                        
-                        if (existingAnswer == null) {
-                            // 미제출 문제 발견
-                            unsubmittedQuestionIds.add(templateQuestion.getTemplateQuestionId());
-                            log.info("Unsubmitted question found: templateQuestionId={}, memberId={}", 
-                                    templateQuestion.getTemplateQuestionId(), studentMemberId);
-                        } else {
-                            log.info("Submitted question found: answerId={}, templateQuestionId={}, memberId={}", 
-                                    existingAnswer.getAnswerId(), templateQuestion.getTemplateQuestionId(), studentMemberId);
-                        }
-                    }
-                    
-                    // 미제출 문제가 있는 경우에만 처리
-                    if (!unsubmittedQuestionIds.isEmpty()) {
-                        log.info("Student has unsubmitted questions: memberId={}, unsubmitted count={}", 
-                                studentMemberId, unsubmittedQuestionIds.size());
-                        
-                        // 6-1. answer 테이블에 미제출 기록 생성
-                        for (String templateQuestionId : unsubmittedQuestionIds) {
-                            // templateQuestionId로 TemplateQuestionEntity 찾기
-                            TemplateQuestionEntity templateQuestion = templateQuestions.stream()
-                                    .filter(tq -> tq.getTemplateQuestionId().equals(templateQuestionId))
-                                    .findFirst()
-                                    .orElse(null);
-                            
-                            if (templateQuestion != null) {
-                                AnswerEntity answer = AnswerEntity.builder()
-                                        .templateQuestion(templateQuestion)
-                                        .memberId(studentMemberId)
-                                        .answerText("") // 빈 답안
-                                        .answerScore(0) // 0점
-                                        .teacherComment("시험 종료로 인한 자동 0점 처리")
-                                        .answerGradedAt(closeTime) // 시험 종료 시간
-                                        .createdAt(closeTime) // 생성 시간 (submittedAt 역할)
-                                        .build();
-                                
-                                AnswerEntity savedAnswer = answerRepository.save(answer);
-                                log.info("Unsubmitted answer created: answerId={}, templateQuestionId={}, memberId={}", 
-                                        savedAnswer.getAnswerId(), templateQuestionId, studentMemberId);
-                            }
-                        }
-                        
-                        // 6-2. scorestudent 테이블에 0점 기록 생성
-                        ScoreStudentEntity scoreStudent = ScoreStudentEntity.builder()
-                                .templateId(templateId)
-                                .memberId(studentMemberId)
-                                .score(0) // 0점
-                                .isChecked(1) // 채점 완료, 학생 확인 가능
-                                .graded(0) // 채점 완료 (0: 채점 완료, 1: 미채점)
-                                .totalComment("시험 종료로 인한 자동 0점 처리")
-                                .build();
-                        
-                        ScoreStudentEntity savedScore = scoreStudentRepository.save(scoreStudent);
-                        log.info("Score record created: scoreStudentId={}, templateId={}, memberId={}, score={}", 
-                                savedScore.getScoreStudentId(), templateId, studentMemberId, savedScore.getScore());
-                        
-                        autoSubmittedCount++;
-                    } else {
-                        log.info("Student has no unsubmitted questions: memberId={}", studentMemberId);
-                    }
-                    
-                } catch (Exception e) {
-                    log.error("Student auto-submission processing failed: memberId={}, error={}", studentMemberId, e.getMessage(), e);
-                }
-            }
+            // 5~6. 미제출 학생 0점 처리
+            int autoSubmittedCount = submitMissingAnswers(templateId, studentMemberIds, closeTime);
             
             log.info("=== Exam close with auto submission completed ===");
             log.info("Auto-submitted student count: {}", autoSubmittedCount);
@@ -1271,4 +1180,57 @@ public class TemplateService {
         }
     }
 
+    /**
+     * 종료 시각이 지난 시험 자동 종료 (ExamAutoCloseScheduler용)
+     * 자동 종료 대상 상태(templateActive = 1)에서 종료 상태로 바꾼 호출만 미제출 처리를 진행한다.
+     * @return 다른 노드/경로에서 이미 종료했으면 null
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public ExamDTO closeExpiredWithAutoSubmission(String templateId, List<String> studentMemberIds) {
+        TemplateEntity template = templateRepository.findById(templateId).orElse(null);
+        if (template == null || template.getTemplateClose() == null) {
+            return null;
+        }
+        LocalDateTime closeTime = template.getTemplateClose();
+        if (!claimClose(template, AUTO_CLOSE_TARGET_ACTIVE, closeTime)) {
+            return null;
+        }
+        int autoSubmittedCount = submitMissingAnswers(templateId, studentMemberIds, closeTime);
+        return ExamDTO.builder()
+                .templateId(templateId)
+                .templateClose(closeTime)
+                .autoSubmittedCount(autoSubmittedCount)
+                .totalStudents(studentMemberIds.size())
+                .studentMemberIds(studentMemberIds)
+                .success(true)
+                .message("시험 종료 및 미제출 학생 자동 처리 완료")
+                .build();
+    }
+
+    // 조건부 UPDATE로 종료 상태 선점 (성공 시 커밋 후 타이머 예약 취소)
+    private boolean claimClose(TemplateEntity template, int expectedActive, LocalDateTime closeTime) {
+        if (templateRepository.claimClose(template.getTemplateId(), expectedActive, closeTime) != 1) {
+            return false;
+        }
+        template.setTemplateClose(closeTime);
+        template.setTemplateActive(0);
+        examCloseTimer.sync(template);
+        return true;
+    }
+
+    // 미제출 (학생, 문제) 쌍을 안티 조인 한 번으로 찾아 0점 답안 배치 저장(임시 저장 답안 내용 보존) + 해당 학생 총점 일괄 반영
+    private int submitMissingAnswers(String templateId, List<String> studentMemberIds, LocalDateTime closeTime) {
+        List<MissingAnswer> missingAnswers = examCloseJdbcRepository.findMissingAnswers(templateId, studentMemberIds);
+        Set<String> autoSubmittedMemberIds = missingAnswers.stream()
+                .map(MissingAnswer::memberId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        log.info("Unsubmitted answers found: pair count={}, student count={}", missingAnswers.size(), autoSubmittedMemberIds.size());
+
+        if (!missingAnswers.isEmpty()) {
+            examCloseJdbcRepository.insertZeroAnswers(missingAnswers, closeTime, AUTO_SUBMISSION_COMMENT);
+            examCloseJdbcRepository.upsertScoreTotals(templateId, autoSubmittedMemberIds, AUTO_SUBMISSION_COMMENT);
+        }
+        return autoSubmittedMemberIds.size();
+    }
+
 }
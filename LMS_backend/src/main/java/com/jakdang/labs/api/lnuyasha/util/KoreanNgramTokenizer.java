@@ -0,0 +1,111 @@
+package com.jakdang.labs.api.lnuyasha.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문제은행 검색용 문자 2-gram 토크나이저
+ * 한국어는 조사가 붙어 단어 단위로 나누면 "자바를", "자바의"가 서로 다른 토큰이 되므로
+ * 공백을 넘지 않는 문자 2-gram으로 색인하고, 후보는 LIKE '%검색어%'와 같은 부분 문자열 일치로 최종 확인한다.
+ * 입력 중 검색(typeAhead)에서는 마지막 글자가 받침 없는 음절("프로그래")이나 자음("자바 ㅍ")이면
+ * 그 글자로 시작할 수 있는 모든 음절("램", "파" 등)과 일치시킨다.
+ */
+public class KoreanNgramTokenizer {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * JONGSEONG_COUNT;
+    // 호환용 자모(ㄱ~ㅎ) → 초성 인덱스 (-1: 초성으로 쓰이지 않는 겹자음)
+    private static final int[] COMPAT_JAMO_TO_CHOSEONG = {
+            0, 1, -1, 2, -1, -1, 3, 4, 5, -1, -1, -1, -1, -1, -1, -1, 6, 7, 8, -1, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18
+    };
+
+    /**
+     * 색인/검색 공통 정규화 (NFKC, 소문자, 연속 공백 축약)
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return normalized.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 정규화된 문자열의 2-gram (공백이 포함된 조합 제외)
+     */
+    public static Set<String> bigrams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            char first = normalized.charAt(i);
+            char second = normalized.charAt(i + 1);
+            if (first != ' ' && second != ' ') {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어의 색인 조회용 2-gram
+     * 입력 중인 마지막 글자는 완성 음절을 알 수 없으므로 제외한다.
+     */
+    public static Set<String> queryBigrams(String normalizedQuery, boolean typeAhead) {
+        if (typeAhead && hasIncompleteLastChar(normalizedQuery)) {
+            return bigrams(normalizedQuery.substring(0, normalizedQuery.length() - 1));
+        }
+        return bigrams(normalizedQuery);
+    }
+
+    /**
+     * 부분 문자열 일치 여부 (둘 다 normalize된 값)
+     */
+    public static boolean matches(String normalizedText, String normalizedQuery, boolean typeAhead) {
+        if (normalizedQuery.isEmpty()) {
+            return true;
+        }
+        if (!typeAhead || !hasIncompleteLastChar(normalizedQuery)) {
+            return normalizedText.contains(normalizedQuery);
+        }
+
+        String prefix = normalizedQuery.substring(0, normalizedQuery.length() - 1);
+        char[] range = syllableRange(normalizedQuery.charAt(normalizedQuery.length() - 1));
+        char last = normalizedQuery.charAt(normalizedQuery.length() - 1);
+        // prefix 뒤에 입력 중인 글자가 올 자리가 있는 위치까지만 확인
+        // (한 글자 검색어는 prefix가 빈 문자열이라 indexOf가 끝 위치를 계속 돌려주므로 범위로 종료 조건을 둔다)
+        int lastStart = normalizedText.length() - prefix.length() - 1;
+        for (int index = normalizedText.indexOf(prefix); index >= 0 && index <= lastStart;
+             index = normalizedText.indexOf(prefix, index + 1)) {
+            char c = normalizedText.charAt(index + prefix.length());
+            if ((c >= range[0] && c <= range[1]) || c == last) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasIncompleteLastChar(String normalizedQuery) {
+        return !normalizedQuery.isEmpty() && syllableRange(normalizedQuery.charAt(normalizedQuery.length() - 1)) != null;
+    }
+
+    /**
+     * 입력 중인 글자로 시작할 수 있는 음절 범위 (해당 없으면 null)
+     */
+    private static char[] syllableRange(char c) {
+        if (c >= HANGUL_BASE && c <= HANGUL_LAST && (c - HANGUL_BASE) % JONGSEONG_COUNT == 0) {
+            // 받침 없는 음절: 같은 초성+중성에 받침이 붙은 음절까지
+            return new char[]{c, (char) (c + JONGSEONG_COUNT - 1)};
+        }
+        if (c >= 'ㄱ' && c <= 'ㅎ') {
+            int choseong = COMPAT_JAMO_TO_CHOSEONG[c - 'ㄱ'];
+            if (choseong >= 0) {
+                char first = (char) (HANGUL_BASE + choseong * SYLLABLES_PER_CHOSEONG);
+                return new char[]{first, (char) (first + SYLLABLES_PER_CHOSEONG - 1)};
+            }
+        }
+        return null;
+    }
+}
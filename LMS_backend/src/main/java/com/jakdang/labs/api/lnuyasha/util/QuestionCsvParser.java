@@ -0,0 +1,164 @@
+package com.jakdang.labs.api.lnuyasha.util;
+
+import com.jakdang.labs.api.lnuyasha.dto.QuestionCreateRequestDTO;
+import com.jakdang.labs.api.lnuyasha.dto.QuestionOptionDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 문제은행 가져오기용 CSV 파서 (RFC 4180: 큰따옴표 필드, "" 이스케이프, 필드 안 줄바꿈 허용)
+ * 첫 행은 헤더이며 열 순서는 자유롭다.
+ * questionType, questionText, subDetailName, questionAnswer, explanation, codeLanguage, questionActive,
+ * option1 ~ option4, correctOption(정답 선택지 번호 1~4, 비우면 questionAnswer와 같은 선택지를 정답으로 사용)
+ */
+public class QuestionCsvParser {
+
+    private static final int OPTION_COUNT = 4;
+
+    /**
+     * CSV 한 행의 변환 결과 (변환에 실패하면 request는 null, error에 사유)
+     */
+    public record ParsedRow(int row, QuestionCreateRequestDTO request, String error) {
+    }
+
+    public static List<ParsedRow> parse(String csv) {
+        List<List<String>> records = readRecords(csv);
+        if (records.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+
+        Map<String, Integer> header = new HashMap<>();
+        List<String> headerRecord = records.get(0);
+        for (int i = 0; i < headerRecord.size(); i++) {
+            header.put(headerRecord.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!header.containsKey("questiontext") || !header.containsKey("questiontype")) {
+            throw new IllegalArgumentException("CSV 헤더에 questionType, questionText 열이 필요합니다.");
+        }
+
+        List<ParsedRow> rows = new ArrayList<>();
+        for (int i = 1; i < records.size(); i++) {
+            List<String> record = records.get(i);
+            if (record.stream().allMatch(String::isBlank)) {
+                continue;
+            }
+            try {
+                rows.add(new ParsedRow(i, toRequest(record, header), null));
+            } catch (IllegalArgumentException e) {
+                rows.add(new ParsedRow(i, null, e.getMessage()));
+            }
+        }
+        return rows;
+    }
+
+    private static QuestionCreateRequestDTO toRequest(List<String> record, Map<String, Integer> header) {
+        String questionType = field(record, header, "questionType");
+        String questionAnswer = field(record, header, "questionAnswer");
+
+        List<QuestionOptionDTO> options = new ArrayList<>();
+        for (int i = 1; i <= OPTION_COUNT; i++) {
+            String optText = field(record, header, "option" + i);
+            if (optText != null) {
+                options.add(QuestionOptionDTO.builder().optText(optText).optIsCorrect(0).build());
+            }
+        }
+        if (!options.isEmpty()) {
+            markCorrectOption(options, field(record, header, "correctOption"), questionAnswer);
+        }
+
+        String questionActive = field(record, header, "questionActive");
+        return QuestionCreateRequestDTO.builder()
+                .questionType(questionType)
+                .questionText(field(record, header, "questionText"))
+                .subDetailName(field(record, header, "subDetailName"))
+                .questionAnswer(questionAnswer)
+                .explanation(field(record, header, "explanation"))
+                .codeLanguage(field(record, header, "codeLanguage"))
+                .questionActive(questionActive != null ? parseInt(questionActive, "questionActive") : null)
+                .options(options.isEmpty() ? null : options)
+                .build();
+    }
+
+    private static void markCorrectOption(List<QuestionOptionDTO> options, String correctOption, String questionAnswer) {
+        if (correctOption != null) {
+            int index = parseInt(correctOption, "correctOption");
+            if (index < 1 || index > options.size()) {
+                throw new IllegalArgumentException("correctOption은 1~" + options.size() + " 사이여야 합니다. 현재: " + correctOption);
+            }
+            options.get(index - 1).setOptIsCorrect(1);
+            return;
+        }
+        for (QuestionOptionDTO option : options) {
+            if (option.getOptText().equals(questionAnswer)) {
+                option.setOptIsCorrect(1);
+            }
+        }
+    }
+
+    private static int parseInt(String value, String column) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    // 빈 값은 null
+    private static String field(List<String> record, Map<String, Integer> header, String column) {
+        Integer index = header.get(column.toLowerCase(Locale.ROOT));
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<List<String>> readRecords(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        // UTF-8 BOM 제거 (엑셀에서 저장한 CSV)
+        int start = !csv.isEmpty() && csv.charAt(0) == '﻿' ? 1 : 0;
+
+        for (int i = start; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                record.add(field.toString());
+                field.setLength(0);
+                records.add(record);
+                record = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -57,6 +57,20 @@ public class QuestionValidator {
         }
     }
     
+    /**
+     * 일괄 등록용 필드 유효성 검사 (DB 조회 없음, 여러 문제를 병렬로 검사할 수 있음)
+     * 세부과목명과 강사 ID는 같은 값이 반복되므로 호출 측에서 값별로 한 번만 확인한다.
+     * @param request 문제 생성 요청
+     * @throws IllegalArgumentException 유효하지 않은 경우
+     */
+    public void validateQuestionFields(QuestionCreateRequestDTO request) {
+        validateRequiredFields(request);
+        validateQuestionType(request.getQuestionType());
+        if ("객관식".equals(request.getQuestionType())) {
+            validateObjectiveOptions(request.getOptions());
+        }
+    }
+    
     /**
      * 필수 필드 검증
      */
@@ -113,7 +127,7 @@ public class QuestionValidator {
     /**
      * 강사 ID 검증 (userId로 조회)
      */
-    private void validateInstructorId(String instructorId) {
+    public void validateInstructorId(String instructorId) {
         // 1. 먼저 id 컬럼으로 조회 (userId)
         List<MemberEntity> members = memberRepository.findByIdColumn(instructorId);
         
@@ -153,7 +167,7 @@ public class QuestionValidator {
         
         // 정답 개수 확인
         long correctCount = options.stream()
-                .filter(option -> option.getOptIsCorrect() == 1)
+                .filter(option -> option.getOptIsCorrect() != null && option.getOptIsCorrect() == 1)
                 .count();
         
         if (correctCount == 0) {
@@ -1,40 +1,56 @@
 package com.jakdang.labs.api.post;
 
 import com.jakdang.labs.api.auth.dto.UserDTO;
-import com.jakdang.labs.api.auth.service.UserService;
+import com.jakdang.labs.api.auth.service.UserProfileCache;
 import com.jakdang.labs.api.post.model.CommentDTO;
 import com.jakdang.labs.api.post.model.PostDTO;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class PostUtil {
 
-    private final UserService userService;
+    private final UserProfileCache userProfileCache;
 
     //글쓴이 정보 추가
     public PostDTO addAuthorToPost(PostDTO postDTO) {
         if (postDTO == null) {
             return null;
         }
-        
-        if (postDTO.getAuthor_id() == null) {
-            return postDTO;
+        addAuthorsToPosts(List.of(postDTO));
+        return postDTO;
+    }
+
+    //글쓴이 정보 일괄 추가 (페이지 내 작성자 ID를 모아 한 번에 조회)
+    public void addAuthorsToPosts(List<PostDTO> posts) {
+        if (posts == null || posts.isEmpty()) {
+            return;
         }
 
-        try {
-            // 멤버 정보를 추가로 등록
-            UserDTO userDTO = userService.getUserDTO(postDTO.getAuthor_id());
-            postDTO.setAuthor(userDTO);
-        } catch (Exception e) {
-            System.err.println("작성자 정보 조회 실패: authorId=" + postDTO.getAuthor_id() + ", error=" + e.getMessage());
-            postDTO.setAuthor(null);
+        Set<String> authorIds = new HashSet<>();
+        posts.forEach(post -> {
+            if (post != null && post.getAuthor_id() != null) {
+                authorIds.add(post.getAuthor_id());
+            }
+        });
+        if (authorIds.isEmpty()) {
+            return;
         }
-        
-        return postDTO;
+
+        Map<String, UserDTO> authors = findAuthors(authorIds);
+        posts.forEach(post -> {
+            if (post != null && post.getAuthor_id() != null) {
+                post.setAuthor(authors.get(post.getAuthor_id()));
+            }
+        });
     }
 
 
@@ -43,34 +59,69 @@ public class PostUtil {
         if (commentDTO == null || commentDTO.getAuthorId() == null) {
             return commentDTO;
         }
+        addAuthorsToComments(List.of(commentDTO));
+        return commentDTO;
+    }
 
-        try {
-            // 멤버 정보를 추가로 등록
-            UserDTO userDTO = userService.getUserDTO(commentDTO.getAuthorId());
-            commentDTO.setAuthor(userDTO);
-
-            List<CommentDTO> childComments = commentDTO.getChildComments();
-            if (childComments != null) {
-                childComments.forEach(
-                        it-> {
-                            try {
-                                UserDTO childMemberInfo = userService.getUserDTO(it.getAuthorId());
-                                UserDTO parentAuthorInfo = userService.getUserDTO(it.getParentAuthorId());
-                                it.setAuthor(childMemberInfo);
-                                it.setParentAuthor(parentAuthorInfo);
-                            } catch (Exception e) {
-                                System.err.println("자식 댓글 작성자 정보 조회 실패: " + e.getMessage());
-                                it.setAuthor(null);
-                                it.setParentAuthor(null);
-                            }
-                        });
+    //댓글 트리 전체의 작성자/부모 댓글 작성자 정보 일괄 추가
+    public void addAuthorsToComments(List<? extends CommentDTO> comments) {
+        if (comments == null || comments.isEmpty()) {
+            return;
+        }
+
+        Set<String> userIds = new HashSet<>();
+        collectCommentUserIds(comments, userIds);
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, UserDTO> users = findAuthors(userIds);
+        applyCommentUsers(comments, users);
+    }
+
+    private void collectCommentUserIds(List<? extends CommentDTO> comments, Set<String> userIds) {
+        for (CommentDTO<?> comment : comments) {
+            if (comment == null) {
+                continue;
+            }
+            if (comment.getAuthorId() != null) {
+                userIds.add(comment.getAuthorId());
+            }
+            if (comment.getParentAuthorId() != null) {
+                userIds.add(comment.getParentAuthorId());
+            }
+            if (comment.getChildComments() != null) {
+                collectCommentUserIds(comment.getChildComments(), userIds);
             }
-        } catch (Exception e) {
-            System.err.println("댓글 작성자 정보 조회 실패: " + e.getMessage());
-            commentDTO.setAuthor(null);
         }
+    }
 
-        return commentDTO;
+    @SuppressWarnings("unchecked")
+    private void applyCommentUsers(List<? extends CommentDTO> comments, Map<String, UserDTO> users) {
+        for (CommentDTO comment : comments) {
+            if (comment == null) {
+                continue;
+            }
+            if (comment.getAuthorId() != null) {
+                comment.setAuthor(users.get(comment.getAuthorId()));
+            }
+            if (comment.getParentAuthorId() != null) {
+                comment.setParentAuthor(users.get(comment.getParentAuthorId()));
+            }
+            if (comment.getChildComments() != null) {
+                applyCommentUsers(comment.getChildComments(), users);
+            }
+        }
+    }
+
+    // 조회 실패 시 기존과 같이 작성자 없이 응답
+    private Map<String, UserDTO> findAuthors(Set<String> userIds) {
+        try {
+            return userProfileCache.getAll(userIds);
+        } catch (Exception e) {
+            log.warn("작성자 정보 조회 실패: userIds={}, error={}", userIds, e.getMessage());
+            return Map.of();
+        }
     }
 
 
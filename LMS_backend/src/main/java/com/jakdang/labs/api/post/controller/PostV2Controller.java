@@ -6,9 +6,11 @@ import com.jakdang.labs.api.auth.dto.UserDTO;
 import com.jakdang.labs.api.auth.service.AuthService;
 import com.jakdang.labs.api.common.ResponseDTO;
 import com.jakdang.labs.api.post.PostUtil;
+import com.jakdang.labs.api.post.dto.PopularPostDTO;
 import com.jakdang.labs.api.post.dto.PostCountDTO;
 import com.jakdang.labs.api.post.dto.PostViewResponseDTO;
 import com.jakdang.labs.api.post.model.*;
+import com.jakdang.labs.api.post.service.PopularPostService;
 import com.jakdang.labs.api.post.service.PostSearchService;
 import com.jakdang.labs.api.post.service.PostViewService;
 import com.jakdang.labs.exceptions.handler.CustomException;
@@ -35,6 +37,7 @@ public class PostV2Controller {
     private final AuthService authService;
     private final PostViewService postViewService;
     private final PostSearchService postSearchService;
+    private final PopularPostService popularPostService;
 
     /**
      * 글 1건 조회
@@ -211,9 +214,9 @@ public class PostV2Controller {
 
         CustomPageDTO<PostDTO> customPageDTO = postServiceClient.getPosts(searchCondition, memberId, page, size, sort);
 
-        //TODO N+1 개선 필요 -> 개선됨
+        // 작성자 정보는 페이지 단위로 한 번에 조회
+        postUtil.addAuthorsToPosts(customPageDTO.getContent());
         customPageDTO.getContent().forEach(it -> {
-            postUtil.addAuthorToPost(it);
             postUtil.addFilePost(it);
             postUtil.addTargetClass(it);
 
@@ -239,9 +242,9 @@ public class PostV2Controller {
 //        Members member = membersService.isTokenMember(userDetails, memberId);
         CustomPageDTO<PostDTO> customPageDTO = postServiceClient.getBookmarkedPost(userId, postType, boardIds, page - 1, size, sort);
 
-        //TODO N+1 개선 필요 -> 개선됨
+        // 작성자 정보는 페이지 단위로 한 번에 조회
+        postUtil.addAuthorsToPosts(customPageDTO.getContent());
         customPageDTO.getContent().forEach(it -> {
-            postUtil.addAuthorToPost(it);
             postUtil.addFilePost(it);
         });
 
@@ -272,9 +275,9 @@ public class PostV2Controller {
 //        Members member = membersService.isTokenMember(userDetails, memberId);
         CustomPageDTO<PostDTO> customPageDTO = postServiceClient.getLikedPost(userId, page, size, sort);
 
-        //TODO N+1 개선 필요 -> 개선됨
+        // 작성자 정보는 페이지 단위로 한 번에 조회
+        postUtil.addAuthorsToPosts(customPageDTO.getContent());
         customPageDTO.getContent().forEach(it -> {
-            postUtil.addAuthorToPost(it);
             postUtil.addFilePost(it);
         });
 
@@ -297,8 +300,8 @@ public class PostV2Controller {
 
         CustomPageDTO<PostDTO> customPageDTO = postServiceClient.getPostsContainsUserComment(userId, page, size, sort);
 
+        postUtil.addAuthorsToPosts(customPageDTO.getContent());
         customPageDTO.getContent().forEach(it -> {
-            postUtil.addAuthorToPost(it);
             postUtil.addFilePost(it);
         });
 
@@ -402,10 +405,8 @@ public class PostV2Controller {
 
         List<CommentDTO<UserDTO>> comments = postServiceClient.getComments(postId);
 
-        //TODO N+1 개선 필요 -> 개선됨
-        comments.forEach(it -> {
-            postUtil.addAuthorToComment(it);
-        });
+        // 댓글/대댓글 작성자와 부모 댓글 작성자를 한 번에 조회
+        postUtil.addAuthorsToComments(comments);
 
 
         return ResponseDTO.createSuccessResponse("success", comments);
@@ -640,6 +641,8 @@ public class PostV2Controller {
             @Parameter(description = "게시판 ID 목록 (여러 게시판 동시 검색)") @RequestParam(value = "boardIds", required = false) List<String> boardIds,
             @Parameter(description = "페이지 번호") @RequestParam(value = "page", defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(value = "size", defaultValue = "20") int size,
+            @Parameter(description = "정확한 전체 건수 여부 (false면 건수가 많을 때 근사값, approximateTotal=true)")
+            @RequestParam(value = "exactCount", defaultValue = "false") boolean exactCount,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         if (keyword == null || keyword.trim().isEmpty()) {
@@ -654,11 +657,11 @@ public class PostV2Controller {
 
         try {
             CustomPageDTO<PostDTO> searchResults = postSearchService.searchPosts(
-                    keyword.trim(), searchType, communityId, boardId, boardIds, page, size);
+                    keyword.trim(), searchType, communityId, boardId, boardIds, page, size, exactCount);
 
             // 추가 정보 보강
+            postUtil.addAuthorsToPosts(searchResults.getContent());
             searchResults.getContent().forEach(post -> {
-                postUtil.addAuthorToPost(post);
                 postUtil.addFilePost(post);
                 postUtil.addTargetClass(post);
             });
@@ -677,6 +680,40 @@ public class PostV2Controller {
         }
     }
 
+    /**
+     * 인기 게시물 (조회수 집계 기반)
+     */
+    @Operation(summary = "인기 게시물 조회", description = "기간 내 조회수 상위 게시물을 조회합니다. 집계는 약 1분 간격으로 갱신됩니다.")
+    @GetMapping("/popular")
+    public ResponseDTO<List<PopularPostDTO>> getPopularPosts(
+            @Parameter(description = "기간 (day: 24시간, week: 7일, month: 30일)")
+            @RequestParam(value = "period", defaultValue = "week") String period,
+            @Parameter(description = "게시물 소유자 ID (게시물의 owner_id로 필터링, 없으면 전체)") @RequestParam(value = "ownerId", required = false) String ownerId,
+            @Parameter(description = "정렬 기준 (views: 조회수, viewers: 고유 조회자 수)")
+            @RequestParam(value = "sort", defaultValue = "views") String sort,
+            @Parameter(description = "개수") @RequestParam(value = "size", defaultValue = "10") int size) {
+
+        int hours = switch (period) {
+            case "day" -> 24;
+            case "week" -> 24 * 7;
+            case "month" -> 24 * 30;
+            default -> throw new CustomException("period는 day, week, month 중 하나여야 합니다.", -400);
+        };
+        if (size <= 0) {
+            throw new CustomException("size는 1 이상이어야 합니다.", -400);
+        }
+        List<PopularPostDTO> popular = popularPostService.getPopularPosts(
+                hours, StringUtils.hasText(ownerId) ? ownerId : null, "viewers".equals(sort), Math.min(size, 50));
+
+        List<PostDTO> posts = popular.stream().map(PopularPostDTO::getPost).toList();
+        postUtil.addAuthorsToPosts(posts);
+        posts.forEach(post -> {
+            postUtil.addFilePost(post);
+            postUtil.addTargetClass(post);
+        });
+        return ResponseDTO.createSuccessResponse("인기 게시물 조회 완료", popular);
+    }
+
     @Operation(summary = "게시물 차단 상태 변경", description = "게시물의 차단 상태를 변경합니다.")
     @PatchMapping("/{id}/block")
     public ResponseDTO<PostDTO> updatePostBlockStatus(
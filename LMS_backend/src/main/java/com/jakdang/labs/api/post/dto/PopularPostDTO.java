@@ -0,0 +1,34 @@
+package com.jakdang.labs.api.post.dto;
+
+import com.jakdang.labs.api.post.model.PostDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PopularPostDTO {
+
+    /**
+     * 기간 내 순위 (1부터)
+     */
+    private int rank;
+
+    /**
+     * 기간 내 조회수
+     */
+    private long viewCount;
+
+    /**
+     * 기간 내 고유 조회자 수 (날짜 단위로 집계하므로 기간 시작일 전체부터 셈)
+     */
+    private long viewerCount;
+
+    /**
+     * 게시물
+     */
+    private PostDTO post;
+}
@@ -0,0 +1,39 @@
+package com.jakdang.labs.api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일별 게시물 조회자 (하루 × 게시물 × 사용자당 한 행, PostViewRollupJob이 원본 이력에서 반영)
+ * 기간 내 고유 조회자 수는 이 테이블에서 COUNT(DISTINCT user_id)로 센다 (시간/일별 값을 더하면 같은 사용자가 중복 집계됨).
+ */
+@Entity
+@Table(name = "post_view_daily_viewer",
+       indexes = {
+           @Index(name = "idx_post_view_daily_viewer_owner_id_bucket_start", columnList = "owner_id, bucket_start")
+       })
+@IdClass(PostViewDailyViewerId.class)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PostViewDailyViewer {
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Column(name = "post_id", columnDefinition = "char(36)", nullable = false)
+    private String postId;
+
+    @Id
+    @Column(name = "user_id", columnDefinition = "char(36)", nullable = false)
+    private String userId;
+
+    @Column(name = "owner_id", columnDefinition = "varchar(255)")
+    private String ownerId;
+}
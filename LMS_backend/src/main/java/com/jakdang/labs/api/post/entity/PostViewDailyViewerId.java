@@ -0,0 +1,22 @@
+package com.jakdang.labs.api.post.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 조회자 테이블 복합 키 (날짜 시작 시각, 게시물 ID, 사용자 ID)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PostViewDailyViewerId implements Serializable {
+    private LocalDateTime bucketStart;
+    private String postId;
+    private String userId;
+}
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
            @Index(name = "idx_post_view_history_viewed_at", columnList = "viewed_at"),
            @Index(name = "idx_post_view_history_user_id", columnList = "user_id"),
            @Index(name = "idx_post_view_history_owner_id_viewed_at", columnList = "owner_id, viewed_at"),
-           @Index(name = "idx_post_view_history_owner_id_post_id", columnList = "owner_id, post_id")
+           @Index(name = "idx_post_view_history_owner_id_post_id", columnList = "owner_id, post_id"),
+           @Index(name = "idx_post_view_history_created_at", columnList = "created_at")
        })
 @Getter
 @Setter
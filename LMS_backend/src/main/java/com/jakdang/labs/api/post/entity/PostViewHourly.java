@@ -0,0 +1,38 @@
+package com.jakdang.labs.api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 게시물 조회수 집계 (post_view_history를 PostViewRollupJob이 증분 반영)
+ */
+@Entity
+@Table(name = "post_view_hourly",
+       indexes = {
+           @Index(name = "idx_post_view_hourly_bucket_start", columnList = "bucket_start"),
+           @Index(name = "idx_post_view_hourly_owner_id_bucket_start", columnList = "owner_id, bucket_start")
+       })
+@IdClass(PostViewRollupId.class)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PostViewHourly {
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Column(name = "post_id", columnDefinition = "char(36)", nullable = false)
+    private String postId;
+
+    @Column(name = "owner_id", columnDefinition = "varchar(255)")
+    private String ownerId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+}
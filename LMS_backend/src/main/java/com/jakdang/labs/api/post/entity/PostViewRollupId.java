@@ -0,0 +1,21 @@
+package com.jakdang.labs.api.post.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 조회수 집계 테이블 복합 키 (집계 구간 시작 시각, 게시물 ID)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PostViewRollupId implements Serializable {
+    private LocalDateTime bucketStart;
+    private String postId;
+}
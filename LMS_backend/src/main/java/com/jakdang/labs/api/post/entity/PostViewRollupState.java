@@ -0,0 +1,33 @@
+package com.jakdang.labs.api.post.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회수 집계 진행 위치 (post_view_history.created_at 기준으로 어디까지 반영했는지)
+ * 집계 작업은 locked_until(실행권 만료 시각)을 먼저 차지해 여러 서버에서 동시에 실행되지 않게 한다.
+ */
+@Entity
+@Table(name = "post_view_rollup_state")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PostViewRollupState {
+
+    @Id
+    @Column(name = "id", length = 50)
+    private String id;
+
+    @Column(name = "watermark")
+    private LocalDateTime watermark;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -14,6 +14,7 @@ public class CustomPageDTO<T> {
     private long totalElements;
     private int totalPages;
     private boolean last;
+    private boolean approximateTotal; // 검색 건수가 상한을 넘어 totalElements가 근사값인 경우 true
     private PageableDTO pageable;
 
     @Data
@@ -50,6 +50,11 @@ public class PostDTO {
     private List<ResponseFileDTO> files;
 //    private List<ClassVO> classList;
     // ==============================//
+    // ========검색 결과 (검색 API에서만 채움, 검색어는 <em>으로 강조)==============//
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlightTitle;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlightContent;
 
 }
 
@@ -0,0 +1,115 @@
+package com.jakdang.labs.api.post.repository;
+
+import com.jakdang.labs.api.post.service.PostSearchEngine.PostSearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * post_search_index 전문 검색 쿼리 (MySQL FULLTEXT, ngram 파서)
+ * MATCH에 쓰는 열 조합마다 같은 열 구성의 FULLTEXT 색인이 있어야 하므로
+ * 제목/내용/작성자 단일 색인과 세 열 복합 색인을 함께 둔다 (resources/db/post_search_fulltext.sql).
+ * 검색어가 ngram 토큰 길이(기본 2)보다 짧으면 MATCH로 찾을 수 없어 LIKE 조건으로 조회한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchFulltextRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색 조건 (match가 null이면 like 패턴으로 조회)
+     * @param columns 검색 대상 열 (title, content, author_name 중 일부)
+     * @param match MATCH ... AGAINST에 넘길 BOOLEAN MODE 검색식
+     * @param likePattern LIKE 패턴 (소문자, 이스케이프 완료)
+     */
+    public record Criteria(List<String> columns, String match, String likePattern,
+                           String communityId, String boardId, List<String> boardIds) {
+    }
+
+    public List<PostSearchHit> search(Criteria criteria, int offset, int limit) {
+        MapSqlParameterSource params = params(criteria)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        String score = criteria.match() != null ? scoreExpression(criteria.columns()) : "0";
+        String sql = "SELECT post_id, title, content, " + score + " AS score FROM post_search_index"
+                + where(criteria)
+                + " ORDER BY score DESC, created_at DESC, post_id LIMIT :limit OFFSET :offset";
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new PostSearchHit(
+                rs.getString("post_id"), rs.getDouble("score"), rs.getString("title"), rs.getString("content")));
+    }
+
+    /**
+     * 조건에 맞는 건수 (limit이 0보다 크면 limit건까지만 센다)
+     */
+    public long count(Criteria criteria, int limit) {
+        MapSqlParameterSource params = params(criteria);
+        String sql;
+        if (limit > 0) {
+            sql = "SELECT COUNT(*) FROM (SELECT 1 FROM post_search_index" + where(criteria) + " LIMIT :countLimit) t";
+            params.addValue("countLimit", limit);
+        } else {
+            sql = "SELECT COUNT(*) FROM post_search_index" + where(criteria);
+        }
+        Long count = jdbcTemplate.queryForObject(sql, params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    public Set<String> findFulltextIndexNames() {
+        String sql = """
+                SELECT DISTINCT INDEX_NAME
+                FROM information_schema.STATISTICS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = 'post_search_index'
+                  AND INDEX_TYPE = 'FULLTEXT'
+                """;
+        return new HashSet<>(jdbcTemplate.queryForList(sql, new MapSqlParameterSource(), String.class));
+    }
+
+    // 전체 검색은 제목 일치에 가중치를 더 준다
+    private static String scoreExpression(List<String> columns) {
+        String match = matchExpression(columns);
+        if (columns.size() > 1 && columns.contains("title")) {
+            return match + " + " + matchExpression(List.of("title")) + " * 2";
+        }
+        return match;
+    }
+
+    private static String matchExpression(List<String> columns) {
+        return "MATCH(" + String.join(", ", columns) + ") AGAINST(:match IN BOOLEAN MODE)";
+    }
+
+    private static String where(Criteria criteria) {
+        StringBuilder where = new StringBuilder(" WHERE ");
+        if (criteria.match() != null) {
+            where.append(matchExpression(criteria.columns()));
+        } else {
+            where.append('(').append(String.join(" OR ", criteria.columns().stream()
+                    .map(column -> "LOWER(" + column + ") LIKE :likePattern")
+                    .toList())).append(')');
+        }
+        if (criteria.communityId() != null) {
+            where.append(" AND community_id = :communityId");
+        }
+        if (criteria.boardIds() != null && !criteria.boardIds().isEmpty()) {
+            where.append(" AND board_id IN (:boardIds)");
+        } else if (criteria.boardId() != null) {
+            where.append(" AND board_id = :boardId");
+        }
+        return where.toString();
+    }
+
+    private static MapSqlParameterSource params(Criteria criteria) {
+        return new MapSqlParameterSource()
+                .addValue("match", criteria.match())
+                .addValue("likePattern", criteria.likePattern())
+                .addValue("communityId", criteria.communityId())
+                .addValue("boardId", criteria.boardId())
+                .addValue("boardIds", criteria.boardIds());
+    }
+}
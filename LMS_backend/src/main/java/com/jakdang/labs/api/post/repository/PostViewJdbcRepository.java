@@ -0,0 +1,76 @@
+package com.jakdang.labs.api.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 게시글 조회 기록 배치 쿼리 (PostViewBuffer가 모아 둔 조회를 주기적으로 반영)
+ * (배치 insert가 실제로 묶여 전송되려면 JDBC URL에 rewriteBatchedStatements=true 필요)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 반영할 조회 한 건
+     */
+    public record ViewRow(String userId, String postId, String ownerId, LocalDateTime viewedAt) {
+    }
+
+    /**
+     * 사용자별 게시글 마지막 조회 시각 갱신 (post_views, 같은 행을 다시 반영해도 결과가 같음)
+     */
+    public void upsertLastViews(List<ViewRow> rows) {
+        String sql = """
+                INSERT INTO post_views (id, user_id, post_id, viewed_at, created_at, updated_at)
+                VALUES (:id, :userId, :postId, :viewedAt, :now, :now)
+                ON DUPLICATE KEY UPDATE viewed_at = GREATEST(viewed_at, VALUES(viewed_at)), updated_at = VALUES(updated_at)
+                """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batchUpdate(sql, rows, row -> new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID().toString())
+                .addValue("userId", row.userId())
+                .addValue("postId", row.postId())
+                .addValue("viewedAt", Timestamp.valueOf(row.viewedAt()))
+                .addValue("now", now));
+    }
+
+    /**
+     * 조회 이력 일괄 저장 (post_view_history)
+     */
+    public void insertHistories(List<ViewRow> rows) {
+        String sql = """
+                INSERT INTO post_view_history (id, user_id, post_id, owner_id, viewed_at, created_at)
+                VALUES (:id, :userId, :postId, :ownerId, :viewedAt, :now)
+                """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batchUpdate(sql, rows, row -> new MapSqlParameterSource()
+                .addValue("id", UUID.randomUUID().toString())
+                .addValue("userId", row.userId())
+                .addValue("postId", row.postId())
+                .addValue("ownerId", row.ownerId())
+                .addValue("viewedAt", Timestamp.valueOf(row.viewedAt()))
+                .addValue("now", now));
+    }
+
+    private void batchUpdate(String sql, List<ViewRow> rows,
+                             Function<ViewRow, SqlParameterSource> toParams) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<ViewRow> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            jdbcTemplate.batchUpdate(sql, chunk.stream().map(toParams).toArray(SqlParameterSource[]::new));
+        }
+    }
+}
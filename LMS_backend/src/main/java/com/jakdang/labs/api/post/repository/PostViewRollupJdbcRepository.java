@@ -0,0 +1,247 @@
+package com.jakdang.labs.api.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시물 조회수 집계 쿼리 (post_view_history → post_view_hourly → post_view_daily, post_view_daily_viewer)
+ * 집계 행은 구간 단위로 원본에서 다시 계산해 덮어쓰므로 같은 구간을 여러 번 반영해도 결과가 같다.
+ * 고유 조회자는 구간끼리 더할 수 없으므로 (날짜, 게시물, 사용자) 행으로 남겨 기간 조회 시 중복을 제거해 센다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewRollupJdbcRepository {
+
+    private static final String STATE_ID = "post_view";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시물별 집계 값 (조회수 또는 고유 조회자 수)
+     */
+    public record CountRow(String postId, long count) {
+    }
+
+    // ==================== 진행 위치 ====================
+
+    /**
+     * 집계 실행권 획득 (처음이면 행 생성, 다른 서버의 실행권이 아직 유효하면 false)
+     * 행을 잠근 채 집계하지 않고 UPDATE 한 번으로 끝내므로 집계 중에 긴 트랜잭션이 열려 있지 않다.
+     */
+    public boolean tryAcquireLease(long leaseSeconds) {
+        jdbcTemplate.update("INSERT IGNORE INTO post_view_rollup_state (id, watermark, locked_until, updated_at) VALUES (:id, NULL, NULL, NOW())",
+                new MapSqlParameterSource("id", STATE_ID));
+        String sql = """
+                UPDATE post_view_rollup_state
+                SET locked_until = DATE_ADD(NOW(), INTERVAL :leaseSeconds SECOND)
+                WHERE id = :id AND (locked_until IS NULL OR locked_until < NOW())
+                """;
+        return jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("id", STATE_ID)
+                .addValue("leaseSeconds", leaseSeconds)) == 1;
+    }
+
+    public void releaseLease() {
+        jdbcTemplate.update("UPDATE post_view_rollup_state SET locked_until = NULL WHERE id = :id",
+                new MapSqlParameterSource("id", STATE_ID));
+    }
+
+    /**
+     * 반영 완료 시각 조회 (반영 전이면 null)
+     */
+    public LocalDateTime findWatermark() {
+        List<Timestamp> watermark = jdbcTemplate.query(
+                "SELECT watermark FROM post_view_rollup_state WHERE id = :id",
+                new MapSqlParameterSource("id", STATE_ID),
+                (rs, rowNum) -> rs.getTimestamp("watermark"));
+        return watermark.isEmpty() || watermark.get(0) == null ? null : watermark.get(0).toLocalDateTime();
+    }
+
+    /**
+     * 반영 완료 시각 갱신 (실행권이 만료돼 다른 서버와 겹쳐 실행돼도 뒤로 돌아가지 않음)
+     */
+    public void updateWatermark(LocalDateTime watermark) {
+        String sql = """
+                UPDATE post_view_rollup_state
+                SET watermark = GREATEST(COALESCE(watermark, :watermark), :watermark), updated_at = NOW()
+                WHERE id = :id
+                """;
+        jdbcTemplate.update(sql,
+                new MapSqlParameterSource()
+                        .addValue("id", STATE_ID)
+                        .addValue("watermark", Timestamp.valueOf(watermark)));
+    }
+
+    /**
+     * 가장 오래된 이력 저장 시각 (이력이 없으면 null)
+     */
+    public LocalDateTime findOldestHistoryCreatedAt() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM post_view_history",
+                new MapSqlParameterSource(), Timestamp.class);
+        return oldest != null ? oldest.toLocalDateTime() : null;
+    }
+
+    // ==================== 증분 집계 ====================
+
+    /**
+     * (from, to] 사이에 저장된 이력이 속한 조회 시간대 목록 (시간 단위로 절삭)
+     */
+    public List<LocalDateTime> findTouchedHours(LocalDateTime from, LocalDateTime to) {
+        String sql = """
+                SELECT DISTINCT DATE(viewed_at) AS view_date, HOUR(viewed_at) AS view_hour
+                FROM post_view_history
+                WHERE created_at > :from AND created_at <= :to
+                """;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to));
+        return jdbcTemplate.query(sql, params,
+                (rs, rowNum) -> rs.getDate("view_date").toLocalDate().atTime(rs.getInt("view_hour"), 0));
+    }
+
+    /**
+     * 한 시간 구간을 원본 이력에서 다시 집계
+     * REPEATABLE READ에서는 INSERT ... SELECT가 원본 이력에 next-key 잠금을 걸어 조회 이력 insert를 막으므로
+     * READ COMMITTED 트랜잭션 안에서 호출한다 (원본은 잠금 없이 읽음).
+     */
+    public int rollUpHour(LocalDateTime hourStart) {
+        String sql = """
+                INSERT INTO post_view_hourly (bucket_start, post_id, owner_id, view_count)
+                SELECT :bucketStart, post_id, MAX(owner_id), COUNT(*)
+                FROM post_view_history
+                WHERE viewed_at >= :bucketStart AND viewed_at < :bucketEnd
+                GROUP BY post_id
+                ON DUPLICATE KEY UPDATE owner_id = VALUES(owner_id),
+                                        view_count = VALUES(view_count)
+                """;
+        return jdbcTemplate.update(sql, bucketParams(hourStart, hourStart.plusHours(1)));
+    }
+
+    /**
+     * 한 시간 구간의 조회자를 그날의 조회자 목록에 추가 (이미 있는 사용자는 무시, READ COMMITTED에서 호출)
+     */
+    public int addDailyViewers(LocalDateTime hourStart) {
+        String sql = """
+                INSERT IGNORE INTO post_view_daily_viewer (bucket_start, post_id, user_id, owner_id)
+                SELECT :dayStart, post_id, user_id, MAX(owner_id)
+                FROM post_view_history
+                WHERE viewed_at >= :bucketStart AND viewed_at < :bucketEnd
+                GROUP BY post_id, user_id
+                """;
+        return jdbcTemplate.update(sql, bucketParams(hourStart, hourStart.plusHours(1))
+                .addValue("dayStart", Timestamp.valueOf(hourStart.toLocalDate().atStartOfDay())));
+    }
+
+    /**
+     * 하루 구간을 시간별 집계에서 다시 합산
+     */
+    public int rollUpDay(LocalDateTime dayStart) {
+        String sql = """
+                INSERT INTO post_view_daily (bucket_start, post_id, owner_id, view_count)
+                SELECT :bucketStart, post_id, MAX(owner_id), SUM(view_count)
+                FROM post_view_hourly
+                WHERE bucket_start >= :bucketStart AND bucket_start < :bucketEnd
+                GROUP BY post_id
+                ON DUPLICATE KEY UPDATE owner_id = VALUES(owner_id),
+                                        view_count = VALUES(view_count)
+                """;
+        return jdbcTemplate.update(sql, bucketParams(dayStart, dayStart.plusDays(1)));
+    }
+
+    /**
+     * 하루 구간을 원본 이력에서 직접 집계 (시간별 집계 보존 기간이 지난 날짜를 따라잡을 때, READ COMMITTED에서 호출)
+     */
+    public int rollUpDayFromHistory(LocalDateTime dayStart) {
+        String sql = """
+                INSERT INTO post_view_daily (bucket_start, post_id, owner_id, view_count)
+                SELECT :bucketStart, post_id, MAX(owner_id), COUNT(*)
+                FROM post_view_history
+                WHERE viewed_at >= :bucketStart AND viewed_at < :bucketEnd
+                GROUP BY post_id
+                ON DUPLICATE KEY UPDATE owner_id = VALUES(owner_id),
+                                        view_count = VALUES(view_count)
+                """;
+        return jdbcTemplate.update(sql, bucketParams(dayStart, dayStart.plusDays(1)));
+    }
+
+    // ==================== 보존 기간 정리 ====================
+
+    /**
+     * cutoff 이전 행을 chunkSize건씩 삭제 (긴 잠금을 피하기 위해 나눠서 실행)
+     * @param table post_view_history(viewed_at 기준), post_view_hourly, post_view_daily, post_view_daily_viewer(bucket_start 기준)
+     */
+    public long deleteBefore(String table, LocalDateTime cutoff, int chunkSize) {
+        String column = "post_view_history".equals(table) ? "viewed_at" : "bucket_start";
+        String sql = "DELETE FROM " + table + " WHERE " + column + " < :cutoff LIMIT :limit";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", chunkSize);
+        long deleted = 0;
+        int affected;
+        do {
+            affected = jdbcTemplate.update(sql, params);
+            deleted += affected;
+        } while (affected == chunkSize);
+        return deleted;
+    }
+
+    // ==================== 인기 게시물 ====================
+
+    /**
+     * 기간 내 조회수 상위 게시물
+     * @param daily true면 일별 집계, false면 시간별 집계에서 합산
+     * @param ownerId 게시물 소유자 ID (null이면 전체)
+     * @param postIds null이면 전체
+     */
+    public List<CountRow> findTopByViews(boolean daily, LocalDateTime since, String ownerId, List<String> postIds,
+                                         int limit) {
+        String table = daily ? "post_view_daily" : "post_view_hourly";
+        return findTop("SUM(view_count)", table, since, ownerId, postIds, limit);
+    }
+
+    /**
+     * 기간 내 고유 조회자 수 상위 게시물 (날짜 단위라 since는 그날 0시로 내림)
+     * @param ownerId 게시물 소유자 ID (null이면 전체)
+     * @param postIds null이면 전체
+     */
+    public List<CountRow> findTopByViewers(LocalDateTime since, String ownerId, List<String> postIds, int limit) {
+        return findTop("COUNT(DISTINCT user_id)", "post_view_daily_viewer", since.toLocalDate().atStartOfDay(),
+                ownerId, postIds, limit);
+    }
+
+    private List<CountRow> findTop(String aggregate, String table, LocalDateTime since, String ownerId,
+                                   List<String> postIds, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT post_id, ").append(aggregate).append(" AS cnt FROM ")
+                .append(table)
+                .append(" WHERE bucket_start >= :since");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("since", Timestamp.valueOf(since))
+                .addValue("limit", limit);
+        if (ownerId != null) {
+            sql.append(" AND owner_id = :ownerId");
+            params.addValue("ownerId", ownerId);
+        }
+        if (postIds != null) {
+            if (postIds.isEmpty()) {
+                return List.of();
+            }
+            sql.append(" AND post_id IN (:postIds)");
+            params.addValue("postIds", postIds);
+        }
+        sql.append(" GROUP BY post_id ORDER BY cnt DESC, post_id LIMIT :limit");
+        return jdbcTemplate.query(sql.toString(), params,
+                (rs, rowNum) -> new CountRow(rs.getString("post_id"), rs.getLong("cnt")));
+    }
+
+    private static MapSqlParameterSource bucketParams(LocalDateTime start, LocalDateTime end) {
+        return new MapSqlParameterSource()
+                .addValue("bucketStart", Timestamp.valueOf(start))
+                .addValue("bucketEnd", Timestamp.valueOf(end));
+    }
+}
@@ -0,0 +1,149 @@
+package com.jakdang.labs.api.post.service;
+
+import com.jakdang.labs.api.post.repository.PostSearchFulltextRepository;
+import com.jakdang.labs.api.post.repository.PostSearchFulltextRepository.Criteria;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 엔진 (app.post-search.engine=fulltext)
+ * 검색 색인 행은 기존대로 PostSearchService.createSearchIndex/deleteSearchIndex가 저장하고 InnoDB가 FULLTEXT 색인을 갱신한다.
+ * FULLTEXT 색인은 스키마 스크립트(resources/db/post_search_fulltext.sql)로 배포 전에 만들고, 애플리케이션은 존재 여부만 확인한다.
+ * 색인이 아직 없거나 확인에 실패하면 LIKE 조건으로 검색하면서 fulltext-check-interval-ms마다 다시 확인한다.
+ *
+ * 검색어는 공백 단위로 나눠 모든 단어가 포함된 게시물을 관련도순으로 돌려준다.
+ * exactCount=false면 전체 건수를 count-limit건까지만 세고, 넘으면 근사값으로 표시한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.post-search.engine", havingValue = "fulltext")
+@Slf4j
+public class FulltextPostSearchEngine implements PostSearchEngine {
+
+    // ngram_token_size 기본값 (이보다 짧은 단어는 ngram 색인에 없음)
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final List<String> ALL_COLUMNS = List.of("title", "content", "author_name");
+    // post_search_fulltext.sql의 색인 이름
+    private static final List<String> FULLTEXT_INDEXES = List.of(
+            "ft_post_search_title", "ft_post_search_content", "ft_post_search_author", "ft_post_search_all");
+
+    private final PostSearchFulltextRepository fulltextRepository;
+    private final int countLimit;
+    private volatile boolean fulltextReady;
+    private boolean missingLogged;
+
+    public FulltextPostSearchEngine(PostSearchFulltextRepository fulltextRepository,
+                                    @Value("${app.post-search.count-limit:1000}") int countLimit) {
+        this.fulltextRepository = fulltextRepository;
+        this.countLimit = countLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        checkFulltextIndexes();
+    }
+
+    /**
+     * FULLTEXT 색인 확인 (모두 있으면 MATCH 검색으로 전환, 그 전까지는 주기적으로 다시 확인)
+     */
+    @Scheduled(initialDelayString = "${app.post-search.fulltext-check-interval-ms:60000}",
+               fixedDelayString = "${app.post-search.fulltext-check-interval-ms:60000}")
+    public synchronized void checkFulltextIndexes() {
+        if (fulltextReady) {
+            return;
+        }
+        try {
+            Set<String> existing = fulltextRepository.findFulltextIndexNames();
+            List<String> missing = FULLTEXT_INDEXES.stream()
+                    .filter(indexName -> !existing.contains(indexName))
+                    .toList();
+            if (missing.isEmpty()) {
+                fulltextReady = true;
+                log.info("게시물 검색 FULLTEXT 색인 확인 완료, MATCH 검색으로 동작");
+            } else if (!missingLogged) {
+                missingLogged = true;
+                log.warn("게시물 검색 FULLTEXT 색인 없음 {}, db/post_search_fulltext.sql 적용 전까지 LIKE 검색으로 동작", missing);
+            }
+        } catch (RuntimeException e) {
+            log.warn("게시물 검색 FULLTEXT 색인 확인 실패, 다음 주기에 다시 확인: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public PostSearchResult search(PostSearchQuery query) {
+        String match = fulltextReady ? toBooleanQuery(query.keyword()) : null;
+        Criteria criteria = new Criteria(
+                columns(query),
+                match,
+                match == null ? toLikePattern(query.keyword()) : null,
+                query.communityId(),
+                query.boardId(),
+                query.boardIds());
+
+        int offset = query.page() * query.size();
+        List<PostSearchHit> hits = fulltextRepository.search(criteria, offset, query.size());
+
+        // 마지막 페이지가 채워지지 않았으면 건수를 따로 셀 필요가 없다
+        if (hits.size() < query.size() && (!hits.isEmpty() || offset == 0)) {
+            return new PostSearchResult(hits, offset + hits.size(), false);
+        }
+        if (query.exactCount()) {
+            return new PostSearchResult(hits, fulltextRepository.count(criteria, 0), false);
+        }
+        long counted = fulltextRepository.count(criteria, countLimit + 1);
+        if (counted > countLimit) {
+            return new PostSearchResult(hits, Math.max(countLimit, offset + hits.size()), true);
+        }
+        return new PostSearchResult(hits, counted, false);
+    }
+
+    private static List<String> columns(PostSearchQuery query) {
+        if (query.boardIds() != null && !query.boardIds().isEmpty()) {
+            return ALL_COLUMNS;
+        }
+        return switch (query.searchType() != null ? query.searchType() : "all") {
+            case "title" -> List.of("title");
+            case "content" -> List.of("content");
+            case "author" -> List.of("author_name");
+            default -> ALL_COLUMNS;
+        };
+    }
+
+    /**
+     * BOOLEAN MODE 검색식: 단어마다 +"단어" (모든 단어 필수, 단어 안의 ngram은 연속 일치)
+     * ngram보다 짧은 단어만 있으면 null (LIKE로 조회)
+     */
+    static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        // 검색식 연산자 문자는 공백으로 바꿔 단어 구분자로 취급
+        for (String term : keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+")) {
+            if (term.length() >= NGRAM_TOKEN_SIZE) {
+                terms.add("+\"" + term + "\"");
+            } else if (!term.isEmpty()) {
+                // 짧은 단어가 섞이면 MATCH로는 그 단어를 확인할 수 없어 LIKE로 조회
+                return null;
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+
+    private static String toLikePattern(String keyword) {
+        String escaped = (keyword == null ? "" : keyword.toLowerCase(Locale.ROOT))
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,60 @@
+package com.jakdang.labs.api.post.service;
+
+import com.jakdang.labs.api.post.entity.PostSearchIndex;
+import com.jakdang.labs.api.post.repository.PostSearchIndexRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 검색 엔진 (LIKE '%검색어%')
+ * 별도 색인 없이 동작하지만 매 검색마다 전체 행을 훑고 건수 COUNT를 따로 실행한다.
+ */
+@Component
+@ConditionalOnExpression("'${app.post-search.engine:like}' != 'fulltext'")
+@RequiredArgsConstructor
+public class LikePostSearchEngine implements PostSearchEngine {
+
+    private final PostSearchIndexRepository searchIndexRepository;
+
+    @Override
+    public PostSearchResult search(PostSearchQuery query) {
+        Pageable pageable = PageRequest.of(query.page(), query.size(), Sort.by(Sort.Direction.DESC, "createdAt"));
+        String keyword = query.keyword();
+        String communityId = query.communityId();
+        String boardId = query.boardId();
+        Page<PostSearchIndex> searchResults;
+
+        // 여러 게시판 동시 검색
+        if (query.boardIds() != null && !query.boardIds().isEmpty()) {
+            searchResults = searchIndexRepository.searchAllByBoardIds(keyword, communityId, query.boardIds(), pageable);
+        } else {
+            // 단일 조건 검색
+            switch (query.searchType()) {
+                case "title":
+                    searchResults = searchIndexRepository.searchByTitle(keyword, communityId, boardId, pageable);
+                    break;
+                case "content":
+                    searchResults = searchIndexRepository.searchByContent(keyword, communityId, boardId, pageable);
+                    break;
+                case "author":
+                    searchResults = searchIndexRepository.searchByAuthor(keyword, communityId, boardId, pageable);
+                    break;
+                default: // "all"
+                    searchResults = searchIndexRepository.searchAll(keyword, communityId, boardId, pageable);
+                    break;
+            }
+        }
+
+        return new PostSearchResult(
+                searchResults.getContent().stream()
+                        .map(index -> new PostSearchHit(index.getPostId(), 0, index.getTitle(), index.getContent()))
+                        .toList(),
+                searchResults.getTotalElements(),
+                false);
+    }
+}
@@ -0,0 +1,99 @@
+package com.jakdang.labs.api.post.service;
+
+import com.jakdang.labs.api.post.dto.PopularPostDTO;
+import com.jakdang.labs.api.post.model.PostDTO;
+import com.jakdang.labs.api.post.repository.PostViewRollupJdbcRepository;
+import com.jakdang.labs.api.post.repository.PostViewRollupJdbcRepository.CountRow;
+import com.jakdang.labs.utils.ExpiringCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시물 조회 (조회수 집계 테이블 기반)
+ * 원본 이력(post_view_history)을 GROUP BY 하지 않고 시간별/일별 집계만 합산하므로
+ * 이력이 쌓여도 조회 비용은 기간 × 게시물 수에만 비례한다.
+ * 시간별 집계 보존 기간 안의 기간은 시간 단위로, 그보다 긴 기간은 일 단위로 합산한다.
+ * 고유 조회자 수는 일별 조회자 목록(post_view_daily_viewer)에서 중복을 제거해 세므로 기간 시작일 0시부터 센다.
+ */
+@Service
+@Slf4j
+public class PopularPostService {
+
+    private final PostViewRollupJdbcRepository rollupRepository;
+    private final PostBatchLoader postBatchLoader;
+    private final int hourlyRetentionDays;
+    // 집계는 interval-ms마다 갱신되므로 같은 조건의 결과를 짧게 재사용
+    private final ExpiringCache<String, List<PopularPostDTO>> results;
+
+    public PopularPostService(PostViewRollupJdbcRepository rollupRepository,
+                              PostBatchLoader postBatchLoader,
+                              @Value("${app.post-view-rollup.hourly-retention-days:14}") int hourlyRetentionDays,
+                              @Value("${app.post-view-rollup.popular-cache-ttl-ms:60000}") long cacheTtlMillis) {
+        this.rollupRepository = rollupRepository;
+        this.postBatchLoader = postBatchLoader;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+        this.results = new ExpiringCache<>(500, cacheTtlMillis);
+    }
+
+    /**
+     * 최근 hours시간 인기 게시물
+     * @param ownerId 게시물 소유자 ID (게시물의 owner_id 기준), null이면 전체
+     * @param byViewers true면 고유 조회자 수 기준
+     */
+    public List<PopularPostDTO> getPopularPosts(int hours, String ownerId, boolean byViewers, int size) {
+        if (hours <= 0 || size <= 0) {
+            throw new IllegalArgumentException("기간과 개수는 1 이상이어야 합니다.");
+        }
+        String cacheKey = hours + "|" + ownerId + "|" + byViewers + "|" + size;
+        return results.computeIfAbsent(cacheKey, key -> load(hours, ownerId, byViewers, size));
+    }
+
+    private List<PopularPostDTO> load(int hours, String ownerId, boolean byViewers, int size) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean daily = hours > hourlyRetentionDays * 24;
+        LocalDateTime since = daily
+                ? now.minusHours(hours).toLocalDate().atStartOfDay()
+                : now.minusHours(hours).truncatedTo(ChronoUnit.HOURS);
+
+        // 순위 기준으로 상위 게시물을 고른 뒤 나머지 지표는 그 게시물들만 다시 집계
+        List<CountRow> ranked = byViewers
+                ? rollupRepository.findTopByViewers(since, ownerId, null, size)
+                : rollupRepository.findTopByViews(daily, since, ownerId, null, size);
+        List<String> postIds = ranked.stream().map(CountRow::postId).toList();
+        Map<String, Long> others = toCountMap(byViewers
+                ? rollupRepository.findTopByViews(daily, since, ownerId, postIds, size)
+                : rollupRepository.findTopByViewers(since, ownerId, postIds, size));
+        Map<String, PostDTO> posts = postBatchLoader.loadInOrder(postIds)
+                .stream()
+                .collect(Collectors.toMap(PostDTO::getId, Function.identity(), (a, b) -> a));
+
+        // 삭제되었거나 조회에 실패한 게시물은 제외
+        List<PopularPostDTO> popular = new ArrayList<>(ranked.size());
+        for (CountRow row : ranked) {
+            PostDTO post = posts.get(row.postId());
+            if (post != null) {
+                long other = others.getOrDefault(row.postId(), 0L);
+                popular.add(PopularPostDTO.builder()
+                        .rank(popular.size() + 1)
+                        .viewCount(byViewers ? other : row.count())
+                        .viewerCount(byViewers ? row.count() : other)
+                        .post(post)
+                        .build());
+            }
+        }
+        return popular;
+    }
+
+    private static Map<String, Long> toCountMap(List<CountRow> rows) {
+        return rows.stream().collect(Collectors.toMap(CountRow::postId, CountRow::count));
+    }
+}
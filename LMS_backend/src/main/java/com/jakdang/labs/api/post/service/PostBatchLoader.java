@@ -0,0 +1,94 @@
+package com.jakdang.labs.api.post.service;
+
+import com.jakdang.labs.api.post.model.PostDTO;
+import com.jakdang.labs.api.post.model.PostServiceClient;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시물 ID 목록을 post-service에서 병렬로 조회 (검색 결과 보강용)
+ * 가상 스레드로 요청당 최대 fetch-concurrency건까지 동시에 호출하고, 결과는 입력 ID 순서를 유지한다.
+ * 호출마다 fetch-timeout-ms 안에 응답하지 않거나 실패한 게시물은 결과에서 제외한다.
+ */
+@Component
+@Slf4j
+public class PostBatchLoader {
+
+    private final PostServiceClient postServiceClient;
+    private final int maxConcurrency;
+    private final long timeoutMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PostBatchLoader(PostServiceClient postServiceClient,
+                           @Value("${app.post-search.fetch-concurrency:10}") int maxConcurrency,
+                           @Value("${app.post-search.fetch-timeout-ms:3000}") long timeoutMillis) {
+        this.postServiceClient = postServiceClient;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public List<PostDTO> loadInOrder(List<String> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<PostDTO>> futures = new ArrayList<>(postIds.size());
+        for (String postId : postIds) {
+            futures.add(executor.submit(() -> fetch(postId, permits)));
+        }
+
+        List<PostDTO> posts = new ArrayList<>(postIds.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                PostDTO post = futures.get(i).get();
+                if (post != null) {
+                    posts.add(post);
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    log.warn("게시물 조회 시간 초과: postId={}", postIds.get(i));
+                } else {
+                    log.warn("게시물 조회 실패: postId={}, error={}", postIds.get(i), e.getCause().getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(remaining -> remaining.cancel(true));
+                break;
+            }
+        }
+        return posts;
+    }
+
+    /**
+     * 호출 1건 (timeout-ms는 동시 실행 한도를 기다린 시간을 빼고 실행권을 얻은 시점부터 잰다)
+     * 시간을 넘긴 호출은 중단하고 실행권을 바로 돌려줘 뒤에 기다리는 호출이 밀리지 않게 한다.
+     */
+    private PostDTO fetch(String postId, Semaphore permits) throws Exception {
+        permits.acquire();
+        Future<PostDTO> call = executor.submit(() -> postServiceClient.getPostById(postId));
+        try {
+            return call.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } finally {
+            call.cancel(true);
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
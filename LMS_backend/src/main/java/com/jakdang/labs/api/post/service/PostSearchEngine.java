@@ -0,0 +1,36 @@
+package com.jakdang.labs.api.post.service;
+
+import java.util.List;
+
+/**
+ * 게시물 검색 엔진 (post_search_index 조회)
+ * app.post-search.engine 설정에 따라 구현체가 선택된다.
+ * - like (기본): LIKE '%검색어%' 조회, 최신순, 정확한 전체 건수
+ * - fulltext: MySQL FULLTEXT(ngram) 색인에 MATCH ... AGAINST 조회, 관련도순, 전체 건수 상한(근사값) 지원
+ */
+public interface PostSearchEngine {
+
+    PostSearchResult search(PostSearchQuery query);
+
+    /**
+     * @param searchType title, content, author, all
+     * @param boardIds 비어 있지 않으면 boardId 대신 여러 게시판을 함께 검색
+     * @param exactCount false면 엔진이 전체 건수를 상한까지만 셀 수 있다
+     */
+    record PostSearchQuery(String keyword, String searchType, String communityId, String boardId,
+                           List<String> boardIds, int page, int size, boolean exactCount) {
+    }
+
+    /**
+     * @param score 관련도 (관련도를 계산하지 않는 엔진은 0)
+     */
+    record PostSearchHit(String postId, double score, String title, String content) {
+    }
+
+    /**
+     * @param hits 순위순 검색 결과
+     * @param approximate true면 totalElements가 상한으로 잘린 근사값
+     */
+    record PostSearchResult(List<PostSearchHit> hits, long totalElements, boolean approximate) {
+    }
+}
@@ -3,18 +3,17 @@ package com.jakdang.labs.api.post.service;
 import com.jakdang.labs.api.post.entity.PostSearchIndex;
 import com.jakdang.labs.api.post.model.CustomPageDTO;
 import com.jakdang.labs.api.post.model.PostDTO;
-import com.jakdang.labs.api.post.model.PostServiceClient;
 import com.jakdang.labs.api.post.repository.PostSearchIndexRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,60 +22,137 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PostSearchService {
     
+    // 본문 발췌 길이
+    private static final int SNIPPET_LENGTH = 120;
+
     private final PostSearchIndexRepository searchIndexRepository;
-    private final PostServiceClient postServiceClient;
+    private final PostSearchEngine postSearchEngine;
+    private final PostBatchLoader postBatchLoader;
     
     /**
      * 게시물 검색
+     * 순위/건수는 PostSearchEngine이 정하고, 결과 게시물에는 검색어가 강조된 제목/본문 발췌를 붙인다.
+     * @param exactCount false면 엔진에 따라 전체 건수가 근사값일 수 있다 (approximateTotal)
      */
     public CustomPageDTO<PostDTO> searchPosts(String keyword, String searchType, 
                                             String communityId, String boardId, 
-                                            List<String> boardIds, int page, int size) {
+                                            List<String> boardIds, int page, int size, boolean exactCount) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<PostSearchIndex> searchResults;
-        
-        // 여러 게시판 동시 검색
-        if (boardIds != null && !boardIds.isEmpty()) {
-            searchResults = searchIndexRepository.searchAllByBoardIds(keyword, communityId, boardIds, pageable);
-        } else {
-            // 단일 조건 검색
-            switch (searchType) {
-                case "title":
-                    searchResults = searchIndexRepository.searchByTitle(keyword, communityId, boardId, pageable);
-                    break;
-                case "content":
-                    searchResults = searchIndexRepository.searchByContent(keyword, communityId, boardId, pageable);
-                    break;
-                case "author":
-                    searchResults = searchIndexRepository.searchByAuthor(keyword, communityId, boardId, pageable);
-                    break;
-                default: // "all"
-                    searchResults = searchIndexRepository.searchAll(keyword, communityId, boardId, pageable);
-                    break;
-            }
-        }
+        PostSearchEngine.PostSearchResult searchResult = postSearchEngine.search(new PostSearchEngine.PostSearchQuery(
+                keyword, searchType, communityId, boardId, boardIds, page, size, exactCount));
         
         // PostID 목록으로 실제 게시물 가져오기
-        List<String> postIds = searchResults.getContent().stream()
-                .map(PostSearchIndex::getPostId)
+        List<String> postIds = searchResult.hits().stream()
+                .map(PostSearchEngine.PostSearchHit::postId)
                 .collect(Collectors.toList());
         
-        List<PostDTO> posts = postIds.stream()
-                .map(postServiceClient::getPostById)
-                .filter(post -> post != null)
-                .collect(Collectors.toList());
+        // 검색 결과 순서대로 병렬 조회 (순차 호출 시 페이지 크기만큼 왕복 지연이 누적됨)
+        List<PostDTO> posts = postBatchLoader.loadInOrder(postIds);
+        
+        // 검색어 강조 (작성자 검색은 제목/본문에 검색어가 없으므로 제외)
+        if (!"author".equals(searchType)) {
+            Map<String, PostSearchEngine.PostSearchHit> hitsById = searchResult.hits().stream()
+                    .collect(Collectors.toMap(PostSearchEngine.PostSearchHit::postId, hit -> hit, (a, b) -> a));
+            List<String> terms = highlightTerms(keyword);
+            posts.forEach(post -> {
+                PostSearchEngine.PostSearchHit hit = hitsById.get(post.getId());
+                if (hit != null) {
+                    post.setHighlightTitle(highlight(hit.title(), terms, 0));
+                    post.setHighlightContent(highlight(stripTags(hit.content()), terms, SNIPPET_LENGTH));
+                }
+            });
+        }
         
         // CustomPageDTO 생성
+        long totalElements = searchResult.totalElements();
+        int totalPages = size > 0 ? (int) ((totalElements + size - 1) / size) : 0;
         CustomPageDTO<PostDTO> result = new CustomPageDTO<>();
         result.setContent(posts);
-        result.setTotalElements(searchResults.getTotalElements());
-        result.setTotalPages(searchResults.getTotalPages());
-        result.setNumber(searchResults.getNumber());
-        result.setLast(searchResults.isLast());
+        result.setTotalElements(totalElements);
+        result.setTotalPages(totalPages);
+        result.setNumber(page);
+        result.setSize(size);
+        result.setLast(searchResult.approximate() ? searchResult.hits().size() < size : page + 1 >= totalPages);
+        result.setApproximateTotal(searchResult.approximate());
         
         return result;
     }
+
+    // ==================== 검색어 강조 ====================
+
+    // 검색어 단어 (긴 단어부터 일치시키도록 정렬)
+    private static List<String> highlightTerms(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(keyword.trim().split("\\s+"))
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+    }
+
+    /**
+     * 검색어를 <em>으로 감싼 HTML (나머지는 이스케이프)
+     * maxLength가 0보다 크면 첫 일치 위치 주변만 잘라 앞뒤에 …을 붙인다.
+     */
+    static String highlight(String text, List<String> terms, int maxLength) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        int start = 0;
+        int end = text.length();
+        if (maxLength > 0 && text.length() > maxLength) {
+            int first = firstMatch(text, terms);
+            start = Math.max(0, Math.min(first < 0 ? 0 : first - maxLength / 4, text.length() - maxLength));
+            end = start + maxLength;
+        }
+
+        StringBuilder highlighted = new StringBuilder();
+        if (start > 0) {
+            highlighted.append('…');
+        }
+        int i = start;
+        while (i < end) {
+            int length = matchLength(text, i, end, terms);
+            if (length > 0) {
+                highlighted.append("<em>").append(HtmlUtils.htmlEscape(text.substring(i, i + length))).append("</em>");
+                i += length;
+            } else {
+                highlighted.append(HtmlUtils.htmlEscape(String.valueOf(text.charAt(i))));
+                i++;
+            }
+        }
+        if (end < text.length()) {
+            highlighted.append('…');
+        }
+        return highlighted.toString();
+    }
+
+    private static int firstMatch(String text, List<String> terms) {
+        for (int i = 0; i < text.length(); i++) {
+            if (matchLength(text, i, text.length(), terms) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int matchLength(String text, int offset, int end, List<String> terms) {
+        for (String term : terms) {
+            if (offset + term.length() <= end && text.regionMatches(true, offset, term, 0, term.length())) {
+                return term.length();
+            }
+        }
+        return 0;
+    }
+
+    // 본문은 에디터 HTML일 수 있으므로 태그를 걷어낸 텍스트로 발췌
+    private static String stripTags(String content) {
+        if (content == null) {
+            return null;
+        }
+        return HtmlUtils.htmlUnescape(content.replaceAll("<[^>]*>", " ")).replaceAll("\\s+", " ").trim();
+    }
     
     /**
      * 검색 인덱스 생성/업데이트
@@ -0,0 +1,230 @@
+package com.jakdang.labs.api.post.service;
+
+import com.jakdang.labs.api.post.model.PostDTO;
+import com.jakdang.labs.api.post.model.PostServiceClient;
+import com.jakdang.labs.api.post.repository.PostViewJdbcRepository;
+import com.jakdang.labs.api.post.repository.PostViewJdbcRepository.ViewRow;
+import com.jakdang.labs.utils.ExpiringCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * 조회 요청은 쿨타임을 통과한 조회를 메모리 큐에 넣기만 하고,
+ * flush-interval-ms(기본 5초)마다 모인 조회를 한 번에 처리한다.
+ * 1. 게시물별 ownerId를 한 번씩만 조회 (캐시 + 병렬 조회)
+ * 2. post_views 마지막 조회 시각 배치 upsert, post_view_history 배치 insert (한 트랜잭션)
+ * 3. post-service 조회수 증가 호출 (게시물별 증가분을 모아 병렬 전송)
+ * DB 반영에 실패한 조회는 큐에 되돌려 다음 주기에 다시 시도하고(두 테이블 모두 롤백되므로 이력이 중복 저장되지 않음),
+ * post-service 호출 실패는 다시 보내지 않는다 (중복 증가 방지).
+ * 대기열이 가득 차면 조회 요청 스레드에서 반영하지 않고 해당 조회를 버린 뒤(post.view.dropped) flush를 비동기로 앞당긴다.
+ * 종료 시(@PreDestroy) 남은 조회를 모두 반영하며, 비정상 종료 시 유실 범위는 마지막 flush 이후 조회다.
+ */
+@Component
+@Slf4j
+public class PostViewBuffer {
+
+    private final PostViewJdbcRepository viewRepository;
+    private final PostBatchLoader postBatchLoader;
+    private final PostServiceClient postServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final LinkedBlockingQueue<ViewRow> pending;
+    // postId → ownerId (게시물 소속은 바뀌지 않으므로 길게 보관)
+    private final ExpiringCache<String, String> ownerIds = new ExpiringCache<>(10000, TimeUnit.HOURS.toMillis(6));
+    private final int pushConcurrency;
+    private final ExecutorService pushExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Timer flushTimer;
+    private final Counter droppedCounter;
+    // 대기열 포화로 앞당긴 flush가 이미 예약됐는지
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+
+    public PostViewBuffer(PostViewJdbcRepository viewRepository,
+                          PostBatchLoader postBatchLoader,
+                          PostServiceClient postServiceClient,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.post-view.max-pending:50000}") int maxPending,
+                          @Value("${app.post-view.push-concurrency:10}") int pushConcurrency,
+                          MeterRegistry meterRegistry) {
+        this.viewRepository = viewRepository;
+        this.postBatchLoader = postBatchLoader;
+        this.postServiceClient = postServiceClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pending = new LinkedBlockingQueue<>(maxPending);
+        this.pushConcurrency = Math.max(1, pushConcurrency);
+        this.flushTimer = Timer.builder("post.view.flush")
+                .description("게시글 조회 기록 배치 반영 소요 시간")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("post.view.dropped")
+                .description("대기열 포화로 버린 게시글 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("post.view.pending", pending, LinkedBlockingQueue::size)
+                .description("반영 대기 중인 게시글 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 한 건 추가 (DB/원격 호출 없음, 대기열이 가득 차도 요청 스레드에서 반영하지 않음)
+     */
+    public void record(String userId, String postId, LocalDateTime viewedAt) {
+        if (pending.offer(new ViewRow(userId, postId, null, viewedAt))) {
+            return;
+        }
+        droppedCounter.increment();
+        log.debug("조회 기록 대기열 초과로 조회 누락: userId={}, postId={}", userId, postId);
+        if (earlyFlushRequested.compareAndSet(false, true)) {
+            try {
+                pushExecutor.execute(() -> {
+                    try {
+                        flush();
+                    } finally {
+                        earlyFlushRequested.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중 (남은 조회는 flushOnShutdown에서 반영)
+                earlyFlushRequested.set(false);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.post-view.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<ViewRow> views = new ArrayList<>(pending.size());
+        pending.drainTo(views);
+        if (views.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            Map<String, String> owners = resolveOwnerIds(views);
+            List<ViewRow> rows = views.stream()
+                    .map(view -> new ViewRow(view.userId(), view.postId(), owners.get(view.postId()), view.viewedAt()))
+                    .toList();
+            try {
+                // 일부 청크만 반영된 채 재시도되면 이력이 중복 집계되므로 두 테이블을 한 트랜잭션으로 반영
+                transactionTemplate.executeWithoutResult(status -> {
+                    viewRepository.upsertLastViews(rows);
+                    viewRepository.insertHistories(rows);
+                });
+            } catch (Exception e) {
+                requeue(views);
+                log.error("게시글 조회 기록 반영 실패: {}건, error={}", views.size(), e.getMessage());
+                return;
+            }
+            pushViewCounts(views);
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 게시글 조회 기록 반영: {}건", pending.size());
+        flush();
+        pushExecutor.shutdown();
+    }
+
+    /**
+     * 이번 주기 게시물들의 ownerId (캐시에 없는 게시물만 post-service에서 병렬 조회, 실패 시 null)
+     */
+    private Map<String, String> resolveOwnerIds(List<ViewRow> views) {
+        Map<String, String> owners = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        views.stream().map(ViewRow::postId).distinct().forEach(postId ->
+                ownerIds.get(postId).ifPresentOrElse(ownerId -> owners.put(postId, ownerId), () -> misses.add(postId)));
+
+        if (!misses.isEmpty()) {
+            for (PostDTO post : postBatchLoader.loadInOrder(misses)) {
+                if (post.getOwner_id() != null) {
+                    ownerIds.put(post.getId(), post.getOwner_id());
+                    owners.put(post.getId(), post.getOwner_id());
+                }
+            }
+        }
+        return owners;
+    }
+
+    /**
+     * post-service 조회수 증가
+     * post-service는 (게시물, 사용자) 단위 증가 API만 제공하므로 게시물별로 모은 조회를 순서대로 보내고,
+     * 게시물끼리는 push-concurrency건까지 동시에 보낸다.
+     */
+    private void pushViewCounts(List<ViewRow> views) {
+        Map<String, List<String>> viewersByPost = new LinkedHashMap<>();
+        views.forEach(view -> viewersByPost.computeIfAbsent(view.postId(), k -> new ArrayList<>()).add(view.userId()));
+
+        Semaphore permits = new Semaphore(pushConcurrency);
+        AtomicInteger failed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(viewersByPost.size());
+        viewersByPost.forEach((postId, userIds) -> futures.add(pushExecutor.submit(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                for (String userId : userIds) {
+                    try {
+                        postServiceClient.increaseViewCount(postId, userId);
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.warn("post-service 조회수 증가 실패: postId={}, userId={}, error={}", postId, userId, e.getMessage());
+                    }
+                }
+            } finally {
+                permits.release();
+            }
+        })));
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("post-service 조회수 증가 작업 오류: {}", e.getMessage());
+            }
+        }
+        log.debug("조회수 반영 완료: 게시물 {}건, 조회 {}건, 실패 {}건", viewersByPost.size(), views.size(), failed.get());
+    }
+
+    private void requeue(List<ViewRow> views) {
+        int dropped = 0;
+        for (ViewRow view : views) {
+            if (!pending.offer(view)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("조회 기록 대기열 초과로 재시도 대상 {}건 누락", dropped);
+        }
+    }
+}
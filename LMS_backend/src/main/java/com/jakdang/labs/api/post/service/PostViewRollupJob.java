@@ -0,0 +1,171 @@
+package com.jakdang.labs.api.post.service;
+
+import com.jakdang.labs.api.post.repository.PostViewRollupJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 게시물 조회수 집계/보존 작업
+ * interval-ms(기본 1분)마다 마지막 반영 이후 저장된 post_view_history 행이 속한 시간대만
+ * post_view_hourly에 다시 집계하고, 해당 날짜를 post_view_daily에 다시 합산한다.
+ * 그 시간대의 조회자는 날짜별 조회자 목록(post_view_daily_viewer)에 추가해 고유 조회자 수를 기간 단위로 셀 수 있게 한다.
+ * 시간별 집계 보존 기간이 지난 날짜(처음 실행 시 오래된 이력 등)는 시간별 집계를 건너뛰고 원본 이력에서 바로 일별 집계한다.
+ * 진행 위치(post_view_rollup_state)는 이력 저장 시각(created_at) 기준이며, 아직 커밋되지 않은 배치 insert를
+ * 건너뛰지 않도록 lag-ms만큼 늦게 따라간다. 처음 실행(또는 밀린 경우)은 max-window-hours씩 나눠 따라잡는다.
+ * 조회 이력 insert를 막지 않도록 구간마다 짧은 READ COMMITTED 트랜잭션으로 반영하고,
+ * 여러 서버 중 하나만 실행되도록 행 잠금 대신 실행권(lease-seconds)을 먼저 차지한다.
+ *
+ * 보존 기간: 원본 이력 raw-retention-days, 시간별 hourly-retention-days, 일별 daily-retention-days,
+ * 일별 조회자 목록 viewer-retention-days.
+ * 원본 이력은 집계가 반영된 구간만 삭제한다.
+ */
+@Component
+@Slf4j
+public class PostViewRollupJob {
+
+    private static final int DELETE_CHUNK_SIZE = 10000;
+
+    private final PostViewRollupJdbcRepository rollupRepository;
+    private final TransactionTemplate bucketTransaction;
+    private final long leaseSeconds;
+    private final Duration lag;
+    private final Duration maxWindow;
+    private final int rawRetentionDays;
+    private final int hourlyRetentionDays;
+    private final int dailyRetentionDays;
+    private final int viewerRetentionDays;
+
+    public PostViewRollupJob(PostViewRollupJdbcRepository rollupRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.post-view-rollup.lease-seconds:600}") long leaseSeconds,
+                             @Value("${app.post-view-rollup.lag-ms:30000}") long lagMillis,
+                             @Value("${app.post-view-rollup.max-window-hours:6}") long maxWindowHours,
+                             @Value("${app.post-view-rollup.raw-retention-days:30}") int rawRetentionDays,
+                             @Value("${app.post-view-rollup.hourly-retention-days:14}") int hourlyRetentionDays,
+                             @Value("${app.post-view-rollup.daily-retention-days:400}") int dailyRetentionDays,
+                             @Value("${app.post-view-rollup.viewer-retention-days:31}") int viewerRetentionDays) {
+        this.rollupRepository = rollupRepository;
+        this.bucketTransaction = new TransactionTemplate(transactionManager);
+        this.bucketTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.leaseSeconds = leaseSeconds;
+        this.lag = Duration.ofMillis(lagMillis);
+        this.maxWindow = Duration.ofHours(maxWindowHours);
+        this.rawRetentionDays = rawRetentionDays;
+        this.hourlyRetentionDays = hourlyRetentionDays;
+        this.dailyRetentionDays = dailyRetentionDays;
+        this.viewerRetentionDays = viewerRetentionDays;
+    }
+
+    /**
+     * 새 이력 증분 집계 (실행권을 차지한 서버 하나만 실행)
+     */
+    @Scheduled(initialDelayString = "${app.post-view-rollup.interval-ms:60000}",
+               fixedDelayString = "${app.post-view-rollup.interval-ms:60000}")
+    public void rollUp() {
+        if (!rollupRepository.tryAcquireLease(leaseSeconds)) {
+            return;
+        }
+        try {
+            rollUpWindow();
+        } finally {
+            rollupRepository.releaseLease();
+        }
+    }
+
+    private void rollUpWindow() {
+        LocalDateTime watermark = rollupRepository.findWatermark();
+        if (watermark == null) {
+            LocalDateTime oldest = rollupRepository.findOldestHistoryCreatedAt();
+            if (oldest == null) {
+                return;
+            }
+            watermark = oldest.minusSeconds(1);
+        }
+
+        LocalDateTime upper = LocalDateTime.now().minus(lag);
+        if (!upper.isAfter(watermark)) {
+            return;
+        }
+        LocalDateTime to = watermark.plus(maxWindow).isBefore(upper) ? watermark.plus(maxWindow) : upper;
+
+        long startedAt = System.currentTimeMillis();
+        List<LocalDateTime> hours = rollupRepository.findTouchedHours(watermark, to);
+        // 시간별 집계가 정리되는 날짜는 시간별 집계 대신 원본 이력에서 일별 집계 (정리된 시간대가 빠진 값으로 덮어쓰지 않도록)
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime hourlyCutoff = now.minusDays(hourlyRetentionDays).toLocalDate().plusDays(1).atStartOfDay();
+        // 원본 이력도 일부 정리되었을 수 있는 날짜는 다시 집계하지 않음
+        LocalDateTime rawCutoff = now.minusDays(rawRetentionDays).toLocalDate().plusDays(1).atStartOfDay();
+        Set<LocalDateTime> days = new TreeSet<>();
+        Set<LocalDateTime> rawDays = new TreeSet<>();
+        for (LocalDateTime hour : hours) {
+            LocalDateTime day = hour.toLocalDate().atStartOfDay();
+            boolean keepHourly = !day.isBefore(hourlyCutoff);
+            bucketTransaction.executeWithoutResult(status -> {
+                if (keepHourly) {
+                    rollupRepository.rollUpHour(hour);
+                }
+                rollupRepository.addDailyViewers(hour);
+            });
+            if (keepHourly) {
+                days.add(day);
+            } else if (!day.isBefore(rawCutoff)) {
+                rawDays.add(day);
+            } else {
+                log.warn("게시물 조회수 집계: 원본 이력 보존 기간이 지난 날짜는 일별 집계를 건너뜀 ({})", day.toLocalDate());
+            }
+        }
+        for (LocalDateTime day : days) {
+            bucketTransaction.executeWithoutResult(status -> rollupRepository.rollUpDay(day));
+        }
+        for (LocalDateTime day : rawDays) {
+            bucketTransaction.executeWithoutResult(status -> rollupRepository.rollUpDayFromHistory(day));
+        }
+        // 모든 구간이 반영된 뒤에만 진행 위치를 옮김 (중간에 실패하면 다음 실행에서 같은 구간을 다시 집계)
+        rollupRepository.updateWatermark(to);
+
+        if (!hours.isEmpty()) {
+            log.debug("게시물 조회수 집계: ~{}, 시간대 {}건, 날짜 {}건, 소요: {}ms",
+                    to, hours.size(), days.size() + rawDays.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 원본 이력/집계 삭제 (기본 매일 03:30)
+     */
+    @Scheduled(cron = "${app.post-view-rollup.retention-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime watermark = rollupRepository.findWatermark();
+            long raw = 0;
+            if (watermark != null) {
+                // 아직 집계되지 않았을 수 있는 이력은 남김 (늦게 저장된 조회를 고려해 하루 여유)
+                LocalDateTime rawCutoff = now.minusDays(rawRetentionDays);
+                LocalDateTime safeCutoff = watermark.minusDays(1);
+                raw = rollupRepository.deleteBefore("post_view_history",
+                        rawCutoff.isBefore(safeCutoff) ? rawCutoff : safeCutoff, DELETE_CHUNK_SIZE);
+            }
+            long hourly = rollupRepository.deleteBefore("post_view_hourly",
+                    now.minusDays(hourlyRetentionDays).toLocalDate().atStartOfDay(), DELETE_CHUNK_SIZE);
+            long daily = rollupRepository.deleteBefore("post_view_daily",
+                    now.minusDays(dailyRetentionDays).toLocalDate().atStartOfDay(), DELETE_CHUNK_SIZE);
+            long viewers = rollupRepository.deleteBefore("post_view_daily_viewer",
+                    now.minusDays(viewerRetentionDays).toLocalDate().atStartOfDay(), DELETE_CHUNK_SIZE);
+            log.info("게시물 조회 이력 보존 기간 정리: 원본 {}건, 시간별 {}건, 일별 {}건, 일별 조회자 {}건",
+                    raw, hourly, daily, viewers);
+        } catch (Exception e) {
+            log.error("게시물 조회 이력 보존 기간 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -173,6 +173,7 @@ public class StaffPermissionController {
                  .filter(pmId -> pmId != null)
                  .collect(Collectors.toList());
 
+             // 권한 인터셉터의 회원별 권한 캐시는 updatePermissions 커밋 후 무효화됨
              List<TransferDto> transfers = transferService.updatePermissions(memberId, grantedPmIdsInt);
              
              // 업데이트 후 권한 조회
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.jakdang.labs.entity.MemberEntity;
@@ -19,4 +21,12 @@ public interface MembersRepository extends JpaRepository<MemberEntity, String> {
     // 기존 PK(memberId) 검색용 메서드는 그대로 두고...
     // 사용자 ID(=MemberEntity.id 컬럼)로도 조회할 수 있도록 추가
     Optional<MemberEntity> findById(String userId);
+
+    // 인증 사용자(userId/email)에 해당하는 MemberEntity 후보 조회 (권한 인터셉터용)
+    @Query("SELECT m FROM MemberEntity m " +
+           "WHERE (m.id = :userId OR m.memberId = :userId OR m.memberEmail = :email) " +
+           "AND m.memberRole IN :memberRoles")
+    List<MemberEntity> findIdentityCandidates(@Param("userId") String userId,
+                                              @Param("email") String email,
+                                              @Param("memberRoles") List<String> memberRoles);
 }
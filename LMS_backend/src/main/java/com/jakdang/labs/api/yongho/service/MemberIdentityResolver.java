@@ -0,0 +1,84 @@
+package com.jakdang.labs.api.yongho.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jakdang.labs.api.yongho.repository.MembersRepository;
+import com.jakdang.labs.entity.MemberEntity;
+import com.jakdang.labs.utils.ExpiringCache;
+
+/**
+ * 인증된 사용자(userId/email) → memberId 해석기
+ * 기존에는 요청마다 전체 회원을 조회해 선형 탐색했으나,
+ * 대상 회원만 조회하는 쿼리 + userId 키의 TTL 캐시(email 기준 무효화 지원)로 요청당 O(1)로 처리한다.
+ * 회원 정보/이메일 변경 시 MemberManagementService, StudentService에서 무효화한다.
+ */
+@Component
+public class MemberIdentityResolver {
+
+    private static final List<String> MEMBER_ROLES =
+            List.of("ROLE_STAFF", "ROLE_INSTRUCTOR", "ROLE_ADMIN", "ROLE_DIRECTOR", "ROLE_STUDENT");
+
+    private final MembersRepository membersRepository;
+    // userId → 해석 결과 (email은 값에 함께 보관하여 email 기준 무효화에 사용)
+    private final ExpiringCache<String, MemberIdentity> byUserId;
+
+    public MemberIdentityResolver(MembersRepository membersRepository,
+                                  @Value("${app.member-identity-cache.max-size:10000}") int maxSize,
+                                  @Value("${app.member-identity-cache.ttl-ms:60000}") long ttlMs) {
+        this.membersRepository = membersRepository;
+        this.byUserId = new ExpiringCache<>(maxSize, ttlMs);
+    }
+
+    /**
+     * userId/email로 memberId 조회
+     * 일치하는 회원이 없으면 기존 동작과 동일하게 userId를 그대로 반환한다.
+     */
+    public String resolveMemberId(String userId, String email) {
+        if (userId == null) {
+            return null;
+        }
+
+        Optional<MemberIdentity> cached = byUserId.get(userId)
+                .filter(identity -> Objects.equals(email, identity.email()));
+        if (cached.isPresent()) {
+            return cached.get().memberIdOr(userId);
+        }
+
+        MemberIdentity identity = load(userId, email);
+        byUserId.put(userId, identity);
+        return identity.memberIdOr(userId);
+    }
+
+    // 특정 사용자(userId = MemberEntity.id)의 캐시 무효화
+    public void evictUser(String userId) {
+        if (userId == null) {
+            return;
+        }
+        byUserId.invalidate(userId);
+    }
+
+    // 특정 이메일로 해석된 캐시 무효화 (회원 이메일 변경 시 이전/새 이메일 모두)
+    public void evictEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        byUserId.invalidateIf((userId, identity) -> email.equals(identity.email()));
+    }
+
+    private MemberIdentity load(String userId, String email) {
+        List<MemberEntity> candidates = membersRepository.findIdentityCandidates(userId, email, MEMBER_ROLES);
+        String memberId = candidates.isEmpty() ? null : candidates.get(0).getMemberId();
+        return new MemberIdentity(memberId, userId, email);
+    }
+
+    private record MemberIdentity(String memberId, String userId, String email) {
+        String memberIdOr(String fallback) {
+            return memberId != null ? memberId : fallback;
+        }
+    }
+}
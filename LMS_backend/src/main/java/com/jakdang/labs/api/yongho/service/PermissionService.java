@@ -30,4 +30,10 @@ public interface PermissionService {
 
     //특정 직원의 권한 조회
     List<Map<String, Object>> getMyPermissions(String memberId);
+
+    //특정 직원이 해당 권한을 가졌는지 확인 (회원별 권한 집합 캐시 사용)
+    boolean hasPermission(String memberId, Integer pmId);
+
+    //특정 직원의 권한 캐시 무효화 (권한 부여/회수 후 호출, 트랜잭션 안이면 커밋 후 반영)
+    void evictPermissionCache(String memberId);
 } 
\ No newline at end of file
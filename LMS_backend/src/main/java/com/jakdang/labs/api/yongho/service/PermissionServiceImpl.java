@@ -4,10 +4,13 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jakdang.labs.entity.PermissionEntity;
@@ -15,6 +18,10 @@ import com.jakdang.labs.entity.TransferEntity;
 import com.jakdang.labs.api.yongho.dto.PermissionManagementDto;
 import com.jakdang.labs.api.yongho.repository.PermissionManagementRepository;
 import com.jakdang.labs.api.yongho.repository.TransferRepository;
+import com.jakdang.labs.utils.ExpiringCache;
+import com.jakdang.labs.utils.TransactionUtils;
+
+import jakarta.annotation.PostConstruct;
 
 @Service
 @Transactional
@@ -23,6 +30,38 @@ public class PermissionServiceImpl implements PermissionService {
     @Autowired private TransferRepository transferRepo;
     @Autowired private PermissionManagementRepository permRepo;
 
+    @Value("${app.permission-cache.max-size:5000}")
+    private int permissionCacheMaxSize;
+    @Value("${app.permission-cache.ttl-ms:30000}")
+    private long permissionCacheTtlMillis;
+    // memberId → 부여된 권한 ID 집합 (권한 인터셉터에서 요청마다 DB를 조회하지 않도록 캐싱)
+    // 무효화는 변경한 서버에만 적용되므로 다른 서버는 ttl-ms 안에 반영된다.
+    private ExpiringCache<String, Set<Integer>> grantedPermissionCache;
+
+    @PostConstruct
+    void initPermissionCache() {
+        grantedPermissionCache = new ExpiringCache<>(permissionCacheMaxSize, permissionCacheTtlMillis);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public boolean hasPermission(String memberId, Integer pmId) {
+        if (memberId == null || pmId == null) {
+            return false;
+        }
+        Set<Integer> granted = grantedPermissionCache.computeIfAbsent(memberId,
+                id -> Set.copyOf(getGrantedPmIds(id)));
+        return granted.contains(pmId);
+    }
+
+    // 커밋 전에 다른 요청이 이전 권한을 다시 캐싱하지 않도록 커밋 후 무효화
+    @Override
+    public void evictPermissionCache(String memberId) {
+        if (memberId != null) {
+            TransactionUtils.afterCommit(() -> grantedPermissionCache.invalidate(memberId));
+        }
+    }
+
     @Override
     public List<Integer> getGrantedPmIds(String memberId) {
         
@@ -62,6 +101,7 @@ public class PermissionServiceImpl implements PermissionService {
                 
             }
         });
+        evictPermissionCache(memberId);
     }
 
     @Override
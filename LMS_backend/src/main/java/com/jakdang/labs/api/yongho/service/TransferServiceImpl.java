@@ -23,6 +23,7 @@ public class TransferServiceImpl implements TransferService {
 
     private final TransferRepository transferRepository;
     private final PermissionManagementRepository permissionRepo;
+    private final PermissionService permissionService;
 
     @Override
     @Transactional(readOnly = true)
@@ -68,6 +69,8 @@ public class TransferServiceImpl implements TransferService {
             .toList();
 
         List<TransferEntity> saved = transferRepository.saveAll(entities);
+        // 권한 인터셉터의 회원별 권한 캐시 무효화 (커밋 후)
+        permissionService.evictPermissionCache(memberId);
         return saved.stream()
             .map(this::convertToDto)
             .toList();
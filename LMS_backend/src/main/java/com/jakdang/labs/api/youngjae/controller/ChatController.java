@@ -263,12 +263,15 @@ public class ChatController {
      * 사용중
      * 채팅방 메시지 목록 조회
      * GET /api/chat/rooms/{roomId}/messages
+     * GET /api/chat/rooms/{roomId}/messages?before={cursor}&limit={n} (커서 기반 페이지 조회)
      */
-    @Operation(summary = "채팅방 메시지 조회", description = "특정 채팅방의 메시지 목록을 조회합니다")
+    @Operation(summary = "채팅방 메시지 조회", description = "특정 채팅방의 메시지 목록을 조회합니다. before/limit을 지정하면 최신순 커서 페이지로 조회합니다")
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<MessagesResponse> getChatRoomMessages(
             @PathVariable String roomId,
             @RequestParam(value = "userId", required = false) String userId,
+            @RequestParam(value = "before", required = false) String before,
+            @RequestParam(value = "limit", required = false) Integer limit,
             HttpServletRequest httpRequest) {
         
         // JWT 토큰에서 사용자 이메일 자동 추출
@@ -293,6 +296,17 @@ public class ChatController {
                                 .build());
             }
             
+            // before/limit이 있으면 키셋 페이지 조회
+            if (before != null || limit != null) {
+                MessagesResponse.MessagePage page = chatRoomService.getChatRoomMessagesPage(roomId, userEmail, before, limit);
+                return ResponseEntity.ok(MessagesResponse.builder()
+                        .success(true)
+                        .messages(page.getMessages())
+                        .nextCursor(page.getNextCursor())
+                        .hasMore(page.isHasMore())
+                        .build());
+            }
+            
             List<MessagesResponse.MessageDto> messages = chatRoomService.getChatRoomMessages(roomId, userEmail);
             
             // log.info("사용자 {}의 채팅방 {} 메시지 목록 조회 완료: {}개", userEmail, roomId, messages.size());
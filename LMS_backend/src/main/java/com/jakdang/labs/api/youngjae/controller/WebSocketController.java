@@ -6,7 +6,6 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import com.jakdang.labs.api.youngjae.dto.SendMessageRequest;
@@ -16,6 +15,7 @@ import com.jakdang.labs.api.youngjae.dto.UserStatusMessage;
 import com.jakdang.labs.api.youngjae.dto.WebSocketMessage;
 import com.jakdang.labs.api.youngjae.service.ChatRoomService;
 import com.jakdang.labs.security.jwt.utils.JwtUtil;
+import com.jakdang.labs.websocket.ChatBroadcaster;
 
 import java.util.HashMap;
 import java.util.List;
@@ -29,7 +29,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "WebSocket API", description = "실시간 채팅 WebSocket API")
 public class WebSocketController {
     
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
     private final ChatRoomService chatRoomService;
     private final JwtUtil jwtUtil;
     
@@ -76,7 +76,7 @@ public class WebSocketController {
             
             // 채팅방의 모든 구독자에게 메시지 전송
             // log.info("브로드캐스트 전송 시작: /topic/room/{}", roomId);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, webSocketMessage);
+            chatBroadcaster.broadcast("/topic/room/" + roomId, webSocketMessage);
             // log.info("브로드캐스트 전송 완료: {}", webSocketMessage);
             return webSocketMessage;
             
@@ -132,7 +132,7 @@ public class WebSocketController {
                     .build();
             
             // log.info("사용자 입장 알림 전송: /topic/room/{}/status", roomId);
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", joinMessage);
+            chatBroadcaster.broadcast("/topic/room/" + roomId + "/status", joinMessage);
             // log.info("사용자 입장 알림 전송 완료");
             
         } catch (Exception e) {
@@ -174,7 +174,7 @@ public class WebSocketController {
                     .build();
             
             // 채팅방의 다른 사용자들에게 타이핑 상태 전송 (발신자 제외)
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/typing", typingStatus);
+            chatBroadcaster.broadcast("/topic/room/" + roomId + "/typing", typingStatus);
             
         } catch (Exception e) {
             // log.error("WebSocket 타이핑 상태 처리 중 오류 발생", e);
@@ -3,13 +3,13 @@ package com.jakdang.labs.api.youngjae.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import com.jakdang.labs.api.youngjae.dto.UserStatusMessage;
+import com.jakdang.labs.websocket.ChatBroadcaster;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -19,7 +19,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "WebSocket 이벤트 리스너", description = "WebSocket 연결/해제 이벤트 처리")
 public class WebSocketEventListener {
     
-    private final SimpMessageSendingOperations messagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
     
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
@@ -48,7 +48,7 @@ public class WebSocketEventListener {
                     .userName(userName)
                     .build();
             
-            messagingTemplate.convertAndSend("/topic/room/" + roomId + "/status", leaveMessage);
+            chatBroadcaster.broadcast("/topic/room/" + roomId + "/status", leaveMessage);
         }
     }
 } 
\ No newline at end of file
@@ -18,6 +18,21 @@ import com.jakdang.labs.entity.MemberEntity;
 public class MessagesResponse {
     private boolean success;
     private List<MessageDto> messages;
+    private String nextCursor; // 더 오래된 메시지를 조회할 때 before로 전달 (페이지 조회 시에만 사용)
+    private Boolean hasMore;   // 더 오래된 메시지 존재 여부 (페이지 조회 시에만 사용)
+    
+    /**
+     * 커서 기반 메시지 페이지 (오래된 순 정렬)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MessagePage {
+        private List<MessageDto> messages;
+        private String nextCursor;
+        private boolean hasMore;
+    }
     
     @Data
     @Builder
@@ -1,6 +1,7 @@
 package com.jakdang.labs.api.youngjae.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -63,4 +64,26 @@ public interface ChatGroupRepository extends JpaRepository<ChatGroupEntity, Stri
      * 특정 사용자의 채팅방 참여 정보 조회 (memberId 기반)
      */
     ChatGroupEntity findByIdAndChatRoomId(String memberId, String chatRoomId);
+
+    /**
+     * 특정 사용자의 모든 채팅방 참여 정보 조회 (이메일 기반, 채팅방 목록용 단일 쿼리)
+     */
+    @Query(value = "SELECT cg.* FROM chatgroup cg " +
+                   "JOIN member m ON cg.id = m.memberId " +
+                   "WHERE m.memberEmail = :email", nativeQuery = true)
+    List<ChatGroupEntity> findAllByMemberEmail(@Param("email") String email);
+
+    /**
+     * 여러 채팅방에서 특정 참여자(id)의 참여 정보 조회
+     */
+    List<ChatGroupEntity> findByChatRoomIdInAndId(List<String> chatRoomIds, String id);
+
+    /**
+     * 메시지 전송 시 발신자를 제외한 (퇴장 상태) 참여자의 읽지 않은 메시지 수 증가
+     */
+    @Modifying
+    @Query("UPDATE ChatGroupEntity cg SET cg.unreadCount = COALESCE(cg.unreadCount, 0) + 1 " +
+           "WHERE cg.chatRoomId = :chatRoomId AND cg.exitedAt IS NOT NULL AND cg.id NOT IN :senderMemberIds")
+    int incrementUnreadCount(@Param("chatRoomId") String chatRoomId,
+                             @Param("senderMemberIds") List<String> senderMemberIds);
 }
@@ -57,4 +57,35 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity,
         @Param("chatRoomId") String chatRoomId, 
         @Param("afterTime") java.time.Instant afterTime
     );
-} 
\ No newline at end of file
+    
+    /**
+     * 여러 채팅방의 마지막 메시지를 한 번에 조회 (채팅방당 1건, ROW_NUMBER 윈도 함수)
+     */
+    @Query(value = "SELECT lm.messageId, lm.id, lm.chatRoomId, lm.content, lm.createdAt FROM (" +
+                   "  SELECT cm.messageId, cm.id, cm.chatRoomId, cm.content, cm.createdAt, " +
+                   "         ROW_NUMBER() OVER (PARTITION BY cm.chatRoomId ORDER BY cm.createdAt DESC, cm.messageId DESC) AS rn " +
+                   "  FROM chatmessage cm WHERE cm.chatRoomId IN (:chatRoomIds)" +
+                   ") lm WHERE lm.rn = 1", nativeQuery = true)
+    List<ChatMessageEntity> findLatestMessagesByChatRoomIds(@Param("chatRoomIds") List<String> chatRoomIds);
+    
+    /**
+     * 채팅방 메시지 최신 페이지 조회 (키셋 페이지네이션 첫 페이지, 최신순)
+     */
+    @Query("SELECT cm FROM ChatMessageEntity cm WHERE cm.chatRoomId = :chatRoomId AND cm.createdAt >= :afterTime " +
+           "ORDER BY cm.createdAt DESC, cm.messageId DESC")
+    List<ChatMessageEntity> findLatestPage(@Param("chatRoomId") String chatRoomId,
+                                           @Param("afterTime") java.time.Instant afterTime,
+                                           org.springframework.data.domain.Pageable pageable);
+    
+    /**
+     * 커서(createdAt, messageId)보다 오래된 메시지 페이지 조회 (키셋 페이지네이션, 최신순)
+     */
+    @Query("SELECT cm FROM ChatMessageEntity cm WHERE cm.chatRoomId = :chatRoomId AND cm.createdAt >= :afterTime " +
+           "AND (cm.createdAt < :beforeAt OR (cm.createdAt = :beforeAt AND cm.messageId < :beforeId)) " +
+           "ORDER BY cm.createdAt DESC, cm.messageId DESC")
+    List<ChatMessageEntity> findPageBefore(@Param("chatRoomId") String chatRoomId,
+                                           @Param("afterTime") java.time.Instant afterTime,
+                                           @Param("beforeAt") java.time.Instant beforeAt,
+                                           @Param("beforeId") String beforeId,
+                                           org.springframework.data.domain.Pageable pageable);
+}
@@ -2,6 +2,7 @@ package com.jakdang.labs.api.youngjae.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,14 +26,16 @@ import com.jakdang.labs.api.youngjae.dto.MemberSearchResponse;
 import com.jakdang.labs.api.auth.entity.UserEntity;
 import com.jakdang.labs.api.auth.repository.AuthRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,64 +49,42 @@ public class ChatRoomService {
     private final MemberRepository memberRepository;
     private final AuthRepository userRepository;
     
+    private static final int DEFAULT_MESSAGE_PAGE_SIZE = 50;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 200;
+    
     /**
      * 채팅방의 읽지 않은 메시지 수 계산 (공통 메서드)
+     * 메시지를 다시 읽지 않고 ChatGroup에 누적된 카운터만 사용한다.
      */
-    private int calculateUnreadMessageCount(String roomId, ChatGroupEntity userChatGroup) {
-        int unreadCount = 0;
-        
-        if (userChatGroup != null) {
-            // exitedAt이 null이면 참여 중이므로 모든 메시지를 읽은 것으로 간주
-            if (userChatGroup.getExitedAt() == null) {
-                // log.info("채팅방 {} - 사용자가 참여 중이므로 모든 메시지를 읽은 것으로 간주", roomId);
-                return 0;
-            }
-            
-            // exitedAt 이후의 메시지 조회
-            List<ChatMessageEntity> unreadMessages = chatMessageRepository
-                .findByChatRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(roomId, userChatGroup.getExitedAt());
-            
-            // log.info("채팅방 {} - 퇴장 시간: {}, 퇴장 후 메시지 수: {}, 현재 사용자 ID: {}", 
-            //     roomId, userChatGroup.getExitedAt(), unreadMessages.size(), userChatGroup.getId());
-            
-            // 자신이 보낸 메시지 제외한 개수 계산 (ID 기반)
-            // log.info("채팅방 {} - 퇴장 후 메시지 상세 정보:", roomId);
-            // for (ChatMessageEntity message : unreadMessages) {
-            //     log.info("  메시지: messageId={}, senderId={}, content={}, createdAt={}", 
-            //         message.getMessageId(), message.getId(), message.getContent(), message.getCreatedAt());
-            // }
-            
-            // 중복 senderId 확인
-            Set<String> allUniqueSenders = unreadMessages.stream()
-                .map(ChatMessageEntity::getId)
-                .filter(senderId -> !senderId.equals(userChatGroup.getId()))
-                .collect(Collectors.toSet());
-            // log.info("채팅방 {} - 고유한 발신자 수: {} (발신자 ID들: {})", roomId, allUniqueSenders.size(), allUniqueSenders);
-            
-            // 메시지 개수로 계산 (2배로 나오는 문제 해결을 위해 반으로 나눔)
-            int rawCount = (int) unreadMessages.stream()
-                .filter(message -> {
-                    boolean isOwnMessage = message.getId().equals(userChatGroup.getId());
-                    // if (isOwnMessage) {
-                    //     log.info("자신이 보낸 메시지 제외: messageId={}, senderId={}, userChatGroupId={}", 
-                    //         message.getMessageId(), message.getId(), userChatGroup.getId());
-                    // } else {
-                    //     log.info("다른 사람이 보낸 메시지: messageId={}, senderId={}, userChatGroupId={}", 
-                    //         message.getMessageId(), message.getId(), userChatGroup.getId());
-                    // }
-                    return !isOwnMessage; // 자신이 보낸 메시지 제외
-                })
-                .count();
-            
-            unreadCount = rawCount / 2;
-            // log.info("채팅방 {} - 원본 카운트: {}, 최종 카운트: {}", roomId, rawCount, unreadCount);
-            
-            // log.info("채팅방 {} - 읽지 않은 메시지 수: {}", roomId, unreadCount);
-        } else {
-            // log.info("채팅방 {} - 사용자 참여 정보를 찾을 수 없음", roomId);
+    private int calculateUnreadMessageCount(ChatGroupEntity userChatGroup) {
+        // 참여 정보가 없거나 exitedAt이 null(참여 중)이면 모든 메시지를 읽은 것으로 간주
+        if (userChatGroup == null || userChatGroup.getExitedAt() == null || userChatGroup.getUnreadCount() == null) {
+            return 0;
         }
         
-        return unreadCount;
+        // 클라이언트가 WebSocket + HTTP로 같은 메시지를 두 번 저장하므로 반으로 나눔 (기존 계산 방식 유지)
+        return userChatGroup.getUnreadCount() / 2;
+    }
+
+    /**
+     * 채팅방별 사용자 참여 정보 → 읽지 않은 메시지 수 (채팅방당 첫 번째 참여 정보 기준)
+     */
+    private Map<String, Integer> toUnreadCounts(List<ChatGroupEntity> userChatGroups) {
+        Map<String, Integer> unreadCounts = new HashMap<>();
+        for (ChatGroupEntity chatGroup : userChatGroups) {
+            if (chatGroup.getChatRoomId() != null) {
+                unreadCounts.putIfAbsent(chatGroup.getChatRoomId(), calculateUnreadMessageCount(chatGroup));
+            }
+        }
+        return unreadCounts;
+    }
+
+    /**
+     * 채팅방 ID 목록 → 마지막 메시지 (메시지가 없는 채팅방은 포함되지 않음)
+     */
+    private Map<String, ChatMessageEntity> findLastMessages(List<String> chatRoomIds) {
+        return chatMessageRepository.findLatestMessagesByChatRoomIds(chatRoomIds).stream()
+                .collect(Collectors.toMap(ChatMessageEntity::getChatRoomId, message -> message, (a, b) -> a));
     }
 
     /**
@@ -138,51 +119,25 @@ public class ChatRoomService {
             return List.of();
         }
         
-        // ChatGroup을 통해 사용자가 참여한 채팅방 ID 목록 조회 (이메일 기반)
-        List<String> chatRoomIds = chatGroupRepository.findChatRoomIdsByMemberEmail(userEmail);
+        // ChatGroup을 통해 사용자의 참여 정보 + 채팅방 ID 목록 조회 (이메일 기반, 단일 쿼리)
+        List<ChatGroupEntity> userChatGroups = chatGroupRepository.findAllByMemberEmail(userEmail);
+        List<String> chatRoomIds = userChatGroups.stream()
+                .map(ChatGroupEntity::getChatRoomId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (chatRoomIds.isEmpty()) {
+            return List.of();
+        }
         
         // 채팅방 정보 조회 (Native SQL 사용)
         List<ChatRoomEntity> chatRooms = chatRoomRepository.findAllByChatRoomIds(chatRoomIds);
         
-        // 각 채팅방의 마지막 메시지 조회 (null 안전 처리)
-        Map<String, ChatMessageEntity> lastMessages = new HashMap<>();
-        if (chatRoomIds != null && !chatRoomIds.isEmpty()) {
-            for (String roomId : chatRoomIds) {
-                if (roomId != null) {
-                    try {
-                        Optional<ChatMessageEntity> lastMessage = chatMessageRepository.findFirstByChatRoomIdOrderByCreatedAtDesc(roomId);
-                        lastMessages.put(roomId, lastMessage.orElse(null));
-                    } catch (Exception e) {
-                        // log.warn("채팅방 {}의 마지막 메시지 조회 중 오류: {}", roomId, e.getMessage());
-                    }
-                }
-            }
-        }
+        // 각 채팅방의 마지막 메시지 조회 (채팅방 수와 무관하게 단일 쿼리)
+        Map<String, ChatMessageEntity> lastMessages = findLastMessages(chatRoomIds);
         
-        // 각 채팅방의 읽지 않은 메시지 수 계산
-        Map<String, Integer> unreadCounts = new HashMap<>();
-        for (String roomId : chatRoomIds) {
-            if (roomId != null) {
-                try {
-                    // ChatGroup에서 사용자의 참여 정보 조회 (이메일 기반)
-                    ChatGroupEntity userChatGroup = chatGroupRepository.findByChatRoomIdAndMemberEmail(roomId, userEmail);
-                    
-                    // log.info("채팅방 {} - 사용자 {}의 ChatGroup 조회 결과: {}", 
-                    //     roomId, userEmail, userChatGroup != null ? "찾음" : "찾을 수 없음");
-                    // if (userChatGroup != null) {
-                    //     log.info("채팅방 {} - ChatGroup 정보: id={}, exitedAt={}, enteredAt={}", 
-                    //         roomId, userChatGroup.getId(), userChatGroup.getExitedAt(), userChatGroup.getEnteredAt());
-                    // }
-                    
-                    int unreadCount = calculateUnreadMessageCount(roomId, userChatGroup);
-                    
-                    unreadCounts.put(roomId, unreadCount);
-                } catch (Exception e) {
-                    // log.warn("채팅방 {}의 읽지 않은 메시지 수 계산 중 오류: {}", roomId, e.getMessage());
-                    unreadCounts.put(roomId, 0);
-                }
-            }
-        }
+        // 각 채팅방의 읽지 않은 메시지 수
+        Map<String, Integer> unreadCounts = toUnreadCounts(userChatGroups);
         
         return chatRooms.stream()
                 .map(chatRoom -> {
@@ -203,52 +158,18 @@ public class ChatRoomService {
         // ChatGroup을 통해 사용자가 참여한 채팅방 ID 목록 조회 (이메일 기반)
         List<String> chatRoomIds = chatGroupRepository.findChatRoomIdsByMemberEmail(userId);
         
+        if (chatRoomIds.isEmpty()) {
+            return List.of();
+        }
+        
         // 채팅방 정보 조회 (Native SQL 사용)
         List<ChatRoomEntity> chatRooms = chatRoomRepository.findAllByChatRoomIds(chatRoomIds);
         
-        // 각 채팅방의 마지막 메시지 조회
-        Map<String, ChatMessageEntity> lastMessages = chatRoomIds.stream()
-                .collect(Collectors.toMap(
-                    roomId -> roomId,
-                    roomId -> chatMessageRepository.findFirstByChatRoomIdOrderByCreatedAtDesc(roomId).orElse(null)
-                ));
+        // 각 채팅방의 마지막 메시지 조회 (단일 쿼리)
+        Map<String, ChatMessageEntity> lastMessages = findLastMessages(chatRoomIds);
         
-        // 각 채팅방의 읽지 않은 메시지 수 계산
-        Map<String, Integer> unreadCounts = new HashMap<>();
-        for (String roomId : chatRoomIds) {
-            if (roomId != null) {
-                try {
-                    // ChatGroup에서 사용자의 참여 정보 조회 (ID 기반)
-                    List<ChatGroupEntity> allChatGroups = chatGroupRepository.findByChatRoomId(roomId);
-                    // log.info("채팅방 {} - 전체 ChatGroup 수: {}", roomId, allChatGroups.size());
-                    
-                    // 모든 ChatGroup의 ID 출력
-                    // allChatGroups.forEach(cg -> {
-                    //     log.info("채팅방 {} - ChatGroup ID: {}", roomId, cg.getId());
-                    // });
-                    
-                    List<ChatGroupEntity> userChatGroups = allChatGroups.stream()
-                        .filter(cg -> cg.getId().equals(userId))
-                        .collect(Collectors.toList());
-                    
-                    ChatGroupEntity userChatGroup = userChatGroups.isEmpty() ? null : userChatGroups.get(0);
-                    
-                    // log.info("채팅방 {} - 사용자 {}의 ChatGroup 조회 결과: {}", 
-                    //     roomId, userId, userChatGroup != null ? "찾음" : "찾을 수 없음");
-                    // if (userChatGroup != null) {
-                    //     log.info("채팅방 {} - ChatGroup 정보: id={}, exitedAt={}, enteredAt={}", 
-                    //         roomId, userChatGroup.getId(), userChatGroup.getExitedAt(), userChatGroup.getEnteredAt());
-                    // }
-                    
-                    int unreadCount = calculateUnreadMessageCount(roomId, userChatGroup);
-                    
-                    unreadCounts.put(roomId, unreadCount);
-                } catch (Exception e) {
-                    // log.warn("채팅방 {}의 읽지 않은 메시지 수 계산 중 오류: {}", roomId, e.getMessage());
-                    unreadCounts.put(roomId, 0);
-                }
-            }
-        }
+        // 각 채팅방의 읽지 않은 메시지 수 (사용자의 참여 정보를 한 번에 조회)
+        Map<String, Integer> unreadCounts = toUnreadCounts(chatGroupRepository.findByChatRoomIdInAndId(chatRoomIds, userId));
         
         return chatRooms.stream()
                 .map(chatRoom -> {
@@ -399,6 +320,58 @@ public class ChatRoomService {
     public List<MessagesResponse.MessageDto> getChatRoomMessages(String roomId, String userEmail) {
         log.info("사용자 {}의 채팅방 {} 메시지 목록 조회", userEmail, roomId);
         
+        Instant joinedAt = findJoinedAt(roomId, userEmail);
+        List<ChatMessageEntity> messages = chatMessageRepository.findByChatRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(roomId, joinedAt);
+        
+        // log.info("사용자 {}의 채팅방 {} 입장 시간: {}, 조회된 메시지 수: {}", userEmail, roomId, joinedAt, messages.size());
+        
+        return toMessageDtos(messages);
+    }
+    
+    /**
+     * 채팅방 메시지 페이지 조회 (키셋 페이지네이션, 사용자 입장 시간 이후 메시지만)
+     * @param roomId 채팅방 ID
+     * @param userEmail 사용자 이메일
+     * @param before 이전 페이지 응답의 nextCursor (null이면 최신 페이지)
+     * @param limit 페이지 크기 (기본 50, 최대 200)
+     * @return 오래된 순으로 정렬된 메시지 페이지
+     */
+    public MessagesResponse.MessagePage getChatRoomMessagesPage(String roomId, String userEmail, String before, Integer limit) {
+        log.info("사용자 {}의 채팅방 {} 메시지 페이지 조회: before={}, limit={}", userEmail, roomId, before, limit);
+        
+        int pageSize = limit == null ? DEFAULT_MESSAGE_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_MESSAGE_PAGE_SIZE));
+        Instant joinedAt = findJoinedAt(roomId, userEmail);
+        
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<ChatMessageEntity> newestFirst;
+        if (before == null || before.isBlank()) {
+            newestFirst = chatMessageRepository.findLatestPage(roomId, joinedAt, pageRequest);
+        } else {
+            MessageCursor cursor = MessageCursor.decode(before);
+            newestFirst = chatMessageRepository.findPageBefore(roomId, joinedAt, cursor.createdAt(), cursor.messageId(), pageRequest);
+        }
+        
+        boolean hasMore = newestFirst.size() > pageSize;
+        List<ChatMessageEntity> page = new ArrayList<>(hasMore ? newestFirst.subList(0, pageSize) : newestFirst);
+        
+        // 가장 오래된 메시지가 다음 페이지의 기준점
+        String nextCursor = hasMore ? MessageCursor.encode(page.get(page.size() - 1)) : null;
+        
+        // 기존 API와 동일하게 오래된 순으로 응답
+        Collections.reverse(page);
+        
+        return MessagesResponse.MessagePage.builder()
+                .messages(toMessageDtos(page))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+    
+    /**
+     * 메시지 조회 권한 확인 후 사용자의 채팅방 입장 시간 반환
+     */
+    private Instant findJoinedAt(String roomId, String userEmail) {
         // 채팅방 존재 여부 확인
         ChatRoomEntity chatRoom = chatRoomRepository.findByChatRoomId(roomId);
         if (chatRoom == null) {
@@ -442,59 +415,59 @@ public class ChatRoomService {
             throw new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다.");
         }
         
-        // 사용자 입장 시간 이후의 메시지 목록 조회
-        Instant joinedAt = chatGroup.getCreatedAt();
-        List<ChatMessageEntity> messages = chatMessageRepository.findByChatRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(roomId, joinedAt);
-        
-        // log.info("사용자 {}의 채팅방 {} 입장 시간: {}, 조회된 메시지 수: {}", userEmail, roomId, joinedAt, messages.size());
-        
-        // 발신자 정보 조회 (동일한 ID를 가진 여러 레코드가 있을 수 있으므로 처리)
+        // 사용자 입장 시간 (이 시점 이후의 메시지만 조회 가능)
+        return chatGroup.getCreatedAt();
+    }
+    
+    /**
+     * 메시지 목록 → DTO 변환 (발신자 정보는 한 번의 IN 쿼리로 조회)
+     */
+    private List<MessagesResponse.MessageDto> toMessageDtos(List<ChatMessageEntity> messages) {
         List<String> senderIds = messages.stream()
                 .map(ChatMessageEntity::getId)
+                .filter(Objects::nonNull)
                 .distinct()
                 .collect(Collectors.toList());
         
-        final Map<String, MemberEntity> users;
+        // 동일한 ID를 가진 여러 레코드가 있을 수 있으므로 만료되지 않은 레코드를 우선 선택
+        Map<String, MemberEntity> users = new HashMap<>();
         if (!senderIds.isEmpty()) {
-            // 각 ID별로 모든 레코드를 조회하고 적절한 레코드 선택
-            Map<String, MemberEntity> userMap = new HashMap<>();
-            
-            for (String senderId : senderIds) {
-                List<MemberEntity> membersWithSameId = memberRepository.findByIdIn(List.of(senderId));
-                if (!membersWithSameId.isEmpty()) {
-                    // 여러 레코드가 있는 경우 로깅
-                    if (membersWithSameId.size() > 1) {
-                        log.info("동일한 ID를 가진 {}개의 레코드를 찾았습니다. senderId: {}", membersWithSameId.size(), senderId);
-                        for (int i = 0; i < membersWithSameId.size(); i++) {
-                            MemberEntity member = membersWithSameId.get(i);
-                            log.info("  레코드 {}: memberId={}, memberRole={}, courseId={}, memberExpired={}", 
-                                i + 1, member.getId(), member.getMemberRole(), member.getCourseId(), member.getMemberExpired());
-                        }
-                    }
-                    
-                    // 가장 적절한 레코드 선택 (만료되지 않은 레코드 중 첫 번째)
-                    MemberEntity selectedMember = membersWithSameId.stream()
-                        .filter(m -> m.getMemberExpired() == null || m.getMemberExpired().isAfter(java.time.LocalDateTime.now()))
-                        .findFirst()
-                        .orElse(membersWithSameId.get(0)); // 만료되지 않은 레코드가 없으면 첫 번째 레코드 사용
-                    
-                    userMap.put(senderId, selectedMember);
+            java.time.LocalDateTime now = java.time.LocalDateTime.now();
+            for (MemberEntity member : memberRepository.findByIdIn(senderIds)) {
+                boolean active = member.getMemberExpired() == null || member.getMemberExpired().isAfter(now);
+                MemberEntity current = users.get(member.getId());
+                if (current == null || (active && current.getMemberExpired() != null && !current.getMemberExpired().isAfter(now))) {
+                    users.put(member.getId(), member);
                 }
             }
-            users = userMap;
-        } else {
-            users = new HashMap<>();
         }
         
-        // 메시지 DTO 변환
         return messages.stream()
-            .map(message -> {
-                MemberEntity sender = users.get(message.getId()); 
-                return MessagesResponse.MessageDto.from(message, sender);
-            })
+            .map(message -> MessagesResponse.MessageDto.from(message, users.get(message.getId())))
             .collect(Collectors.toList());
     }
     
+    /**
+     * 메시지 페이지 커서 (createdAt + messageId, Base64 URL-safe 인코딩)
+     */
+    private record MessageCursor(Instant createdAt, String messageId) {
+        
+        static String encode(ChatMessageEntity message) {
+            String raw = message.getCreatedAt().toString() + "|" + message.getMessageId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static MessageCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new MessageCursor(Instant.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+        }
+    }
+    
     /**
      * 메시지 전송
      */
@@ -561,6 +534,12 @@ public class ChatRoomService {
         
         ChatMessageEntity savedMessage = chatMessageRepository.save(message);
         
+        // 발신자를 제외한 참여자의 읽지 않은 메시지 수 증가 (단일 UPDATE)
+        List<String> senderMemberIds = members.stream()
+                .map(MemberEntity::getMemberId)
+                .collect(Collectors.toList());
+        chatGroupRepository.incrementUnreadCount(roomId, senderMemberIds);
+        
         return SendMessageResponse.MessageDto.from(savedMessage, sender);
     }
     
@@ -853,9 +832,10 @@ public class ChatRoomService {
             throw new IllegalArgumentException("채팅방 참여 정보를 찾을 수 없습니다");
         }
         
-        // 현재 시간으로 exitedAt 업데이트
+        // 현재 시간으로 exitedAt 업데이트 + 읽지 않은 메시지 수 초기화
         Instant currentTime = Instant.now();
         chatGroup.setExitedAt(currentTime);
+        chatGroup.setUnreadCount(0);
         chatGroupRepository.save(chatGroup);
         
         // log.info("사용자 {}의 채팅방 {} 나간 시간 업데이트 완료: {}", userEmail, roomId, currentTime);
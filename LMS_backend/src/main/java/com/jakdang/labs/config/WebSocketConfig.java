@@ -1,14 +1,21 @@
 package com.jakdang.labs.config;
 
+import com.jakdang.labs.websocket.OutboundBackpressureInterceptor;
 import com.jakdang.labs.websocket.StompAuthInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
@@ -20,18 +27,95 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthInterceptor stompAuthInterceptor;
     private final AppConfig appConfig;
+    private final OutboundBackpressureInterceptor outboundBackpressureInterceptor;
+    private final MeterRegistry meterRegistry;
+
+    // 채팅 브로커 모드: simple(기본, 단일 JVM) / relay(외부 STOMP 브로커) / kafka(simple + Kafka 노드 간 전파)
+    @Value("${app.chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${app.chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${app.chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${app.chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${app.chat.websocket.send-time-limit-ms:20000}")
+    private int sendTimeLimit;
+
+    // 채널 실행기: true면 inbound/outbound/broker 채널을 가상 스레드로 처리 (JPA 등 블로킹 작업이 스레드를 묶지 않음)
+    @Value("${app.chat.websocket.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.chat.websocket.inbound.core-size:16}")
+    private int inboundCoreSize;
+
+    @Value("${app.chat.websocket.inbound.max-size:64}")
+    private int inboundMaxSize;
+
+    @Value("${app.chat.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${app.chat.websocket.outbound.core-size:16}")
+    private int outboundCoreSize;
+
+    @Value("${app.chat.websocket.outbound.max-size:64}")
+    private int outboundMaxSize;
+
+    @Value("${app.chat.websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    @Value("${app.chat.websocket.broker.core-size:4}")
+    private int brokerCoreSize;
+
+    @Value("${app.chat.websocket.broker.max-size:16}")
+    private int brokerMaxSize;
+
+    @Value("${app.chat.websocket.broker.queue-capacity:1000}")
+    private int brokerQueueCapacity;
     
     // 배포 환경에서 웹소켓 연결을 위한 추가 설정
+    // 바이트 기준 한도(sendBufferSizeLimit/sendTimeLimit)를 넘으면 세션이 종료되고,
+    // 메시지 수 기준 세션별 대기열 한도는 OutboundBackpressureInterceptor가 담당한다.
     @Override
-    public void configureWebSocketTransport(org.springframework.web.socket.config.annotation.WebSocketTransportRegistration registration) {
-        registration.setMessageSizeLimit(64 * 1024) // 64KB
-                   .setSendBufferSizeLimit(512 * 1024) // 512KB
-                   .setSendTimeLimit(20000); // 20초
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit) // 기본 64KB
+                   .setSendBufferSizeLimit(sendBufferSizeLimit) // 기본 512KB
+                   .setSendTimeLimit(sendTimeLimit) // 기본 20초
+                   .addDecoratorFactory(outboundBackpressureInterceptor::decorate);
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 외부 STOMP 브로커(ActiveMQ Artemis 등)로 구독/브로드캐스트를 위임하여 여러 노드가 구독자를 공유
+            log.info("WebSocket 브로커: STOMP relay {}:{}", relayHost, relayPort);
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+        } else {
+            log.info("WebSocket 브로커: simple broker (mode={})", brokerMode);
+            config.enableSimpleBroker("/topic", "/queue");
+        }
+        configureExecutor(config.configureBrokerChannel(), "broker", brokerCoreSize, brokerMaxSize, brokerQueueCapacity);
         config.setApplicationDestinationPrefixes("/app");
         config.setUserDestinationPrefix("/user");
     }
@@ -88,10 +172,40 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompAuthInterceptor);
+        configureExecutor(registration, "inbound", inboundCoreSize, inboundMaxSize, inboundQueueCapacity);
     }
     
     @Override
     public void configureClientOutboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompAuthInterceptor);
+        registration.interceptors(stompAuthInterceptor, outboundBackpressureInterceptor);
+        configureExecutor(registration, "outbound", outboundCoreSize, outboundMaxSize, outboundQueueCapacity);
+    }
+
+    /**
+     * 채널별 전용 실행기 설정
+     * 스레드 풀은 프레임워크가 빈으로 등록해 초기화/종료를 관리하며, 대기열 길이와 활성 스레드 수를 메트릭으로 노출한다.
+     */
+    private void configureExecutor(ChannelRegistration registration, String channel,
+                                   int coreSize, int maxSize, int queueCapacity) {
+        String threadNamePrefix = "ws-" + channel + "-";
+        if (virtualThreads) {
+            registration.executor(new VirtualThreadTaskExecutor(threadNamePrefix));
+            return;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setAllowCoreThreadTimeOut(true);
+        registration.taskExecutor(executor);
+
+        Gauge.builder("chat.websocket.executor.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .register(meterRegistry);
     }
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package com.jakdang.labs.config.interceptor;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
@@ -12,9 +13,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import com.jakdang.labs.api.auth.dto.CustomUserDetails;
-import com.jakdang.labs.api.yongho.service.MemberService;
-import com.jakdang.labs.api.yongho.service.TransferService;
-import com.jakdang.labs.entity.MemberEntity;
+import com.jakdang.labs.api.yongho.service.MemberIdentityResolver;
+import com.jakdang.labs.api.yongho.service.PermissionService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,11 +22,35 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class PermissionInterceptor implements HandlerInterceptor {
 
-    private final TransferService transferService;
-    private final MemberService memberService;
+    private final PermissionService permissionService;
+    private final MemberIdentityResolver memberIdentityResolver;
     
     // URI별 필요한 권한 매핑
     private static final Map<String, Integer> URI_PERMISSION_MAP = new HashMap<>();
+
+    // URI_PERMISSION_MAP을 컴파일한 최장 접두사 트라이
+    private static final UriPermissionTrie URI_PERMISSION_TRIE = new UriPermissionTrie();
+
+    // 권한 체크가 필요 없는 경로 (접두사 / 완전 일치 / 패턴) - 요청마다 정규식을 다시 컴파일하지 않도록 미리 준비
+    private static final List<String> PUBLIC_PREFIXES = List.of(
+            "/api/auth/",            // 인증 관련
+            "/api/public/",          // 공개 API
+            "/api/chat/"             // 채팅 관련
+    );
+
+    private static final Set<String> PUBLIC_EXACT_PATHS = Set.of(
+            "/api/classroom/all",              // 교실 목록 조회
+            "/api/classroom/education-id",     // 교육기관 ID 조회
+            "/api/attendance/management/all",  // 출석 관리 전체 조회
+            "/api/instructor/students"         // 강사 담당 학생 목록 조회
+    );
+
+    private static final List<Pattern> PUBLIC_PATTERNS = List.of(
+            Pattern.compile("/api/classroom/[^/]+"),                  // 교실 상세 조회
+            Pattern.compile("/api/classroom/update/[^/]+"),           // 교실 수정
+            Pattern.compile("/api/attendance/my-attendances/[^/]+"),  // 학생 본인 출석 기록 조회
+            Pattern.compile("/api/instructor/students/[^/]+")         // 학생 상세 정보 조회
+    );
     
     static {
         // 프론트엔드 permissionMap과 동일하게 설정
@@ -77,11 +101,12 @@ public class PermissionInterceptor implements HandlerInterceptor {
         // 시험 문제 생성
         URI_PERMISSION_MAP.put("/api/staff/exam/courses", 26);
 
+        URI_PERMISSION_MAP.forEach(URI_PERMISSION_TRIE::put);
     }
 
-    public PermissionInterceptor(TransferService transferService, MemberService memberService) {
-        this.transferService = transferService;
-        this.memberService = memberService;
+    public PermissionInterceptor(PermissionService permissionService, MemberIdentityResolver memberIdentityResolver) {
+        this.permissionService = permissionService;
+        this.memberIdentityResolver = memberIdentityResolver;
     }
 
     @Override
@@ -135,8 +160,8 @@ public class PermissionInterceptor implements HandlerInterceptor {
              }
          }
         
-        // ROLE_STAFF인 경우에만 권한 체크 수행
-        boolean hasPerm = transferService.hasPermission(
+        // ROLE_STAFF인 경우에만 권한 체크 수행 (회원별 권한 집합 캐시 사용)
+        boolean hasPerm = permissionService.hasPermission(
             memberId,
             Integer.valueOf(requiredPmId)
         );
@@ -153,17 +178,20 @@ public class PermissionInterceptor implements HandlerInterceptor {
     
     // 공개 경로인지 확인
     private boolean isPublicPath(String uri) {
-        return uri.startsWith("/api/auth/") ||           // 인증 관련
-               uri.startsWith("/api/public/") ||         // 공개 API
-               uri.startsWith("/api/chat/") ||           // 채팅 관련
-               uri.equals("/api/classroom/all") ||       // 교실 목록 조회
-               uri.equals("/api/classroom/education-id") || // 교육기관 ID 조회
-               uri.equals("/api/attendance/management/all") || // 출석 관리 전체 조회
-               uri.equals("/api/instructor/students") || // 강사 담당 학생 목록 조회
-               uri.matches("/api/classroom/[^/]+") ||    // 교실 상세 조회
-               uri.matches("/api/classroom/update/[^/]+") || // 교실 수정
-               uri.matches("/api/attendance/my-attendances/[^/]+") || // 학생 본인 출석 기록 조회
-               uri.matches("/api/instructor/students/[^/]+"); // 학생 상세 정보 조회
+        if (PUBLIC_EXACT_PATHS.contains(uri)) {
+            return true;
+        }
+        for (String prefix : PUBLIC_PREFIXES) {
+            if (uri.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for (Pattern pattern : PUBLIC_PATTERNS) {
+            if (pattern.matcher(uri).matches()) {
+                return true;
+            }
+        }
+        return false;
     }
     
     // Authentication에서 memberId 추출
@@ -183,26 +211,8 @@ public class PermissionInterceptor implements HandlerInterceptor {
             String userEntityId = userDetails.getUserEntity().getId();
             String email = userDetails.getUserEntity().getEmail();
             
-            // 방법 1: userId를 직접 사용 (새로운 방식)
-            String directUserId = userEntityId;
-                         // 방법 2: 기존 방식 - UserEntity 정보로 MemberEntity 찾기
-             List<MemberEntity> allMembers = memberService.findByMemberRoleIn(
-                 Arrays.asList("ROLE_STAFF", "ROLE_INSTRUCTOR", "ROLE_ADMIN", "ROLE_DIRECTOR", "ROLE_STUDENT"));
-            
-            MemberEntity member = allMembers.stream()
-                .filter(m -> {
-                    boolean idMatch = userEntityId.equals(m.getId()) || userEntityId.equals(m.getMemberId());
-                    boolean emailMatch = email.equals(m.getMemberEmail());
-
-                    return idMatch || emailMatch;
-                })
-                .findFirst()
-                .orElse(null);
-                
-            String existingMemberId = member != null ? member.getMemberId() : null;
-            // 우선순위: 기존 방식이 있으면 사용, 없으면 새로운 방식 사용
-            String finalMemberId = existingMemberId != null ? existingMemberId : directUserId;
-            return finalMemberId;
+            // userId/email → memberId (대상 회원만 조회 + 캐시, 없으면 userId 그대로 사용)
+            return memberIdentityResolver.resolveMemberId(userEntityId, email);
             
         } catch (Exception e) {
             return null;
@@ -213,11 +223,7 @@ public class PermissionInterceptor implements HandlerInterceptor {
     // URI에 필요한 권한 ID 찾기
      
     private Integer findRequiredPermissionForUri(String uri) {
-        for (Map.Entry<String, Integer> entry : URI_PERMISSION_MAP.entrySet()) {
-            if (uri.startsWith(entry.getKey())) {
-                return entry.getValue();
-            }
-        }
-        return null;
+        // 가장 긴 접두사 기준 (예: /api/course/list → 14, /api/course/xxx → 3)
+        return URI_PERMISSION_TRIE.findLongestPrefix(uri);
     }
 }
@@ -0,0 +1,46 @@
+package com.jakdang.labs.config.interceptor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * URI 접두사 → 권한 ID 매핑용 트라이
+ * 기존 HashMap 순회 + startsWith는 순회 순서에 따라 결과가 달라졌으므로
+ * (예: /api/course vs /api/course/list) 항상 가장 긴 접두사가 선택되도록 한다.
+ * 매칭 기준은 기존과 동일하게 문자 단위 startsWith 이다.
+ */
+final class UriPermissionTrie {
+
+    private final Node root = new Node();
+
+    void put(String prefix, Integer pmId) {
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node());
+        }
+        node.pmId = pmId;
+    }
+
+    /**
+     * uri의 접두사로 등록된 항목 중 가장 긴 것의 권한 ID (없으면 null)
+     */
+    Integer findLongestPrefix(String uri) {
+        Node node = root;
+        Integer matched = root.pmId;
+        for (int i = 0; i < uri.length(); i++) {
+            node = node.children.get(uri.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.pmId != null) {
+                matched = node.pmId;
+            }
+        }
+        return matched;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Integer pmId;
+    }
+}
@@ -0,0 +1,45 @@
+package com.jakdang.labs.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 응시 중 임시 저장 답안 (학생 × 시험 한 행)
+ * 제출 전까지의 답안을 JSON(questionId → 답안)으로 보관하며, 제출 시 답안을 비우고 submitted로 표시한다.
+ * answer 테이블과 분리되어 있어 제출 여부 판단(답안 존재)에는 영향을 주지 않는다.
+ */
+@Entity
+@Table(name = "answerdraft", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_answerdraft_template_member", columnNames = {"templateId", "memberId"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnswerDraftEntity {
+    @Id
+    @Column(name = "draftId", columnDefinition = "VARCHAR(100)")
+    private String draftId; // 임시 저장 UUID
+
+    @Column(name = "templateId", columnDefinition = "VARCHAR(100)")
+    private String templateId; // 시험 UUID
+
+    @Column(name = "memberId", columnDefinition = "VARCHAR(100)")
+    private String memberId; // 학생 UUID
+
+    @Column(name = "draftAnswers", columnDefinition = "MEDIUMTEXT")
+    private String draftAnswers; // 임시 답안 JSON (questionId → 답안)
+
+    @Column(name = "updatedAt", columnDefinition = "TIMESTAMP")
+    private LocalDateTime updatedAt; // 마지막 임시 저장 시각
+
+    @Column(name = "submitted", columnDefinition = "TINYINT(1) default 0")
+    private boolean submitted; // 제출 완료 표시 (이후 도착한 임시 저장은 반영하지 않음)
+}
@@ -14,7 +14,9 @@ import lombok.Setter;
  * 학생의 답안 정보를 담는 Entity 클래스
  */
 @Entity
-@Table(name = "answer")
+@Table(name = "answer", indexes = {
+        @Index(name = "idx_answer_tq_member", columnList = "templateQuestionId, memberId")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,6 +30,12 @@ public class ChatGroupEntity {
     
     private Instant exitedAt;
     
+    // exitedAt 이후 다른 참여자가 보낸 메시지 수 (sendMessage에서 증가, updateExitedAt에서 0으로 초기화)
+    // 열 추가 전의 행은 resources/db/chatgroup_unread_count_backfill.sql로 채운다
+    @Builder.Default
+    @Column(columnDefinition = "int default 0")
+    private Integer unreadCount = 0;
+    
     // ?�래 ??관�??�정
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chatRoomId", insertable = false, updatable = false)
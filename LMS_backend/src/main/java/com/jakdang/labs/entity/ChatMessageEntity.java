@@ -9,7 +9,10 @@ import lombok.NoArgsConstructor;
 import java.time.Instant;
 
 @Entity
-@Table(name = "chatmessage")
+@Table(name = "chatmessage",
+       indexes = {
+           @Index(name = "idx_chatmessage_room_created", columnList = "chatRoomId, createdAt, messageId")
+       })
 @Data
 @Builder
 @NoArgsConstructor
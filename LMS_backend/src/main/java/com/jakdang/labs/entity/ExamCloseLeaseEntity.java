@@ -0,0 +1,34 @@
+package com.jakdang.labs.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 시험 자동 종료 임대(lease)
+ * 다중 인스턴스 환경에서 한 시험의 종료 처리를 한 노드만 수행하도록
+ * 시험별 한 행에 소유 노드와 임대 만료 시각을 기록한다.
+ */
+@Entity
+@Table(name = "examcloselease")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExamCloseLeaseEntity {
+    @Id
+    @Column(name = "templateId", columnDefinition = "VARCHAR(100)")
+    private String templateId; // 시험 템플릿 UUID
+
+    @Column(name = "owner", columnDefinition = "VARCHAR(100)")
+    private String owner; // 임대를 가진 노드 ID
+
+    @Column(name = "leaseUntil", columnDefinition = "TIMESTAMP")
+    private LocalDateTime leaseUntil; // 임대 만료 시각 (DB 시간 기준)
+}
@@ -9,6 +9,7 @@ import com.jakdang.labs.global.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -19,7 +20,11 @@ import lombok.Setter;
 
 /** 회원 정보 엔티티 */
 @Entity
-@Table(name="member")
+@Table(name="member",
+       indexes = {
+           @Index(name = "idx_member_id", columnList = "id"),
+           @Index(name = "idx_member_email", columnList = "memberEmail")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "scorestudent")
+@Table(name = "scorestudent", indexes = {
+        @Index(name = "idx_scorestudent_template_member", columnList = "templateId, memberId")
+})
 @Getter
 @Setter
 @NoArgsConstructor
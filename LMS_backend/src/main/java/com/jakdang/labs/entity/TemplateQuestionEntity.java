@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "templatequestion")
+@Table(name = "templatequestion", indexes = {
+        @Index(name = "idx_templatequestion_template", columnList = "templateId")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -9,6 +9,7 @@ import com.jakdang.labs.exceptions.JwtExceptionCode;
 import com.jakdang.labs.api.auth.dto.CustomUserDetails;
 import com.jakdang.labs.exceptions.handler.CustomException;
 import com.jakdang.labs.exceptions.handler.JwtException;
+import com.jakdang.labs.security.jwt.utils.JwtClaims;
 import com.jakdang.labs.security.jwt.utils.JwtUtil;
 import com.jakdang.labs.security.jwt.utils.TokenUtils;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -58,14 +59,14 @@ public class JWTFilter extends OncePerRequestFilter {
         try {
             log.debug("토큰 검증 시작: {}", accessToken.substring(0, Math.min(20, accessToken.length())) + "...");
             
+            // 서명 검증/파싱은 요청당 한 번만 수행 (만료·위조 시 아래 catch 블록으로 전달)
+            JwtClaims claims = jwtUtil.parseClaims(accessToken);
+
             // Refresh 토큰도 Access 토큰으로 사용 (임시 해결책)
-            boolean isValidToken = tokenUtils.isAccessTokenValid(accessToken) || 
-                                  (accessToken != null && jwtUtil.isExpired(accessToken) == false) ||
-                                  (accessToken != null && jwtUtil.isExpired(accessToken) == false && 
-                                   ("refresh".equals(jwtUtil.getCategory(accessToken)) || "access".equals(jwtUtil.getCategory(accessToken))));
+            boolean isValidToken = tokenUtils.isAccessTokenValid(claims) || !claims.isExpired();
             
             if (isValidToken) {
-                Authentication authentication = createAuthentication(accessToken);
+                Authentication authentication = createAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("사용자 인증 성공: {}", authentication.getName());
             } else {
@@ -135,8 +136,8 @@ public class JWTFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private Authentication createAuthentication(String accessToken) {
-        CustomUserDetails userDetails = buildUserDetails(accessToken);
+    private Authentication createAuthentication(JwtClaims claims) {
+        CustomUserDetails userDetails = buildUserDetails(claims);
         log.info(userDetails.toString());
         return new UsernamePasswordAuthenticationToken(
                 userDetails,
@@ -145,17 +146,17 @@ public class JWTFilter extends OncePerRequestFilter {
         );
     }
 
-    private CustomUserDetails buildUserDetails(String accessToken) {
+    private CustomUserDetails buildUserDetails(JwtClaims claims) {
         return new CustomUserDetails(
                 UserEntity.builder()
-                        .id(jwtUtil.getUserId(accessToken))
-                        .name(jwtUtil.getUsername(accessToken))
-                        .email(jwtUtil.getUserEmail(accessToken))
-                        .role(RoleType.valueOf(jwtUtil.getRole(accessToken)))
+                        .id(claims.userId())
+                        .name(claims.username())
+                        .email(claims.email())
+                        .role(RoleType.valueOf(claims.role()))
                         .build()
                 ,
                 MemberEntity.builder()
-                        .id(jwtUtil.getEducationId(accessToken))
+                        .id(claims.educationId())
                         .build()
         );
     }
@@ -0,0 +1,41 @@
+package com.jakdang.labs.security.jwt.utils;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임의 불변 스냅샷
+ * JwtUtil.parseClaims()가 한 번 파싱한 결과를 요청 내에서 재사용하기 위해 사용한다.
+ */
+public record JwtClaims(
+        String category,
+        String username,
+        String role,
+        String userId,
+        String email,
+        String educationId,
+        long expiresAtMillis
+) {
+
+    static JwtClaims from(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return new JwtClaims(
+                claims.get("category", String.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.get("userId", String.class),
+                claims.get("email", String.class),
+                claims.get("educationId", String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
+    }
+
+    public boolean isExpired() {
+        return expiresAtMillis <= System.currentTimeMillis();
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(category);
+    }
+}
@@ -1,5 +1,7 @@
 package com.jakdang.labs.security.jwt.utils;
 
+import com.jakdang.labs.utils.ExpiringCache;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -7,47 +9,76 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
 
-    public JwtUtil(@Value("${spring.jwt.secret.code}") String secret) {
+    // 토큰 다이제스트 → 검증된 클레임 (토큰의 exp 시각을 넘겨 보관하지 않음)
+    private final ExpiringCache<String, JwtClaims> claimsCache;
+
+    public JwtUtil(@Value("${spring.jwt.secret.code}") String secret,
+                   @Value("${spring.jwt.claims-cache.max-size:10000}") int claimsCacheMaxSize,
+                   @Value("${spring.jwt.claims-cache.ttl-ms:300000}") long claimsCacheTtlMs) {
 
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        claimsCache = new ExpiringCache<>(claimsCacheMaxSize, claimsCacheTtlMs);
+    }
+
+    /**
+     * 토큰을 한 번만 검증/파싱하여 불변 클레임 뷰 반환
+     * 동일 토큰은 만료 시각 전까지 캐시된 결과를 재사용하며,
+     * 만료·위조 토큰은 기존과 동일하게 jjwt 예외(ExpiredJwtException 등)를 던진다.
+     */
+    public JwtClaims parseClaims(String token) {
+        String key = digest(token);
+        Optional<JwtClaims> cached = claimsCache.get(key);
+        if (cached.isPresent() && !cached.get().isExpired()) {
+            return cached.get();
+        }
+
+        JwtClaims claims = JwtClaims.from(jwtParser.parseSignedClaims(token).getPayload());
+        claimsCache.putUntil(key, claims, claims.expiresAtMillis());
+        return claims;
     }
 
     public String getUsername(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return parseClaims(token).username();
     }
 
     public String getRole(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return parseClaims(token).role();
     }
 
     public String getCategory(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("category", String.class);
+        return parseClaims(token).category();
     }
 
     public String getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userId", String.class);
+        return parseClaims(token).userId();
     }
 
     public String getUserEmail(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("email", String.class);
+        return parseClaims(token).email();
     }
 
     public String getEducationId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("educationId", String.class);
+        return parseClaims(token).educationId();
     }
 
     public Boolean isExpired(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return parseClaims(token).isExpired();
     }
 
     public String createJwt(String category, String username, String role, String email, String userId, String educationId, Long expiredMs) {
@@ -76,4 +107,13 @@ public class JwtUtil {
                 .signWith(secretKey)
                 .compact();
     }
-}
\ No newline at end of file
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
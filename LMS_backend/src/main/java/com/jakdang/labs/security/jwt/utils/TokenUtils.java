@@ -50,7 +50,11 @@ public class TokenUtils {
     }
 
     public boolean isAccessTokenValid(String accessToken) throws ExpiredJwtException {
-        return !jwtUtil.isExpired(accessToken) && "access".equals(jwtUtil.getCategory(accessToken));
+        return isAccessTokenValid(jwtUtil.parseClaims(accessToken));
+    }
+
+    public boolean isAccessTokenValid(JwtClaims claims) {
+        return !claims.isExpired() && claims.isAccessToken();
     }
 
     public Cookie createLogoutCookie() {
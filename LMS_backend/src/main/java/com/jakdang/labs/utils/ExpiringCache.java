@@ -0,0 +1,136 @@
+package com.jakdang.labs.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 + 만료 시간을 가진 간단한 인메모리 캐시
+ * 외부 캐시 라이브러리 없이 ConcurrentHashMap 위에서 동작하며,
+ * 용량 초과 시 만료된 항목을 먼저 정리하고 그래도 부족하면 가장 먼저 만료될 항목부터 제거한다.
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> store = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long defaultTtlMillis;
+
+    public ExpiringCache(int maxSize, long defaultTtlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.defaultTtlMillis = defaultTtlMillis;
+    }
+
+    public Optional<V> get(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            store.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    public void put(K key, V value) {
+        putUntil(key, value, System.currentTimeMillis() + defaultTtlMillis);
+    }
+
+    /**
+     * 지정한 시각(epoch millis)까지만 유효한 항목 저장
+     * 기본 TTL보다 늦은 시각이 들어오면 기본 TTL로 잘라낸다.
+     */
+    public void putUntil(K key, V value, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        long cappedExpiry = Math.min(expiresAtMillis, now + defaultTtlMillis);
+        if (cappedExpiry <= now) {
+            return;
+        }
+        if (store.size() >= maxSize && !store.containsKey(key)) {
+            evict(now);
+        }
+        store.put(key, new Entry<>(value, cappedExpiry));
+    }
+
+    /**
+     * 유효한 항목이 없을 때만 기본 TTL로 저장 (원자적)
+     * @return 저장했으면 true, 이미 유효한 항목이 있으면 false
+     */
+    public boolean putIfAbsent(K key, V value) {
+        long now = System.currentTimeMillis();
+        if (store.size() >= maxSize && !store.containsKey(key)) {
+            evict(now);
+        }
+        Entry<V> fresh = new Entry<>(value, now + defaultTtlMillis);
+        return store.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(now) ? fresh : existing) == fresh;
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+        Optional<V> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate(K key) {
+        store.remove(key);
+    }
+
+    public void invalidateIf(BiPredicate<? super K, ? super V> filter) {
+        store.entrySet().removeIf(e -> filter.test(e.getKey(), e.getValue().value()));
+    }
+
+    public void invalidateAll() {
+        store.clear();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    private void evict(long now) {
+        store.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        if (store.size() < maxSize) {
+            return;
+        }
+        // 만료 전 항목만 남은 경우: 전체의 1/10 정도를 만료 시각이 이른 순으로 제거
+        int toRemove = Math.max(1, maxSize / 10);
+        store.entrySet().stream()
+                .sorted((a, b) -> Long.compare(a.getValue().expiresAt(), b.getValue().expiresAt()))
+                .limit(toRemove)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(store::remove);
+    }
+
+    /**
+     * 만료된 항목 일괄 정리 (스케줄러 등에서 주기적으로 호출 가능)
+     */
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<K, Entry<V>>> it = store.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue().isExpired(now)) {
+                it.remove();
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.jakdang.labs.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠 (키 단위 예약/취소)
+ * 틱 단위 64칸 휠 4단(64틱, 64²틱, 64³틱, 64⁴틱)으로 구성하며,
+ * 상위 휠의 칸은 하위 휠이 한 바퀴 돌 때마다 하위로 내려보낸다(cascade).
+ * 예약/취소는 O(1), advance()는 지나간 틱 수에 비례한다.
+ * 같은 키를 다시 예약하면 기존 예약은 대체된다. 모든 메서드는 동기화되어 있다.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final List<List<Map<K, Long>>> wheels = new ArrayList<>(LEVELS);
+    // 최상위 휠 범위를 넘는 예약 (최상위 휠이 한 칸 넘어갈 때마다 재배치)
+    private final Map<K, Long> overflow = new LinkedHashMap<>();
+    // 이미 만료 시각이 지난 예약 (다음 advance()에서 반환)
+    private final Map<K, Long> due = new LinkedHashMap<>();
+    private final Map<K, Map<K, Long>> locations = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimingWheel(long tickMillis, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Map<K, Long>> slots = new ArrayList<>(WHEEL_SIZE);
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                slots.add(new LinkedHashMap<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /**
+     * deadlineMillis(epoch millis)에 만료되도록 예약 (기존 예약은 대체)
+     * 이미 지난 시각이면 다음 advance()에서 바로 반환된다.
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // 틱 경계 올림: 만료 시각보다 일찍 반환되지 않도록
+        long expirationTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        place(key, expirationTick);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Map<K, Long> bucket = locations.remove(key);
+        return bucket != null && bucket.remove(key) != null;
+    }
+
+    public synchronized boolean contains(K key) {
+        return locations.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return locations.size();
+    }
+
+    /**
+     * nowMillis까지 휠을 진행시키고 만료된 키 목록을 반환 (반환된 키는 휠에서 제거됨)
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+        drainDue(expired);
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                    cascade(wheels.get(level).get(slotIndex(currentTick, level)));
+                    if (level == LEVELS - 1) {
+                        cascade(overflow);
+                    }
+                }
+            }
+            Map<K, Long> bucket = wheels.get(0).get(slotIndex(currentTick, 0));
+            if (!bucket.isEmpty()) {
+                // 같은 칸의 다른 바퀴 예약은 없지만, 안전하게 만료 여부를 다시 확인
+                cascade(bucket);
+            }
+            drainDue(expired);
+        }
+        return expired;
+    }
+
+    private void place(K key, long expirationTick) {
+        long delta = expirationTick - currentTick;
+        Map<K, Long> bucket;
+        if (delta <= 0) {
+            bucket = due;
+        } else {
+            bucket = overflow;
+            for (int level = 0; level < LEVELS; level++) {
+                if (delta < (1L << (WHEEL_BITS * (level + 1)))) {
+                    bucket = wheels.get(level).get(slotIndex(expirationTick, level));
+                    break;
+                }
+            }
+        }
+        bucket.put(key, expirationTick);
+        locations.put(key, bucket);
+    }
+
+    private void cascade(Map<K, Long> bucket) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<K, Long>> entries = new ArrayList<>(bucket.entrySet());
+        bucket.clear();
+        for (Map.Entry<K, Long> entry : entries) {
+            locations.remove(entry.getKey());
+            place(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void drainDue(List<K> expired) {
+        if (due.isEmpty()) {
+            return;
+        }
+        for (K key : due.keySet()) {
+            locations.remove(key);
+            expired.add(key);
+        }
+        due.clear();
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+    }
+}
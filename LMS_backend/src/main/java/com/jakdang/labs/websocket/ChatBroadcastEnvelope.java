@@ -0,0 +1,10 @@
+package com.jakdang.labs.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 노드 간 채팅 브로드캐스트 전파용 Kafka 메시지
+ * originNodeId: 발행한 노드 (자기 자신이 보낸 메시지는 수신 시 무시)
+ */
+public record ChatBroadcastEnvelope(String originNodeId, String destination, JsonNode payload) {
+}
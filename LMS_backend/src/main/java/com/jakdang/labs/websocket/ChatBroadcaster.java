@@ -0,0 +1,12 @@
+package com.jakdang.labs.websocket;
+
+/**
+ * 채팅방 구독자(/topic/room/*)에게 메시지를 브로드캐스트하는 경로
+ * app.chat.broker.mode 설정에 따라 구현체가 선택된다.
+ * - simple / relay: 로컬 SimpMessagingTemplate으로 전송 (relay 모드에서는 외부 브로커가 노드 간 전파)
+ * - kafka: 로컬 전송 + Kafka 토픽으로 다른 노드에 전파
+ */
+public interface ChatBroadcaster {
+
+    void broadcast(String destination, Object payload);
+}
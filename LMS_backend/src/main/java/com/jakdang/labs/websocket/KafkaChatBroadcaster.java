@@ -0,0 +1,107 @@
+package com.jakdang.labs.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Kafka 기반 채팅 브로드캐스터 (app.chat.broker.mode=kafka)
+ * 각 노드는 로컬 simple broker 구독자에게 바로 전송하고, 같은 메시지를 Kafka 토픽에 발행한다.
+ * 모든 노드는 노드별 고유 consumer group으로 토픽을 구독하므로 메시지를 전부 받으며,
+ * 다른 노드가 발행한 메시지만 로컬 구독자에게 다시 전달한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.broker.mode", havingValue = "kafka")
+@Slf4j
+public class KafkaChatBroadcaster implements ChatBroadcaster {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/room/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    // STOMP 브로커 기본 컨버터와 동일한 설정으로 직렬화해야 노드 간 페이로드 형식이 같아진다
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final String nodeId;
+    private final String topic;
+    private final String groupId;
+
+    public KafkaChatBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                KafkaTemplate<String, String> kafkaTemplate,
+                                @Value("${app.chat.broker.node-id:}") String nodeId,
+                                @Value("${app.chat.broker.kafka.topic:chat-room-events}") String topic,
+                                @Value("${app.chat.broker.kafka.group-prefix:chat-fanout}") String groupPrefix) {
+        this.messagingTemplate = messagingTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.topic = topic;
+        this.groupId = groupPrefix + "-" + this.nodeId;
+        log.info("Kafka 채팅 브로드캐스터 활성화: nodeId={}, topic={}, groupId={}", this.nodeId, topic, groupId);
+    }
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+
+        String record;
+        try {
+            record = objectMapper.writeValueAsString(
+                    new ChatBroadcastEnvelope(nodeId, destination, objectMapper.valueToTree(payload)));
+        } catch (JsonProcessingException e) {
+            log.error("채팅 브로드캐스트 직렬화 실패: destination={}, error={}", destination, e.getMessage());
+            return;
+        }
+
+        // 같은 destination은 같은 파티션으로 보내 채팅방 내 메시지 순서를 유지한다
+        kafkaTemplate.send(topic, destination, record).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.warn("채팅 브로드캐스트 Kafka 발행 실패: destination={}, error={}", destination, ex.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 다른 노드가 발행한 채팅 메시지를 로컬 구독자에게 전달
+     * 새로 뜬 노드가 과거 메시지를 재전송하지 않도록 latest 오프셋부터 읽는다.
+     */
+    @KafkaListener(topics = "#{__listener.topic}", groupId = "#{__listener.groupId}",
+            properties = "auto.offset.reset=latest")
+    public void onFanoutMessage(String record) {
+        ChatBroadcastEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(record, ChatBroadcastEnvelope.class);
+        } catch (JsonProcessingException e) {
+            log.warn("채팅 브로드캐스트 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(envelope.originNodeId())) {
+            return;
+        }
+        if (envelope.destination() == null || !envelope.destination().startsWith(ROOM_DESTINATION_PREFIX)) {
+            log.warn("허용되지 않은 브로드캐스트 destination 무시: {}", envelope.destination());
+            return;
+        }
+        messagingTemplate.convertAndSend(envelope.destination(), envelope.payload());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+}
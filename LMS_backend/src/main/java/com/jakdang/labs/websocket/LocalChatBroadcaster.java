@@ -0,0 +1,23 @@
+package com.jakdang.labs.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 브로드캐스터 (simple / relay 모드)
+ * simple 모드는 단일 JVM 내 구독자에게만, relay 모드는 외부 STOMP 브로커를 거쳐 모든 노드에 전달된다.
+ */
+@Component
+@ConditionalOnExpression("'${app.chat.broker.mode:simple}' != 'kafka'")
+@RequiredArgsConstructor
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+}
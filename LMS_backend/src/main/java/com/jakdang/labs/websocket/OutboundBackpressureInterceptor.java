@@ -0,0 +1,184 @@
+package com.jakdang.labs.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션별 outbound 메시지 대기열 제한 (clientOutboundChannel)
+ * 느린 클라이언트 하나에 메시지가 계속 쌓여 outbound 스레드와 메모리를 점유하지 않도록,
+ * 세션별 대기(큐 대기 + 전송 중) MESSAGE 프레임 수가 한도를 넘으면 정책에 따라 버리거나(drop) 연결을 끊는다(disconnect).
+ * 바이트 기준 한도는 기존대로 configureWebSocketTransport의 sendBufferSizeLimit / sendTimeLimit이 담당한다.
+ */
+@Component
+@Slf4j
+public class OutboundBackpressureInterceptor implements ExecutorChannelInterceptor {
+
+    public enum OverflowPolicy { DROP, DISCONNECT }
+
+    private final int queueLimit;
+    private final OverflowPolicy overflowPolicy;
+
+    // sessionId → 대기 중인 MESSAGE 프레임 수
+    private final Map<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    // sessionId → WebSocket 세션 (disconnect 정책에서 연결 종료용)
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> handleStartedAt = new ThreadLocal<>();
+
+    private final Timer sendTimer;
+    private final Counter droppedCounter;
+    private final Counter disconnectedCounter;
+
+    public OutboundBackpressureInterceptor(MeterRegistry meterRegistry,
+                                           @Value("${app.chat.websocket.outbound-queue.limit:256}") int queueLimit,
+                                           @Value("${app.chat.websocket.outbound-queue.overflow-policy:drop}") String overflowPolicy) {
+        this.queueLimit = queueLimit;
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase());
+
+        Gauge.builder("chat.websocket.outbound.pending", pending, OutboundBackpressureInterceptor::totalPending)
+                .description("전체 세션의 outbound 대기 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.outbound.pending.max", pending, OutboundBackpressureInterceptor::maxPending)
+                .description("세션별 outbound 대기 메시지 수 중 최댓값")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.sessions", sessions, Map::size)
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("chat.websocket.outbound.send")
+                .description("outbound 메시지 한 건을 세션에 쓰는 데 걸린 시간")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.websocket.outbound.overflow")
+                .tag("policy", "drop")
+                .register(meterRegistry);
+        this.disconnectedCounter = Counter.builder("chat.websocket.outbound.overflow")
+                .tag("policy", "disconnect")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = countedSessionId(message);
+        if (sessionId == null) {
+            return message;
+        }
+
+        AtomicInteger counter = pending.computeIfAbsent(sessionId, id -> new AtomicInteger());
+        if (counter.incrementAndGet() <= queueLimit) {
+            return message;
+        }
+
+        counter.decrementAndGet();
+        if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+            disconnectedCounter.increment();
+            disconnect(sessionId);
+        } else {
+            droppedCounter.increment();
+            log.debug("outbound 대기열 초과로 메시지 버림: sessionId={}, limit={}", sessionId, queueLimit);
+        }
+        return null;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // executor에 넘기지 못한 경우 (거부 등) 대기 수 원복
+        if (!sent || ex != null) {
+            release(message);
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        handleStartedAt.set(System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Long startedAt = handleStartedAt.get();
+        handleStartedAt.remove();
+        if (startedAt != null) {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        release(message);
+    }
+
+    /**
+     * WebSocketTransportRegistration.addDecoratorFactory 용
+     * 세션 연결/종료 시점에 세션 목록과 대기 카운터를 관리한다.
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                pending.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private void release(Message<?> message) {
+        String sessionId = countedSessionId(message);
+        if (sessionId == null) {
+            return;
+        }
+        AtomicInteger counter = pending.get(sessionId);
+        if (counter != null && counter.decrementAndGet() < 0) {
+            counter.set(0);
+        }
+    }
+
+    private void disconnect(String sessionId) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        log.warn("outbound 대기열 초과로 WebSocket 연결 종료: sessionId={}, limit={}", sessionId, queueLimit);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("WebSocket 연결 종료 실패: sessionId={}, error={}", sessionId, e.getMessage());
+        }
+    }
+
+    // 구독 메시지(MESSAGE 프레임)만 대기열 제한 대상 (CONNECT_ACK, HEARTBEAT 등 제어 프레임은 항상 통과)
+    private static String countedSessionId(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return null;
+        }
+        return SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    }
+
+    private static double totalPending(Map<String, AtomicInteger> pending) {
+        return pending.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    private static double maxPending(Map<String, AtomicInteger> pending) {
+        return pending.values().stream().mapToInt(AtomicInteger::get).max().orElse(0);
+    }
+}
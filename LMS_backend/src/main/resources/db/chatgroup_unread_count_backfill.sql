@@ -0,0 +1,18 @@
+-- chatgroup.unreadCount 초기값 채우기 (ChatRoomService가 메시지 전송 시 증가시키는 읽지 않은 메시지 수)
+-- 열이 추가되기 전 행은 0으로 시작해 배포 직후 채팅방 목록의 안 읽은 메시지 배지가 사라지므로 배포 직후 한 번 실행한다.
+-- 이전 계산과 같게 exitedAt 이후 다른 사람이 보낸 메시지를 저장된 행 수 그대로 센다.
+-- (클라이언트가 같은 메시지를 두 번 저장하므로 값은 실제의 2배이며, 조회 시 /2 하는 방식과 맞춘 것이다.)
+-- 발신자 제외는 incrementUnreadCount와 같이 같은 이메일의 회원 행을 모두 자신으로 본다.
+-- 현재 메시지로 다시 계산하므로 여러 번 실행해도 결과가 같다.
+
+UPDATE chatgroup cg
+LEFT JOIN member gm ON gm.memberId = cg.id
+SET cg.unreadCount = (
+    SELECT COUNT(*)
+    FROM chatmessage msg
+    WHERE msg.chatRoomId = cg.chatRoomId
+      AND msg.createdAt > cg.exitedAt
+      AND NOT EXISTS (SELECT 1 FROM member sm
+                      WHERE sm.id = msg.id AND sm.memberEmail = gm.memberEmail)
+)
+WHERE cg.exitedAt IS NOT NULL;
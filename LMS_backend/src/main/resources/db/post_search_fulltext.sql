@@ -0,0 +1,17 @@
+-- 게시물 검색 FULLTEXT(ngram) 색인 (app.post-search.engine=fulltext)
+-- 애플리케이션은 시작 시 색인 존재만 확인하고 만들지 않는다. 배포 전에 한 번 실행한다.
+-- 첫 FULLTEXT 색인을 추가할 때 InnoDB가 FTS_DOC_ID 열을 위해 테이블을 다시 만들므로 사용량이 적은 시간에 실행한다.
+-- 색인 이름/열 구성은 FulltextPostSearchEngine.FULLTEXT_INDEXES와 같아야 한다.
+--
+-- 불용어: InnoDB 기본 불용어 목록(a, i, the, ...)이 켜진 채로 ngram 색인을 만들면 불용어를 포함한 토큰이 빠져
+-- "java"(ja, av, va 중 "a"를 포함한 토큰), "data" 같은 단어가 MATCH로 검색되지 않는다.
+-- 불용어 설정은 색인을 만들 때 정해지므로 같은 세션에서 불용어를 끈 뒤 색인을 만든다.
+-- (불용어가 켜진 채로 이미 만든 색인은 DROP INDEX 후 이 스크립트를 다시 실행한다. 불용어 목록이 필요하면 innodb_ft_server_stopword_table에
+--  한국어/빈 목록 테이블을 지정하고 이 SET을 대신한다.)
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE post_search_index ADD FULLTEXT INDEX ft_post_search_title (title) WITH PARSER ngram;
+ALTER TABLE post_search_index ADD FULLTEXT INDEX ft_post_search_content (content) WITH PARSER ngram;
+ALTER TABLE post_search_index ADD FULLTEXT INDEX ft_post_search_author (author_name) WITH PARSER ngram;
+ALTER TABLE post_search_index ADD FULLTEXT INDEX ft_post_search_all (title, content, author_name) WITH PARSER ngram;
@@ -0,0 +1,6 @@
+-- 게시물 조회수 집계 테이블의 viewer_count 열 제거 (고유 조회자 수는 post_view_daily_viewer에서 센다)
+-- ddl-auto(update)는 열을 지우지 않고, 남은 NOT NULL 열 때문에 집계 insert가 실패하므로 배포 전에 한 번 실행한다.
+-- post_view_daily_viewer는 배포 이후 집계되는 시간대부터 채워지므로 그 이전 날짜의 고유 조회자 수는 0으로 보인다.
+
+ALTER TABLE post_view_hourly DROP COLUMN viewer_count;
+ALTER TABLE post_view_daily DROP COLUMN viewer_count;
@@ -0,0 +1,46 @@
+package com.jakdang.labs.api.lnuyasha.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * 입력 중 검색(typeAhead) 부분 일치 확인
+ * 한 글자 검색어(자음, 받침 없는 음절)는 prefix가 비어 있어도 종료되어야 한다.
+ */
+class KoreanNgramTokenizerTest {
+
+    private static final Duration LIMIT = Duration.ofSeconds(2);
+
+    @Test
+    void singleJamoQueryMatchesSyllablesWithThatInitial() {
+        assertTimeoutPreemptively(LIMIT, () -> {
+            assertThat(KoreanNgramTokenizer.matches("자바 프로그래밍", "ㅍ", true)).isTrue();
+            assertThat(KoreanNgramTokenizer.matches("자바 프로그래밍", "ㅎ", true)).isFalse();
+            assertThat(KoreanNgramTokenizer.matches("", "ㅍ", true)).isFalse();
+        });
+    }
+
+    @Test
+    void singleOpenSyllableQueryMatchesSyllablesWithFinalConsonant() {
+        assertTimeoutPreemptively(LIMIT, () -> {
+            assertThat(KoreanNgramTokenizer.matches("자바 프로그래밍", "자", true)).isTrue();
+            assertThat(KoreanNgramTokenizer.matches("잠자리", "자", true)).isTrue();
+            assertThat(KoreanNgramTokenizer.matches("파이썬", "자", true)).isFalse();
+        });
+    }
+
+    @Test
+    void incompleteLastCharacterAfterPrefix() {
+        assertTimeoutPreemptively(LIMIT, () -> {
+            assertThat(KoreanNgramTokenizer.matches("자바 프로그래밍", "프로그래", true)).isTrue();
+            assertThat(KoreanNgramTokenizer.matches("자바 프로그래밍", "자바 ㅍ", true)).isTrue();
+            assertThat(KoreanNgramTokenizer.matches("자바 프로그래밍", "자바 ㄱ", true)).isFalse();
+            // prefix가 문자열 끝에 있어 뒤에 글자가 없는 경우
+            assertThat(KoreanNgramTokenizer.matches("자바", "자바ㅍ", true)).isFalse();
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package com.jakdang.labs.api.post.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FULLTEXT 검색식 변환과 검색 결과 강조 확인
+ */
+class FulltextPostSearchEngineTest {
+
+    @Test
+    void everyTermBecomesRequiredPhrase() {
+        assertThat(FulltextPostSearchEngine.toBooleanQuery("  자바   spring ")).isEqualTo("+\"자바\" +\"spring\"");
+    }
+
+    @Test
+    void booleanOperatorsAreTreatedAsSeparators() {
+        assertThat(FulltextPostSearchEngine.toBooleanQuery("-java +\"data\"*")).isEqualTo("+\"java\" +\"data\"");
+        assertThat(FulltextPostSearchEngine.toBooleanQuery("(자바)~@")).isEqualTo("+\"자바\"");
+    }
+
+    @Test
+    void termShorterThanNgramFallsBackToLike() {
+        assertThat(FulltextPostSearchEngine.toBooleanQuery("c 언어")).isNull();
+        assertThat(FulltextPostSearchEngine.toBooleanQuery("가")).isNull();
+    }
+
+    @Test
+    void blankOrOperatorOnlyKeywordHasNoQuery() {
+        assertThat(FulltextPostSearchEngine.toBooleanQuery(null)).isNull();
+        assertThat(FulltextPostSearchEngine.toBooleanQuery("   ")).isNull();
+        assertThat(FulltextPostSearchEngine.toBooleanQuery("+-\"")).isNull();
+    }
+
+    @Test
+    void highlightWrapsTermsCaseInsensitivelyAndEscapesTheRest() {
+        assertThat(PostSearchService.highlight("<b>Java</b>와 java", List.of("java"), 0))
+                .isEqualTo("&lt;b&gt;<em>Java</em>&lt;/b&gt;와 <em>java</em>");
+    }
+
+    @Test
+    void highlightPrefersLongerTerm() {
+        assertThat(PostSearchService.highlight("스프링부트 입문", List.of("스프링부트", "스프링"), 0))
+                .isEqualTo("<em>스프링부트</em> 입문");
+    }
+
+    @Test
+    void highlightCutsSnippetAroundFirstMatch() {
+        String text = "가".repeat(100) + "자바" + "나".repeat(100);
+
+        String snippet = PostSearchService.highlight(text, List.of("자바"), 40);
+
+        assertThat(snippet).startsWith("…").endsWith("…").contains("<em>자바</em>");
+        assertThat(snippet.replace("<em>", "").replace("</em>", "")).hasSize(40 + 2);
+    }
+
+    @Test
+    void highlightWithoutMatchKeepsTextStart() {
+        assertThat(PostSearchService.highlight("가나다라마바사", List.of("자바"), 3)).isEqualTo("가나다…");
+        assertThat(PostSearchService.highlight(null, List.of("자바"), 0)).isNull();
+    }
+}
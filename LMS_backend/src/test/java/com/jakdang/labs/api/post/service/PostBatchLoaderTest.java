@@ -0,0 +1,105 @@
+package com.jakdang.labs.api.post.service;
+
+import com.jakdang.labs.api.post.model.PostDTO;
+import com.jakdang.labs.api.post.model.PostServiceClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * post-service 응답 지연을 흉내 내는 스텁 클라이언트로 병렬 조회 시간을 확인
+ * 순차 조회(동시 실행 1)는 호출 지연의 합, 병렬 조회는 가장 느린 호출 수준이어야 한다.
+ * (CI 부하에 흔들리지 않도록 절대 시간 대신 순차/병렬 비율과 넉넉한 상한으로 확인)
+ */
+class PostBatchLoaderTest {
+
+    private static final long CALL_LATENCY_MS = 200;
+
+    private final List<PostBatchLoader> loaders = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        loaders.forEach(PostBatchLoader::shutdown);
+    }
+
+    @Test
+    void parallelLoadTakesMaxOfCallsInsteadOfSum() {
+        List<String> postIds = IntStream.range(0, 10).mapToObj(i -> "post-" + i).toList();
+        PostServiceClient client = stubClient(Map.of(), CALL_LATENCY_MS);
+
+        long sequentialMillis = timed(() -> loader(client, 1, 5000).loadInOrder(postIds));
+        long parallelMillis = timed(() -> loader(client, 10, 5000).loadInOrder(postIds));
+
+        assertThat(sequentialMillis).isGreaterThanOrEqualTo(CALL_LATENCY_MS * postIds.size());
+        // 이론상 10배, 스케줄링 지연을 감안해 3배 이상이면 병렬로 실행된 것으로 본다
+        assertThat(parallelMillis * 3).isLessThan(sequentialMillis);
+    }
+
+    @Test
+    void resultsKeepHitOrderRegardlessOfCompletionOrder() {
+        // 앞쪽 게시물일수록 늦게 응답
+        PostServiceClient client = stubClient(Map.of("a", 300L, "b", 200L, "c", 100L), 0);
+
+        List<PostDTO> posts = loader(client, 10, 5000).loadInOrder(List.of("a", "b", "c", "d"));
+
+        assertThat(posts).extracting(PostDTO::getId).containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    void slowCallIsDroppedAfterTimeout() {
+        PostServiceClient client = stubClient(Map.of("slow", 10_000L), 50);
+
+        long elapsed = timed(() -> {
+            List<PostDTO> posts = loader(client, 10, 300).loadInOrder(List.of("p1", "slow", "p2"));
+            assertThat(posts).extracting(PostDTO::getId).containsExactly("p1", "p2");
+        });
+
+        assertThat(elapsed).isLessThan(5000);
+    }
+
+    @Test
+    void timeoutAppliesPerCallNotPerBatch() {
+        // 동시 실행 1: 느린 호출이 시간 초과로 끊기면 뒤에서 기다리던 호출은 각자 timeout-ms를 온전히 받는다
+        PostServiceClient client = stubClient(Map.of("slow", 10_000L), 200);
+
+        List<PostDTO> posts = loader(client, 1, 500).loadInOrder(List.of("slow", "p1", "p2"));
+
+        assertThat(posts).extracting(PostDTO::getId).containsExactly("p1", "p2");
+    }
+
+    private PostBatchLoader loader(PostServiceClient client, int concurrency, long timeoutMillis) {
+        PostBatchLoader loader = new PostBatchLoader(client, concurrency, timeoutMillis);
+        loaders.add(loader);
+        return loader;
+    }
+
+    // getPostById만 응답하는 스텁 (ID별 지연, 지정하지 않은 ID는 기본 지연)
+    private static PostServiceClient stubClient(Map<String, Long> latencies, long defaultLatencyMs) {
+        return (PostServiceClient) Proxy.newProxyInstance(
+                PostServiceClient.class.getClassLoader(),
+                new Class<?>[]{PostServiceClient.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getPostById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    String postId = (String) args[0];
+                    Thread.sleep(latencies.getOrDefault(postId, defaultLatencyMs));
+                    PostDTO post = new PostDTO();
+                    post.setId(postId);
+                    return post;
+                });
+    }
+
+    private static long timed(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
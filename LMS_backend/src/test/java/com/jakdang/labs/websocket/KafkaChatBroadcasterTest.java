@@ -0,0 +1,144 @@
+package com.jakdang.labs.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노드 A에서 브로드캐스트한 채팅 메시지가 Kafka를 거쳐 노드 B의 구독자에게 전달되는지 확인
+ * 노드 B는 실제 KafkaChatBroadcaster 빈과 @KafkaListener 설정을 그대로 올린 컨텍스트(app.chat.broker.mode=kafka)이고,
+ * 노드 A는 같은 토픽에 발행하는 별도 인스턴스다. 로컬 simple broker는 SimpMessagingTemplate이 보내는 채널을 큐로 대체한다.
+ */
+@SpringBootTest(
+        classes = {KafkaChatBroadcaster.class, LocalChatBroadcaster.class, KafkaChatBroadcasterTest.LocalBrokerConfig.class},
+        properties = {
+                "app.chat.broker.mode=kafka",
+                "app.chat.broker.node-id=node-b",
+                "app.chat.broker.kafka.topic=" + KafkaChatBroadcasterTest.TOPIC,
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}"
+        })
+@ImportAutoConfiguration(KafkaAutoConfiguration.class)
+@EmbeddedKafka(partitions = 1, topics = KafkaChatBroadcasterTest.TOPIC)
+class KafkaChatBroadcasterTest {
+
+    static final String TOPIC = "chat-room-events";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private ApplicationContext context;
+    @Autowired
+    private ChatBroadcaster broadcaster;
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+    @Autowired
+    private BlockingQueue<Message<?>> localSubscribers;
+
+    @BeforeEach
+    void waitForListener() {
+        // latest 오프셋부터 읽으므로 파티션이 할당된 뒤에 발행해야 한다
+        listenerRegistry.getListenerContainers()
+                .forEach(container -> ContainerTestUtils.waitForAssignment(container, broker.getPartitionsPerTopic()));
+        localSubscribers.clear();
+    }
+
+    @Test
+    void kafkaModeRegistersOnlyKafkaBroadcaster() {
+        assertThat(context.getBeansOfType(ChatBroadcaster.class)).hasSize(1);
+        assertThat(broadcaster).isInstanceOf(KafkaChatBroadcaster.class);
+        assertThat(listenerRegistry.getListenerContainers()).hasSize(1);
+    }
+
+    @Test
+    void simpleModeRegistersOnlyLocalBroadcaster() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(KafkaChatBroadcaster.class, LocalChatBroadcaster.class, LocalBrokerConfig.class)
+                .run(simple -> {
+                    assertThat(simple).hasSingleBean(ChatBroadcaster.class);
+                    assertThat(simple.getBean(ChatBroadcaster.class)).isInstanceOf(LocalChatBroadcaster.class);
+                });
+    }
+
+    @Test
+    void messagePublishedOnNodeAReachesSubscriberOnNodeB() throws Exception {
+        nodeA().broadcast("/topic/room/42", Map.of("type", "message", "roomId", "42", "content", "안녕하세요"));
+
+        Message<?> received = localSubscribers.poll(10, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.getDestination(received.getHeaders())).isEqualTo("/topic/room/42");
+        JsonNode body = objectMapper.readTree((byte[]) received.getPayload());
+        assertThat(body.get("roomId").asText()).isEqualTo("42");
+        assertThat(body.get("content").asText()).isEqualTo("안녕하세요");
+    }
+
+    @Test
+    void ownMessageIsDeliveredLocallyOnlyOnce() throws Exception {
+        broadcaster.broadcast("/topic/room/7", Map.of("type", "message", "roomId", "7", "content", "node-b"));
+        // 파티션이 하나라 노드 A의 메시지가 도착했으면 앞서 발행한 자기 메시지도 이미 소비된 상태
+        nodeA().broadcast("/topic/room/7", Map.of("type", "message", "roomId", "7", "content", "node-a"));
+
+        Message<?> local = localSubscribers.poll(10, TimeUnit.SECONDS);
+        Message<?> fromNodeA = localSubscribers.poll(10, TimeUnit.SECONDS);
+        assertThat(local).isNotNull();
+        assertThat(fromNodeA).isNotNull();
+        assertThat(objectMapper.readTree((byte[]) local.getPayload()).get("content").asText()).isEqualTo("node-b");
+        assertThat(objectMapper.readTree((byte[]) fromNodeA.getPayload()).get("content").asText()).isEqualTo("node-a");
+        assertThat(localSubscribers.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    // 발행만 하는 다른 노드 (리스너 없음)
+    private KafkaChatBroadcaster nodeA() {
+        return new KafkaChatBroadcaster(localBroker(new LinkedBlockingQueue<>()), kafkaTemplate, "node-a", TOPIC, "chat-fanout");
+    }
+
+    private static SimpMessagingTemplate localBroker(BlockingQueue<Message<?>> subscribers) {
+        MessageChannel channel = (message, timeout) -> subscribers.add(message);
+        SimpMessagingTemplate template = new SimpMessagingTemplate(channel);
+        template.setMessageConverter(new MappingJackson2MessageConverter());
+        return template;
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class LocalBrokerConfig {
+
+        @Bean
+        BlockingQueue<Message<?>> localSubscribers() {
+            return new LinkedBlockingQueue<>();
+        }
+
+        @Bean
+        SimpMessagingTemplate messagingTemplate(BlockingQueue<Message<?>> localSubscribers) {
+            return localBroker(localSubscribers);
+        }
+    }
+}